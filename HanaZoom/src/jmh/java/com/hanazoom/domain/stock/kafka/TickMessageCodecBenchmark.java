@@ -0,0 +1,161 @@
+package com.hanazoom.domain.stock.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.record.RecordBatch;
+import org.apache.kafka.common.utils.ByteBufferOutputStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickMessageCodecBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String[] STOCK_CODES = {"005930", "000660", "035420", "035720", "005380"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final TickMessageSerializer serializer = new TickMessageSerializer();
+    private final TickMessageDeserializer deserializer = new TickMessageDeserializer();
+
+    private TickMessage[] messages;
+    private byte[] jsonPayload;
+    private byte[] binaryPayload;
+    private int cursor;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PayloadBytes {
+        public long bytes;
+        public long messages;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            messages = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        messages = new TickMessage[BATCH_SIZE];
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            long price = 70000 + (i % 40) * 100;
+            long change = price - 70500;
+            messages[i] = new TickMessage(STOCK_CODES[i % STOCK_CODES.length], price, change,
+                    (int) (change * 10000 / 70500), change >= 0 ? '2' : '5', (now + i) * 1_000_000L);
+        }
+        jsonPayload = legacyJsonEncode(messages[0]);
+        binaryPayload = serializer.serialize("bench", messages[0]);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode(PayloadBytes payload) throws IOException {
+        byte[] encoded = legacyJsonEncode(next());
+        payload.bytes += encoded.length;
+        payload.messages++;
+        return encoded;
+    }
+
+    @Benchmark
+    public byte[] binaryEncode(PayloadBytes payload) {
+        byte[] encoded = serializer.serialize("bench", next());
+        payload.bytes += encoded.length;
+        payload.messages++;
+        return encoded;
+    }
+
+    @Benchmark
+    public Map<String, Object> jsonDecode() throws IOException {
+        JsonNode jsonNode = objectMapper.readTree(new String(jsonPayload, StandardCharsets.UTF_8));
+        return Map.of(
+                "stockCode", jsonNode.get("stockCode").asText(),
+                "stockName", jsonNode.get("stockName").asText(),
+                "currentPrice", jsonNode.get("currentPrice").asText(),
+                "changePrice", jsonNode.get("changePrice").asText(),
+                "changeRate", jsonNode.get("changeRate").asText(),
+                "changeSign", jsonNode.get("changeSign").asText(),
+                "timestamp", LocalDateTime.now());
+    }
+
+    @Benchmark
+    public TickMessage binaryDecode() {
+        return deserializer.deserialize("bench", binaryPayload);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int jsonBatchLz4(PayloadBytes payload) throws IOException {
+        ByteBufferOutputStream buffer = new ByteBufferOutputStream(64 * 1024);
+        try (OutputStream out = CompressionType.LZ4.wrapForOutput(buffer, RecordBatch.CURRENT_MAGIC_VALUE)) {
+            for (TickMessage message : messages) {
+                out.write(legacyJsonEncode(message));
+            }
+        }
+        return record(payload, buffer);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int binaryBatchLz4(PayloadBytes payload) throws IOException {
+        ByteBufferOutputStream buffer = new ByteBufferOutputStream(64 * 1024);
+        try (OutputStream out = CompressionType.LZ4.wrapForOutput(buffer, RecordBatch.CURRENT_MAGIC_VALUE)) {
+            for (TickMessage message : messages) {
+                out.write(serializer.serialize("bench", message));
+            }
+        }
+        return record(payload, buffer);
+    }
+
+    private TickMessage next() {
+        TickMessage message = messages[cursor];
+        cursor = (cursor + 1) % BATCH_SIZE;
+        return message;
+    }
+
+    private static int record(PayloadBytes payload, ByteBufferOutputStream buffer) {
+        ByteBuffer compressed = buffer.buffer();
+        payload.bytes += compressed.position();
+        payload.messages += BATCH_SIZE;
+        return compressed.position();
+    }
+
+    private byte[] legacyJsonEncode(TickMessage message) throws IOException {
+        Map<String, Object> stockData = new HashMap<>();
+        stockData.put("stockCode", message.getStockCode());
+        stockData.put("stockName", "삼성전자");
+        stockData.put("currentPrice", String.valueOf(message.getPrice()));
+        stockData.put("changePrice", String.valueOf(message.getChange()));
+        stockData.put("changeRate", String.format("%.2f", message.getRateBps() / 100.0));
+        stockData.put("changeSign", String.valueOf(message.getSign()));
+        stockData.put("timestamp", LocalDateTime.now());
+        return objectMapper.writeValueAsString(stockData).getBytes(StandardCharsets.UTF_8);
+    }
+}
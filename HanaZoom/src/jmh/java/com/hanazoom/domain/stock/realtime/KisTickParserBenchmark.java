@@ -0,0 +1,111 @@
+package com.hanazoom.domain.stock.realtime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KisTickParserBenchmark {
+
+    private String singleFrame;
+    private String multiFrame;
+    private KisTickParser parser;
+    private KisTickRecord record;
+    private Consumer<KisTickRecord> sink;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        String samsung = tradeRecord("005930", "093015", "71500", "2", "500", "0.70", "71200", "71800", "70900",
+                "71600", "71500", "120", "8123456");
+        String hynix = tradeRecord("000660", "093015", "131000", "5", "-1500", "-1.13", "132000", "132500", "130500",
+                "131100", "131000", "35", "2234567");
+        String naver = tradeRecord("035420", "093016", "189500", "3", "0", "0.00", "189500", "190000", "189000",
+                "189600", "189500", "7", "345678");
+
+        singleFrame = "0|H0STCNT0|001|" + samsung;
+        multiFrame = "0|H0STCNT0|003|" + samsung + "^" + hynix + "^" + naver;
+        parser = new KisTickParser();
+        record = new KisTickRecord();
+        sink = tick -> blackhole.consume(tick.getCurrentPrice());
+    }
+
+    @Benchmark
+    public void splitBasedSingle(Blackhole blackhole) {
+        legacySplitParse(singleFrame, blackhole);
+    }
+
+    @Benchmark
+    public void scannerSingle() {
+        parser.parse(singleFrame, record, sink);
+    }
+
+    @Benchmark
+    public void splitBasedMulti(Blackhole blackhole) {
+        legacySplitParse(multiFrame, blackhole);
+    }
+
+    @Benchmark
+    public void scannerMulti() {
+        parser.parse(multiFrame, record, sink);
+    }
+
+    private static void legacySplitParse(String message, Blackhole blackhole) {
+        String[] mainParts = message.split("\\|");
+        String[] dataParts = mainParts[3].split("\\^");
+
+        String stockCode = dataParts[0].trim();
+        String currentPrice = dataParts[2].trim();
+        String changeSign = dataParts[3].trim();
+        String changePrice = dataParts[4].trim();
+        String changeRate = dataParts[5].trim();
+
+        String calculatedChangeRate = "0";
+        double currentPriceValue = Double.parseDouble(currentPrice);
+        double changePriceValue = Double.parseDouble(changePrice);
+        if (currentPriceValue > 0 && changePriceValue != 0) {
+            double changeRateValue = (changePriceValue / (currentPriceValue - changePriceValue)) * 100;
+            calculatedChangeRate = String.format("%.2f", changeRateValue);
+        }
+
+        blackhole.consume(stockCode);
+        blackhole.consume(changeSign);
+        blackhole.consume(changeRate);
+        blackhole.consume(calculatedChangeRate);
+        blackhole.consume(dataParts[7].trim());
+        blackhole.consume(dataParts[8].trim());
+        blackhole.consume(dataParts[9].trim());
+        blackhole.consume(dataParts[10].trim());
+        blackhole.consume(dataParts[11].trim());
+        blackhole.consume(dataParts[12].trim());
+        blackhole.consume(dataParts[13].trim());
+    }
+
+    private static String tradeRecord(String stockCode, String time, String price, String sign, String change,
+                                      String rate, String open, String high, String low, String ask, String bid,
+                                      String tradeVolume, String cumulativeVolume) {
+        StringJoiner joiner = new StringJoiner("^");
+        joiner.add(stockCode).add(time).add(price).add(sign).add(change).add(rate).add(price)
+                .add(open).add(high).add(low).add(ask).add(bid).add(tradeVolume).add(cumulativeVolume);
+        for (int i = joiner.toString().split("\\^").length; i < KisTickParser.TRADE_FIELD_COUNT; i++) {
+            joiner.add("0");
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,135 @@
+package com.hanazoom.global.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanazoom.domain.stock.dto.OrderBookItem;
+import com.hanazoom.domain.stock.dto.StockPriceResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StockDeltaCodecBenchmark {
+
+    private static final int TICKS = 64;
+    private static final String STOCK_CODE = "005930";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StockPriceResponse[] updates;
+    private StockFrameState previous;
+    private int cursor;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PayloadBytes {
+        public long bytes;
+        public long frames;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            frames = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        updates = new StockPriceResponse[TICKS];
+        for (int i = 0; i < TICKS; i++) {
+            updates[i] = update(70500 + (i % 3) * 100, 1_000_000L + i * 37, i % 10);
+        }
+        previous = StockFrameState.from(STOCK_CODE, updates[TICKS - 1]);
+    }
+
+    @Benchmark
+    public byte[] jsonFullUpdate(PayloadBytes payload) throws IOException {
+        Map<String, Object> response = new HashMap<>();
+        response.put("type", "STOCK_UPDATE");
+        response.put("message", "실시간 주식 데이터");
+        response.put("timestamp", System.currentTimeMillis());
+        response.put("data", Map.of("stockData", next()));
+        byte[] encoded = objectMapper.writeValueAsBytes(response);
+        payload.bytes += encoded.length;
+        payload.frames++;
+        return encoded;
+    }
+
+    @Benchmark
+    public byte[] binaryDelta(PayloadBytes payload) {
+        StockFrameState current = StockFrameState.from(STOCK_CODE, next());
+        byte[] encoded = StockDeltaCodec.encode(previous, current);
+        previous = current;
+        if (encoded != null) {
+            payload.bytes += encoded.length;
+            payload.frames++;
+        }
+        return encoded;
+    }
+
+    private StockPriceResponse next() {
+        StockPriceResponse update = updates[cursor];
+        cursor = (cursor + 1) % TICKS;
+        return update;
+    }
+
+    private static StockPriceResponse update(long price, long volume, int changedLevel) {
+        List<OrderBookItem> asks = new ArrayList<>();
+        List<OrderBookItem> bids = new ArrayList<>();
+        for (int level = 0; level < 10; level++) {
+            asks.add(OrderBookItem.builder()
+                    .price(String.valueOf(price + 100L * (level + 1)))
+                    .quantity(String.valueOf(1000 + level + (level == changedLevel ? 7 : 0)))
+                    .orderCount("3").orderType("ASK").rank(level + 1).build());
+            bids.add(OrderBookItem.builder()
+                    .price(String.valueOf(price - 100L * level))
+                    .quantity(String.valueOf(2000 + level))
+                    .orderCount("4").orderType("BID").rank(level + 1).build());
+        }
+
+        StockPriceResponse response = StockPriceResponse.builder()
+                .stockCode(STOCK_CODE)
+                .stockName("삼성전자")
+                .currentPrice(String.valueOf(price))
+                .changePrice(String.valueOf(price - 70000))
+                .changeRate("0.71")
+                .changeSign("2")
+                .volume(String.valueOf(volume))
+                .openPrice("70000")
+                .highPrice("71000")
+                .lowPrice("69900")
+                .previousClose("70000")
+                .marketCap("4200000")
+                .updatedTime(String.valueOf(1_760_000_000_000L + volume))
+                .isMarketOpen(true)
+                .marketStatus("정규장")
+                .askOrders(asks)
+                .bidOrders(bids)
+                .totalAskQuantity("10052")
+                .totalBidQuantity("20045")
+                .build();
+        response.calculateSpread();
+        response.calculateImbalanceRatio();
+        return response;
+    }
+}
@@ -0,0 +1,6 @@
+package com.hanazoom.domain.order.book;
+
+import java.math.BigDecimal;
+
+public record OrderFill(RestingOrder order, BigDecimal executionPrice) {
+}
@@ -0,0 +1,103 @@
+package com.hanazoom.domain.order.book;
+
+import com.hanazoom.domain.order.entity.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class PendingOrderBook {
+
+    private final Map<String, SymbolOrderBook> books = new ConcurrentHashMap<>();
+    private final Map<Long, String> symbolByOrderId = new ConcurrentHashMap<>();
+
+    private final AtomicLong crossedOrders = new AtomicLong();
+    private final AtomicLong restoredOrders = new AtomicLong();
+
+    public static boolean isRestable(Order order) {
+        return order.getOrderMethod() == Order.OrderMethod.LIMIT
+                && order.getPrice() != null
+                && order.getRemainingQuantity() > 0
+                && (order.getStatus() == Order.OrderStatus.PENDING
+                    || order.getStatus() == Order.OrderStatus.PARTIAL_FILLED);
+    }
+
+    public void load(Collection<Order> orders) {
+        int loaded = 0;
+        for (Order order : orders) {
+            if (add(order)) {
+                loaded++;
+            }
+        }
+        log.info("📚 미체결 지정가 주문장 적재 완료: 주문={}건, 종목={}개", loaded, books.size());
+    }
+
+    public void replace(Collection<Order> orders) {
+        books.clear();
+        symbolByOrderId.clear();
+        load(orders);
+    }
+
+    public boolean add(Order order) {
+        if (!isRestable(order)) {
+            return false;
+        }
+        add(RestingOrder.from(order));
+        return true;
+    }
+
+    public void remove(Long orderId) {
+        String stockCode = symbolByOrderId.remove(orderId);
+        if (stockCode != null) {
+            SymbolOrderBook book = books.get(stockCode);
+            if (book != null) {
+                book.remove(orderId);
+            }
+        }
+    }
+
+    public List<RestingOrder> cross(String stockCode, BigDecimal tradePrice) {
+        SymbolOrderBook book = books.get(stockCode);
+        if (book == null) {
+            return Collections.emptyList();
+        }
+        List<RestingOrder> crossed = book.cross(tradePrice);
+        for (RestingOrder order : crossed) {
+            symbolByOrderId.remove(order.getOrderId());
+        }
+        crossedOrders.addAndGet(crossed.size());
+        return crossed;
+    }
+
+    public void restore(Collection<RestingOrder> orders) {
+        orders.forEach(this::add);
+        restoredOrders.addAndGet(orders.size());
+    }
+
+    public int size() {
+        return symbolByOrderId.size();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("restingOrders", symbolByOrderId.size());
+        metrics.put("symbols", books.size());
+        metrics.put("crossedOrders", crossedOrders.get());
+        metrics.put("restoredOrders", restoredOrders.get());
+        return metrics;
+    }
+
+    public void add(RestingOrder order) {
+        books.computeIfAbsent(order.getStockCode(), code -> new SymbolOrderBook()).add(order);
+        symbolByOrderId.put(order.getOrderId(), order.getStockCode());
+    }
+}
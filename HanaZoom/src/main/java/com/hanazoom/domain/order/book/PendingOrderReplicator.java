@@ -0,0 +1,97 @@
+package com.hanazoom.domain.order.book;
+
+import com.hanazoom.domain.order.entity.Order;
+import com.hanazoom.domain.order.repository.OrderRepository;
+import com.hanazoom.domain.stock.cluster.RealtimeClusterCoordinator;
+import com.hanazoom.global.config.RealtimeClusterConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class PendingOrderReplicator {
+
+    private static final String ADD = "A";
+    private static final String REMOVE = "D";
+
+    private final PendingOrderBook pendingOrderBook;
+    private final OrderRepository orderRepository;
+    private final RealtimeClusterCoordinator realtimeCluster;
+    private final RealtimeClusterConfig clusterConfig;
+
+    private final AtomicLong remoteAdds = new AtomicLong();
+    private final AtomicLong remoteRemoves = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong decodeFailures = new AtomicLong();
+
+    public PendingOrderReplicator(PendingOrderBook pendingOrderBook, OrderRepository orderRepository,
+                                  RealtimeClusterCoordinator realtimeCluster, RealtimeClusterConfig clusterConfig) {
+        this.pendingOrderBook = pendingOrderBook;
+        this.orderRepository = orderRepository;
+        this.realtimeCluster = realtimeCluster;
+        this.clusterConfig = clusterConfig;
+    }
+
+    @PostConstruct
+    public void start() {
+        realtimeCluster.subscribeRemote(clusterConfig.orderChannel(), this::onRemoteMessage);
+        realtimeCluster.addLeadershipListener(leader -> {
+            if (leader) {
+                reload();
+            }
+        });
+    }
+
+    public void add(RestingOrder order) {
+        pendingOrderBook.add(order);
+        realtimeCluster.broadcast(clusterConfig.orderChannel(), String.join("|", ADD,
+                String.valueOf(order.getOrderId()), String.valueOf(order.getMemberId()), order.getStockCode(),
+                order.getOrderType().name(), order.getPrice().toPlainString(),
+                String.valueOf(order.getRemainingQuantity())));
+    }
+
+    public void remove(Long orderId) {
+        pendingOrderBook.remove(orderId);
+        realtimeCluster.broadcast(clusterConfig.orderChannel(), REMOVE + "|" + orderId);
+    }
+
+    public void reload() {
+        pendingOrderBook.replace(orderRepository.findAllPendingLimitOrders());
+        reloads.incrementAndGet();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("remoteAdds", remoteAdds.get());
+        metrics.put("remoteRemoves", remoteRemoves.get());
+        metrics.put("reloads", reloads.get());
+        metrics.put("decodeFailures", decodeFailures.get());
+        return metrics;
+    }
+
+    private void onRemoteMessage(String message) {
+        String[] parts = message.split("\\|");
+        try {
+            if (ADD.equals(parts[0]) && parts.length == 7) {
+                pendingOrderBook.add(new RestingOrder(Long.valueOf(parts[1]), UUID.fromString(parts[2]), parts[3],
+                        Order.OrderType.valueOf(parts[4]), new BigDecimal(parts[5]), Integer.parseInt(parts[6])));
+                remoteAdds.incrementAndGet();
+            } else if (REMOVE.equals(parts[0]) && parts.length == 2) {
+                pendingOrderBook.remove(Long.valueOf(parts[1]));
+                remoteRemoves.incrementAndGet();
+            } else {
+                decodeFailures.incrementAndGet();
+            }
+        } catch (IllegalArgumentException e) {
+            decodeFailures.incrementAndGet();
+            log.debug("주문장 복제 메시지 해석 실패: {}", message);
+        }
+    }
+}
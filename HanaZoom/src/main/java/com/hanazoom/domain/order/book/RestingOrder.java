@@ -0,0 +1,37 @@
+package com.hanazoom.domain.order.book;
+
+import com.hanazoom.domain.order.entity.Order;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+public class RestingOrder {
+
+    private final Long orderId;
+    private final UUID memberId;
+    private final String stockCode;
+    private final Order.OrderType orderType;
+    private final BigDecimal price;
+    private final int remainingQuantity;
+
+    public RestingOrder(Long orderId, UUID memberId, String stockCode, Order.OrderType orderType,
+                        BigDecimal price, int remainingQuantity) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.stockCode = stockCode;
+        this.orderType = orderType;
+        this.price = price;
+        this.remainingQuantity = remainingQuantity;
+    }
+
+    public static RestingOrder from(Order order) {
+        return new RestingOrder(order.getId(), order.getMember().getId(), order.getStock().getSymbol(),
+                order.getOrderType(), order.getPrice(), order.getRemainingQuantity());
+    }
+
+    public boolean isBuy() {
+        return orderType == Order.OrderType.BUY;
+    }
+}
@@ -0,0 +1,74 @@
+package com.hanazoom.domain.order.book;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+class SymbolOrderBook {
+
+    private final NavigableMap<BigDecimal, Map<Long, RestingOrder>> bids = new TreeMap<>(Collections.reverseOrder());
+    private final NavigableMap<BigDecimal, Map<Long, RestingOrder>> asks = new TreeMap<>();
+    private final Map<Long, RestingOrder> ordersById = new HashMap<>();
+
+    synchronized void add(RestingOrder order) {
+        remove(order.getOrderId());
+        sideOf(order).computeIfAbsent(order.getPrice(), price -> new LinkedHashMap<>())
+                .put(order.getOrderId(), order);
+        ordersById.put(order.getOrderId(), order);
+    }
+
+    synchronized RestingOrder remove(Long orderId) {
+        RestingOrder order = ordersById.remove(orderId);
+        if (order == null) {
+            return null;
+        }
+        NavigableMap<BigDecimal, Map<Long, RestingOrder>> side = sideOf(order);
+        Map<Long, RestingOrder> level = side.get(order.getPrice());
+        if (level != null) {
+            level.remove(orderId);
+            if (level.isEmpty()) {
+                side.remove(order.getPrice());
+            }
+        }
+        return order;
+    }
+
+    synchronized List<RestingOrder> cross(BigDecimal tradePrice) {
+        List<RestingOrder> crossed = new ArrayList<>();
+        takeWhile(bids, level -> level.compareTo(tradePrice) >= 0, crossed);
+        takeWhile(asks, level -> level.compareTo(tradePrice) <= 0, crossed);
+        return crossed;
+    }
+
+    synchronized int size() {
+        return ordersById.size();
+    }
+
+    private void takeWhile(NavigableMap<BigDecimal, Map<Long, RestingOrder>> side,
+                           Predicate<BigDecimal> crosses, List<RestingOrder> crossed) {
+        Iterator<Map.Entry<BigDecimal, Map<Long, RestingOrder>>> levels = side.entrySet().iterator();
+        while (levels.hasNext()) {
+            Map.Entry<BigDecimal, Map<Long, RestingOrder>> level = levels.next();
+            if (!crosses.test(level.getKey())) {
+                break;
+            }
+            for (RestingOrder order : level.getValue().values()) {
+                ordersById.remove(order.getOrderId());
+                crossed.add(order);
+            }
+            levels.remove();
+        }
+    }
+
+    private NavigableMap<BigDecimal, Map<Long, RestingOrder>> sideOf(RestingOrder order) {
+        return order.isBuy() ? bids : asks;
+    }
+}
@@ -0,0 +1,20 @@
+package com.hanazoom.domain.order.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+@Getter
+public class OrderExecutedEvent extends ApplicationEvent {
+    private final UUID memberId;
+    private final Long orderId;
+    private final String message;
+
+    public OrderExecutedEvent(Object source, UUID memberId, Long orderId, String message) {
+        super(source);
+        this.memberId = memberId;
+        this.orderId = orderId;
+        this.message = message;
+    }
+}
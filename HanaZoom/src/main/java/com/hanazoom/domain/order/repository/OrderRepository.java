@@ -5,6 +5,7 @@ import com.hanazoom.domain.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +18,12 @@ import java.util.Optional;
 public interface OrderRepository extends JpaRepository<Order, Long> {
     
     Optional<Order> findByIdAndMember(Long orderId, Member member);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = 'CANCELLED', o.cancelTime = :cancelTime, o.updatedAt = :cancelTime " +
+           "WHERE o.id = :orderId AND o.member = :member AND o.status IN ('PENDING', 'PARTIAL_FILLED')")
+    int cancelIfOpen(@Param("orderId") Long orderId, @Param("member") Member member,
+                     @Param("cancelTime") LocalDateTime cancelTime);
     
     Page<Order> findByMemberOrderByCreatedAtDesc(Member member, Pageable pageable);
     
@@ -43,6 +50,14 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "ORDER BY o.createdAt ASC")
     List<Order> findAllPendingOrders();
     
+    @Query("SELECT o FROM Order o JOIN FETCH o.stock WHERE o.orderMethod = 'LIMIT' " +
+           "AND o.status IN ('PENDING', 'PARTIAL_FILLED') " +
+           "ORDER BY o.createdAt ASC")
+    List<Order> findAllPendingLimitOrders();
+    
+    @Query("SELECT o FROM Order o JOIN FETCH o.stock WHERE o.id IN :orderIds")
+    List<Order> findAllWithStockByIdIn(@Param("orderIds") java.util.Collection<Long> orderIds);
+    
     @Query("SELECT o FROM Order o WHERE o.createdAt < :beforeDate " +
            "AND o.status IN ('PENDING', 'PARTIAL_FILLED') " +
            "ORDER BY o.createdAt ASC")
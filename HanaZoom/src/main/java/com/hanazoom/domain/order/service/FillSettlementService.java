@@ -0,0 +1,329 @@
+package com.hanazoom.domain.order.service;
+
+import com.hanazoom.domain.order.book.OrderFill;
+import com.hanazoom.domain.order.book.PendingOrderBook;
+import com.hanazoom.domain.order.book.RestingOrder;
+import com.hanazoom.domain.order.entity.Order;
+import com.hanazoom.domain.order.event.OrderExecutedEvent;
+import com.hanazoom.domain.order.repository.OrderRepository;
+import com.hanazoom.domain.portfolio.entity.Account;
+import com.hanazoom.domain.portfolio.entity.AccountBalance;
+import com.hanazoom.domain.portfolio.entity.PortfolioStock;
+import com.hanazoom.domain.portfolio.entity.TradeHistory;
+import com.hanazoom.domain.portfolio.entity.TradeType;
+import com.hanazoom.domain.portfolio.repository.AccountBalanceRepository;
+import com.hanazoom.domain.portfolio.repository.AccountRepository;
+import com.hanazoom.domain.portfolio.repository.PortfolioStockRepository;
+import com.hanazoom.domain.portfolio.service.AccountLedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FillSettlementService {
+
+    private static final String FILL_ORDER_SQL =
+            "UPDATE orders SET status = ?, filled_quantity = ?, filled_amount = ?, average_filled_price = ?, "
+                    + "filled_time = ?, updated_at = ? WHERE id = ? AND status IN ('PENDING', 'PARTIAL_FILLED')";
+
+    private static final String REJECT_FILL_SQL =
+            "UPDATE orders SET status = 'REJECTED', filled_quantity = ?, filled_amount = ?, average_filled_price = ?, "
+                    + "filled_time = ?, reject_reason = ?, updated_at = ? WHERE id = ? AND status = ?";
+
+    private static final String INSERT_TRADE_HISTORY_SQL =
+            "INSERT INTO trade_history (account_id, stock_symbol, trade_type, trade_date, trade_time, quantity, "
+                    + "price_per_share, total_amount, commission, tax, net_amount, balance_after_trade, "
+                    + "stock_quantity_after_trade, trade_memo, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXECUTION_REASON = "현재가가 주문가격보다 유리하여 체결";
+    private static final String INSUFFICIENT_HOLDINGS_REASON = "보유 수량 부족으로 매도 체결 거부";
+
+    private final OrderRepository orderRepository;
+    private final AccountRepository accountRepository;
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final PortfolioStockRepository portfolioStockRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountLedger accountLedger;
+    private final ApplicationEventPublisher eventPublisher;
+
+    static BigDecimal[] calculateFees(BigDecimal totalAmount, TradeType tradeType) {
+
+        BigDecimal commissionRate = new BigDecimal("0.00015");
+        BigDecimal commission = totalAmount.multiply(commissionRate);
+        if (commission.compareTo(new BigDecimal("15")) < 0) {
+            commission = new BigDecimal("15");
+        }
+
+
+        BigDecimal tax = BigDecimal.ZERO;
+        if (tradeType == TradeType.SELL) {
+            tax = totalAmount.multiply(new BigDecimal("0.0023"));
+        }
+
+        return new BigDecimal[]{commission, tax};
+    }
+
+    public List<RestingOrder> settle(Collection<OrderFill> fills) {
+        Map<Long, Order> orders = orderRepository.findAllWithStockByIdIn(
+                fills.stream().map(fill -> fill.order().getOrderId()).toList())
+            .stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        Map<UUID, Long> accountIdByMember = accountRepository.findByMemberIdIn(
+                fills.stream().map(fill -> fill.order().getMemberId()).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(account -> account.getMember().getId(), Account::getId, (first, second) -> first));
+
+        Map<Long, List<SettledFill>> fillsByAccount = new LinkedHashMap<>();
+        for (OrderFill fill : fills) {
+            Order order = orders.get(fill.order().getOrderId());
+            if (order == null || !PendingOrderBook.isRestable(order)) {
+                log.debug("체결 대상 주문이 더 이상 미체결 상태가 아님: orderId={}", fill.order().getOrderId());
+                continue;
+            }
+            Long accountId = accountIdByMember.get(fill.order().getMemberId());
+            if (accountId == null) {
+                log.warn("⚠️ 체결 계좌를 찾을 수 없음: orderId={}, memberId={}", order.getId(), fill.order().getMemberId());
+                continue;
+            }
+            fillsByAccount.computeIfAbsent(accountId, id -> new ArrayList<>())
+                .add(new SettledFill(fill, order));
+        }
+
+        List<RestingOrder> failed = new ArrayList<>();
+        fillsByAccount.forEach((accountId, accountFills) -> {
+            try {
+                accountLedger.executeWithoutResult(accountId, () -> settleAccount(accountId, accountFills));
+                accountFills.stream()
+                    .filter(SettledFill::isAccepted)
+                    .forEach(this::sendExecutionNotification);
+            } catch (Exception e) {
+                log.error("❌ 계좌 체결 정산 실패: 계좌={}, 건수={}, error={}", accountId, accountFills.size(), e.getMessage(), e);
+                accountFills.forEach(fill -> failed.add(fill.fill.order()));
+            }
+        });
+        return failed;
+    }
+
+    private void settleAccount(Long accountId, List<SettledFill> fills) {
+        LocalDateTime now = LocalDateTime.now();
+
+        int[][] updated = jdbcTemplate.batchUpdate(FILL_ORDER_SQL, fills, fills.size(), (ps, fill) -> {
+            Order order = fill.order;
+            ps.setString(1, order.getStatus().name());
+            ps.setInt(2, order.getFilledQuantity());
+            ps.setBigDecimal(3, order.getFilledAmount());
+            ps.setBigDecimal(4, order.getAverageFilledPrice());
+            if (order.getFilledTime() != null) {
+                ps.setTimestamp(5, Timestamp.valueOf(order.getFilledTime()));
+            } else {
+                ps.setNull(5, Types.TIMESTAMP);
+            }
+            ps.setTimestamp(6, Timestamp.valueOf(now));
+            ps.setLong(7, order.getId());
+        });
+        int index = 0;
+        for (int[] batch : updated) {
+            for (int count : batch) {
+                fills.get(index++).accepted = count != 0;
+            }
+        }
+
+        AccountBalance balance = accountBalanceRepository.findFirstByAccountIdOrderByBalanceDateDesc(accountId)
+            .orElse(null);
+        Map<String, PortfolioStock> holdings = new HashMap<>();
+        portfolioStockRepository.findByAccountIdAndStockSymbolIn(accountId,
+                fills.stream().map(fill -> fill.order.getStock().getSymbol()).collect(Collectors.toSet()))
+            .forEach(stock -> holdings.put(stock.getStockSymbol(), stock));
+
+        BigDecimal availableCash = balance != null ? balance.getAvailableCash() : BigDecimal.ZERO;
+        List<TradeHistory> trades = new ArrayList<>(fills.size());
+        List<SettledFill> rejected = new ArrayList<>();
+        for (SettledFill fill : fills) {
+            if (!fill.accepted) {
+                continue;
+            }
+            String stockCode = fill.order.getStock().getSymbol();
+            BigDecimal executionPrice = fill.executionPrice();
+            BigDecimal totalAmount = executionPrice.multiply(BigDecimal.valueOf(fill.quantity));
+            PortfolioStock holding = holdings.get(stockCode);
+
+            TradeType tradeType;
+            BigDecimal[] fees;
+            if (fill.order.getOrderType() == Order.OrderType.BUY) {
+                tradeType = TradeType.BUY;
+                if (holding != null) {
+                    holding.buy(fill.quantity, executionPrice);
+                } else {
+                    holding = PortfolioStock.builder()
+                        .accountId(accountId)
+                        .stockSymbol(stockCode)
+                        .quantity(fill.quantity)
+                        .avgPurchasePrice(executionPrice)
+                        .totalPurchaseAmount(totalAmount)
+                        .build();
+                    holding.updateCurrentPrice(executionPrice);
+                    holdings.put(stockCode, holding);
+                }
+                fees = calculateFees(totalAmount, tradeType);
+                availableCash = availableCash.subtract(totalAmount.add(fees[0]).add(fees[1]));
+            } else {
+                tradeType = TradeType.SELL;
+                if (holding == null || !holding.hasQuantity(fill.quantity)) {
+                    log.warn("⚠️ 매도 수량 부족 - 주문 거부: orderId={}, 보유={}, 매도요청={}", fill.order.getId(),
+                        holding != null ? holding.getQuantity() : 0, fill.quantity);
+                    fill.accepted = false;
+                    rejected.add(fill);
+                    continue;
+                }
+                holding.sell(fill.quantity);
+                fees = calculateFees(totalAmount, tradeType);
+                availableCash = availableCash.add(totalAmount.subtract(fees[0]).subtract(fees[1]));
+            }
+
+            trades.add(TradeHistory.builder()
+                .accountId(accountId)
+                .stockSymbol(stockCode)
+                .tradeType(tradeType)
+                .tradeDate(now.toLocalDate())
+                .tradeTime(now.toLocalTime())
+                .quantity(fill.quantity)
+                .pricePerShare(executionPrice)
+                .totalAmount(totalAmount)
+                .commission(fees[0])
+                .tax(fees[1])
+                .balanceAfterTrade(availableCash)
+                .stockQuantityAfterTrade(holding.getQuantity())
+                .tradeMemo(tradeType == TradeType.BUY ? "매수 체결" : "매도 체결")
+                .build());
+        }
+
+        for (PortfolioStock holding : holdings.values()) {
+            if (holding.getId() != null && holding.getQuantity() == 0) {
+                portfolioStockRepository.delete(holding);
+            } else if (holding.getQuantity() > 0) {
+                portfolioStockRepository.save(holding);
+            }
+        }
+
+        if (balance != null) {
+            balance.setAvailableCash(availableCash);
+            balance.calculateTotalBalance();
+            balance.setBalanceDate(LocalDate.now());
+            accountBalanceRepository.save(balance);
+        } else if (!trades.isEmpty()) {
+            log.warn("⚠️ 계좌 잔고를 찾을 수 없음: 계좌={}", accountId);
+        }
+
+        rejectFills(rejected, now);
+        insertTradeHistories(trades, now);
+        log.info("💳 계좌 체결 정산 완료: 계좌={}, 체결={}건, 잔고={}원", accountId, trades.size(), availableCash);
+    }
+
+    private void rejectFills(List<SettledFill> rejected, LocalDateTime now) {
+        if (rejected.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(REJECT_FILL_SQL, rejected, rejected.size(), (ps, fill) -> {
+            ps.setInt(1, fill.previousFilledQuantity);
+            ps.setBigDecimal(2, fill.previousFilledAmount);
+            ps.setBigDecimal(3, fill.previousAverageFilledPrice);
+            ps.setNull(4, Types.TIMESTAMP);
+            ps.setString(5, INSUFFICIENT_HOLDINGS_REASON);
+            ps.setTimestamp(6, Timestamp.valueOf(now));
+            ps.setLong(7, fill.order.getId());
+            ps.setString(8, fill.order.getStatus().name());
+        });
+        rejected.forEach(fill -> fill.order.reject(INSUFFICIENT_HOLDINGS_REASON));
+    }
+
+    private void insertTradeHistories(List<TradeHistory> trades, LocalDateTime now) {
+        if (trades.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TRADE_HISTORY_SQL, trades, trades.size(), (ps, trade) -> {
+            ps.setLong(1, trade.getAccountId());
+            ps.setString(2, trade.getStockSymbol());
+            ps.setString(3, trade.getTradeType().name());
+            ps.setDate(4, Date.valueOf(trade.getTradeDate()));
+            ps.setTime(5, Time.valueOf(trade.getTradeTime() != null ? trade.getTradeTime() : LocalTime.now()));
+            ps.setInt(6, trade.getQuantity());
+            ps.setBigDecimal(7, trade.getPricePerShare());
+            ps.setBigDecimal(8, trade.getTotalAmount());
+            ps.setBigDecimal(9, trade.getCommission());
+            ps.setBigDecimal(10, trade.getTax());
+            ps.setBigDecimal(11, trade.getNetAmount());
+            ps.setBigDecimal(12, trade.getBalanceAfterTrade());
+            ps.setInt(13, trade.getStockQuantityAfterTrade());
+            ps.setString(14, trade.getTradeMemo());
+            ps.setTimestamp(15, Timestamp.valueOf(now));
+            ps.setTimestamp(16, Timestamp.valueOf(now));
+        });
+    }
+
+    private void sendExecutionNotification(SettledFill fill) {
+        Order order = fill.order;
+        String notification = String.format(
+            "주문이 체결되었습니다. 종목: %s, %s %d주, 체결가: %s원, 사유: %s",
+            order.getStock().getName(),
+            order.getOrderType() == Order.OrderType.BUY ? "매수" : "매도",
+            fill.quantity,
+            fill.executionPrice().toPlainString(),
+            EXECUTION_REASON
+        );
+        eventPublisher.publishEvent(new OrderExecutedEvent(this, fill.fill.order().getMemberId(), order.getId(), notification));
+        log.info("✅ 주문 체결 완료: orderId={}, stockCode={}, price={}, quantity={}, reason={}",
+            order.getId(), order.getStock().getSymbol(), fill.executionPrice(), fill.quantity, EXECUTION_REASON);
+    }
+
+    private static final class SettledFill {
+        private final OrderFill fill;
+        private final Order order;
+        private final int quantity;
+        private final int previousFilledQuantity;
+        private final BigDecimal previousFilledAmount;
+        private final BigDecimal previousAverageFilledPrice;
+        private boolean accepted;
+
+        private SettledFill(OrderFill fill, Order order) {
+            this.fill = fill;
+            this.order = order;
+            this.quantity = order.getRemainingQuantity();
+            this.previousFilledQuantity = order.getFilledQuantity();
+            this.previousFilledAmount = order.getFilledAmount();
+            this.previousAverageFilledPrice = order.getAverageFilledPrice();
+            order.fill(quantity, fill.executionPrice());
+        }
+
+        private BigDecimal executionPrice() {
+            return fill.executionPrice();
+        }
+
+        private boolean isAccepted() {
+            return accepted;
+        }
+    }
+}
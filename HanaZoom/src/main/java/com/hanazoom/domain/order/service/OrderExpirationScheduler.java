@@ -1,5 +1,6 @@
 package com.hanazoom.domain.order.service;
 
+import com.hanazoom.domain.order.book.PendingOrderReplicator;
 import com.hanazoom.domain.order.entity.Order;
 import com.hanazoom.domain.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import java.util.List;
 public class OrderExpirationScheduler {
 
     private final OrderRepository orderRepository;
+    private final PendingOrderReplicator pendingOrderReplicator;
     private static final int SUMMARY_LIMIT = 20;
 
     private String summarizeIds(java.util.Collection<Long> ids, int limit) {
@@ -74,6 +76,7 @@ public class OrderExpirationScheduler {
                     orderRepository.save(order);
                     cancelledCount++;
                     cancelledIds.add(order.getId());
+                    pendingOrderReplicator.remove(order.getId());
                     
                     log.debug("✅ 미체결 주문 자동 취소 완료: orderId={}, memberId={}, stockCode={}, 취소시간={}", 
                         order.getId(), 
@@ -132,6 +135,7 @@ public class OrderExpirationScheduler {
                     orderRepository.save(order);
                     cancelledCount++;
                     cancelledIds.add(order.getId());
+                    pendingOrderReplicator.remove(order.getId());
                     
                     log.debug("✅ 서버 시작 시 만료 주문 취소 완료: orderId={}, memberId={}, stockCode={}, 취소시간={}", 
                         order.getId(), 
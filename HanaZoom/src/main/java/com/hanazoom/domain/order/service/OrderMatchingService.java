@@ -1,5 +1,8 @@
 package com.hanazoom.domain.order.service;
 
+import com.hanazoom.domain.order.book.OrderFill;
+import com.hanazoom.domain.order.book.PendingOrderBook;
+import com.hanazoom.domain.order.book.RestingOrder;
 import com.hanazoom.domain.order.entity.Order;
 import com.hanazoom.domain.order.repository.OrderRepository;
 import com.hanazoom.domain.portfolio.entity.AccountBalance;
@@ -9,25 +12,37 @@ import com.hanazoom.domain.portfolio.entity.TradeType;
 import com.hanazoom.domain.portfolio.repository.AccountBalanceRepository;
 import com.hanazoom.domain.portfolio.repository.PortfolioStockRepository;
 import com.hanazoom.domain.portfolio.repository.TradeHistoryRepository;
+import com.hanazoom.domain.portfolio.service.AccountLedger;
 import com.hanazoom.domain.portfolio.service.PortfolioService;
+import com.hanazoom.domain.portfolio.service.VirtualTradingService;
 import com.hanazoom.domain.stock.service.StockService;
 import com.hanazoom.domain.stock.dto.OrderBookItem;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.hanazoom.domain.order.event.OrderExecutedEvent;
 import com.hanazoom.domain.order.event.OrderMatchingEvent;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 
 @Slf4j
 @Service
@@ -41,6 +56,35 @@ public class OrderMatchingService {
     private final AccountBalanceRepository accountBalanceRepository;
     private final PortfolioService portfolioService;
     private final StockService stockService;
+    private final PendingOrderBook pendingOrderBook;
+    private final FillSettlementService fillSettlementService;
+    private final AccountLedger accountLedger;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final BlockingQueue<OrderFill> pendingFills = new LinkedBlockingQueue<>();
+    private final ExecutorService fillWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-fill-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${order.matching.fill-batch-size:200}")
+    private int fillBatchSize;
+
+    @PostConstruct
+    public void startFillWriter() {
+        fillWriter.execute(this::writeFills);
+    }
+
+    @PreDestroy
+    public void stopFillWriter() {
+        fillWriter.shutdownNow();
+    }
+
+    @Transactional(readOnly = true)
+    public void loadPendingOrders() {
+        pendingOrderBook.load(orderRepository.findAllPendingLimitOrders());
+    }
 
     @EventListener
     public void handleOrderMatchingEvent(OrderMatchingEvent event) {
@@ -58,139 +102,142 @@ public class OrderMatchingService {
         BigDecimal currentPriceDecimal = new BigDecimal(currentPrice);
         
 
-        processBuyOrders(stockCode, currentPriceDecimal);
-        
+        List<RestingOrder> crossed = pendingOrderBook.cross(stockCode, currentPriceDecimal);
+        if (crossed.isEmpty()) {
+            return;
+        }
 
-        processSellOrders(stockCode, currentPriceDecimal);
+        for (RestingOrder order : crossed) {
+            pendingFills.offer(new OrderFill(order, currentPriceDecimal));
+        }
+        log.debug("📌 체결 대상 주문 큐잉: 종목={}, 체결가={}, 주문수={}", stockCode, currentPriceDecimal, crossed.size());
     }
 
-    private void processBuyOrders(String stockCode, BigDecimal currentPrice) {
-
-        List<Order> pendingBuyOrders = orderRepository
-            .findByStockSymbolAndOrderTypeAndStatusOrderByPriceDesc(stockCode);
-
-        for (Order order : pendingBuyOrders) {
-
-            if (currentPrice.compareTo(order.getPrice()) <= 0) {
-                executeOrder(order, currentPrice, "현재가가 주문가격보다 유리하여 체결");
+    private void writeFills() {
+        List<OrderFill> batch = new ArrayList<>(fillBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(pendingFills.take());
+                pendingFills.drainTo(batch, fillBatchSize - 1);
+                List<RestingOrder> failed = fillSettlementService.settle(batch);
+                if (!failed.isEmpty()) {
+                    pendingOrderBook.restore(failed);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("❌ 체결 일괄 저장 실패 - 주문장 복원: 건수={}, error={}", batch.size(), e.getMessage(), e);
+                pendingOrderBook.restore(batch.stream().map(OrderFill::order).toList());
+            } finally {
+                batch.clear();
             }
         }
     }
 
-    private void processSellOrders(String stockCode, BigDecimal currentPrice) {
+    private void executeOrder(Order order, BigDecimal executionPrice, String reason) {
 
-        List<Order> pendingSellOrders = orderRepository
-            .findByStockSymbolAndOrderTypeAndStatusOrderByPriceAsc(stockCode);
+        order.fill(order.getQuantity(), executionPrice);
+        orderRepository.save(order);
 
-        for (Order order : pendingSellOrders) {
 
-            if (currentPrice.compareTo(order.getPrice()) >= 0) {
-                executeOrder(order, currentPrice, "현재가가 주문가격보다 유리하여 체결");
-            }
-        }
-    }
-
-    private void executeOrder(Order order, BigDecimal executionPrice, String reason) {
-        try {
+        updatePortfolio(order, executionPrice);
 
-            order.fill(order.getQuantity(), executionPrice);
-            orderRepository.save(order);
 
+        sendExecutionNotification(order, executionPrice, reason);
 
-            updatePortfolio(order, executionPrice);
+        log.info("✅ 주문 체결 완료: orderId={}, stockCode={}, price={}, quantity={}, reason={}", 
+            order.getId(), order.getStock().getSymbol(), executionPrice, order.getQuantity(), reason);
+    }
 
+    private void updatePortfolio(Order order, BigDecimal executionPrice) {
+        String stockCode = order.getStock().getSymbol();
+        UUID memberId = order.getMember().getId();
+        Integer quantity = order.getQuantity();
+        BigDecimal totalAmount = executionPrice.multiply(BigDecimal.valueOf(quantity));
 
-            sendExecutionNotification(order, executionPrice, reason);
 
-            log.info("✅ 주문 체결 완료: orderId={}, stockCode={}, price={}, quantity={}, reason={}", 
-                order.getId(), order.getStock().getSymbol(), executionPrice, order.getQuantity(), reason);
+        com.hanazoom.domain.portfolio.entity.Account account = portfolioService.getAccountByMemberId(memberId);
+        
 
-        } catch (Exception e) {
-            log.error("❌ 주문 체결 실패: orderId={}, error={}", order.getId(), e.getMessage(), e);
+        try {
+            accountLedger.executeWithoutResult(account.getId(),
+                () -> applyPortfolioChange(order, account.getId(), stockCode, quantity, executionPrice, totalAmount));
+        } catch (RuntimeException e) {
+            log.error("❌ 포트폴리오 업데이트 실패 - 주문 체결 롤백: orderId={}, error={}", order.getId(), e.getMessage(), e);
+            throw e;
         }
     }
 
-    private void updatePortfolio(Order order, BigDecimal executionPrice) {
-        try {
-            String stockCode = order.getStock().getSymbol();
-            UUID memberId = order.getMember().getId();
-            Integer quantity = order.getQuantity();
-            BigDecimal totalAmount = executionPrice.multiply(BigDecimal.valueOf(quantity));
+    private void applyPortfolioChange(Order order, Long accountId, String stockCode, Integer quantity,
+                                      BigDecimal executionPrice, BigDecimal totalAmount) {
+        Optional<PortfolioStock> existingPortfolioStock = portfolioStockRepository
+            .findByAccountIdAndStockSymbol(accountId, stockCode);
 
+        if (order.getOrderType() == Order.OrderType.BUY) {
 
-            com.hanazoom.domain.portfolio.entity.Account account = portfolioService.getAccountByMemberId(memberId);
+            if (existingPortfolioStock.isPresent()) {
+                PortfolioStock portfolioStock = existingPortfolioStock.get();
+                portfolioStock.buy(quantity, executionPrice);
+                portfolioStockRepository.save(portfolioStock);
+            } else {
+
+                PortfolioStock newPortfolioStock = PortfolioStock.builder()
+                    .accountId(accountId)
+                    .stockSymbol(stockCode)
+                    .quantity(quantity)
+                    .avgPurchasePrice(executionPrice)
+                    .totalPurchaseAmount(totalAmount)
+                    .build();
+                newPortfolioStock.updateCurrentPrice(executionPrice);
+                portfolioStockRepository.save(newPortfolioStock);
+            }
             
 
-            Optional<PortfolioStock> existingPortfolioStock = portfolioStockRepository
-                .findByAccountIdAndStockSymbol(account.getId(), stockCode);
+            BigDecimal[] fees = FillSettlementService.calculateFees(totalAmount, TradeType.BUY);
+            BigDecimal totalCost = totalAmount.add(fees[0]).add(fees[1]); 
+            
 
-            if (order.getOrderType() == Order.OrderType.BUY) {
+            saveTradeHistory(accountId, stockCode, TradeType.BUY, quantity, executionPrice, totalAmount, fees[0], fees[1]);
+            
 
-                if (existingPortfolioStock.isPresent()) {
-                    PortfolioStock portfolioStock = existingPortfolioStock.get();
-                    portfolioStock.buy(quantity, executionPrice);
-                    portfolioStockRepository.save(portfolioStock);
-                } else {
+            updateAccountBalance(accountId, totalCost, TradeType.BUY);
+            
+            log.info("💰 매수 체결: {}주 × {}원 = {}원 차감", quantity, executionPrice, totalAmount);
+            
+        } else {
 
-                    PortfolioStock newPortfolioStock = PortfolioStock.builder()
-                        .accountId(account.getId())
-                        .stockSymbol(stockCode)
-                        .quantity(quantity)
-                        .avgPurchasePrice(executionPrice)
-                        .totalPurchaseAmount(totalAmount)
-                        .build();
-                    newPortfolioStock.updateCurrentPrice(executionPrice);
-                    portfolioStockRepository.save(newPortfolioStock);
-                }
-                
+            if (existingPortfolioStock.isPresent()) {
+                PortfolioStock portfolioStock = existingPortfolioStock.get();
+                if (portfolioStock.hasQuantity(quantity)) {
+                    portfolioStock.sell(quantity);
+                    portfolioStockRepository.save(portfolioStock);
+                    
 
-                BigDecimal[] fees = calculateFees(totalAmount, TradeType.BUY);
-                BigDecimal totalCost = totalAmount.add(fees[0]).add(fees[1]); 
-                
+                    BigDecimal[] fees = FillSettlementService.calculateFees(totalAmount, TradeType.SELL);
+                    BigDecimal netAmount = totalAmount.subtract(fees[0]).subtract(fees[1]); 
+                    
 
-                saveTradeHistory(account.getId(), stockCode, TradeType.BUY, quantity, executionPrice, totalAmount, fees[0], fees[1]);
-                
+                    saveTradeHistory(accountId, stockCode, TradeType.SELL, quantity, executionPrice, totalAmount, fees[0], fees[1]);
+                    
 
-                updateAccountBalance(account.getId(), totalCost, TradeType.BUY);
-                
-                log.info("💰 매수 체결: {}주 × {}원 = {}원 차감", quantity, executionPrice, totalAmount);
-                
-            } else {
+                    updateAccountBalance(accountId, netAmount, TradeType.SELL);
+                    
 
-                if (existingPortfolioStock.isPresent()) {
-                    PortfolioStock portfolioStock = existingPortfolioStock.get();
-                    if (portfolioStock.hasQuantity(quantity)) {
-                        portfolioStock.sell(quantity);
-                        portfolioStockRepository.save(portfolioStock);
-                        
-
-                        BigDecimal[] fees = calculateFees(totalAmount, TradeType.SELL);
-                        BigDecimal netAmount = totalAmount.subtract(fees[0]).subtract(fees[1]); 
-                        
-
-                        saveTradeHistory(account.getId(), stockCode, TradeType.SELL, quantity, executionPrice, totalAmount, fees[0], fees[1]);
-                        
-
-                        updateAccountBalance(account.getId(), netAmount, TradeType.SELL);
-                        
-
-                        if (portfolioStock.getQuantity() == 0) {
-                            portfolioStockRepository.delete(portfolioStock);
-                        }
-                    } else {
-                        log.warn("⚠️ 매도 수량 부족: 보유={}, 매도요청={}", portfolioStock.getQuantity(), quantity);
-                        return;
+                    if (portfolioStock.getQuantity() == 0) {
+                        portfolioStockRepository.delete(portfolioStock);
                     }
                 } else {
-                    log.warn("⚠️ 매도할 주식이 없음: stockCode={}", stockCode);
-                    return;
+                    log.warn("⚠️ 매도 수량 부족: 보유={}, 매도요청={}", portfolioStock.getQuantity(), quantity);
+                    throw new VirtualTradingService.InsufficientQuantityException(
+                            "매도 가능한 수량이 부족합니다. 요청: " + quantity + ", 보유: " + portfolioStock.getQuantity());
                 }
-                
-                log.info("💰 매도 체결: {}주 × {}원 = {}원 증가", quantity, executionPrice, totalAmount);
+            } else {
+                log.warn("⚠️ 매도할 주식이 없음: stockCode={}", stockCode);
+                throw new VirtualTradingService.InsufficientQuantityException(
+                        "매도할 주식이 없습니다: " + stockCode);
             }
-
-        } catch (Exception e) {
-            log.error("❌ 포트폴리오 업데이트 실패: orderId={}, error={}", order.getId(), e.getMessage(), e);
+            
+            log.info("💰 매도 체결: {}주 × {}원 = {}원 증가", quantity, executionPrice, totalAmount);
         }
     }
 
@@ -198,7 +245,7 @@ public class OrderMatchingService {
         try {
 
             Optional<AccountBalance> latestBalanceOpt = accountBalanceRepository
-                .findLatestBalanceByAccountIdOrderByDateDesc(accountId);
+                .findFirstByAccountIdOrderByBalanceDateDesc(accountId);
             
             if (latestBalanceOpt.isPresent()) {
                 AccountBalance currentBalance = latestBalanceOpt.get();
@@ -230,23 +277,6 @@ public class OrderMatchingService {
         }
     }
 
-    private BigDecimal[] calculateFees(BigDecimal totalAmount, TradeType tradeType) {
-
-        BigDecimal commissionRate = new BigDecimal("0.00015");
-        BigDecimal commission = totalAmount.multiply(commissionRate);
-        if (commission.compareTo(new BigDecimal("15")) < 0) {
-            commission = new BigDecimal("15");
-        }
-        
-
-        BigDecimal tax = BigDecimal.ZERO;
-        if (tradeType == TradeType.SELL) {
-            tax = totalAmount.multiply(new BigDecimal("0.0023"));
-        }
-        
-        return new BigDecimal[]{commission, tax};
-    }
-
     private void saveTradeHistory(Long accountId, String stockCode, TradeType tradeType, 
                                  Integer quantity, BigDecimal executionPrice, BigDecimal totalAmount,
                                  BigDecimal commission, BigDecimal tax) {
@@ -254,7 +284,7 @@ public class OrderMatchingService {
             
 
             Optional<AccountBalance> latestBalanceOpt = accountBalanceRepository
-                .findLatestBalanceByAccountIdOrderByDateDesc(accountId);
+                .findFirstByAccountIdOrderByBalanceDateDesc(accountId);
             BigDecimal balanceAfterTrade = latestBalanceOpt.map(AccountBalance::getAvailableCash)
                 .orElse(BigDecimal.ZERO);
             Integer stockQuantityAfterTrade = quantity; 
@@ -298,8 +328,7 @@ public class OrderMatchingService {
             );
 
 
-            log.info("주문 체결 알림: 사용자={}, 주문={}, 알림={}", 
-                order.getMember().getId(), order.getId(), notification);
+            eventPublisher.publishEvent(new OrderExecutedEvent(this, order.getMember().getId(), order.getId(), notification));
 
         } catch (Exception e) {
             log.error("❌ 체결 알림 전송 실패: orderId={}, error={}", order.getId(), e.getMessage(), e);
@@ -2,8 +2,12 @@ package com.hanazoom.domain.order.service;
 
 import com.hanazoom.domain.order.dto.OrderRequest;
 import com.hanazoom.domain.order.dto.OrderResponse;
+import com.hanazoom.domain.order.book.PendingOrderBook;
+import com.hanazoom.domain.order.book.PendingOrderReplicator;
+import com.hanazoom.domain.order.book.RestingOrder;
 import com.hanazoom.domain.order.entity.Order;
 import com.hanazoom.domain.order.repository.OrderRepository;
+import com.hanazoom.domain.portfolio.service.AccountLedger;
 import com.hanazoom.domain.member.entity.Member;
 import com.hanazoom.domain.stock.entity.Stock;
 import com.hanazoom.domain.stock.repository.StockRepository;
@@ -15,7 +19,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -32,11 +39,18 @@ public class OrderServiceImpl implements OrderService {
     private final StockRepository stockRepository;
     private final OrderMatchingService orderMatchingService;
     private final StockService stockService;
+    private final PendingOrderReplicator pendingOrderReplicator;
+    private final AccountLedger accountLedger;
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OrderResponse createOrder(Member member, OrderRequest request) {
+        String currentPrice = request.getOrderMethod() == Order.OrderMethod.MARKET
+                ? lookupMarketPrice(request.getStockCode()) : null;
+        return accountLedger.executeUnit(() -> placeOrder(member, request, currentPrice));
+    }
 
+    private OrderResponse placeOrder(Member member, OrderRequest request, String currentPrice) {
         Stock stock = stockRepository.findBySymbol(request.getStockCode())
                 .orElseThrow(() -> new BusinessException("STOCK_NOT_FOUND"));
         
@@ -58,19 +72,28 @@ public class OrderServiceImpl implements OrderService {
         log.info("주문 생성 완료: orderId={}, memberId={}, stockCode={}", savedOrder.getId(), member.getId(), request.getStockCode());
         
 
-        if (request.getOrderMethod() == Order.OrderMethod.MARKET) {
-            try {
+        if (PendingOrderBook.isRestable(savedOrder)) {
+            RestingOrder restingOrder = RestingOrder.from(savedOrder);
+            runAfterCommit(() -> pendingOrderReplicator.add(restingOrder));
+        }
+
 
-                String currentPrice = stockService.getRealTimePrice(request.getStockCode()).getCurrentPrice();
-                orderMatchingService.executeMarketOrder(savedOrder, new BigDecimal(currentPrice));
-            } catch (Exception e) {
-                log.error("시장가 주문 즉시 체결 실패: orderId={}, error={}", savedOrder.getId(), e.getMessage());
-            }
+        if (currentPrice != null) {
+            orderMatchingService.executeMarketOrder(savedOrder, new BigDecimal(currentPrice));
         }
         
         return OrderResponse.from(savedOrder);
     }
 
+    private String lookupMarketPrice(String stockCode) {
+        try {
+            return stockService.getRealTimePrice(stockCode).getCurrentPrice();
+        } catch (Exception e) {
+            log.error("시장가 주문 즉시 체결 실패: stockCode={}, error={}", stockCode, e.getMessage());
+            return null;
+        }
+    }
+
     @Override
     public OrderResponse getOrder(Member member, Long orderId) {
         Order order = orderRepository.findByIdAndMember(orderId, member)
@@ -102,19 +125,30 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional
     public OrderResponse cancelOrder(Member member, Long orderId) {
+        int cancelled = orderRepository.cancelIfOpen(orderId, member, LocalDateTime.now());
         Order order = orderRepository.findByIdAndMember(orderId, member)
                 .orElseThrow(() -> new BusinessException("ORDER_NOT_FOUND"));
-        
-        if (order.getStatus() != Order.OrderStatus.PENDING) {
+
+        if (cancelled == 0) {
             throw new BusinessException("ORDER_CANNOT_CANCEL");
         }
-        
-        order.updateStatus(Order.OrderStatus.CANCELLED);
-        order.updateCancelledAt(LocalDateTime.now());
-        
-        Order savedOrder = orderRepository.save(order);
+        runAfterCommit(() -> pendingOrderReplicator.remove(orderId));
+
         log.info("주문 취소 완료: orderId={}, memberId={}", orderId, member.getId());
-        
-        return OrderResponse.from(savedOrder);
+
+        return OrderResponse.from(order);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -12,6 +12,8 @@ import com.hanazoom.domain.consultation.repository.ConsultationRepository;
 import com.hanazoom.domain.consultation.entity.ConsultationStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -207,6 +209,11 @@ public class PortfolioController {
             return ResponseEntity.badRequest()
                     .body(TradeResult.error("예수금이 부족합니다: " + e.getMessage()));
 
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("매수 실패 - 동시 거래 충돌: 종목={}", request.getStockSymbol());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(TradeResult.error("동시에 처리 중인 거래가 많습니다. 잠시 후 다시 시도해주세요."));
+
         } catch (Exception e) {
             log.error("주식 매수 실패: 종목={}", request.getStockSymbol(), e);
             return ResponseEntity.badRequest()
@@ -239,6 +246,11 @@ public class PortfolioController {
             return ResponseEntity.badRequest()
                     .body(TradeResult.error("매도 가능한 수량이 부족합니다: " + e.getMessage()));
 
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("매도 실패 - 동시 거래 충돌: 종목={}", request.getStockSymbol());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(TradeResult.error("동시에 처리 중인 거래가 많습니다. 잠시 후 다시 시도해주세요."));
+
         } catch (Exception e) {
             log.error("주식 매도 실패: 종목={}", request.getStockSymbol(), e);
             return ResponseEntity.badRequest()
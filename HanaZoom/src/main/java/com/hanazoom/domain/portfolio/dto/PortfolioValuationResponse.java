@@ -0,0 +1,34 @@
+package com.hanazoom.domain.portfolio.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+public class PortfolioValuationResponse {
+
+    private Long accountId;
+    private BigDecimal totalStockValue;
+    private BigDecimal totalPurchaseAmount;
+    private BigDecimal totalProfitLoss;
+    private BigDecimal totalProfitLossRate;
+    private int totalStockCount;
+    private boolean fullyPriced;
+    private long updatedAt;
+    private List<PositionValuation> positions;
+
+    @Getter
+    @Builder
+    public static class PositionValuation {
+        private String stockSymbol;
+        private int quantity;
+        private BigDecimal totalPurchaseAmount;
+        private BigDecimal currentPrice;
+        private BigDecimal currentValue;
+        private BigDecimal profitLoss;
+        private BigDecimal profitLossRate;
+    }
+}
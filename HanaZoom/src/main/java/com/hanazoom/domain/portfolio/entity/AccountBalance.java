@@ -68,6 +68,10 @@ public class AccountBalance {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+
     @Builder
     public AccountBalance(Long accountId, LocalDate balanceDate, BigDecimal cashBalance,
             BigDecimal availableCash, BigDecimal frozenCash, BigDecimal settlementCash,
@@ -77,6 +77,10 @@ public class PortfolioStock {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+
     @Builder
     public PortfolioStock(Long accountId, String stockSymbol, Integer quantity,
             BigDecimal avgPurchasePrice, BigDecimal totalPurchaseAmount) {
@@ -0,0 +1,16 @@
+package com.hanazoom.domain.portfolio.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class AccountLedgerUpdatedEvent extends ApplicationEvent {
+    private static final long serialVersionUID = 1L;
+
+    private final Long accountId;
+
+    public AccountLedgerUpdatedEvent(Object source, Long accountId) {
+        super(source);
+        this.accountId = accountId;
+    }
+}
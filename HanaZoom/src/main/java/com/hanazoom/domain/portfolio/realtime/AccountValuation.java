@@ -0,0 +1,126 @@
+package com.hanazoom.domain.portfolio.realtime;
+
+import com.hanazoom.domain.portfolio.dto.PortfolioValuationResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class AccountValuation {
+
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private final Long accountId;
+    private final Map<String, Position> positions = new HashMap<>();
+    private long stockValue;
+    private BigDecimal purchaseAmount = BigDecimal.ZERO;
+    private int unpriced;
+    private long loadedAt = Long.MIN_VALUE;
+    private long updatedAt;
+
+    AccountValuation(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    Long getAccountId() {
+        return accountId;
+    }
+
+    synchronized boolean reprice(String symbol, long price) {
+        Position position = positions.get(symbol);
+        if (position == null || price <= 0 || position.price == price) {
+            return false;
+        }
+        if (position.price == 0) {
+            unpriced--;
+        }
+        stockValue += (price - position.price) * position.quantity;
+        position.price = price;
+        updatedAt = System.currentTimeMillis();
+        return true;
+    }
+
+    synchronized Set<String> symbols() {
+        return new HashSet<>(positions.keySet());
+    }
+
+    synchronized boolean replace(Collection<Position> holdings, long readAt) {
+        if (readAt < loadedAt) {
+            return false;
+        }
+        loadedAt = readAt;
+        positions.clear();
+        stockValue = 0L;
+        purchaseAmount = BigDecimal.ZERO;
+        unpriced = 0;
+        for (Position position : holdings) {
+            positions.put(position.symbol, position);
+            purchaseAmount = purchaseAmount.add(position.purchaseAmount);
+            if (position.price > 0) {
+                stockValue += position.price * position.quantity;
+            } else {
+                unpriced++;
+            }
+        }
+        updatedAt = System.currentTimeMillis();
+        return true;
+    }
+
+    synchronized PortfolioValuationResponse snapshot() {
+        List<PortfolioValuationResponse.PositionValuation> rows = new ArrayList<>(positions.size());
+        for (Position position : positions.values()) {
+            BigDecimal value = BigDecimal.valueOf(position.price * position.quantity);
+            BigDecimal profitLoss = value.subtract(position.purchaseAmount);
+            rows.add(PortfolioValuationResponse.PositionValuation.builder()
+                    .stockSymbol(position.symbol)
+                    .quantity((int) position.quantity)
+                    .totalPurchaseAmount(position.purchaseAmount)
+                    .currentPrice(BigDecimal.valueOf(position.price))
+                    .currentValue(value)
+                    .profitLoss(profitLoss)
+                    .profitLossRate(rate(profitLoss, position.purchaseAmount))
+                    .build());
+        }
+
+        BigDecimal totalStockValue = BigDecimal.valueOf(stockValue);
+        BigDecimal totalProfitLoss = totalStockValue.subtract(purchaseAmount);
+        return PortfolioValuationResponse.builder()
+                .accountId(accountId)
+                .totalStockValue(totalStockValue)
+                .totalPurchaseAmount(purchaseAmount)
+                .totalProfitLoss(totalProfitLoss)
+                .totalProfitLossRate(rate(totalProfitLoss, purchaseAmount))
+                .totalStockCount(positions.size())
+                .fullyPriced(unpriced == 0)
+                .updatedAt(updatedAt)
+                .positions(rows)
+                .build();
+    }
+
+    private static BigDecimal rate(BigDecimal profitLoss, BigDecimal purchaseAmount) {
+        if (purchaseAmount.compareTo(BigDecimal.ZERO) <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return profitLoss.divide(purchaseAmount, 4, RoundingMode.HALF_UP).multiply(HUNDRED);
+    }
+
+    static final class Position {
+        private final String symbol;
+        private final long quantity;
+        private final BigDecimal purchaseAmount;
+        private long price;
+
+        Position(String symbol, long quantity, BigDecimal purchaseAmount, long price) {
+            this.symbol = symbol;
+            this.quantity = quantity;
+            this.purchaseAmount = purchaseAmount != null ? purchaseAmount : BigDecimal.ZERO;
+            this.price = Math.max(0L, price);
+        }
+    }
+}
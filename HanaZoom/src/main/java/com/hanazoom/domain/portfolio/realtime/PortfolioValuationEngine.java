@@ -0,0 +1,321 @@
+package com.hanazoom.domain.portfolio.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanazoom.domain.portfolio.dto.PortfolioValuationResponse;
+import com.hanazoom.domain.portfolio.entity.Account;
+import com.hanazoom.domain.portfolio.entity.PortfolioStock;
+import com.hanazoom.domain.portfolio.event.AccountLedgerUpdatedEvent;
+import com.hanazoom.domain.portfolio.repository.AccountRepository;
+import com.hanazoom.domain.portfolio.repository.PortfolioStockRepository;
+import com.hanazoom.domain.stock.cluster.RealtimeClusterCoordinator;
+import com.hanazoom.domain.stock.dto.StockPriceResponse;
+import com.hanazoom.domain.stock.realtime.RealtimeSnapshotCache;
+import com.hanazoom.domain.stock.realtime.StockTick;
+import com.hanazoom.global.config.RealtimeClusterConfig;
+import com.hanazoom.global.handler.SessionBroadcaster;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PortfolioValuationEngine {
+
+    private static final String PORTFOLIO_UPDATE = "PORTFOLIO_UPDATE";
+
+    private final PortfolioStockRepository portfolioStockRepository;
+    private final AccountRepository accountRepository;
+    private final RealtimeSnapshotCache realtimeSnapshotCache;
+    private final SessionBroadcaster sessionBroadcaster;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTemplate;
+    private final RealtimeClusterCoordinator realtimeCluster;
+    private final RealtimeClusterConfig clusterConfig;
+
+    private final Map<Long, AccountValuation> accounts = new ConcurrentHashMap<>();
+    private final Map<String, Set<AccountValuation>> holdersBySymbol = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastPrices = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyAccounts = ConcurrentHashMap.newKeySet();
+    private final Set<Long> ledgerUpdates = ConcurrentHashMap.newKeySet();
+    private final Set<Long> remoteLedgerUpdates = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<WebSocketSession>> sessionsByAccount = new ConcurrentHashMap<>();
+    private final Map<String, Long> accountBySession = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong repricedAccounts = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong pushes = new AtomicLong();
+    private final AtomicLong remoteReloads = new AtomicLong();
+
+    public PortfolioValuationEngine(PortfolioStockRepository portfolioStockRepository,
+                                    AccountRepository accountRepository,
+                                    RealtimeSnapshotCache realtimeSnapshotCache,
+                                    SessionBroadcaster sessionBroadcaster,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    RealtimeClusterCoordinator realtimeCluster,
+                                    RealtimeClusterConfig clusterConfig) {
+        this.portfolioStockRepository = portfolioStockRepository;
+        this.accountRepository = accountRepository;
+        this.realtimeSnapshotCache = realtimeSnapshotCache;
+        this.sessionBroadcaster = sessionBroadcaster;
+        this.objectMapper = objectMapper;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        this.readTemplate.setReadOnly(true);
+        this.realtimeCluster = realtimeCluster;
+        this.clusterConfig = clusterConfig;
+    }
+
+    @PostConstruct
+    public void start() {
+        realtimeCluster.subscribeRemote(clusterConfig.ledgerChannel(), this::onRemoteLedgerUpdated);
+    }
+
+    public void load() {
+        long readAt = System.nanoTime();
+        List<PortfolioStock> holdings = readTemplate.execute(status -> portfolioStockRepository.findAllHoldingStocks());
+        Map<Long, List<PortfolioStock>> byAccount = holdings == null ? Collections.emptyMap()
+                : holdings.stream().collect(Collectors.groupingBy(PortfolioStock::getAccountId));
+
+        byAccount.forEach((accountId, stocks) -> apply(accountId, stocks, readAt));
+        loaded = true;
+        log.info("📊 포트폴리오 평가 인덱스 적재 완료: 계좌={}개, 종목={}개", byAccount.size(), holdersBySymbol.size());
+    }
+
+    public void onTick(StockTick tick) {
+        long price = tick.getCurrentPrice();
+        if (price <= 0) {
+            return;
+        }
+        ticks.incrementAndGet();
+        lastPrices.put(tick.getStockCode(), price);
+
+        Set<AccountValuation> holders = holdersBySymbol.get(tick.getStockCode());
+        if (holders == null) {
+            return;
+        }
+        for (AccountValuation valuation : holders) {
+            if (valuation.reprice(tick.getStockCode(), price)) {
+                repricedAccounts.incrementAndGet();
+                dirtyAccounts.add(valuation.getAccountId());
+            }
+        }
+    }
+
+    @EventListener
+    public void onLedgerUpdated(AccountLedgerUpdatedEvent event) {
+        realtimeCluster.broadcast(clusterConfig.ledgerChannel(), String.valueOf(event.getAccountId()));
+        if (loaded) {
+            ledgerUpdates.add(event.getAccountId());
+        }
+    }
+
+    private void onRemoteLedgerUpdated(String message) {
+        try {
+            remoteLedgerUpdates.add(Long.valueOf(message));
+        } catch (NumberFormatException e) {
+            log.debug("원격 계좌 원장 갱신 메시지 해석 실패: {}", message);
+        }
+    }
+
+    public PortfolioValuationResponse getValuation(Long accountId) {
+        if (!loaded) {
+            return null;
+        }
+        AccountValuation valuation = accounts.get(accountId);
+        if (valuation == null) {
+            valuation = reloadAccount(accountId);
+        }
+        return valuation.snapshot();
+    }
+
+    public Optional<Long> getLastPrice(String stockCode) {
+        return Optional.ofNullable(lastPrices.get(stockCode));
+    }
+
+    public boolean subscribe(WebSocketSession session, UUID memberId) {
+        Optional<Account> account = accountRepository.findByMemberId(memberId);
+        if (account.isEmpty()) {
+            return false;
+        }
+        Long accountId = account.get().getId();
+        unsubscribe(session);
+        accountBySession.put(session.getId(), accountId);
+        sessionsByAccount.computeIfAbsent(accountId, id -> new CopyOnWriteArraySet<>()).add(session);
+
+        PortfolioValuationResponse valuation = getValuation(accountId);
+        if (valuation != null) {
+            sessionBroadcaster.send(session, createMessage(valuation));
+        }
+        log.info("📊 포트폴리오 실시간 평가 구독: 세션={}, 계좌={}", session.getId(), accountId);
+        return true;
+    }
+
+    public void unsubscribe(WebSocketSession session) {
+        Long accountId = accountBySession.remove(session.getId());
+        if (accountId == null) {
+            return;
+        }
+        sessionsByAccount.computeIfPresent(accountId, (id, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.valuation.push-interval-ms:500}")
+    public void pushUpdates() {
+        reloadLedgerUpdates(ledgerUpdates, null);
+        reloadLedgerUpdates(remoteLedgerUpdates, remoteReloads);
+        if (dirtyAccounts.isEmpty()) {
+            return;
+        }
+        List<WebSocketSession> deadSessions = new ArrayList<>();
+        for (Iterator<Long> iterator = dirtyAccounts.iterator(); iterator.hasNext(); ) {
+            Long accountId = iterator.next();
+            iterator.remove();
+
+            Set<WebSocketSession> sessions = sessionsByAccount.get(accountId);
+            AccountValuation valuation = accounts.get(accountId);
+            if (sessions == null || sessions.isEmpty() || valuation == null) {
+                continue;
+            }
+            TextMessage frame = new TextMessage(createMessage(valuation.snapshot()));
+            pushes.addAndGet(sessionBroadcaster.sendLatest(sessions, "portfolio:" + accountId, frame, deadSessions));
+        }
+        deadSessions.forEach(this::unsubscribe);
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("loaded", loaded);
+        metrics.put("accounts", accounts.size());
+        metrics.put("symbols", holdersBySymbol.size());
+        metrics.put("subscribedAccounts", sessionsByAccount.size());
+        metrics.put("dirtyAccounts", dirtyAccounts.size());
+        metrics.put("pendingLedgerUpdates", ledgerUpdates.size() + remoteLedgerUpdates.size());
+        metrics.put("ticks", ticks.get());
+        metrics.put("repricedAccounts", repricedAccounts.get());
+        metrics.put("reloads", reloads.get());
+        metrics.put("pushes", pushes.get());
+        metrics.put("remoteReloads", remoteReloads.get());
+        return metrics;
+    }
+
+    private void reloadLedgerUpdates(Set<Long> updates, AtomicLong counter) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        for (Iterator<Long> iterator = updates.iterator(); iterator.hasNext(); ) {
+            Long accountId = iterator.next();
+            iterator.remove();
+            if (!loaded) {
+                continue;
+            }
+            try {
+                reloadAccount(accountId);
+                if (counter != null) {
+                    counter.incrementAndGet();
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ 원장 갱신 평가 재적재 실패: 계좌={}, 에러={}", accountId, e.getMessage());
+            }
+        }
+    }
+
+    private AccountValuation reloadAccount(Long accountId) {
+        long readAt = System.nanoTime();
+        List<PortfolioStock> holdings = readTemplate.execute(
+                status -> portfolioStockRepository.findHoldingStocksByAccountId(accountId));
+        reloads.incrementAndGet();
+        AccountValuation valuation = apply(accountId, holdings == null ? Collections.emptyList() : holdings, readAt);
+        dirtyAccounts.add(accountId);
+        return valuation;
+    }
+
+    private AccountValuation apply(Long accountId, List<PortfolioStock> holdings, long readAt) {
+        Map<String, AccountValuation.Position> positions = new HashMap<>();
+        for (PortfolioStock stock : holdings) {
+            if (stock.getQuantity() == null || stock.getQuantity() <= 0) {
+                continue;
+            }
+            positions.put(stock.getStockSymbol(), new AccountValuation.Position(stock.getStockSymbol(),
+                    stock.getQuantity(), stock.getTotalPurchaseAmount(), seedPrice(stock)));
+        }
+
+        AccountValuation valuation = accounts.computeIfAbsent(accountId, AccountValuation::new);
+        synchronized (valuation) {
+            Set<String> previous = valuation.symbols();
+            if (!valuation.replace(positions.values(), readAt)) {
+                return valuation;
+            }
+            for (String symbol : previous) {
+                if (!positions.containsKey(symbol)) {
+                    holdersBySymbol.computeIfPresent(symbol, (code, holders) -> {
+                        holders.remove(valuation);
+                        return holders.isEmpty() ? null : holders;
+                    });
+                }
+            }
+            for (String symbol : positions.keySet()) {
+                holdersBySymbol.computeIfAbsent(symbol, code -> ConcurrentHashMap.newKeySet()).add(valuation);
+            }
+        }
+        return valuation;
+    }
+
+    private long seedPrice(PortfolioStock stock) {
+        Long last = lastPrices.get(stock.getStockSymbol());
+        if (last != null) {
+            return last;
+        }
+        StockPriceResponse snapshot = realtimeSnapshotCache.get(stock.getStockSymbol());
+        if (snapshot != null && snapshot.getCurrentPrice() != null) {
+            try {
+                long price = Long.parseLong(snapshot.getCurrentPrice());
+                if (price > 0) {
+                    return price;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return stock.getCurrentPrice() != null ? stock.getCurrentPrice().longValue() : 0L;
+    }
+
+    private String createMessage(PortfolioValuationResponse valuation) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("type", PORTFOLIO_UPDATE);
+            response.put("message", "포트폴리오 평가 갱신");
+            response.put("timestamp", System.currentTimeMillis());
+            response.put("data", valuation);
+            return objectMapper.writeValueAsString(response);
+        } catch (Exception e) {
+            log.error("❌ 포트폴리오 평가 메시지 생성 실패", e);
+            return "{\"type\":\"ERROR\",\"message\":\"메시지 생성 실패\"}";
+        }
+    }
+}
@@ -25,6 +25,9 @@ public interface AccountBalanceRepository extends JpaRepository<AccountBalance,
     Optional<AccountBalance> findLatestBalanceByAccountIdOrderByDateDesc(@Param("accountId") Long accountId);
 
 
+    Optional<AccountBalance> findFirstByAccountIdOrderByBalanceDateDesc(Long accountId);
+
+
     @Query("SELECT ab FROM AccountBalance ab WHERE ab.accountId = :accountId AND ab.balanceDate BETWEEN :startDate AND :endDate ORDER BY ab.balanceDate")
     List<AccountBalance> findBalanceByAccountIdAndDateRange(
             @Param("accountId") Long accountId,
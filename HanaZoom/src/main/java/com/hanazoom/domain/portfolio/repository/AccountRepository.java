@@ -37,4 +37,7 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
 
     Optional<Account> findByMemberId(java.util.UUID memberId);
+
+
+    List<Account> findByMemberIdIn(java.util.Collection<java.util.UUID> memberIds);
 }
@@ -20,10 +20,17 @@ public interface PortfolioStockRepository extends JpaRepository<PortfolioStock,
     Optional<PortfolioStock> findByAccountIdAndStockSymbol(Long accountId, String stockSymbol);
 
 
+    List<PortfolioStock> findByAccountIdAndStockSymbolIn(Long accountId, java.util.Collection<String> stockSymbols);
+
+
     @Query("SELECT ps FROM PortfolioStock ps WHERE ps.accountId = :accountId AND ps.quantity > 0")
     List<PortfolioStock> findHoldingStocksByAccountId(@Param("accountId") Long accountId);
 
 
+    @Query("SELECT ps FROM PortfolioStock ps WHERE ps.quantity > 0")
+    List<PortfolioStock> findAllHoldingStocks();
+
+
     @Query("SELECT COALESCE(ps.quantity, 0) FROM PortfolioStock ps WHERE ps.accountId = :accountId AND ps.stockSymbol = :stockSymbol")
     Integer findQuantityByAccountIdAndStockSymbol(@Param("accountId") Long accountId,
             @Param("stockSymbol") String stockSymbol);
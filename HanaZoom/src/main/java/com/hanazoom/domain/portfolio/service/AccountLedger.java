@@ -0,0 +1,144 @@
+package com.hanazoom.domain.portfolio.service;
+
+import com.hanazoom.domain.portfolio.event.AccountLedgerUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class AccountLedger {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock[] stripes;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    public AccountLedger(PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                         @Value("${ledger.lock-stripes:64}") int lockStripes,
+                         @Value("${ledger.max-attempts:3}") int maxAttempts,
+                         @Value("${ledger.retry-backoff-ms:20}") long retryBackoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        this.eventPublisher = eventPublisher;
+        this.stripes = new ReentrantLock[Math.max(1, lockStripes)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    public <T> T execute(Long accountId, Supplier<T> work) {
+        ReentrantLock lock = stripeOf(accountId);
+        lock.lock();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            return joinCurrentTransaction(accountId, lock, work);
+        }
+        T result;
+        try {
+            result = retrying(accountId, () -> transactionTemplate.execute(status -> work.get()));
+        } finally {
+            lock.unlock();
+        }
+        commits.incrementAndGet();
+        publishUpdated(accountId);
+        return result;
+    }
+
+    public <T> T executeUnit(Supplier<T> unit) {
+        return retrying(null, () -> transactionTemplate.execute(status -> unit.get()));
+    }
+
+    public void executeWithoutResult(Long accountId, Runnable work) {
+        execute(accountId, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("lockStripes", stripes.length);
+        metrics.put("commits", commits.get());
+        metrics.put("conflicts", conflicts.get());
+        metrics.put("exhausted", exhausted.get());
+        return metrics;
+    }
+
+    private <T> T joinCurrentTransaction(Long accountId, ReentrantLock lock, Supplier<T> work) {
+        try {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                    if (status == STATUS_COMMITTED) {
+                        commits.incrementAndGet();
+                        publishUpdated(accountId);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.unlock();
+            throw e;
+        }
+        return work.get();
+    }
+
+    private <T> T retrying(Long accountId, Supplier<T> transaction) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.get();
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.incrementAndGet();
+                if (attempt >= maxAttempts) {
+                    exhausted.incrementAndGet();
+                    log.error("❌ 계좌 원장 갱신 충돌 재시도 초과: 계좌={}, 시도={}", accountId, attempt);
+                    throw e;
+                }
+                log.warn("⚠️ 계좌 원장 갱신 충돌 - 재시도: 계좌={}, 시도={}/{}", accountId, attempt, maxAttempts);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void publishUpdated(Long accountId) {
+        try {
+            eventPublisher.publishEvent(new AccountLedgerUpdatedEvent(this, accountId));
+        } catch (Exception e) {
+            log.warn("⚠️ 계좌 원장 갱신 이벤트 처리 실패: 계좌={}, 에러={}", accountId, e.getMessage());
+        }
+    }
+
+    private ReentrantLock stripeOf(Long accountId) {
+        int hash = accountId.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("계좌 원장 재시도 대기 중 인터럽트", e);
+        }
+    }
+}
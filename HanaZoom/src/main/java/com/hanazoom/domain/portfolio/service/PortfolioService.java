@@ -2,10 +2,12 @@ package com.hanazoom.domain.portfolio.service;
 
 import com.hanazoom.domain.portfolio.dto.PortfolioSummaryResponse;
 import com.hanazoom.domain.portfolio.dto.PortfolioStockResponse;
+import com.hanazoom.domain.portfolio.dto.PortfolioValuationResponse;
 import com.hanazoom.domain.portfolio.entity.Account;
 import com.hanazoom.domain.portfolio.entity.AccountBalance;
 import com.hanazoom.domain.portfolio.entity.PortfolioStock;
 import com.hanazoom.domain.portfolio.entity.TradeHistory;
+import com.hanazoom.domain.portfolio.realtime.PortfolioValuationEngine;
 import com.hanazoom.domain.portfolio.repository.AccountRepository;
 import com.hanazoom.domain.portfolio.repository.AccountBalanceRepository;
 import com.hanazoom.domain.portfolio.repository.PortfolioStockRepository;
@@ -33,6 +35,7 @@ public class PortfolioService {
     private final PortfolioStockRepository portfolioStockRepository;
     private final TradeHistoryRepository tradeHistoryRepository;
     private final StockService stockService;
+    private final PortfolioValuationEngine portfolioValuationEngine;
 
 
     @Transactional(readOnly = true)
@@ -55,22 +58,32 @@ public class PortfolioService {
 
         Account account = getAccount(accountId);
         AccountBalance balance = getAccountBalance(account);
-        List<PortfolioStock> stocks = portfolioStockRepository.findHoldingStocksByAccountId(account.getId());
 
 
         BigDecimal actualTotalStockValue = BigDecimal.ZERO;
         BigDecimal actualTotalProfitLoss = BigDecimal.ZERO;
         BigDecimal totalStockInvestment = BigDecimal.ZERO;
+        int totalStockCount;
 
-        for (PortfolioStock stock : stocks) {
+        PortfolioValuationResponse valuation = getLiveValuation(account.getId());
+        if (valuation != null) {
+            actualTotalStockValue = valuation.getTotalStockValue();
+            actualTotalProfitLoss = valuation.getTotalProfitLoss();
+            totalStockInvestment = valuation.getTotalPurchaseAmount();
+            totalStockCount = valuation.getTotalStockCount();
+        } else {
+            List<PortfolioStock> stocks = portfolioStockRepository.findHoldingStocksByAccountId(account.getId());
+            for (PortfolioStock stock : stocks) {
 
-            updateStockCurrentPrice(stock);
+                updateStockCurrentPrice(stock);
 
 
-            stock.updateCurrentValue();
-            actualTotalStockValue = actualTotalStockValue.add(stock.getCurrentValue());
-            actualTotalProfitLoss = actualTotalProfitLoss.add(stock.getProfitLoss());
-            totalStockInvestment = totalStockInvestment.add(stock.getTotalPurchaseAmount());
+                stock.updateCurrentValue();
+                actualTotalStockValue = actualTotalStockValue.add(stock.getCurrentValue());
+                actualTotalProfitLoss = actualTotalProfitLoss.add(stock.getProfitLoss());
+                totalStockInvestment = totalStockInvestment.add(stock.getTotalPurchaseAmount());
+            }
+            totalStockCount = stocks.size();
         }
 
 
@@ -108,7 +121,7 @@ public class PortfolioService {
                 .totalProfitLoss(actualTotalProfitLoss)
                 .totalProfitLossRate(actualTotalProfitLossRate)
                 .totalBalance(totalBalance)
-                .totalStockCount(stocks.size())
+                .totalStockCount(totalStockCount)
                 .stockAllocationRate(stockAllocationRate)
                 .cashAllocationRate(cashAllocationRate)
                 .dailyReturn(calculateDailyReturn(account))
@@ -133,12 +146,18 @@ public class PortfolioService {
         List<PortfolioStock> stocks = portfolioStockRepository.findHoldingStocksByAccountId(account.getId());
         
 
+        BigDecimal liveStockValue = BigDecimal.ZERO;
         for (PortfolioStock stock : stocks) {
-            updateStockCurrentPrice(stock);
+            Long livePrice = portfolioValuationEngine.getLastPrice(stock.getStockSymbol()).orElse(null);
+            if (livePrice != null) {
+                stock.updateCurrentPrice(BigDecimal.valueOf(livePrice));
+            } else {
+                updateStockCurrentPrice(stock);
+            }
             stock.updateCurrentValue();
+            liveStockValue = liveStockValue.add(stock.getCurrentValue());
         }
-        
-        BigDecimal totalStockValue = portfolioStockRepository.findTotalStockValueByAccountId(account.getId());
+        BigDecimal totalStockValue = liveStockValue;
 
         return stocks.stream()
                 .map(stock -> convertToPortfolioStockResponse(stock, totalStockValue))
@@ -229,6 +248,18 @@ public class PortfolioService {
     }
 
 
+    private PortfolioValuationResponse getLiveValuation(Long accountId) {
+        try {
+            PortfolioValuationResponse valuation = portfolioValuationEngine.getValuation(accountId);
+            return valuation != null && valuation.isFullyPriced() ? valuation : null;
+        } catch (Exception e) {
+            log.warn("⚠️ 실시간 포트폴리오 평가 조회 실패 - 개별 시세 조회로 대체: 계좌={}, error={}",
+                accountId, e.getMessage());
+            return null;
+        }
+    }
+
+
     private Account getAccount(Long accountId) {
         return accountRepository.findById(accountId)
                 .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다: " + accountId));
@@ -6,6 +6,7 @@ import com.hanazoom.domain.portfolio.dto.TradeResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -24,107 +25,118 @@ public class VirtualTradingService {
     private final PortfolioStockRepository portfolioStockRepository;
     private final TradeHistoryRepository tradeHistoryRepository;
     private final SettlementScheduleRepository settlementScheduleRepository;
+    private final AccountLedger accountLedger;
 
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TradeResult buyStock(Long accountId, String stockSymbol, int quantity, BigDecimal price) {
         log.info("매수 요청: 계좌={}, 종목={}, 수량={}, 가격={}", accountId, stockSymbol, quantity, price);
 
         try {
-            Account account = getAccount(accountId);
-            AccountBalance balance = getAccountBalance(account);
+            return accountLedger.execute(accountId, () -> applyBuy(accountId, stockSymbol, quantity, price));
+        } catch (Exception e) {
+            log.error("매수 처리 실패: 계좌={}, 종목={}", accountId, stockSymbol, e);
+            throw e;
+        }
+    }
 
 
-            BigDecimal requiredAmount = price.multiply(BigDecimal.valueOf(quantity));
-            BigDecimal commission = calculateCommission(requiredAmount);
-            BigDecimal totalCost = requiredAmount.add(commission);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TradeResult sellStock(Long accountId, String stockSymbol, int quantity, BigDecimal price) {
+        log.info("매도 요청: 계좌={}, 종목={}, 수량={}, 가격={}", accountId, stockSymbol, quantity, price);
 
-            if (balance.getAvailableCash().compareTo(totalCost) < 0) {
-                throw new InsufficientFundsException("사용 가능한 현금이 부족합니다. 필요: " +
-                        formatCurrency(totalCost) + ", 보유: " + formatCurrency(balance.getAvailableCash()));
-            }
+        try {
+            return accountLedger.execute(accountId, () -> applySell(accountId, stockSymbol, quantity, price));
+        } catch (Exception e) {
+            log.error("매도 처리 실패: 계좌={}, 종목={}", accountId, stockSymbol, e);
+            throw e;
+        }
+    }
 
 
-            balance.setAvailableCash(balance.getAvailableCash().subtract(totalCost));
-            balance.calculateTotalBalance();
-            accountBalanceRepository.save(balance);
+    private TradeResult applyBuy(Long accountId, String stockSymbol, int quantity, BigDecimal price) {
+        Account account = getAccount(accountId);
+        AccountBalance balance = getAccountBalance(account);
 
 
-            PortfolioStock portfolioStock = getOrCreatePortfolioStock(account, stockSymbol);
-            portfolioStock.buy(quantity, price);
-            portfolioStockRepository.save(portfolioStock);
+        BigDecimal requiredAmount = price.multiply(BigDecimal.valueOf(quantity));
+        BigDecimal commission = calculateCommission(requiredAmount);
+        BigDecimal totalCost = requiredAmount.add(commission);
 
+        if (balance.getAvailableCash().compareTo(totalCost) < 0) {
+            throw new InsufficientFundsException("사용 가능한 현금이 부족합니다. 필요: " +
+                    formatCurrency(totalCost) + ", 보유: " + formatCurrency(balance.getAvailableCash()));
+        }
 
-            TradeHistory tradeHistory = createTradeHistory(account, stockSymbol, TradeType.BUY,
-                    quantity, price, requiredAmount, commission, balance.getAvailableCash(),
-                    portfolioStock.getQuantity());
-            tradeHistoryRepository.save(tradeHistory);
 
+        balance.setAvailableCash(balance.getAvailableCash().subtract(totalCost));
+        balance.calculateTotalBalance();
+        accountBalanceRepository.save(balance);
 
-            updateAccountBalance(account);
 
-            log.info("매수 완료: 계좌={}, 종목={}, 수량={}, 총비용={}",
-                    accountId, stockSymbol, quantity, formatCurrency(totalCost));
+        PortfolioStock portfolioStock = getOrCreatePortfolioStock(account, stockSymbol);
+        portfolioStock.buy(quantity, price);
+        portfolioStockRepository.save(portfolioStock);
 
-            return TradeResult.success("매수 완료", tradeHistory);
 
-        } catch (Exception e) {
-            log.error("매수 처리 실패: 계좌={}, 종목={}", accountId, stockSymbol, e);
-            throw e;
-        }
-    }
+        TradeHistory tradeHistory = createTradeHistory(account, stockSymbol, TradeType.BUY,
+                quantity, price, requiredAmount, commission, balance.getAvailableCash(),
+                portfolioStock.getQuantity());
+        tradeHistoryRepository.save(tradeHistory);
 
 
-    public TradeResult sellStock(Long accountId, String stockSymbol, int quantity, BigDecimal price) {
-        log.info("매도 요청: 계좌={}, 종목={}, 수량={}, 가격={}", accountId, stockSymbol, quantity, price);
+        updateAccountBalance(account);
 
-        try {
-            Account account = getAccount(accountId);
-            PortfolioStock portfolioStock = getPortfolioStock(account, stockSymbol);
+        log.info("매수 완료: 계좌={}, 종목={}, 수량={}, 총비용={}",
+                accountId, stockSymbol, quantity, formatCurrency(totalCost));
 
+        return TradeResult.success("매수 완료", tradeHistory);
+    }
 
-            if (portfolioStock.getAvailableQuantity() < quantity) {
-                throw new InsufficientQuantityException("매도 가능한 수량이 부족합니다. 요청: " +
-                        quantity + ", 보유: " + portfolioStock.getAvailableQuantity());
-            }
 
+    private TradeResult applySell(Long accountId, String stockSymbol, int quantity, BigDecimal price) {
+        Account account = getAccount(accountId);
+        PortfolioStock portfolioStock = getPortfolioStock(account, stockSymbol);
 
-            BigDecimal sellAmount = price.multiply(BigDecimal.valueOf(quantity));
-            BigDecimal commission = calculateCommission(sellAmount);
-            BigDecimal netAmount = sellAmount.subtract(commission);
 
+        if (portfolioStock.getAvailableQuantity() < quantity) {
+            throw new InsufficientQuantityException("매도 가능한 수량이 부족합니다. 요청: " +
+                    quantity + ", 보유: " + portfolioStock.getAvailableQuantity());
+        }
 
-            AccountBalance balance = getAccountBalance(account);
-            balance.setSettlementCash(balance.getSettlementCash().add(netAmount));
-            balance.calculateTotalBalance();
-            accountBalanceRepository.save(balance);
 
+        BigDecimal sellAmount = price.multiply(BigDecimal.valueOf(quantity));
+        BigDecimal commission = calculateCommission(sellAmount);
+        BigDecimal netAmount = sellAmount.subtract(commission);
 
-            createSettlementSchedule(account, netAmount, LocalDate.now());
 
+        AccountBalance balance = getAccountBalance(account);
+        balance.setSettlementCash(balance.getSettlementCash().add(netAmount));
+        balance.calculateTotalBalance();
+        accountBalanceRepository.save(balance);
 
-            portfolioStock.sell(quantity);
-            portfolioStockRepository.save(portfolioStock);
 
+        createSettlementSchedule(account, netAmount, LocalDate.now());
 
-            TradeHistory tradeHistory = createTradeHistory(account, stockSymbol, TradeType.SELL,
-                    quantity, price, sellAmount, commission, balance.getAvailableCash(), portfolioStock.getQuantity());
-            tradeHistoryRepository.save(tradeHistory);
 
+        portfolioStock.sell(quantity);
+        portfolioStockRepository.save(portfolioStock);
 
-            updateAccountBalance(account);
 
-            log.info("매도 완료: 계좌={}, 종목={}, 수량={}, 정산금액={}",
-                    accountId, stockSymbol, quantity, formatCurrency(netAmount));
+        TradeHistory tradeHistory = createTradeHistory(account, stockSymbol, TradeType.SELL,
+                quantity, price, sellAmount, commission, balance.getAvailableCash(), portfolioStock.getQuantity());
+        tradeHistoryRepository.save(tradeHistory);
 
-            return TradeResult.success("매도 완료 - 정산일: " +
-                    calculateBusinessDaysAfter(LocalDate.now(), 3)
-                            .format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd")),
-                    tradeHistory);
 
-        } catch (Exception e) {
-            log.error("매도 처리 실패: 계좌={}, 종목={}", accountId, stockSymbol, e);
-            throw e;
-        }
+        updateAccountBalance(account);
+
+        log.info("매도 완료: 계좌={}, 종목={}, 수량={}, 정산금액={}",
+                accountId, stockSymbol, quantity, formatCurrency(netAmount));
+
+        return TradeResult.success("매도 완료 - 정산일: " +
+                calculateBusinessDaysAfter(LocalDate.now(), 3)
+                        .format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+                tradeHistory);
     }
 
 
@@ -190,7 +202,7 @@ public class VirtualTradingService {
 
 
     private AccountBalance getAccountBalance(Account account) {
-        return accountBalanceRepository.findLatestBalanceByAccountIdOrderByDateDesc(account.getId())
+        return accountBalanceRepository.findFirstByAccountIdOrderByBalanceDateDesc(account.getId())
                 .orElseThrow(() -> new IllegalArgumentException("계좌 잔고를 찾을 수 없습니다: " + account.getAccountNumber()));
     }
 
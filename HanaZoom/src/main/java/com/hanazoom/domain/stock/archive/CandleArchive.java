@@ -0,0 +1,419 @@
+package com.hanazoom.domain.stock.archive;
+
+import com.hanazoom.domain.stock.entity.StockMinutePrice;
+import com.hanazoom.global.config.CandleArchiveConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class CandleArchive {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final CandleArchiveConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path root;
+    private final Map<String, Holder> holders = new ConcurrentHashMap<>();
+
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong rebuiltRows = new AtomicLong();
+    private final AtomicLong rebuildFailures = new AtomicLong();
+    private final AtomicLong verifications = new AtomicLong();
+    private final AtomicLong appends = new AtomicLong();
+    private final AtomicLong rejectedAppends = new AtomicLong();
+
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "candle-archive-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CandleArchive(CandleArchiveConfig config, JdbcTemplate jdbcTemplate) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.root = Paths.get(config.getDirectory());
+    }
+
+    public boolean supports(String timeframe) {
+        return config.isEnabled() && Source.of(timeframe) != null;
+    }
+
+    public <T> T latest(String stockCode, String timeframe, int limit, Function<CandleSlice, T> reader) {
+        Holder holder = ready(stockCode, timeframe);
+        if (holder == null) {
+            return null;
+        }
+        holder.lock.readLock().lock();
+        try {
+            CandleSeries series = holder.series;
+            if (series == null || holder.stale) {
+                return null;
+            }
+            reads.incrementAndGet();
+            return reader.apply(series.latest(limit));
+        } finally {
+            holder.lock.readLock().unlock();
+        }
+    }
+
+    public void append(List<StockMinutePrice> candles) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        for (StockMinutePrice candle : candles) {
+            String timeframe = Source.timeframeOf(candle.getMinuteInterval());
+            Holder holder = holders.get(keyOf(candle.getStockSymbol(), timeframe));
+            if (holder == null) {
+                continue;
+            }
+            boolean grown = false;
+            holder.lock.readLock().lock();
+            try {
+                CandleSeries series = holder.series;
+                if (series == null || holder.stale) {
+                    continue;
+                }
+                boolean appended = series.append(toMillis(candle.getTimestamp()),
+                        toLong(candle.getOpenPrice()), toLong(candle.getHighPrice()), toLong(candle.getLowPrice()),
+                        toLong(candle.getClosePrice()), candle.getVolume() != null ? candle.getVolume() : 0L);
+                if (appended) {
+                    appends.incrementAndGet();
+                } else {
+                    rejectedAppends.incrementAndGet();
+                    holder.markStale();
+                }
+                grown = series.hasRetiredColumns();
+            } finally {
+                holder.lock.readLock().unlock();
+            }
+            if (grown) {
+                releaseRetiredColumns(holder);
+            }
+        }
+    }
+
+    public void invalidate(String stockCode, String timeframe) {
+        Holder holder = holders.get(keyOf(stockCode, timeframe));
+        if (holder != null) {
+            holder.markStale();
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", config.isEnabled());
+        metrics.put("series", holders.size());
+        metrics.put("reads", reads.get());
+        metrics.put("rebuilds", rebuilds.get());
+        metrics.put("rebuiltRows", rebuiltRows.get());
+        metrics.put("rebuildFailures", rebuildFailures.get());
+        metrics.put("rebuildsInFlight", holders.values().stream().filter(holder -> holder.rebuilding.get()).count());
+        metrics.put("verifications", verifications.get());
+        metrics.put("appends", appends.get());
+        metrics.put("rejectedAppends", rejectedAppends.get());
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+        holders.values().forEach(holder -> {
+            holder.lock.writeLock().lock();
+            try {
+                CandleSeries series = holder.series;
+                holder.series = null;
+                if (series != null) {
+                    series.close();
+                }
+            } finally {
+                holder.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private Holder ready(String stockCode, String timeframe) {
+        Source source = Source.of(timeframe);
+        if (!config.isEnabled() || source == null || !isSafeName(stockCode)) {
+            return null;
+        }
+
+        Holder holder = holders.computeIfAbsent(keyOf(stockCode, timeframe), key -> new Holder());
+        if (!holder.opened) {
+            holder.lock.writeLock().lock();
+            try {
+                if (!holder.opened) {
+                    holder.series = CandleSeries.open(directoryOf(stockCode, timeframe));
+                    holder.opened = true;
+                }
+            } finally {
+                holder.lock.writeLock().unlock();
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        CandleSeries series = holder.series;
+        if (series != null && !holder.stale && now - series.verifiedAt() < config.getVerifyIntervalMillis()) {
+            return holder;
+        }
+        if (series != null && !holder.stale && !holder.rebuilding.get()
+                && matchesDatabase(holder, series, source, stockCode)) {
+            series.markVerified(now);
+            return holder;
+        }
+        scheduleRebuild(holder, source, stockCode, timeframe);
+        return null;
+    }
+
+    private boolean matchesDatabase(Holder holder, CandleSeries series, Source source, String stockCode) {
+        verifications.incrementAndGet();
+        long[] stats = jdbcTemplate.query(source.statsSql, rs -> {
+            if (!rs.next() || rs.getLong(1) == 0) {
+                return new long[]{0L, Long.MIN_VALUE};
+            }
+            return new long[]{rs.getLong(1), source.timeOf(rs, 2)};
+        }, source.params(stockCode));
+
+        holder.lock.readLock().lock();
+        try {
+            return holder.series == series && stats != null
+                    && stats[0] == series.size() && stats[1] == series.lastTime();
+        } finally {
+            holder.lock.readLock().unlock();
+        }
+    }
+
+    private void scheduleRebuild(Holder holder, Source source, String stockCode, String timeframe) {
+        if (!holder.rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuilder.execute(() -> {
+                try {
+                    rebuild(holder, source, stockCode, timeframe);
+                } catch (Exception e) {
+                    rebuildFailures.incrementAndGet();
+                    log.warn("⚠️ 캔들 아카이브 재구성 실패: 종목={}, 시간봉={}, 에러={}", stockCode, timeframe, e.getMessage());
+                } finally {
+                    holder.rebuilding.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            holder.rebuilding.set(false);
+        }
+    }
+
+    private void rebuild(Holder holder, Source source, String stockCode, String timeframe) {
+        Path target = directoryOf(stockCode, timeframe);
+        Path staging = target.resolveSibling(timeframe + ".rebuild-" + System.nanoTime());
+        long generation = holder.generation.get();
+        CandleSeries building = CandleSeries.create(staging, config.getInitialCapacity());
+        long[] rows = {0L};
+
+        try {
+            jdbcTemplate.query(source.rowsSql, rs -> {
+                if (building.append(source.timeOf(rs, 1), toLong(rs.getBigDecimal(2)), toLong(rs.getBigDecimal(3)),
+                        toLong(rs.getBigDecimal(4)), toLong(rs.getBigDecimal(5)), rs.getLong(6))) {
+                    rows[0]++;
+                }
+            }, source.params(stockCode));
+        } catch (RuntimeException e) {
+            building.close();
+            deleteQuietly(staging);
+            throw e;
+        }
+        building.close();
+
+        holder.lock.writeLock().lock();
+        try {
+            CandleSeries previous = holder.series;
+            holder.series = null;
+            if (previous != null) {
+                previous.close();
+            }
+            deleteRecursively(target);
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+
+            CandleSeries rebuilt = CandleSeries.open(target);
+            if (rebuilt != null) {
+                rebuilt.markVerified(System.currentTimeMillis());
+            }
+            holder.series = rebuilt;
+            holder.opened = true;
+            holder.stale = holder.generation.get() != generation;
+        } catch (IOException e) {
+            deleteQuietly(staging);
+            throw new UncheckedIOException("캔들 아카이브 재구성 실패: " + stockCode + ":" + timeframe, e);
+        } finally {
+            holder.lock.writeLock().unlock();
+        }
+
+        rebuilds.incrementAndGet();
+        rebuiltRows.addAndGet(rows[0]);
+        log.info("🗄️ 캔들 아카이브 재구성 완료: 종목={}, 시간봉={}, 캔들수={}", stockCode, timeframe, rows[0]);
+    }
+
+    private void releaseRetiredColumns(Holder holder) {
+        holder.lock.writeLock().lock();
+        try {
+            CandleSeries series = holder.series;
+            if (series != null) {
+                series.releaseRetiredColumns();
+            }
+        } finally {
+            holder.lock.writeLock().unlock();
+        }
+    }
+
+    private Path directoryOf(String stockCode, String timeframe) {
+        return root.resolve(stockCode).resolve(timeframe);
+    }
+
+    private static String keyOf(String stockCode, String timeframe) {
+        return stockCode + ":" + timeframe;
+    }
+
+    private static boolean isSafeName(String stockCode) {
+        return stockCode != null && !stockCode.isEmpty() && stockCode.chars().allMatch(Character::isLetterOrDigit);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(KOREA_ZONE).toInstant().toEpochMilli();
+    }
+
+    private static long toLong(BigDecimal value) {
+        return value != null ? value.setScale(0, RoundingMode.HALF_UP).longValue() : 0L;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path directory) {
+        try {
+            deleteRecursively(directory);
+        } catch (IOException e) {
+            log.debug("캔들 아카이브 임시 디렉토리 삭제 실패 (무시): {}", directory);
+        }
+    }
+
+    private static final class Holder {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final AtomicBoolean rebuilding = new AtomicBoolean();
+        private final AtomicLong generation = new AtomicLong();
+        private volatile CandleSeries series;
+        private volatile boolean opened;
+        private volatile boolean stale;
+
+        private void markStale() {
+            generation.incrementAndGet();
+            stale = true;
+        }
+    }
+
+    private enum Source {
+        ONE_MINUTE("1M", StockMinutePrice.MinuteInterval.ONE_MINUTE),
+        FIVE_MINUTES("5M", StockMinutePrice.MinuteInterval.FIVE_MINUTES),
+        FIFTEEN_MINUTES("15M", StockMinutePrice.MinuteInterval.FIFTEEN_MINUTES),
+        ONE_HOUR("1H", StockMinutePrice.MinuteInterval.ONE_HOUR),
+        DAILY("1D", "stock_daily_prices", "trade_date"),
+        WEEKLY("1W", "stock_weekly_prices", "week_start_date"),
+        MONTHLY("1MO", "stock_monthly_prices", "year_month_period");
+
+        private final String timeframe;
+        private final StockMinutePrice.MinuteInterval minuteInterval;
+        private final String rowsSql;
+        private final String statsSql;
+
+        Source(String timeframe, StockMinutePrice.MinuteInterval minuteInterval) {
+            this.timeframe = timeframe;
+            this.minuteInterval = minuteInterval;
+            String where = " FROM stock_minute_prices WHERE stock_symbol = ? AND minute_interval = ?";
+            this.rowsSql = "SELECT `timestamp`, open_price, high_price, low_price, close_price, volume" + where
+                    + " ORDER BY `timestamp`";
+            this.statsSql = "SELECT COUNT(*), MAX(`timestamp`)" + where;
+        }
+
+        Source(String timeframe, String table, String timeColumn) {
+            this.timeframe = timeframe;
+            this.minuteInterval = null;
+            String where = " FROM " + table + " WHERE stock_symbol = ?";
+            this.rowsSql = "SELECT " + timeColumn + ", open_price, high_price, low_price, close_price, volume" + where
+                    + " ORDER BY " + timeColumn;
+            this.statsSql = "SELECT COUNT(*), MAX(" + timeColumn + ")" + where;
+        }
+
+        private Object[] params(String stockCode) {
+            return minuteInterval != null
+                    ? new Object[]{stockCode, minuteInterval.name()}
+                    : new Object[]{stockCode};
+        }
+
+        private long timeOf(ResultSet rs, int column) throws SQLException {
+            switch (this) {
+                case DAILY:
+                case WEEKLY:
+                    return toMillis(rs.getDate(column).toLocalDate().atStartOfDay());
+                case MONTHLY:
+                    return toMillis(YearMonth.parse(rs.getString(column)).atDay(1).atStartOfDay());
+                default:
+                    return toMillis(rs.getTimestamp(column).toLocalDateTime());
+            }
+        }
+
+        private static Source of(String timeframe) {
+            for (Source source : values()) {
+                if (source.timeframe.equals(timeframe)) {
+                    return source;
+                }
+            }
+            return null;
+        }
+
+        private static String timeframeOf(StockMinutePrice.MinuteInterval interval) {
+            for (Source source : values()) {
+                if (source.minuteInterval == interval) {
+                    return source.timeframe;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.hanazoom.domain.stock.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CandleSeries {
+
+    static final int TIME = 0;
+    static final int OPEN = 1;
+    static final int HIGH = 2;
+    static final int LOW = 3;
+    static final int CLOSE = 4;
+    static final int VOLUME = 5;
+
+    private static final String[] COLUMN_FILES = {
+            "time.col", "open.col", "high.col", "low.col", "close.col", "volume.col"
+    };
+    private static final String META_FILE = "series.meta";
+    private static final int MAGIC = 0x485A4341;
+    private static final int META_SIZE = 24;
+    private static final int COUNT_OFFSET = 8;
+    private static final int BUILT_AT_OFFSET = 16;
+    private static final Unmapper UNMAPPER = Unmapper.load();
+
+    private final Path directory;
+    private final MappedByteBuffer meta;
+    private volatile Columns columns;
+    private final List<Columns> retired = new ArrayList<>();
+    private volatile int count;
+    private volatile long verifiedAt;
+
+    private CandleSeries(Path directory, MappedByteBuffer meta, Columns columns, int count) {
+        this.directory = directory;
+        this.meta = meta;
+        this.columns = columns;
+        this.count = count;
+    }
+
+    static CandleSeries create(Path directory, int capacity) {
+        try {
+            Files.createDirectories(directory);
+            MappedByteBuffer meta = map(directory.resolve(META_FILE), META_SIZE);
+            meta.putInt(0, MAGIC);
+            meta.putLong(COUNT_OFFSET, 0L);
+            meta.putLong(BUILT_AT_OFFSET, System.currentTimeMillis());
+            return new CandleSeries(directory, meta, Columns.map(directory, Math.max(16, capacity)), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("캔들 아카이브 생성 실패: " + directory, e);
+        }
+    }
+
+    static CandleSeries open(Path directory) {
+        Path metaPath = directory.resolve(META_FILE);
+        if (!Files.isRegularFile(metaPath)) {
+            return null;
+        }
+        try {
+            MappedByteBuffer meta = map(metaPath, META_SIZE);
+            if (meta.getInt(0) != MAGIC) {
+                return null;
+            }
+            long capacity = Long.MAX_VALUE;
+            for (String file : COLUMN_FILES) {
+                Path column = directory.resolve(file);
+                if (!Files.isRegularFile(column)) {
+                    return null;
+                }
+                capacity = Math.min(capacity, Files.size(column) / Long.BYTES);
+            }
+            long count = meta.getLong(COUNT_OFFSET);
+            if (count < 0 || count > capacity) {
+                return null;
+            }
+            return new CandleSeries(directory, meta, Columns.map(directory, (int) capacity), (int) count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("캔들 아카이브 열기 실패: " + directory, e);
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    long lastTime() {
+        int n = count;
+        return n > 0 ? columns.buffers[TIME].get(n - 1) : Long.MIN_VALUE;
+    }
+
+    long builtAt() {
+        return meta.getLong(BUILT_AT_OFFSET);
+    }
+
+    long verifiedAt() {
+        return verifiedAt;
+    }
+
+    void markVerified(long now) {
+        verifiedAt = now;
+    }
+
+    synchronized boolean append(long time, long open, long high, long low, long close, long volume) {
+        int n = count;
+        if (n > 0) {
+            long last = columns.buffers[TIME].get(n - 1);
+            if (time < last) {
+                return false;
+            }
+            if (time == last) {
+                write(columns, n - 1, time, open, high, low, close, volume);
+                return true;
+            }
+        }
+
+        Columns current = ensureCapacity(n + 1);
+        write(current, n, time, open, high, low, close, volume);
+        meta.putLong(COUNT_OFFSET, n + 1);
+        count = n + 1;
+        return true;
+    }
+
+    CandleSlice latest(int limit) {
+        int n = count;
+        return slice(Math.max(0, n - Math.max(0, limit)), n);
+    }
+
+    void flush() {
+        meta.force();
+        for (MappedByteBuffer buffer : columns.mapped) {
+            buffer.force();
+        }
+    }
+
+    synchronized boolean hasRetiredColumns() {
+        return !retired.isEmpty();
+    }
+
+    synchronized void releaseRetiredColumns() {
+        for (Columns old : retired) {
+            for (MappedByteBuffer buffer : old.mapped) {
+                UNMAPPER.unmap(buffer);
+            }
+        }
+        retired.clear();
+    }
+
+    synchronized void close() {
+        flush();
+        releaseRetiredColumns();
+        for (MappedByteBuffer buffer : columns.mapped) {
+            UNMAPPER.unmap(buffer);
+        }
+        UNMAPPER.unmap(meta);
+    }
+
+    private CandleSlice slice(int from, int to) {
+        Columns current = columns;
+        LongBuffer[] views = new LongBuffer[COLUMN_FILES.length];
+        for (int i = 0; i < views.length; i++) {
+            LongBuffer view = current.buffers[i].duplicate();
+            view.limit(to).position(from);
+            views[i] = view.slice();
+        }
+        long previousClose = from > 0 ? current.buffers[CLOSE].get(from - 1) : 0L;
+        return new CandleSlice(views, to - from, previousClose);
+    }
+
+    private Columns ensureCapacity(int required) {
+        Columns current = columns;
+        if (required <= current.capacity) {
+            return current;
+        }
+        int capacity = current.capacity;
+        while (capacity < required) {
+            capacity = capacity >= Integer.MAX_VALUE / 2 / Long.BYTES ? required : capacity * 2;
+        }
+        try {
+            Columns grown = Columns.map(directory, capacity);
+            columns = grown;
+            retired.add(current);
+            return grown;
+        } catch (IOException e) {
+            throw new UncheckedIOException("캔들 아카이브 확장 실패: " + directory, e);
+        }
+    }
+
+    private static void write(Columns target, int index, long time, long open, long high, long low, long close,
+                              long volume) {
+        target.buffers[OPEN].put(index, open);
+        target.buffers[HIGH].put(index, high);
+        target.buffers[LOW].put(index, low);
+        target.buffers[CLOSE].put(index, close);
+        target.buffers[VOLUME].put(index, volume);
+        target.buffers[TIME].put(index, time);
+    }
+
+    private static MappedByteBuffer map(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    private static final class Unmapper {
+        private final Object unsafe;
+        private final Method invokeCleaner;
+
+        private Unmapper(Object unsafe, Method invokeCleaner) {
+            this.unsafe = unsafe;
+            this.invokeCleaner = invokeCleaner;
+        }
+
+        private static Unmapper load() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                return new Unmapper(field.get(null), unsafeClass.getMethod("invokeCleaner", ByteBuffer.class));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return new Unmapper(null, null);
+            }
+        }
+
+        private void unmap(MappedByteBuffer buffer) {
+            if (invokeCleaner == null) {
+                return;
+            }
+            try {
+                invokeCleaner.invoke(unsafe, buffer);
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+            }
+        }
+    }
+
+    private static final class Columns {
+        private final MappedByteBuffer[] mapped;
+        private final LongBuffer[] buffers;
+        private final int capacity;
+
+        private Columns(MappedByteBuffer[] mapped, int capacity) {
+            this.mapped = mapped;
+            this.capacity = capacity;
+            this.buffers = new LongBuffer[mapped.length];
+            for (int i = 0; i < mapped.length; i++) {
+                buffers[i] = mapped[i].asLongBuffer();
+            }
+        }
+
+        private static Columns map(Path directory, int capacity) throws IOException {
+            MappedByteBuffer[] mapped = new MappedByteBuffer[COLUMN_FILES.length];
+            for (int i = 0; i < mapped.length; i++) {
+                mapped[i] = CandleSeries.map(directory.resolve(COLUMN_FILES[i]), (long) capacity * Long.BYTES);
+            }
+            return new Columns(mapped, capacity);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hanazoom.domain.stock.archive;
+
+import java.nio.LongBuffer;
+
+public final class CandleSlice {
+
+    private final LongBuffer time;
+    private final LongBuffer open;
+    private final LongBuffer high;
+    private final LongBuffer low;
+    private final LongBuffer close;
+    private final LongBuffer volume;
+    private final int size;
+    private final long previousClose;
+
+    CandleSlice(LongBuffer[] columns, int size, long previousClose) {
+        this.time = columns[CandleSeries.TIME];
+        this.open = columns[CandleSeries.OPEN];
+        this.high = columns[CandleSeries.HIGH];
+        this.low = columns[CandleSeries.LOW];
+        this.close = columns[CandleSeries.CLOSE];
+        this.volume = columns[CandleSeries.VOLUME];
+        this.size = size;
+        this.previousClose = previousClose;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long time(int index) {
+        return time.get(index);
+    }
+
+    public long open(int index) {
+        return open.get(index);
+    }
+
+    public long high(int index) {
+        return high.get(index);
+    }
+
+    public long low(int index) {
+        return low.get(index);
+    }
+
+    public long close(int index) {
+        return close.get(index);
+    }
+
+    public long volume(int index) {
+        return volume.get(index);
+    }
+
+    public long previousClose(int index) {
+        return index > 0 ? close.get(index - 1) : previousClose;
+    }
+}
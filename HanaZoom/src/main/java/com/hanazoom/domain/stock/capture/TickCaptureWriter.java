@@ -0,0 +1,266 @@
+package com.hanazoom.domain.stock.capture;
+
+import com.hanazoom.domain.stock.realtime.StockTick;
+import com.hanazoom.global.config.TickCaptureConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class TickCaptureWriter {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final long ZONE_OFFSET_MILLIS =
+            KOREA_ZONE.getRules().getOffset(Instant.EPOCH).getTotalSeconds() * 1000L;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final long HALF_DAY_MILLIS = MILLIS_PER_DAY / 2;
+
+    private final TickCaptureConfig config;
+    private final Path root;
+    private final ByteBuffer buffer;
+
+    private FileChannel channel;
+    private Path openPath;
+    private long segmentBytes;
+    private long segmentOpenedAt;
+    private long segmentCounter;
+    private long nextSequence;
+
+    private final AtomicLong captured = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong writeFailures = new AtomicLong();
+    private final AtomicLong closedSegments = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    public TickCaptureWriter(TickCaptureConfig config) {
+        this.config = config;
+        this.root = Paths.get(config.getDirectory());
+        int bufferBytes = Math.max(config.getBufferBytes(), TickSegment.HEADER_SIZE + TickSegment.RECORD_SIZE);
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.nextSequence = System.currentTimeMillis() * 1000L;
+        if (config.isEnabled()) {
+            recoverOpenSegments();
+        }
+    }
+
+    public void capture(StockTick tick) {
+        if (!config.isEnabled() || tick.getStockCode() == null || tick.getCurrentPrice() <= 0) {
+            return;
+        }
+        long timestampMillis = timestampOf(tick);
+        byte tradeType = tradeTypeOf(tick);
+
+        synchronized (this) {
+            try {
+                if (channel == null) {
+                    openSegment();
+                }
+                if (buffer.remaining() < TickSegment.RECORD_SIZE) {
+                    flushBuffer();
+                }
+                TickSegment.writeRecord(buffer, tick.getStockCode(), tradeType, timestampMillis, nextSequence++,
+                        tick.getCurrentPrice(), tick.getTradeVolume(), tick.getBidPrice(), tick.getAskPrice(),
+                        tick.getVolume(), tick.getReceivedAt());
+                segmentBytes += TickSegment.RECORD_SIZE;
+                captured.incrementAndGet();
+
+                if (segmentBytes >= config.getSegmentMaxBytes()) {
+                    closeSegment();
+                }
+            } catch (IOException e) {
+                dropped.incrementAndGet();
+                writeFailures.incrementAndGet();
+                log.warn("⚠️ 틱 캡처 세그먼트 기록 실패: 세그먼트={}, 에러={}", openPath, e.getMessage());
+                abandonSegment();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tick.capture.flush-interval-ms:1000}")
+    public synchronized void flushAndRoll() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            flushBuffer();
+            if (System.currentTimeMillis() - segmentOpenedAt >= config.getSegmentMaxAgeMillis()) {
+                closeSegment();
+            }
+        } catch (IOException e) {
+            writeFailures.incrementAndGet();
+            log.warn("⚠️ 틱 캡처 세그먼트 플러시 실패: 세그먼트={}, 에러={}", openPath, e.getMessage());
+            abandonSegment();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            closeSegment();
+            log.info("🛑 틱 캡처 종료 - 현재 세그먼트 마감 완료");
+        } catch (IOException e) {
+            log.warn("⚠️ 틱 캡처 종료 중 세그먼트 마감 실패: {}", e.getMessage());
+            abandonSegment();
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", config.isEnabled());
+        metrics.put("captured", captured.get());
+        metrics.put("dropped", dropped.get());
+        metrics.put("writeFailures", writeFailures.get());
+        metrics.put("closedSegments", closedSegments.get());
+        metrics.put("bytesWritten", bytesWritten.get());
+        synchronized (this) {
+            metrics.put("openSegmentBytes", channel != null ? segmentBytes : 0L);
+        }
+        return metrics;
+    }
+
+    private void openSegment() throws IOException {
+        Files.createDirectories(root);
+        long now = System.currentTimeMillis();
+        Path path = root.resolve("ticks-" + now + "-" + (++segmentCounter) + TickSegment.OPEN_SUFFIX);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        openPath = path;
+        segmentOpenedAt = now;
+        buffer.clear();
+        TickSegment.writeHeader(buffer);
+        segmentBytes = TickSegment.HEADER_SIZE;
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        buffer.clear();
+        bytesWritten.addAndGet(written);
+    }
+
+    private void closeSegment() throws IOException {
+        flushBuffer();
+        channel.force(false);
+        channel.close();
+        channel = null;
+
+        Path closedPath = closedPathOf(openPath);
+        if (segmentBytes > TickSegment.HEADER_SIZE) {
+            Files.move(openPath, closedPath, StandardCopyOption.ATOMIC_MOVE);
+            closedSegments.incrementAndGet();
+        } else {
+            Files.deleteIfExists(openPath);
+        }
+        openPath = null;
+        segmentBytes = 0L;
+    }
+
+    private void abandonSegment() {
+        buffer.clear();
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+            channel = null;
+        }
+        if (openPath != null) {
+            finishOpenSegment(openPath);
+            openPath = null;
+        }
+        segmentBytes = 0L;
+    }
+
+    private void recoverOpenSegments() {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.list(root)) {
+            paths.filter(path -> path.getFileName().toString().endsWith(TickSegment.OPEN_SUFFIX))
+                    .forEach(path -> {
+                        finishOpenSegment(path);
+                        log.info("♻️ 미완료 틱 캡처 세그먼트 복구: {}", path.getFileName());
+                    });
+        } catch (IOException e) {
+            log.warn("⚠️ 틱 캡처 디렉토리 조회 실패: {}, 에러={}", root, e.getMessage());
+        }
+    }
+
+    private void finishOpenSegment(Path path) {
+        try {
+            long length;
+            try (FileChannel partial = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                length = TickSegment.completeLength(partial.size());
+                partial.truncate(length);
+            }
+            if (length > TickSegment.HEADER_SIZE) {
+                Files.move(path, closedPathOf(path), StandardCopyOption.ATOMIC_MOVE);
+                closedSegments.incrementAndGet();
+            } else {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ 틱 캡처 세그먼트 마감 실패: {}, 에러={}", path, e.getMessage());
+        }
+    }
+
+    private static Path closedPathOf(Path openPath) {
+        String name = openPath.getFileName().toString();
+        return openPath.resolveSibling(
+                name.substring(0, name.length() - TickSegment.OPEN_SUFFIX.length()) + TickSegment.CLOSED_SUFFIX);
+    }
+
+    private static long timestampOf(StockTick tick) {
+        int tradeTime = tick.getTradeTime();
+        long receivedAt = tick.getReceivedAt();
+        int hours = tradeTime / 10000;
+        int minutes = tradeTime / 100 % 100;
+        int seconds = tradeTime % 100;
+        if (tradeTime <= 0 || hours > 23 || minutes > 59 || seconds > 59) {
+            return receivedAt;
+        }
+
+        long localDay = Math.floorDiv(receivedAt + ZONE_OFFSET_MILLIS, MILLIS_PER_DAY) * MILLIS_PER_DAY;
+        long millis = localDay + (hours * 3600L + minutes * 60L + seconds) * 1000L - ZONE_OFFSET_MILLIS;
+        if (millis - receivedAt > HALF_DAY_MILLIS) {
+            millis -= MILLIS_PER_DAY;
+        } else if (receivedAt - millis > HALF_DAY_MILLIS) {
+            millis += MILLIS_PER_DAY;
+        }
+        return millis;
+    }
+
+    private static byte tradeTypeOf(StockTick tick) {
+        long price = tick.getCurrentPrice();
+        if (tick.getAskPrice() > 0 && price >= tick.getAskPrice()) {
+            return TickSegment.TRADE_BUY;
+        }
+        if (tick.getBidPrice() > 0 && price <= tick.getBidPrice()) {
+            return TickSegment.TRADE_SELL;
+        }
+        return TickSegment.TRADE_UNKNOWN;
+    }
+}
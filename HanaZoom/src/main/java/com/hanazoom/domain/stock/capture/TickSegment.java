@@ -0,0 +1,149 @@
+package com.hanazoom.domain.stock.capture;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class TickSegment {
+
+    static final String OPEN_SUFFIX = ".open";
+    static final String CLOSED_SUFFIX = ".seg";
+
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 80;
+
+    static final byte TRADE_UNKNOWN = 0;
+    static final byte TRADE_BUY = 1;
+    static final byte TRADE_SELL = 2;
+
+    private static final int MAGIC = 0x485A5449;
+    private static final int VERSION = 1;
+    private static final int SYMBOL_BYTES = 12;
+
+    private static final int TRADE_TYPE = 12;
+    private static final int TIMESTAMP = 16;
+    private static final int SEQUENCE = 24;
+    private static final int PRICE = 32;
+    private static final int VOLUME = 40;
+    private static final int BID_PRICE = 48;
+    private static final int ASK_PRICE = 56;
+    private static final int CUMULATIVE_VOLUME = 64;
+    private static final int RECEIVED_AT = 72;
+
+    private final MappedByteBuffer buffer;
+    private final int count;
+
+    private TickSegment(MappedByteBuffer buffer, int count) {
+        this.buffer = buffer;
+        this.count = count;
+    }
+
+    static void writeHeader(ByteBuffer target) {
+        target.putInt(MAGIC);
+        target.putInt(VERSION);
+        target.putInt(RECORD_SIZE);
+        target.putInt(0);
+    }
+
+    static void writeRecord(ByteBuffer target, String stockCode, byte tradeType, long timestampMillis, long sequence,
+                            long price, long volume, long bidPrice, long askPrice, long cumulativeVolume,
+                            long receivedAt) {
+        int start = target.position();
+        int length = Math.min(stockCode.length(), SYMBOL_BYTES);
+        for (int i = 0; i < SYMBOL_BYTES; i++) {
+            target.put(i < length ? (byte) stockCode.charAt(i) : 0);
+        }
+        target.put(tradeType);
+        target.position(start + TIMESTAMP);
+        target.putLong(timestampMillis);
+        target.putLong(sequence);
+        target.putLong(price);
+        target.putLong(volume);
+        target.putLong(bidPrice);
+        target.putLong(askPrice);
+        target.putLong(cumulativeVolume);
+        target.putLong(receivedAt);
+    }
+
+    static long completeLength(long fileSize) {
+        if (fileSize < HEADER_SIZE) {
+            return 0L;
+        }
+        return HEADER_SIZE + (fileSize - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+    }
+
+    static TickSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = completeLength(channel.size());
+            if (length < HEADER_SIZE || (length - HEADER_SIZE) / RECORD_SIZE > Integer.MAX_VALUE) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != RECORD_SIZE) {
+                return null;
+            }
+            return new TickSegment(buffer, (int) ((length - HEADER_SIZE) / RECORD_SIZE));
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    String stockCode(int index) {
+        int offset = offsetOf(index);
+        int length = 0;
+        while (length < SYMBOL_BYTES && buffer.get(offset + length) != 0) {
+            length++;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    byte tradeType(int index) {
+        return buffer.get(offsetOf(index) + TRADE_TYPE);
+    }
+
+    long timestampMillis(int index) {
+        return buffer.getLong(offsetOf(index) + TIMESTAMP);
+    }
+
+    long sequence(int index) {
+        return buffer.getLong(offsetOf(index) + SEQUENCE);
+    }
+
+    long price(int index) {
+        return buffer.getLong(offsetOf(index) + PRICE);
+    }
+
+    long volume(int index) {
+        return buffer.getLong(offsetOf(index) + VOLUME);
+    }
+
+    long bidPrice(int index) {
+        return buffer.getLong(offsetOf(index) + BID_PRICE);
+    }
+
+    long askPrice(int index) {
+        return buffer.getLong(offsetOf(index) + ASK_PRICE);
+    }
+
+    long cumulativeVolume(int index) {
+        return buffer.getLong(offsetOf(index) + CUMULATIVE_VOLUME);
+    }
+
+    long receivedAt(int index) {
+        return buffer.getLong(offsetOf(index) + RECEIVED_AT);
+    }
+
+    private static int offsetOf(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,192 @@
+package com.hanazoom.domain.stock.capture;
+
+import com.hanazoom.global.config.TickCaptureConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class TickSegmentLoader {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String LOADED_DIRECTORY = "loaded";
+    private static final String FAILED_DIRECTORY = "failed";
+    private static final String INSERT_PREFIX = "INSERT INTO stock_tick_data (stock_symbol, `timestamp`, `sequence`, "
+            + "price, volume, trade_type, bid_price, ask_price, total_trade_volume, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SUFFIX = " ON DUPLICATE KEY UPDATE id = id";
+    private static final String[] TRADE_TYPES = {"UNKNOWN", "BUY", "SELL"};
+
+    private final TickCaptureConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final Path root;
+    private final Map<Integer, String> insertSqlByRows = new ConcurrentHashMap<>();
+
+    private final AtomicLong loadedSegments = new AtomicLong();
+    private final AtomicLong loadedRows = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong corruptSegments = new AtomicLong();
+    private volatile int pendingSegments;
+
+    public TickSegmentLoader(TickCaptureConfig config, JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.root = Paths.get(config.getDirectory());
+    }
+
+    @Scheduled(fixedDelayString = "${tick.capture.load-interval-ms:5000}")
+    public void loadClosedSegments() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        List<Path> segments = listClosedSegments();
+        pendingSegments = segments.size();
+        for (Path segment : segments) {
+            if (!loadSegment(segment)) {
+                return;
+            }
+            pendingSegments--;
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("pendingSegments", pendingSegments);
+        metrics.put("loadedSegments", loadedSegments.get());
+        metrics.put("loadedRows", loadedRows.get());
+        metrics.put("loadFailures", loadFailures.get());
+        metrics.put("corruptSegments", corruptSegments.get());
+        return metrics;
+    }
+
+    private boolean loadSegment(Path path) {
+        TickSegment segment;
+        try {
+            segment = TickSegment.open(path);
+        } catch (IOException e) {
+            loadFailures.incrementAndGet();
+            log.warn("⚠️ 틱 세그먼트 열기 실패: {}, 에러={}", path.getFileName(), e.getMessage());
+            return false;
+        }
+        if (segment == null) {
+            corruptSegments.incrementAndGet();
+            log.error("❌ 손상된 틱 세그먼트 격리: {}", path.getFileName());
+            moveQuietly(path, FAILED_DIRECTORY);
+            return true;
+        }
+
+        int batchSize = Math.max(1, config.getLoadBatchSize());
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now(KOREA_ZONE));
+        try {
+            for (int from = 0; from < segment.size(); from += batchSize) {
+                insertRows(segment, from, Math.min(segment.size(), from + batchSize), createdAt);
+            }
+        } catch (Exception e) {
+            loadFailures.incrementAndGet();
+            log.error("❌ 틱 세그먼트 적재 실패 (다음 주기에 재시도): {}, 에러={}", path.getFileName(), e.getMessage());
+            return false;
+        }
+
+        loadedSegments.incrementAndGet();
+        loadedRows.addAndGet(segment.size());
+        if (config.isKeepLoadedSegments()) {
+            moveQuietly(path, LOADED_DIRECTORY);
+        } else {
+            deleteQuietly(path);
+        }
+        log.debug("💾 틱 세그먼트 적재 완료: {}, 틱수={}", path.getFileName(), segment.size());
+        return true;
+    }
+
+    private void insertRows(TickSegment segment, int from, int to, Timestamp createdAt) {
+        String sql = insertSqlByRows.computeIfAbsent(to - from, TickSegmentLoader::insertSql);
+        writeTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, ps -> {
+            int parameter = 1;
+            for (int i = from; i < to; i++) {
+                ps.setString(parameter++, segment.stockCode(i));
+                ps.setTimestamp(parameter++, Timestamp.valueOf(
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(segment.timestampMillis(i)), KOREA_ZONE)));
+                ps.setLong(parameter++, segment.sequence(i));
+                ps.setBigDecimal(parameter++, BigDecimal.valueOf(segment.price(i)));
+                ps.setLong(parameter++, segment.volume(i));
+                ps.setString(parameter++, tradeTypeOf(segment.tradeType(i)));
+                ps.setBigDecimal(parameter++, priceOrNull(segment.bidPrice(i)));
+                ps.setBigDecimal(parameter++, priceOrNull(segment.askPrice(i)));
+                ps.setLong(parameter++, segment.cumulativeVolume(i));
+                ps.setTimestamp(parameter++, createdAt);
+            }
+        }));
+    }
+
+    private List<Path> listClosedSegments() {
+        if (!Files.isDirectory(root)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> paths = Files.list(root)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(TickSegment.CLOSED_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            log.warn("⚠️ 틱 세그먼트 목록 조회 실패: {}, 에러={}", root, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private void moveQuietly(Path path, String directory) {
+        try {
+            Path target = root.resolve(directory);
+            Files.createDirectories(target);
+            Files.move(path, target.resolve(path.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("⚠️ 틱 세그먼트 이동 실패: {} -> {}, 에러={}", path.getFileName(), directory, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("⚠️ 틱 세그먼트 삭제 실패: {}, 에러={}", path.getFileName(), e.getMessage());
+        }
+    }
+
+    private static BigDecimal priceOrNull(long price) {
+        return price > 0 ? BigDecimal.valueOf(price) : null;
+    }
+
+    private static String tradeTypeOf(byte tradeType) {
+        return tradeType >= 0 && tradeType < TRADE_TYPES.length ? TRADE_TYPES[tradeType] : TRADE_TYPES[0];
+    }
+
+    private static String insertSql(int rows) {
+        return INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, ROW_PLACEHOLDERS)) + INSERT_SUFFIX;
+    }
+}
@@ -0,0 +1,77 @@
+package com.hanazoom.domain.stock.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+@Slf4j
+public class LocalRealtimeBus implements RealtimeBus {
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "realtime-local-bus");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public void publish(String channel, String payload) {
+        List<Consumer<String>> subscribers = listeners.get(channel);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> subscribers.forEach(listener -> {
+                try {
+                    listener.accept(payload);
+                } catch (Exception e) {
+                    log.warn("⚠️ 로컬 버스 메시지 처리 실패: 채널={}, 에러={}", channel, e.getMessage());
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            log.debug("로컬 버스 종료 후 발행 무시: 채널={}", channel);
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public boolean tryLock(String key, String owner, long leaseMillis) {
+        long now = System.currentTimeMillis();
+        Lease lease = leases.compute(key, (k, current) ->
+                current == null || current.expiresAt <= now || current.owner.equals(owner)
+                        ? new Lease(owner, now + leaseMillis) : current);
+        return lease.owner.equals(owner);
+    }
+
+    @Override
+    public void unlock(String key, String owner) {
+        leases.computeIfPresent(key, (k, current) -> current.owner.equals(owner) ? null : current);
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdownNow();
+    }
+
+    private static final class Lease {
+        private final String owner;
+        private final long expiresAt;
+
+        private Lease(String owner, long expiresAt) {
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.hanazoom.domain.stock.cluster;
+
+import java.util.function.Consumer;
+
+public interface RealtimeBus {
+
+    void publish(String channel, String payload);
+
+    void subscribe(String channel, Consumer<String> listener);
+
+    boolean tryLock(String key, String owner, long leaseMillis);
+
+    void unlock(String key, String owner);
+
+    void close();
+}
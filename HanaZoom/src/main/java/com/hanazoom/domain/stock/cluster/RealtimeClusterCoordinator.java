@@ -0,0 +1,332 @@
+package com.hanazoom.domain.stock.cluster;
+
+import com.hanazoom.domain.stock.realtime.KisOrderBookRecord;
+import com.hanazoom.domain.stock.realtime.KisSubscriptionMultiplexer;
+import com.hanazoom.domain.stock.realtime.RealtimeFeedCodec;
+import com.hanazoom.domain.stock.realtime.RealtimeOrderBookStore;
+import com.hanazoom.domain.stock.realtime.StockTick;
+import com.hanazoom.domain.stock.realtime.StockTickPipeline;
+import com.hanazoom.global.config.RealtimeClusterConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class RealtimeClusterCoordinator {
+
+    private static final char INTEREST = 'I';
+    private static final char INTEREST_REQUEST = 'R';
+
+    @FunctionalInterface
+    public interface LeadershipListener {
+        void onLeadershipChanged(boolean leader);
+    }
+
+    private final RealtimeClusterConfig config;
+    private final RealtimeBus bus;
+    private final StockTickPipeline stockTickPipeline;
+    private final RealtimeOrderBookStore orderBookStore;
+    private final KisSubscriptionMultiplexer kisSubscriptions;
+    private final String nodeId;
+    private final List<LeadershipListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, String> pendingOrderBooks = new ConcurrentHashMap<>();
+    private final AtomicBoolean orderBookDrainScheduled = new AtomicBoolean();
+    private final ExecutorService feedPublisher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "realtime-cluster-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean leader;
+    private volatile long leaderSince;
+    private volatile long leaseRenewedAt;
+
+    private final AtomicLong ticksPublished = new AtomicLong();
+    private final AtomicLong orderBooksPublished = new AtomicLong();
+    private final AtomicLong orderBooksCoalesced = new AtomicLong();
+    private final AtomicLong ticksReceived = new AtomicLong();
+    private final AtomicLong orderBooksReceived = new AtomicLong();
+    private final AtomicLong publishFailures = new AtomicLong();
+    private final AtomicLong decodeFailures = new AtomicLong();
+    private final AtomicLong interestUpdates = new AtomicLong();
+    private final AtomicLong leadershipChanges = new AtomicLong();
+    private final AtomicLong broadcastsPublished = new AtomicLong();
+    private final AtomicLong broadcastsReceived = new AtomicLong();
+
+    public RealtimeClusterCoordinator(RealtimeClusterConfig config, RealtimeBus bus,
+                                      StockTickPipeline stockTickPipeline, RealtimeOrderBookStore orderBookStore,
+                                      KisSubscriptionMultiplexer kisSubscriptions) {
+        this.config = config;
+        this.bus = bus;
+        this.stockTickPipeline = stockTickPipeline;
+        this.orderBookStore = orderBookStore;
+        this.kisSubscriptions = kisSubscriptions;
+        this.nodeId = StringUtils.hasText(config.getNodeId()) ? config.getNodeId() : defaultNodeId();
+    }
+
+    @PostConstruct
+    public void start() {
+        bus.subscribe(config.feedChannel(), this::onFeedMessage);
+        bus.subscribe(config.interestChannel(), this::onInterestMessage);
+        kisSubscriptions.setInterestListener(this::publishInterest);
+        log.info("🌐 실시간 클러스터 노드 시작: 노드={}, 버스={}", nodeId, config.getBus());
+    }
+
+    public void addLeadershipListener(LeadershipListener listener) {
+        listeners.add(listener);
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Scheduled(fixedDelayString = "${realtime.cluster.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        boolean holdsLease;
+        try {
+            holdsLease = bus.tryLock(config.leaderKey(), nodeId, config.getLeaderLeaseMillis());
+            if (holdsLease) {
+                leaseRenewedAt = now;
+            }
+        } catch (Exception e) {
+            holdsLease = leader && now - leaseRenewedAt < config.getLeaderLeaseMillis();
+            log.warn("⚠️ 리더 임대 갱신 실패: 노드={}, 에러={}", nodeId, e.getMessage());
+        }
+
+        if (holdsLease && !leader) {
+            changeLeadership(true);
+        } else if (!holdsLease && leader) {
+            changeLeadership(false);
+        }
+
+        if (leader) {
+            int expired = kisSubscriptions.expireRemoteInterest(now - config.getInterestTtlMillis());
+            if (expired > 0) {
+                log.info("🧹 응답 없는 노드의 구독 관심 만료: {}개 노드", expired);
+            }
+        } else {
+            publishInterest();
+        }
+    }
+
+    public void publishTick(StockTick tick) {
+        if (!leader) {
+            return;
+        }
+        try {
+            bus.publish(config.feedChannel(), RealtimeFeedCodec.encodeTick(nodeId, tick));
+            ticksPublished.incrementAndGet();
+        } catch (Exception e) {
+            publishFailures.incrementAndGet();
+            log.debug("실시간 틱 버스 발행 실패: 종목={}, 에러={}", tick.getStockCode(), e.getMessage());
+        }
+    }
+
+    public void publishOrderBook(KisOrderBookRecord record) {
+        if (!leader) {
+            return;
+        }
+        if (pendingOrderBooks.put(record.getStockCode(), RealtimeFeedCodec.encodeOrderBook(nodeId, record)) != null) {
+            orderBooksCoalesced.incrementAndGet();
+        }
+        if (orderBookDrainScheduled.compareAndSet(false, true)) {
+            try {
+                feedPublisher.execute(this::drainOrderBooks);
+            } catch (RejectedExecutionException e) {
+                orderBookDrainScheduled.set(false);
+            }
+        }
+    }
+
+    public void broadcast(String channel, String message) {
+        try {
+            bus.publish(channel, nodeId + "|" + message);
+            broadcastsPublished.incrementAndGet();
+        } catch (Exception e) {
+            publishFailures.incrementAndGet();
+            log.debug("클러스터 브로드캐스트 발행 실패: 채널={}, 에러={}", channel, e.getMessage());
+        }
+    }
+
+    public void subscribeRemote(String channel, Consumer<String> listener) {
+        bus.subscribe(channel, payload -> {
+            int separator = payload.indexOf('|');
+            if (separator < 0) {
+                decodeFailures.incrementAndGet();
+                return;
+            }
+            if (nodeId.equals(payload.substring(0, separator))) {
+                return;
+            }
+            broadcastsReceived.incrementAndGet();
+            listener.accept(payload.substring(separator + 1));
+        });
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("nodeId", nodeId);
+        metrics.put("bus", config.getBus());
+        metrics.put("leader", leader);
+        metrics.put("leaderSince", leader ? leaderSince : null);
+        metrics.put("leadershipChanges", leadershipChanges.get());
+        metrics.put("ticksPublished", ticksPublished.get());
+        metrics.put("orderBooksPublished", orderBooksPublished.get());
+        metrics.put("orderBooksCoalesced", orderBooksCoalesced.get());
+        metrics.put("pendingOrderBooks", pendingOrderBooks.size());
+        metrics.put("ticksReceived", ticksReceived.get());
+        metrics.put("orderBooksReceived", orderBooksReceived.get());
+        metrics.put("publishFailures", publishFailures.get());
+        metrics.put("decodeFailures", decodeFailures.get());
+        metrics.put("interestUpdates", interestUpdates.get());
+        metrics.put("broadcastsPublished", broadcastsPublished.get());
+        metrics.put("broadcastsReceived", broadcastsReceived.get());
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        feedPublisher.shutdownNow();
+        if (!leader) {
+            return;
+        }
+        changeLeadership(false);
+        try {
+            bus.unlock(config.leaderKey(), nodeId);
+        } catch (Exception e) {
+            log.warn("⚠️ 리더 임대 반납 실패: {}", e.getMessage());
+        }
+    }
+
+    private void drainOrderBooks() {
+        orderBookDrainScheduled.set(false);
+        for (String stockCode : pendingOrderBooks.keySet()) {
+            String payload = pendingOrderBooks.remove(stockCode);
+            if (payload == null) {
+                continue;
+            }
+            try {
+                bus.publish(config.feedChannel(), payload);
+                orderBooksPublished.incrementAndGet();
+            } catch (Exception e) {
+                publishFailures.incrementAndGet();
+                log.debug("실시간 호가 버스 발행 실패: 종목={}, 에러={}", stockCode, e.getMessage());
+            }
+        }
+    }
+
+    private void onFeedMessage(String payload) {
+        if (leader) {
+            return;
+        }
+        try {
+            if (nodeId.equals(RealtimeFeedCodec.originOf(payload))) {
+                return;
+            }
+            switch (RealtimeFeedCodec.typeOf(payload)) {
+                case RealtimeFeedCodec.TICK:
+                    stockTickPipeline.publish(RealtimeFeedCodec.decodeTick(payload));
+                    ticksReceived.incrementAndGet();
+                    break;
+                case RealtimeFeedCodec.ORDER_BOOK:
+                    orderBookStore.update(RealtimeFeedCodec.decodeOrderBook(payload));
+                    orderBooksReceived.incrementAndGet();
+                    break;
+                default:
+                    decodeFailures.incrementAndGet();
+            }
+        } catch (IllegalArgumentException e) {
+            decodeFailures.incrementAndGet();
+            log.debug("실시간 피드 메시지 해석 실패: {}", e.getMessage());
+        }
+    }
+
+    private void onInterestMessage(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length < 2 || nodeId.equals(parts[1])) {
+            return;
+        }
+        char type = parts[0].isEmpty() ? 0 : parts[0].charAt(0);
+        if (type == INTEREST_REQUEST) {
+            publishInterest();
+        } else if (type == INTEREST && leader) {
+            Set<String> codes = parts.length < 3 || parts[2].isEmpty()
+                    ? new HashSet<>() : new HashSet<>(Arrays.asList(parts[2].split(",")));
+            kisSubscriptions.updateRemoteInterest(parts[1], codes);
+            interestUpdates.incrementAndGet();
+        }
+    }
+
+    private void publishInterest() {
+        if (leader) {
+            return;
+        }
+        try {
+            bus.publish(config.interestChannel(),
+                    INTEREST + "|" + nodeId + "|" + String.join(",", kisSubscriptions.localInterest()));
+        } catch (Exception e) {
+            log.debug("구독 관심 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private void changeLeadership(boolean acquired) {
+        leader = acquired;
+        leadershipChanges.incrementAndGet();
+        if (acquired) {
+            leaderSince = System.currentTimeMillis();
+            log.info("👑 실시간 피드 리더 선출: 노드={}", nodeId);
+            try {
+                bus.publish(config.interestChannel(), INTEREST_REQUEST + "|" + nodeId);
+            } catch (Exception e) {
+                log.debug("구독 관심 요청 발행 실패: {}", e.getMessage());
+            }
+        } else {
+            kisSubscriptions.clearRemoteInterest();
+            log.warn("🔻 실시간 피드 리더 해제: 노드={}", nodeId);
+        }
+
+        for (LeadershipListener listener : listeners) {
+            try {
+                listener.onLeadershipChanged(acquired);
+            } catch (Exception e) {
+                log.error("❌ 리더 변경 처리 실패: 노드={}, 리더={}", nodeId, acquired, e);
+            }
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
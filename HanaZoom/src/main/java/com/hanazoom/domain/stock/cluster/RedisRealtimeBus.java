@@ -0,0 +1,82 @@
+package com.hanazoom.domain.stock.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+@Slf4j
+public class RedisRealtimeBus implements RealtimeBus {
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('GET', KEYS[1]) "
+                    + "if owner == false then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end "
+                    + "if owner == ARGV[1] then redis.call('PEXPIRE', KEYS[1], ARGV[2]) return 1 end "
+                    + "return 0", Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer container;
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "realtime-redis-bus");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisRealtimeBus(RedisConnectionFactory connectionFactory, RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(dispatcher);
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public void publish(String channel, String payload) {
+        redisTemplate.convertAndSend(channel, payload);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        container.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                log.warn("⚠️ Redis 버스 메시지 처리 실패: 채널={}, 에러={}", channel, e.getMessage());
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    @Override
+    public boolean tryLock(String key, String owner, long leaseMillis) {
+        Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key), owner, String.valueOf(leaseMillis));
+        return acquired != null && acquired == 1L;
+    }
+
+    @Override
+    public void unlock(String key, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+    }
+
+    @Override
+    public void close() {
+        try {
+            container.destroy();
+        } catch (Exception e) {
+            log.warn("⚠️ Redis 버스 리스너 종료 실패: {}", e.getMessage());
+        }
+        dispatcher.shutdownNow();
+    }
+}
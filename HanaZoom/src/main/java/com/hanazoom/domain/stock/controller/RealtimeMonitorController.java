@@ -0,0 +1,152 @@
+package com.hanazoom.domain.stock.controller;
+
+import com.hanazoom.domain.portfolio.realtime.PortfolioValuationEngine;
+import com.hanazoom.domain.stock.archive.CandleArchive;
+import com.hanazoom.domain.stock.capture.TickCaptureWriter;
+import com.hanazoom.domain.stock.capture.TickSegmentLoader;
+import com.hanazoom.domain.stock.cluster.RealtimeClusterCoordinator;
+import com.hanazoom.domain.stock.realtime.CandleAggregator;
+import com.hanazoom.domain.stock.realtime.FeedHealthMonitor;
+import com.hanazoom.domain.stock.realtime.KisSubscriptionMultiplexer;
+import com.hanazoom.domain.stock.realtime.RealtimeOrderBookStore;
+import com.hanazoom.domain.stock.realtime.RealtimeSnapshotCache;
+import com.hanazoom.domain.stock.realtime.RedisCandleStore;
+import com.hanazoom.domain.stock.realtime.StockTickPipeline;
+import com.hanazoom.domain.stock.retention.DataRetentionEngine;
+import com.hanazoom.domain.stock.service.StockChartService;
+import com.hanazoom.domain.stock.service.StockService;
+import com.hanazoom.global.dto.ApiResponse;
+import com.hanazoom.global.handler.ClientSessionRegistry;
+import com.hanazoom.global.handler.SessionBroadcaster;
+import com.hanazoom.global.handler.StockDeltaProtocol;
+import com.hanazoom.global.service.KisRestGateway;
+import com.hanazoom.global.service.KisTokenManager;
+import com.hanazoom.global.service.RedisHealthMonitor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/stocks/realtime-monitor")
+@RequiredArgsConstructor
+public class RealtimeMonitorController {
+
+    private final StockTickPipeline stockTickPipeline;
+    private final RealtimeOrderBookStore orderBookStore;
+    private final CandleAggregator candleAggregator;
+    private final RedisCandleStore redisCandleStore;
+    private final CandleArchive candleArchive;
+    private final SessionBroadcaster sessionBroadcaster;
+    private final StockDeltaProtocol stockDeltaProtocol;
+    private final ClientSessionRegistry clientSessionRegistry;
+    private final RealtimeSnapshotCache realtimeSnapshotCache;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final KisRestGateway kisRestGateway;
+    private final KisTokenManager kisTokenManager;
+    private final StockService stockService;
+    private final StockChartService stockChartService;
+    private final PortfolioValuationEngine portfolioValuationEngine;
+    private final TickCaptureWriter tickCaptureWriter;
+    private final TickSegmentLoader tickSegmentLoader;
+    private final DataRetentionEngine dataRetentionEngine;
+    private final FeedHealthMonitor feedHealthMonitor;
+    private final KisSubscriptionMultiplexer kisSubscriptionMultiplexer;
+    private final RealtimeClusterCoordinator realtimeClusterCoordinator;
+
+    @GetMapping("/pipeline")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPipelineMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(stockTickPipeline.getMetrics()));
+    }
+
+    @GetMapping("/orderbooks")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getOrderBookStatus() {
+        return ResponseEntity.ok(ApiResponse.success(Map.of(
+                "trackedSymbols", orderBookStore.size(),
+                "realtimeSymbols", orderBookStore.realtimeBookCount())));
+    }
+
+    @GetMapping("/candles")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCandleMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(Map.of(
+                "aggregator", candleAggregator.getMetrics(),
+                "redis", redisCandleStore.getMetrics(),
+                "archive", candleArchive.getMetrics())));
+    }
+
+    @GetMapping("/broadcast")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getBroadcastMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(sessionBroadcaster.getMetrics()));
+    }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSessionRegistryMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(clientSessionRegistry.getMetrics()));
+    }
+
+    @GetMapping("/delta-protocol")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getDeltaProtocolMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(stockDeltaProtocol.getMetrics()));
+    }
+
+    @GetMapping("/redis")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRedisWriteBehindStatus() {
+        return ResponseEntity.ok(ApiResponse.success(Map.of(
+                "connection", redisHealthMonitor.getStatus(),
+                "writeBehind", realtimeSnapshotCache.getMetrics())));
+    }
+
+    @GetMapping("/kis")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getKisGatewayMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(Map.of(
+                "token", kisTokenManager.getMetrics(),
+                "rest", kisRestGateway.getMetrics())));
+    }
+
+    @GetMapping("/quotes")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getQuoteCacheMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(stockService.getQuoteCacheMetrics()));
+    }
+
+    @GetMapping("/charts")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getChartCacheMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(stockChartService.getChartCacheMetrics()));
+    }
+
+    @GetMapping("/portfolio")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPortfolioValuationMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(portfolioValuationEngine.getMetrics()));
+    }
+
+    @GetMapping("/capture")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTickCaptureMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(Map.of(
+                "writer", tickCaptureWriter.getMetrics(),
+                "loader", tickSegmentLoader.getMetrics())));
+    }
+
+    @GetMapping("/retention")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRetentionMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(dataRetentionEngine.getMetrics()));
+    }
+
+    @GetMapping("/feed-health")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getFeedHealth() {
+        return ResponseEntity.ok(ApiResponse.success(feedHealthMonitor.getHealth()));
+    }
+
+    @GetMapping("/kis-subscriptions")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getKisSubscriptions() {
+        return ResponseEntity.ok(ApiResponse.success(kisSubscriptionMultiplexer.getMetrics()));
+    }
+
+    @GetMapping("/cluster")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getClusterStatus() {
+        return ResponseEntity.ok(ApiResponse.success(realtimeClusterCoordinator.getMetrics()));
+    }
+}
@@ -26,6 +26,8 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @RestController
@@ -172,66 +174,63 @@ public class StockController {
     }
 
     @GetMapping("/realtime/{stockCode}")
-    public ResponseEntity<ApiResponse<StockPriceResponse>> getRealTimePrice(@PathVariable String stockCode) {
+    public CompletableFuture<ResponseEntity<ApiResponse<StockPriceResponse>>> getRealTimePrice(@PathVariable String stockCode) {
         log.info("Real-time price request for stock code: {}", stockCode);
 
-        try {
-
-            if (stockCode == null || stockCode.length() != 6 || !stockCode.matches("\\d+")) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("유효하지 않은 종목코드입니다. 6자리 숫자로 입력해주세요."));
-            }
 
-            StockPriceResponse priceInfo = stockService.getRealTimePrice(stockCode);
-            return ResponseEntity.ok(ApiResponse.success(priceInfo));
-
-        } catch (RuntimeException e) {
-            log.error("Failed to fetch real-time price for stock code: {}", stockCode, e);
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.error("실시간 가격 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        if (stockCode == null || stockCode.length() != 6 || !stockCode.matches("\\d+")) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(ApiResponse.error("유효하지 않은 종목코드입니다. 6자리 숫자로 입력해주세요.")));
         }
+
+        return stockService.getRealTimePriceAsync(stockCode)
+                .thenApply(priceInfo -> ResponseEntity.ok(ApiResponse.success(priceInfo)))
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    log.error("Failed to fetch real-time price for stock code: {}", stockCode, cause);
+                    return ResponseEntity.internalServerError()
+                            .body(ApiResponse.<StockPriceResponse>error("실시간 가격 조회 중 오류가 발생했습니다: " + cause.getMessage()));
+                });
     }
 
     @GetMapping("/info/{stockCode}")
-    public ResponseEntity<ApiResponse<StockBasicInfoResponse>> getStockBasicInfo(@PathVariable String stockCode) {
+    public CompletableFuture<ResponseEntity<ApiResponse<StockBasicInfoResponse>>> getStockBasicInfo(@PathVariable String stockCode) {
         log.info("Stock basic info request for stock code: {}", stockCode);
 
-        try {
-
-            if (stockCode == null || stockCode.length() != 6 || !stockCode.matches("\\d+")) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("유효하지 않은 종목코드입니다. 6자리 숫자로 입력해주세요."));
-            }
-
-            StockBasicInfoResponse basicInfo = stockService.getStockBasicInfo(stockCode);
-            return ResponseEntity.ok(ApiResponse.success(basicInfo));
 
-        } catch (RuntimeException e) {
-            log.error("Failed to fetch basic info for stock code: {}", stockCode, e);
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.error("종목 기본정보 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        if (stockCode == null || stockCode.length() != 6 || !stockCode.matches("\\d+")) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(ApiResponse.error("유효하지 않은 종목코드입니다. 6자리 숫자로 입력해주세요.")));
         }
+
+        return stockService.getStockBasicInfoAsync(stockCode)
+                .thenApply(basicInfo -> ResponseEntity.ok(ApiResponse.success(basicInfo)))
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    log.error("Failed to fetch basic info for stock code: {}", stockCode, cause);
+                    return ResponseEntity.internalServerError()
+                            .body(ApiResponse.<StockBasicInfoResponse>error("종목 기본정보 조회 중 오류가 발생했습니다: " + cause.getMessage()));
+                });
     }
 
     @GetMapping("/orderbook/{stockCode}")
-    public ResponseEntity<ApiResponse<OrderBookResponse>> getOrderBook(@PathVariable String stockCode) {
+    public CompletableFuture<ResponseEntity<ApiResponse<OrderBookResponse>>> getOrderBook(@PathVariable String stockCode) {
         log.info("Order book request for stock code: {}", stockCode);
 
-        try {
-
-            if (stockCode == null || stockCode.length() != 6 || !stockCode.matches("\\d+")) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("유효하지 않은 종목코드입니다. 6자리 숫자로 입력해주세요."));
-            }
-
-            OrderBookResponse orderBook = stockService.getOrderBook(stockCode);
-            return ResponseEntity.ok(ApiResponse.success(orderBook));
 
-        } catch (RuntimeException e) {
-            log.error("Failed to fetch order book for stock code: {}", stockCode, e);
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.error("호가창 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        if (stockCode == null || stockCode.length() != 6 || !stockCode.matches("\\d+")) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(ApiResponse.error("유효하지 않은 종목코드입니다. 6자리 숫자로 입력해주세요.")));
         }
+
+        return stockService.getOrderBookAsync(stockCode)
+                .thenApply(orderBook -> ResponseEntity.ok(ApiResponse.success(orderBook)))
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    log.error("Failed to fetch order book for stock code: {}", stockCode, cause);
+                    return ResponseEntity.internalServerError()
+                            .body(ApiResponse.<OrderBookResponse>error("호가창 조회 중 오류가 발생했습니다: " + cause.getMessage()));
+                });
     }
 
 
@@ -374,4 +373,8 @@ public class StockController {
                     .body(ApiResponse.error("성능 비교 테스트 중 오류가 발생했습니다."));
         }
     }
-}
\ No newline at end of file
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -28,6 +28,19 @@ public class DataProcessingLog {
     @Column(name = "stock_symbol", length = 20)
     private String stockSymbol;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "data_type")
+    private DataRetentionPolicy.DataType dataType;
+
+    @Column(name = "cutoff_time")
+    private LocalDateTime cutoffTime;
+
+    @Column(name = "cursor_id")
+    private Long cursorId;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
     @Column(name = "records_processed")
     private Integer recordsProcessed = 0;
 
@@ -61,10 +74,10 @@ public class DataProcessingLog {
     private LocalDateTime createdAt;
 
     public enum ProcessType {
-        DAILY, WEEKLY, MONTHLY, ALL
+        DAILY, WEEKLY, MONTHLY, ALL, RETENTION
     }
 
     public enum ProcessStatus {
-        SUCCESS, PARTIAL_SUCCESS, FAILED
+        RUNNING, SUCCESS, PARTIAL_SUCCESS, FAILED
     }
 }
@@ -54,9 +54,12 @@ public class DataRetentionPolicy {
         ONE_MINUTE("1분봉", 90), 
         FIVE_MINUTES("5분봉", 180), 
         FIFTEEN_MINUTES("15분봉", 365), 
+        ONE_HOUR("1시간봉", 730), 
         DAILY("일봉", 2555), 
         WEEKLY("주봉", 3650), 
-        MONTHLY("월봉", 10950); 
+        MONTHLY("월봉", 10950), 
+        NOTIFICATION("알림", 90), 
+        CHAT_MESSAGE("채팅 메시지", 180); 
 
         private final String description;
         private final int defaultRetentionDays;
@@ -9,7 +9,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "real_time_data_status")
+@Table(name = "real_time_data_status", uniqueConstraints = @UniqueConstraint(columnNames = { "stock_symbol",
+        "data_type" }))
 @Getter
 @Setter
 @NoArgsConstructor
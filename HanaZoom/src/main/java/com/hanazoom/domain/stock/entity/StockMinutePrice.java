@@ -72,7 +72,8 @@ public class StockMinutePrice {
     public enum MinuteInterval {
         ONE_MINUTE(1, "1분"),
         FIVE_MINUTES(5, "5분"),
-        FIFTEEN_MINUTES(15, "15분");
+        FIFTEEN_MINUTES(15, "15분"),
+        ONE_HOUR(60, "1시간");
 
         private final int minutes;
         private final String description;
@@ -0,0 +1,28 @@
+package com.hanazoom.domain.stock.kafka;
+
+import com.hanazoom.domain.stock.realtime.StockTick;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TickMessage {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final String stockCode;
+    private final long price;
+    private final long change;
+    private final int rateBps;
+    private final char sign;
+    private final long epochNanos;
+
+    public static TickMessage from(StockTick tick) {
+        return new TickMessage(tick.getStockCode(), tick.getCurrentPrice(), tick.getChangePrice(),
+                tick.getChangeRateBps(), tick.getChangeSign(), tick.getReceivedAt() * NANOS_PER_MILLI);
+    }
+
+    public long getEpochMillis() {
+        return epochNanos / NANOS_PER_MILLI;
+    }
+}
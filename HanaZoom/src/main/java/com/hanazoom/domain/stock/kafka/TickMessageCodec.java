@@ -0,0 +1,63 @@
+package com.hanazoom.domain.stock.kafka;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class TickMessageCodec {
+
+    public static final byte VERSION = 1;
+    public static final int SYMBOL_BYTES = 12;
+    public static final int MESSAGE_BYTES = 1 + SYMBOL_BYTES + Long.BYTES + Long.BYTES + Integer.BYTES + 1 + Long.BYTES;
+
+    private TickMessageCodec() {
+    }
+
+    public static byte[] encode(TickMessage message) {
+        byte[] bytes = new byte[MESSAGE_BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.put(VERSION);
+        putSymbol(buffer, message.getStockCode());
+        buffer.putLong(message.getPrice());
+        buffer.putLong(message.getChange());
+        buffer.putInt(message.getRateBps());
+        buffer.put((byte) message.getSign());
+        buffer.putLong(message.getEpochNanos());
+        return bytes;
+    }
+
+    public static TickMessage decode(byte[] bytes) {
+        if (bytes == null || bytes.length != MESSAGE_BYTES) {
+            throw new IllegalArgumentException("틱 메시지 길이 불일치: " + (bytes == null ? 0 : bytes.length));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 틱 메시지 버전: " + version);
+        }
+        String stockCode = getSymbol(buffer);
+        return new TickMessage(stockCode, buffer.getLong(), buffer.getLong(), buffer.getInt(),
+                (char) (buffer.get() & 0xFF), buffer.getLong());
+    }
+
+    private static void putSymbol(ByteBuffer buffer, String stockCode) {
+        byte[] symbol = stockCode.getBytes(StandardCharsets.US_ASCII);
+        if (symbol.length > SYMBOL_BYTES) {
+            throw new IllegalArgumentException("종목코드 길이 초과: " + stockCode);
+        }
+        buffer.put(symbol);
+        for (int i = symbol.length; i < SYMBOL_BYTES; i++) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    private static String getSymbol(ByteBuffer buffer) {
+        int start = buffer.position();
+        int length = 0;
+        while (length < SYMBOL_BYTES && buffer.get(start + length) != 0) {
+            length++;
+        }
+        String symbol = new String(buffer.array(), start, length, StandardCharsets.US_ASCII);
+        buffer.position(start + SYMBOL_BYTES);
+        return symbol;
+    }
+}
@@ -0,0 +1,19 @@
+package com.hanazoom.domain.stock.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class TickMessageDeserializer implements Deserializer<TickMessage> {
+
+    @Override
+    public TickMessage deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return TickMessageCodec.decode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("틱 메시지 역직렬화 실패: 토픽=" + topic, e);
+        }
+    }
+}
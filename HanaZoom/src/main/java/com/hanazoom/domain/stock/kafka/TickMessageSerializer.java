@@ -0,0 +1,11 @@
+package com.hanazoom.domain.stock.kafka;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+public class TickMessageSerializer implements Serializer<TickMessage> {
+
+    @Override
+    public byte[] serialize(String topic, TickMessage data) {
+        return data == null ? null : TickMessageCodec.encode(data);
+    }
+}
@@ -0,0 +1,172 @@
+package com.hanazoom.domain.stock.kafka;
+
+import com.hanazoom.global.config.KafkaTickConfig;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+@Slf4j
+@Component
+public class TickSnapshotStore {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final int capacity;
+    private final Map<String, Integer> indexBySymbol = new ConcurrentHashMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final StampedLock[] locks = new StampedLock[LOCK_STRIPES];
+
+    private final String[] symbols;
+    private final long[] prices;
+    private final long[] changes;
+    private final int[] rateBps;
+    private final char[] signs;
+    private final long[] epochNanos;
+
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public TickSnapshotStore(KafkaTickConfig config) {
+        this.capacity = config.getSnapshotCapacity();
+        this.symbols = new String[capacity];
+        this.prices = new long[capacity];
+        this.changes = new long[capacity];
+        this.rateBps = new int[capacity];
+        this.signs = new char[capacity];
+        this.epochNanos = new long[capacity];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new StampedLock();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final String stockCode;
+        private final long price;
+        private final long change;
+        private final int rateBps;
+        private final char sign;
+        private final long epochNanos;
+    }
+
+    public int applyBatch(List<TickMessage> messages) {
+        int count = 0;
+        for (TickMessage message : messages) {
+            if (message != null && apply(message)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean apply(TickMessage message) {
+        int index = indexOf(message.getStockCode());
+        if (index < 0) {
+            return false;
+        }
+        StampedLock lock = locks[index & (LOCK_STRIPES - 1)];
+        long stamp = lock.writeLock();
+        try {
+            if (symbols[index] != null && message.getEpochNanos() < epochNanos[index]) {
+                stale.incrementAndGet();
+                return false;
+            }
+            prices[index] = message.getPrice();
+            changes[index] = message.getChange();
+            rateBps[index] = message.getRateBps();
+            signs[index] = message.getSign();
+            epochNanos[index] = message.getEpochNanos();
+            symbols[index] = message.getStockCode();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        applied.incrementAndGet();
+        return true;
+    }
+
+    public Snapshot get(String stockCode) {
+        Integer index = indexBySymbol.get(stockCode);
+        return index != null ? read(index) : null;
+    }
+
+    public List<Snapshot> getAll() {
+        int size = Math.min(nextIndex.get(), capacity);
+        List<Snapshot> snapshots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Snapshot snapshot = read(i);
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    public int size() {
+        return indexBySymbol.size();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("symbols", size());
+        metrics.put("capacity", capacity);
+        metrics.put("applied", applied.get());
+        metrics.put("staleDropped", stale.get());
+        metrics.put("rejectedSymbols", rejected.get());
+        return metrics;
+    }
+
+    private Snapshot read(int index) {
+        StampedLock lock = locks[index & (LOCK_STRIPES - 1)];
+        long stamp = lock.tryOptimisticRead();
+        Snapshot snapshot = copy(index);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                snapshot = copy(index);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return snapshot;
+    }
+
+    private Snapshot copy(int index) {
+        String symbol = symbols[index];
+        return symbol == null ? null
+                : new Snapshot(symbol, prices[index], changes[index], rateBps[index], signs[index], epochNanos[index]);
+    }
+
+    private int indexOf(String stockCode) {
+        Integer index = indexBySymbol.get(stockCode);
+        if (index != null) {
+            return index;
+        }
+        if (nextIndex.get() >= capacity) {
+            if (rejected.incrementAndGet() == 1) {
+                log.warn("⚠️ 틱 스냅샷 저장소 용량 초과 - 신규 종목 무시: 종목={}, 용량={}", stockCode, capacity);
+            }
+            return -1;
+        }
+        index = indexBySymbol.computeIfAbsent(stockCode, code -> {
+            int assigned = nextIndex.getAndIncrement();
+            return assigned < capacity ? assigned : -1;
+        });
+        if (index < 0) {
+            indexBySymbol.remove(stockCode, index);
+            rejected.incrementAndGet();
+        }
+        return index;
+    }
+}
@@ -0,0 +1,247 @@
+package com.hanazoom.domain.stock.realtime;
+
+import com.hanazoom.domain.stock.archive.CandleArchive;
+import com.hanazoom.domain.stock.cluster.RealtimeClusterCoordinator;
+import com.hanazoom.domain.stock.entity.StockMinutePrice;
+import com.hanazoom.domain.stock.service.StockMinutePriceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandleAggregator {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final long ZONE_OFFSET_MILLIS =
+            KOREA_ZONE.getRules().getOffset(Instant.EPOCH).getTotalSeconds() * 1000L;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final long MINUTES_PER_DAY = 1_440L;
+    private static final CandleInterval[] ROLLUP_INTERVALS = {
+            CandleInterval.FIVE_MINUTES, CandleInterval.FIFTEEN_MINUTES, CandleInterval.ONE_HOUR
+    };
+
+    private final StockMinutePriceService stockMinutePriceService;
+    private final CandleArchive candleArchive;
+    private final RealtimeClusterCoordinator realtimeCluster;
+
+    private final Map<String, SymbolCandles> candlesBySymbol = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<StockMinutePrice> closedCandles = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong lateTicks = new AtomicLong();
+    private final AtomicLong closed = new AtomicLong();
+    private final AtomicLong flushed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+
+    @Value("${realtime.candles.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Value("${realtime.candles.close-grace-ms:2000}")
+    private long closeGraceMillis;
+
+    @Value("${realtime.candles.max-pending:50000}")
+    private int maxPending;
+
+    public void onTick(StockTick tick) {
+        if (tick.getCurrentPrice() <= 0) {
+            return;
+        }
+        ticks.incrementAndGet();
+        candlesBySymbol.computeIfAbsent(tick.getStockCode(), SymbolCandles::new)
+                .apply(minuteOf(tick), tick.getCurrentPrice(), tick.getVolume(), tick.getTradeVolume());
+    }
+
+    public StockMinutePrice getCurrentCandle(String stockCode, CandleInterval interval) {
+        SymbolCandles candles = candlesBySymbol.get(stockCode);
+        return candles != null ? candles.current(interval) : null;
+    }
+
+    @Scheduled(fixedDelayString = "${realtime.candles.flush-interval-ms:1000}")
+    public void flushClosedCandles() {
+        long nowMillis = System.currentTimeMillis() + ZONE_OFFSET_MILLIS - closeGraceMillis;
+        long currentMinute = Math.floorDiv(nowMillis, MILLIS_PER_MINUTE);
+        candlesBySymbol.values().forEach(candles -> candles.closeExpired(currentMinute));
+        drain();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        candlesBySymbol.values().forEach(candles -> candles.closeExpired(Long.MAX_VALUE));
+        drain();
+        log.info("🛑 분봉 집계기 종료 - 미완성 캔들 저장 완료");
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("symbols", candlesBySymbol.size());
+        metrics.put("ticks", ticks.get());
+        metrics.put("lateTicks", lateTicks.get());
+        metrics.put("closedCandles", closed.get());
+        metrics.put("pendingCandles", pendingCount.get());
+        metrics.put("flushedCandles", flushed.get());
+        metrics.put("droppedCandles", dropped.get());
+        metrics.put("flushFailures", flushFailures.get());
+        return metrics;
+    }
+
+    private void drain() {
+        while (!closedCandles.isEmpty()) {
+            List<StockMinutePrice> batch = new ArrayList<>(Math.min(pendingCount.get(), flushBatchSize));
+            StockMinutePrice candle;
+            while (batch.size() < flushBatchSize && (candle = closedCandles.poll()) != null) {
+                batch.add(candle);
+            }
+            pendingCount.addAndGet(-batch.size());
+
+            if (realtimeCluster.isLeader()) {
+                try {
+                    stockMinutePriceService.upsertMinutePrices(batch);
+                    flushed.addAndGet(batch.size());
+                } catch (Exception e) {
+                    flushFailures.incrementAndGet();
+                    log.error("❌ 완성된 분봉 일괄 저장 실패: 건수={}", batch.size(), e);
+                    batch.forEach(this::enqueue);
+                    return;
+                }
+            }
+
+            try {
+                candleArchive.append(batch);
+            } catch (Exception e) {
+                log.warn("⚠️ 캔들 아카이브 추가 실패: 건수={}, 에러={}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private void enqueue(StockMinutePrice candle) {
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        closedCandles.offer(candle);
+    }
+
+    private static long minuteOf(StockTick tick) {
+        long localMillis = tick.getReceivedAt() + ZONE_OFFSET_MILLIS;
+        int tradeTime = tick.getTradeTime();
+        if (tradeTime <= 0) {
+            return Math.floorDiv(localMillis, MILLIS_PER_MINUTE);
+        }
+        long epochDay = Math.floorDiv(localMillis, MILLIS_PER_MINUTE * MINUTES_PER_DAY);
+        return epochDay * MINUTES_PER_DAY + (tradeTime / 10_000) * 60L + (tradeTime / 100) % 100;
+    }
+
+    private final class SymbolCandles {
+        private final String stockCode;
+        private final CandleBar minute = new CandleBar();
+        private final CandleBar[] rollups = new CandleBar[ROLLUP_INTERVALS.length];
+        private long lastCumulativeVolume;
+        private long lastClosedMinute = Long.MIN_VALUE;
+
+        private SymbolCandles(String stockCode) {
+            this.stockCode = stockCode;
+            for (int i = 0; i < rollups.length; i++) {
+                rollups[i] = new CandleBar();
+            }
+        }
+
+        private synchronized void apply(long tickMinute, long price, long cumulativeVolume, long tradeVolume) {
+            long tradedVolume = cumulativeVolume >= lastCumulativeVolume && lastCumulativeVolume > 0
+                    ? cumulativeVolume - lastCumulativeVolume
+                    : tradeVolume;
+            lastCumulativeVolume = cumulativeVolume;
+
+            if (tickMinute <= lastClosedMinute || (!minute.isEmpty() && tickMinute < minute.getBucketStart())) {
+                lateTicks.incrementAndGet();
+                return;
+            }
+            if (!minute.isEmpty() && tickMinute != minute.getBucketStart()) {
+                closeMinute();
+            }
+            minute.add(tickMinute, price, tradedVolume);
+        }
+
+        private synchronized void closeExpired(long currentMinute) {
+            if (!minute.isEmpty() && minute.getBucketStart() < currentMinute) {
+                closeMinute();
+            }
+            for (int i = 0; i < rollups.length; i++) {
+                CandleBar rollup = rollups[i];
+                if (!rollup.isEmpty()
+                        && rollup.getBucketStart() + ROLLUP_INTERVALS[i].getMinutes() <= currentMinute) {
+                    emit(rollup, ROLLUP_INTERVALS[i]);
+                }
+            }
+        }
+
+        private synchronized StockMinutePrice current(CandleInterval interval) {
+            if (interval == CandleInterval.ONE_MINUTE) {
+                return minute.isEmpty() ? null : minute.toMinutePrice(stockCode, interval.getPersistedInterval());
+            }
+
+            int index = rollupIndexOf(interval);
+            CandleBar view = new CandleBar();
+            view.copyFrom(rollups[index]);
+            if (!minute.isEmpty() && (view.isEmpty()
+                    || interval.bucketOf(minute.getBucketStart()) == view.getBucketStart())) {
+                view.merge(interval.bucketOf(minute.getBucketStart()), minute);
+            }
+            return view.isEmpty() ? null : view.toMinutePrice(stockCode, interval.getPersistedInterval());
+        }
+
+        private void closeMinute() {
+            long minuteStart = minute.getBucketStart();
+            for (int i = 0; i < rollups.length; i++) {
+                CandleInterval interval = ROLLUP_INTERVALS[i];
+                CandleBar rollup = rollups[i];
+                long bucket = interval.bucketOf(minuteStart);
+                if (!rollup.isEmpty() && rollup.getBucketStart() != bucket) {
+                    emit(rollup, interval);
+                }
+                rollup.merge(bucket, minute);
+                if (minuteStart + 1 == bucket + interval.getMinutes()) {
+                    emit(rollup, interval);
+                }
+            }
+
+            lastClosedMinute = minuteStart;
+            emit(minute, CandleInterval.ONE_MINUTE);
+        }
+
+        private void emit(CandleBar bar, CandleInterval interval) {
+            closed.incrementAndGet();
+            if (interval.isPersisted()) {
+                enqueue(bar.toMinutePrice(stockCode, interval.getPersistedInterval()));
+            }
+            bar.reset();
+        }
+
+        private int rollupIndexOf(CandleInterval interval) {
+            for (int i = 0; i < ROLLUP_INTERVALS.length; i++) {
+                if (ROLLUP_INTERVALS[i] == interval) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 캔들 간격입니다: " + interval);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.hanazoom.domain.stock.realtime;
+
+import com.hanazoom.domain.stock.entity.StockMinutePrice;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+@Getter
+public class CandleBar {
+
+    private long bucketStart = -1L;
+    private long openPrice;
+    private long highPrice;
+    private long lowPrice;
+    private long closePrice;
+    private long volume;
+    private long notional;
+    private int tickCount;
+
+    public boolean isEmpty() {
+        return tickCount == 0;
+    }
+
+    void add(long bucket, long price, long tradedVolume) {
+        if (isEmpty()) {
+            bucketStart = bucket;
+            openPrice = price;
+            highPrice = price;
+            lowPrice = price;
+        } else {
+            highPrice = Math.max(highPrice, price);
+            lowPrice = Math.min(lowPrice, price);
+        }
+        closePrice = price;
+        volume += tradedVolume;
+        notional += price * tradedVolume;
+        tickCount++;
+    }
+
+    void merge(long bucket, CandleBar minute) {
+        if (minute.isEmpty()) {
+            return;
+        }
+        if (isEmpty()) {
+            bucketStart = bucket;
+            openPrice = minute.openPrice;
+            highPrice = minute.highPrice;
+            lowPrice = minute.lowPrice;
+        } else {
+            highPrice = Math.max(highPrice, minute.highPrice);
+            lowPrice = Math.min(lowPrice, minute.lowPrice);
+        }
+        closePrice = minute.closePrice;
+        volume += minute.volume;
+        notional += minute.notional;
+        tickCount += minute.tickCount;
+    }
+
+    void copyFrom(CandleBar other) {
+        bucketStart = other.bucketStart;
+        openPrice = other.openPrice;
+        highPrice = other.highPrice;
+        lowPrice = other.lowPrice;
+        closePrice = other.closePrice;
+        volume = other.volume;
+        notional = other.notional;
+        tickCount = other.tickCount;
+    }
+
+    void reset() {
+        bucketStart = -1L;
+        openPrice = 0L;
+        highPrice = 0L;
+        lowPrice = 0L;
+        closePrice = 0L;
+        volume = 0L;
+        notional = 0L;
+        tickCount = 0;
+    }
+
+    public BigDecimal getVwap() {
+        if (volume == 0L) {
+            return BigDecimal.valueOf(closePrice);
+        }
+        return BigDecimal.valueOf(notional).divide(BigDecimal.valueOf(volume), 2, RoundingMode.HALF_UP);
+    }
+
+    public LocalDateTime getStartTime() {
+        return LocalDateTime.ofEpochSecond(bucketStart * 60L, 0, ZoneOffset.UTC);
+    }
+
+    public StockMinutePrice toMinutePrice(String stockSymbol, StockMinutePrice.MinuteInterval interval) {
+        BigDecimal open = BigDecimal.valueOf(openPrice);
+        BigDecimal change = BigDecimal.valueOf(closePrice - openPrice);
+        BigDecimal changePercent = openPrice > 0
+                ? change.multiply(BigDecimal.valueOf(100)).divide(open, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        return StockMinutePrice.builder()
+                .stockSymbol(stockSymbol)
+                .minuteInterval(interval)
+                .timestamp(getStartTime())
+                .openPrice(open)
+                .highPrice(BigDecimal.valueOf(highPrice))
+                .lowPrice(BigDecimal.valueOf(lowPrice))
+                .closePrice(BigDecimal.valueOf(closePrice))
+                .volume(volume)
+                .priceChange(change)
+                .priceChangePercent(changePercent)
+                .vwap(getVwap())
+                .tickCount(tickCount)
+                .build();
+    }
+}
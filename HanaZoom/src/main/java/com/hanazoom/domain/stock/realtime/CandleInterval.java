@@ -0,0 +1,39 @@
+package com.hanazoom.domain.stock.realtime;
+
+import com.hanazoom.domain.stock.entity.StockMinutePrice;
+import lombok.Getter;
+
+@Getter
+public enum CandleInterval {
+    ONE_MINUTE("1M", 1, StockMinutePrice.MinuteInterval.ONE_MINUTE),
+    FIVE_MINUTES("5M", 5, StockMinutePrice.MinuteInterval.FIVE_MINUTES),
+    FIFTEEN_MINUTES("15M", 15, StockMinutePrice.MinuteInterval.FIFTEEN_MINUTES),
+    ONE_HOUR("1H", 60, StockMinutePrice.MinuteInterval.ONE_HOUR);
+
+    private final String timeframe;
+    private final int minutes;
+    private final StockMinutePrice.MinuteInterval persistedInterval;
+
+    CandleInterval(String timeframe, int minutes, StockMinutePrice.MinuteInterval persistedInterval) {
+        this.timeframe = timeframe;
+        this.minutes = minutes;
+        this.persistedInterval = persistedInterval;
+    }
+
+    public boolean isPersisted() {
+        return persistedInterval != null;
+    }
+
+    public long bucketOf(long epochMinute) {
+        return Math.floorDiv(epochMinute, minutes) * minutes;
+    }
+
+    public static CandleInterval fromTimeframe(String timeframe) {
+        for (CandleInterval interval : values()) {
+            if (interval.timeframe.equals(timeframe)) {
+                return interval;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,428 @@
+package com.hanazoom.domain.stock.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanazoom.domain.stock.cluster.RealtimeClusterCoordinator;
+import com.hanazoom.domain.stock.entity.RealTimeDataStatus;
+import com.hanazoom.global.config.FeedHealthConfig;
+import com.hanazoom.global.config.RealtimeClusterConfig;
+import com.hanazoom.global.handler.SessionBroadcaster;
+import com.hanazoom.global.util.MarketTimeUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import javax.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class FeedHealthMonitor {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String FEED_HEALTH = "FEED_HEALTH";
+    private static final String FEED_HEALTH_TOPIC = "feed-health";
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String UPSERT_STATUS_SQL =
+            "INSERT INTO real_time_data_status (stock_symbol, data_type, last_update_time, is_connected, "
+                    + "connection_status, error_count, last_error_message, data_frequency_seconds, "
+                    + "expected_update_time, is_delayed, delay_seconds, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE last_update_time = VALUES(last_update_time), "
+                    + "is_connected = VALUES(is_connected), connection_status = VALUES(connection_status), "
+                    + "error_count = VALUES(error_count), last_error_message = VALUES(last_error_message), "
+                    + "data_frequency_seconds = VALUES(data_frequency_seconds), "
+                    + "expected_update_time = VALUES(expected_update_time), is_delayed = VALUES(is_delayed), "
+                    + "delay_seconds = VALUES(delay_seconds), updated_at = VALUES(updated_at)";
+
+    private final FeedHealthConfig config;
+    private final MarketTimeUtils marketTimeUtils;
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionBroadcaster sessionBroadcaster;
+    private final ObjectMapper objectMapper;
+    private final RealtimeClusterCoordinator realtimeCluster;
+    private final RealtimeClusterConfig clusterConfig;
+
+    private final Map<String, SymbolHealth> symbols = new ConcurrentHashMap<>();
+    private final Set<WebSocketSession> subscribers = new CopyOnWriteArraySet<>();
+    private volatile boolean feedConnected;
+    private volatile boolean marketOpen;
+    private volatile long lastTickAt;
+    private volatile String lastFeedError;
+    private volatile Map<String, Object> leaderSummary;
+    private volatile long leaderSummaryAt;
+
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong feedErrors = new AtomicLong();
+    private final AtomicLong disconnects = new AtomicLong();
+    private final AtomicLong delayAlerts = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong remoteSummaries = new AtomicLong();
+
+    public FeedHealthMonitor(FeedHealthConfig config, MarketTimeUtils marketTimeUtils, JdbcTemplate jdbcTemplate,
+                             SessionBroadcaster sessionBroadcaster, ObjectMapper objectMapper,
+                             RealtimeClusterCoordinator realtimeCluster, RealtimeClusterConfig clusterConfig) {
+        this.config = config;
+        this.marketTimeUtils = marketTimeUtils;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sessionBroadcaster = sessionBroadcaster;
+        this.objectMapper = objectMapper;
+        this.realtimeCluster = realtimeCluster;
+        this.clusterConfig = clusterConfig;
+    }
+
+    @PostConstruct
+    public void start() {
+        realtimeCluster.subscribeRemote(clusterConfig.healthChannel(), this::onLeaderHealth);
+    }
+
+    public void track(String stockCode) {
+        symbols.computeIfAbsent(stockCode, code -> new SymbolHealth(code, System.currentTimeMillis()));
+    }
+
+    public void untrack(String stockCode) {
+        symbols.remove(stockCode);
+    }
+
+    public void onTick(StockTick tick) {
+        ticks.incrementAndGet();
+        long receivedAt = tick.getReceivedAt();
+        if (receivedAt > lastTickAt) {
+            lastTickAt = receivedAt;
+        }
+        symbols.computeIfAbsent(tick.getStockCode(), code -> new SymbolHealth(code, receivedAt))
+                .onTick(receivedAt, config);
+    }
+
+    public void onFeedConnected() {
+        feedConnected = true;
+        symbols.values().forEach(SymbolHealth::markDirty);
+    }
+
+    public void onFeedDisconnected(String reason) {
+        feedConnected = false;
+        disconnects.incrementAndGet();
+        recordConnectionError("피드 연결 종료: " + reason);
+    }
+
+    public void recordConnectionError(String message) {
+        String error = recordFeedError(message);
+        symbols.values().forEach(health -> health.recordError(error));
+    }
+
+    public String recordFeedError(String message) {
+        feedErrors.incrementAndGet();
+        String error = truncate(message);
+        lastFeedError = error;
+        return error;
+    }
+
+    public boolean subscribe(WebSocketSession session) {
+        subscribers.add(session);
+        return sessionBroadcaster.send(session, createMessage(summary(false)));
+    }
+
+    public void unsubscribe(WebSocketSession session) {
+        subscribers.remove(session);
+    }
+
+    @Scheduled(fixedDelayString = "${feed.health.check-interval-ms:1000}")
+    public void evaluate() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        marketOpen = marketTimeUtils.isMarketOpen();
+        if (realtimeCluster.isLeader()) {
+            for (SymbolHealth health : symbols.values()) {
+                if (health.evaluate(now, marketOpen, config)) {
+                    delayAlerts.incrementAndGet();
+                    log.warn("⏱️ 실시간 피드 지연 감지: 종목={}, 마지막수신={}ms 전, 기준={}ms",
+                            health.code, health.delayMillis, health.thresholdMillis);
+                }
+            }
+            publishLeaderHealth();
+        }
+
+        if (!subscribers.isEmpty()) {
+            List<WebSocketSession> deadSessions = new ArrayList<>();
+            sessionBroadcaster.sendLatest(subscribers, FEED_HEALTH_TOPIC,
+                    new TextMessage(createMessage(summary(false))), deadSessions);
+            deadSessions.forEach(subscribers::remove);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${feed.health.flush-interval-ms:10000}")
+    public void flush() {
+        if (!config.isEnabled() || !realtimeCluster.isLeader()) {
+            return;
+        }
+        List<StatusRow> rows = new ArrayList<>();
+        for (SymbolHealth health : symbols.values()) {
+            StatusRow row = health.drainDirty(feedConnected, marketOpen);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now(KOREA_ZONE);
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_STATUS_SQL, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, row.stockCode);
+                ps.setString(2, RealTimeDataStatus.DataType.TICK_DATA.name());
+                ps.setTimestamp(3, row.lastUpdateMillis > 0
+                        ? Timestamp.valueOf(toLocalDateTime(row.lastUpdateMillis)) : null);
+                ps.setBoolean(4, row.connected);
+                ps.setString(5, row.connectionStatus);
+                ps.setInt(6, row.errorCount);
+                ps.setString(7, row.lastErrorMessage);
+                ps.setInt(8, (int) Math.round(row.meanGapMillis / 1000.0));
+                ps.setTimestamp(9, row.expectedUpdateMillis > 0
+                        ? Timestamp.valueOf(toLocalDateTime(row.expectedUpdateMillis)) : null);
+                ps.setBoolean(10, row.delayed);
+                ps.setInt(11, (int) (row.delayMillis / 1000L));
+                ps.setTimestamp(12, Timestamp.valueOf(now));
+                ps.setTimestamp(13, Timestamp.valueOf(now));
+            });
+            flushedRows.addAndGet(rows.size());
+        } catch (Exception e) {
+            flushFailures.incrementAndGet();
+            rows.forEach(row -> {
+                SymbolHealth health = symbols.get(row.stockCode);
+                if (health != null) {
+                    health.markDirty();
+                }
+            });
+            log.warn("⚠️ 실시간 피드 상태 저장 실패: 건수={}, 에러={}", rows.size(), e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getHealth() {
+        return summary(true);
+    }
+
+    private void publishLeaderHealth() {
+        try {
+            realtimeCluster.broadcast(clusterConfig.healthChannel(), objectMapper.writeValueAsString(summary(true)));
+        } catch (Exception e) {
+            log.debug("피드 상태 클러스터 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onLeaderHealth(String payload) {
+        try {
+            leaderSummary = objectMapper.readValue(payload, LinkedHashMap.class);
+            leaderSummaryAt = System.currentTimeMillis();
+            remoteSummaries.incrementAndGet();
+        } catch (Exception e) {
+            log.debug("리더 피드 상태 해석 실패: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, Object> leaderSummary(boolean includeAll) {
+        Map<String, Object> remote = leaderSummary;
+        if (remote == null || System.currentTimeMillis() - leaderSummaryAt > clusterConfig.getLeaderLeaseMillis()) {
+            return null;
+        }
+        Map<String, Object> summary = new LinkedHashMap<>(remote);
+        if (!includeAll && summary.get("symbols") instanceof List<?> symbolStates) {
+            summary.put("symbols", symbolStates.stream()
+                    .filter(state -> state instanceof Map<?, ?> map && Boolean.TRUE.equals(map.get("delayed")))
+                    .toList());
+        }
+        summary.put("leaderSummaryAgeMillis", System.currentTimeMillis() - leaderSummaryAt);
+        return summary;
+    }
+
+    private Map<String, Object> summary(boolean includeAll) {
+        if (!realtimeCluster.isLeader()) {
+            Map<String, Object> remote = leaderSummary(includeAll);
+            if (remote != null) {
+                return remote;
+            }
+        }
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> symbolStates = new ArrayList<>();
+        int delayed = 0;
+        long worstDelayMillis = 0L;
+        for (SymbolHealth health : symbols.values()) {
+            Map<String, Object> state = health.describe(now);
+            if (Boolean.TRUE.equals(state.get("delayed"))) {
+                delayed++;
+                worstDelayMillis = Math.max(worstDelayMillis, (Long) state.get("delayMillis"));
+            }
+            if (includeAll || Boolean.TRUE.equals(state.get("delayed"))) {
+                symbolStates.add(state);
+            }
+        }
+        symbolStates.sort(Comparator.comparingLong(state -> -(Long) state.get("sinceLastTickMillis")));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("status", !feedConnected ? "DISCONNECTED" : !marketOpen ? "MARKET_CLOSED"
+                : delayed > 0 ? "DEGRADED" : "HEALTHY");
+        summary.put("connected", feedConnected);
+        summary.put("marketOpen", marketOpen);
+        summary.put("feedLagMillis", lastTickAt > 0 ? now - lastTickAt : null);
+        summary.put("trackedSymbols", symbols.size());
+        summary.put("delayedSymbols", delayed);
+        summary.put("worstDelayMillis", worstDelayMillis);
+        summary.put("ticks", ticks.get());
+        summary.put("feedErrors", feedErrors.get());
+        summary.put("lastFeedError", lastFeedError);
+        summary.put("disconnects", disconnects.get());
+        summary.put("delayAlerts", delayAlerts.get());
+        summary.put("flushedRows", flushedRows.get());
+        summary.put("flushFailures", flushFailures.get());
+        summary.put("remoteSummaries", remoteSummaries.get());
+        summary.put("symbols", symbolStates);
+        return summary;
+    }
+
+    private String createMessage(Map<String, Object> summary) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("type", FEED_HEALTH);
+            response.put("message", "실시간 피드 상태");
+            response.put("timestamp", System.currentTimeMillis());
+            response.put("data", summary);
+            return objectMapper.writeValueAsString(response);
+        } catch (Exception e) {
+            log.error("❌ 피드 상태 메시지 생성 실패", e);
+            return "{\"type\":\"ERROR\",\"message\":\"메시지 생성 실패\"}";
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), KOREA_ZONE);
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static final class SymbolHealth {
+        private final String code;
+        private final long trackedAt;
+        private long lastTickAt;
+        private long samples;
+        private double meanGap;
+        private double varianceGap;
+        private long maxGap;
+        private int errorCount;
+        private String lastError;
+        private boolean delayed;
+        private long delayMillis;
+        private long thresholdMillis;
+        private boolean dirty = true;
+
+        private SymbolHealth(String code, long trackedAt) {
+            this.code = code;
+            this.trackedAt = trackedAt;
+        }
+
+        private synchronized void onTick(long receivedAt, FeedHealthConfig config) {
+            if (lastTickAt > 0) {
+                long gap = receivedAt - lastTickAt;
+                if (gap >= 0 && gap <= config.getMaxDelayMillis()) {
+                    if (samples == 0) {
+                        meanGap = gap;
+                    } else {
+                        double diff = gap - meanGap;
+                        double alpha = config.getEwmaAlpha();
+                        meanGap += alpha * diff;
+                        varianceGap = (1 - alpha) * (varianceGap + alpha * diff * diff);
+                    }
+                    samples++;
+                    maxGap = Math.max(maxGap, gap);
+                }
+            }
+            if (receivedAt > lastTickAt) {
+                lastTickAt = receivedAt;
+            }
+            delayed = false;
+            delayMillis = 0L;
+            dirty = true;
+        }
+
+        private synchronized boolean evaluate(long now, boolean marketOpen, FeedHealthConfig config) {
+            thresholdMillis = samples >= config.getMinSamples()
+                    ? Math.max(config.getMinDelayMillis(), Math.min(config.getMaxDelayMillis(),
+                    (long) (meanGap + config.getSigmaMultiplier() * Math.sqrt(varianceGap))))
+                    : config.getMaxDelayMillis();
+            long since = now - (lastTickAt > 0 ? lastTickAt : trackedAt);
+            boolean nowDelayed = marketOpen && since > thresholdMillis;
+            boolean raised = nowDelayed && !delayed;
+            if (nowDelayed != delayed) {
+                dirty = true;
+            }
+            delayed = nowDelayed;
+            delayMillis = nowDelayed ? since : 0L;
+            return raised;
+        }
+
+        private synchronized void recordError(String message) {
+            errorCount++;
+            lastError = message;
+            dirty = true;
+        }
+
+        private synchronized void markDirty() {
+            dirty = true;
+        }
+
+        private synchronized StatusRow drainDirty(boolean connected, boolean marketOpen) {
+            if (!dirty) {
+                return null;
+            }
+            dirty = false;
+            String status = !connected ? "DISCONNECTED" : !marketOpen ? "MARKET_CLOSED" : delayed ? "DELAYED" : "OK";
+            long expected = lastTickAt > 0 && thresholdMillis > 0 ? lastTickAt + thresholdMillis : 0L;
+            return new StatusRow(code, lastTickAt, connected, status, errorCount, lastError, meanGap, expected,
+                    delayed, delayMillis);
+        }
+
+        private synchronized Map<String, Object> describe(long now) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("stockCode", code);
+            state.put("lastTickAt", lastTickAt > 0 ? lastTickAt : null);
+            state.put("sinceLastTickMillis", now - (lastTickAt > 0 ? lastTickAt : trackedAt));
+            state.put("samples", samples);
+            state.put("meanGapMillis", Math.round(meanGap));
+            state.put("stdDevGapMillis", Math.round(Math.sqrt(varianceGap)));
+            state.put("maxGapMillis", maxGap);
+            state.put("thresholdMillis", thresholdMillis);
+            state.put("delayed", delayed);
+            state.put("delayMillis", delayMillis);
+            state.put("errorCount", errorCount);
+            return state;
+        }
+    }
+
+    private record StatusRow(String stockCode, long lastUpdateMillis, boolean connected, String connectionStatus,
+                             int errorCount, String lastErrorMessage, double meanGapMillis,
+                             long expectedUpdateMillis, boolean delayed, long delayMillis) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.hanazoom.domain.stock.realtime;
+
+import java.util.function.Consumer;
+
+public class KisOrderBookParser {
+
+    public static final String ASKING_PRICE_TR_ID = "H0STASP0";
+    public static final int ASKING_PRICE_FIELD_COUNT = 59;
+
+    private static final char HEADER_DELIMITER = '|';
+    private static final char FIELD_DELIMITER = '^';
+
+    private static final int FIELD_STOCK_CODE = 0;
+    private static final int FIELD_QUOTE_TIME = 1;
+    private static final int FIELD_ASK_PRICE_START = 3;
+    private static final int FIELD_BID_PRICE_START = FIELD_ASK_PRICE_START + KisOrderBookRecord.DEPTH;
+    private static final int FIELD_ASK_QUANTITY_START = FIELD_BID_PRICE_START + KisOrderBookRecord.DEPTH;
+    private static final int FIELD_BID_QUANTITY_START = FIELD_ASK_QUANTITY_START + KisOrderBookRecord.DEPTH;
+    private static final int FIELD_TOTAL_ASK_QUANTITY = FIELD_BID_QUANTITY_START + KisOrderBookRecord.DEPTH;
+    private static final int FIELD_TOTAL_BID_QUANTITY = FIELD_TOTAL_ASK_QUANTITY + 1;
+    private static final int REQUIRED_FIELD_COUNT = FIELD_TOTAL_BID_QUANTITY + 1;
+
+    private final KisSymbolTable symbolTable = new KisSymbolTable();
+
+    public static boolean isAskingPriceFrame(String frame) {
+        return frame.length() > 11 && frame.charAt(0) == '0' && frame.charAt(1) == HEADER_DELIMITER
+                && frame.startsWith(ASKING_PRICE_TR_ID, 2) && frame.charAt(10) == HEADER_DELIMITER;
+    }
+
+    public int parse(String frame, KisOrderBookRecord record, Consumer<KisOrderBookRecord> consumer) {
+        if (!isAskingPriceFrame(frame)) {
+            return 0;
+        }
+
+        int countEnd = frame.indexOf(HEADER_DELIMITER, 11);
+        if (countEnd < 0) {
+            return 0;
+        }
+
+        int recordCount = (int) KisTickParser.parseLong(frame, 11, countEnd);
+        int end = frame.length();
+        int position = countEnd + 1;
+        int parsed = 0;
+
+        for (int recordIndex = 0; recordIndex < Math.max(recordCount, 1) && position < end; recordIndex++) {
+            record.reset();
+            int field = 0;
+
+            while (field < ASKING_PRICE_FIELD_COUNT && position <= end) {
+                int fieldEnd = frame.indexOf(FIELD_DELIMITER, position);
+                if (fieldEnd < 0) {
+                    fieldEnd = end;
+                }
+                if (field < REQUIRED_FIELD_COUNT) {
+                    readField(frame, field, position, fieldEnd, record);
+                }
+                field++;
+                position = fieldEnd + 1;
+                if (fieldEnd == end) {
+                    break;
+                }
+            }
+
+            if (field < REQUIRED_FIELD_COUNT || record.getStockCode() == null) {
+                break;
+            }
+
+            consumer.accept(record);
+            parsed++;
+        }
+
+        return parsed;
+    }
+
+    private void readField(String frame, int field, int start, int end, KisOrderBookRecord record) {
+        if (field == FIELD_STOCK_CODE) {
+            record.setStockCode(symbolTable.intern(frame, start, end));
+        } else if (field == FIELD_QUOTE_TIME) {
+            record.setQuoteTime((int) KisTickParser.parseLong(frame, start, end));
+        } else if (field >= FIELD_ASK_PRICE_START && field < FIELD_BID_PRICE_START) {
+            record.getAskPrices()[field - FIELD_ASK_PRICE_START] = KisTickParser.parseLong(frame, start, end);
+        } else if (field >= FIELD_BID_PRICE_START && field < FIELD_ASK_QUANTITY_START) {
+            record.getBidPrices()[field - FIELD_BID_PRICE_START] = KisTickParser.parseLong(frame, start, end);
+        } else if (field >= FIELD_ASK_QUANTITY_START && field < FIELD_BID_QUANTITY_START) {
+            record.getAskQuantities()[field - FIELD_ASK_QUANTITY_START] = KisTickParser.parseLong(frame, start, end);
+        } else if (field >= FIELD_BID_QUANTITY_START && field < FIELD_TOTAL_ASK_QUANTITY) {
+            record.getBidQuantities()[field - FIELD_BID_QUANTITY_START] = KisTickParser.parseLong(frame, start, end);
+        } else if (field == FIELD_TOTAL_ASK_QUANTITY) {
+            record.setTotalAskQuantity(KisTickParser.parseLong(frame, start, end));
+        } else if (field == FIELD_TOTAL_BID_QUANTITY) {
+            record.setTotalBidQuantity(KisTickParser.parseLong(frame, start, end));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.hanazoom.domain.stock.realtime;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+@Getter
+@Setter(AccessLevel.PACKAGE)
+public class KisOrderBookRecord {
+
+    public static final int DEPTH = 10;
+
+    private String stockCode;
+    private int quoteTime;
+    private final long[] askPrices = new long[DEPTH];
+    private final long[] bidPrices = new long[DEPTH];
+    private final long[] askQuantities = new long[DEPTH];
+    private final long[] bidQuantities = new long[DEPTH];
+    private long totalAskQuantity;
+    private long totalBidQuantity;
+
+    void reset() {
+        stockCode = null;
+        quoteTime = 0;
+        Arrays.fill(askPrices, 0L);
+        Arrays.fill(bidPrices, 0L);
+        Arrays.fill(askQuantities, 0L);
+        Arrays.fill(bidQuantities, 0L);
+        totalAskQuantity = 0L;
+        totalBidQuantity = 0L;
+    }
+}
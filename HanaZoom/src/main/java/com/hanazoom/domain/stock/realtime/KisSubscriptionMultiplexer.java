@@ -0,0 +1,369 @@
+package com.hanazoom.domain.stock.realtime;
+
+import com.hanazoom.global.config.KisSubscriptionConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class KisSubscriptionMultiplexer {
+
+    public enum State {
+        ACTIVE,
+        QUEUED
+    }
+
+    @FunctionalInterface
+    public interface Upstream {
+        boolean send(String stockCode, boolean subscribe);
+    }
+
+    private final KisSubscriptionConfig config;
+    private final ExecutorService sender;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final LinkedHashSet<String> pending = new LinkedHashSet<>();
+    private final Map<String, RemoteInterest> remoteInterest = new HashMap<>();
+    private int registeredCount;
+    private volatile Upstream upstream;
+    private volatile Runnable interestListener = () -> { };
+
+    private final AtomicLong subscribesSent = new AtomicLong();
+    private final AtomicLong unsubscribesSent = new AtomicLong();
+    private final AtomicLong sendFailures = new AtomicLong();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong promoted = new AtomicLong();
+    private final AtomicLong evictedIdle = new AtomicLong();
+    private final AtomicLong evictedActive = new AtomicLong();
+    private final AtomicLong restores = new AtomicLong();
+
+    public KisSubscriptionMultiplexer(KisSubscriptionConfig config) {
+        this.config = config;
+        this.sender = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kis-subscription");
+            thread.setDaemon(true);
+            return thread;
+        });
+        config.getPinnedSymbols().forEach(this::pin);
+    }
+
+    public void pin(String stockCode) {
+        synchronized (this) {
+            Entry entry = entries.computeIfAbsent(stockCode, Entry::new);
+            if (entry.pinned) {
+                return;
+            }
+            entry.pinned = true;
+            entry.refCount++;
+            entry.lastWatchedAt = System.currentTimeMillis();
+            admit(entry);
+        }
+    }
+
+    public State acquire(String stockCode) {
+        State state;
+        boolean interestChanged;
+        synchronized (this) {
+            Entry entry = retain(stockCode);
+            interestChanged = entry.localRefs() == 1;
+            state = admit(entry);
+        }
+        if (interestChanged) {
+            interestListener.run();
+        }
+        return state;
+    }
+
+    public void release(String stockCode) {
+        boolean interestChanged;
+        synchronized (this) {
+            Entry entry = entries.get(stockCode);
+            if (entry == null || entry.localRefs() == 0) {
+                return;
+            }
+            unretain(entry);
+            interestChanged = entry.localRefs() == 0;
+        }
+        if (interestChanged) {
+            interestListener.run();
+        }
+    }
+
+    public void setInterestListener(Runnable listener) {
+        this.interestListener = listener;
+    }
+
+    public synchronized Set<String> localInterest() {
+        Set<String> codes = new HashSet<>();
+        entries.values().forEach(entry -> {
+            if (entry.localRefs() > 0) {
+                codes.add(entry.code);
+            }
+        });
+        return codes;
+    }
+
+    public synchronized void updateRemoteInterest(String nodeId, Set<String> codes) {
+        RemoteInterest remote = remoteInterest.computeIfAbsent(nodeId, id -> new RemoteInterest());
+        remote.seenAt = System.currentTimeMillis();
+        for (Iterator<String> iterator = remote.codes.iterator(); iterator.hasNext(); ) {
+            String code = iterator.next();
+            if (!codes.contains(code)) {
+                iterator.remove();
+                releaseRemote(code);
+            }
+        }
+        for (String code : codes) {
+            if (remote.codes.add(code)) {
+                Entry entry = retain(code);
+                entry.remoteRefs++;
+                admit(entry);
+            }
+        }
+    }
+
+    public synchronized int expireRemoteInterest(long seenBefore) {
+        int expired = 0;
+        for (Iterator<RemoteInterest> iterator = remoteInterest.values().iterator(); iterator.hasNext(); ) {
+            RemoteInterest remote = iterator.next();
+            if (remote.seenAt < seenBefore) {
+                iterator.remove();
+                remote.codes.forEach(this::releaseRemote);
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    public synchronized void clearRemoteInterest() {
+        remoteInterest.values().forEach(remote -> remote.codes.forEach(this::releaseRemote));
+        remoteInterest.clear();
+    }
+
+    public void onConnected(Upstream connected) {
+        synchronized (this) {
+            upstream = connected;
+            restores.incrementAndGet();
+            List<String> codes = new ArrayList<>();
+            entries.values().forEach(entry -> {
+                if (entry.registered) {
+                    codes.add(entry.code);
+                }
+            });
+            codes.forEach(code -> enqueueSend(code, true));
+            log.info("🔁 KIS 실시간 구독 복원: 종목={}개, 대기={}개", codes.size(), pending.size());
+        }
+    }
+
+    public void onDisconnected() {
+        upstream = null;
+    }
+
+    @Scheduled(fixedDelayString = "${kis.subscription.sweep-interval-ms:5000}")
+    public void sweepIdle() {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+                Entry entry = iterator.next();
+                if (entry.registered && entry.refCount == 0 && now - entry.idleSince >= config.getIdleGraceMillis()) {
+                    iterator.remove();
+                    registeredCount--;
+                    enqueueSend(entry.code, false);
+                    log.debug("🔕 유휴 종목 KIS 구독 해제: {}", entry.code);
+                }
+            }
+            promotePending();
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        synchronized (this) {
+            int idle = 0;
+            for (Entry entry : entries.values()) {
+                if (entry.registered && entry.refCount == 0) {
+                    idle++;
+                }
+            }
+            metrics.put("capacity", config.maxSymbols());
+            metrics.put("registered", registeredCount);
+            metrics.put("idle", idle);
+            metrics.put("pending", pending.size());
+            metrics.put("pendingSymbols", new ArrayList<>(pending));
+            metrics.put("remoteNodes", remoteInterest.size());
+        }
+        metrics.put("connected", upstream != null);
+        metrics.put("subscribesSent", subscribesSent.get());
+        metrics.put("unsubscribesSent", unsubscribesSent.get());
+        metrics.put("sendFailures", sendFailures.get());
+        metrics.put("queued", queued.get());
+        metrics.put("promoted", promoted.get());
+        metrics.put("evictedIdle", evictedIdle.get());
+        metrics.put("evictedActive", evictedActive.get());
+        metrics.put("restores", restores.get());
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private Entry retain(String stockCode) {
+        Entry entry = entries.computeIfAbsent(stockCode, Entry::new);
+        entry.refCount++;
+        entry.lastWatchedAt = System.currentTimeMillis();
+        entry.idleSince = 0L;
+        return entry;
+    }
+
+    private void releaseRemote(String stockCode) {
+        Entry entry = entries.get(stockCode);
+        if (entry == null || entry.remoteRefs == 0) {
+            return;
+        }
+        entry.remoteRefs--;
+        unretain(entry);
+    }
+
+    private void unretain(Entry entry) {
+        entry.refCount--;
+        if (entry.refCount > 0) {
+            return;
+        }
+        if (entry.registered) {
+            entry.idleSince = System.currentTimeMillis();
+        } else {
+            pending.remove(entry.code);
+            entries.remove(entry.code);
+        }
+    }
+
+    private State admit(Entry entry) {
+        if (entry.registered) {
+            return State.ACTIVE;
+        }
+        if (pending.contains(entry.code)) {
+            return State.QUEUED;
+        }
+        if (registeredCount < config.maxSymbols() || evictIdle() || evictLeastRecentlyWatched(entry)) {
+            register(entry);
+            return State.ACTIVE;
+        }
+        pending.add(entry.code);
+        queued.incrementAndGet();
+        log.info("⏳ KIS 구독 한도 도달 - 대기열 등록: 종목={}, 한도={}", entry.code, config.maxSymbols());
+        return State.QUEUED;
+    }
+
+    private void register(Entry entry) {
+        entry.registered = true;
+        registeredCount++;
+        enqueueSend(entry.code, true);
+    }
+
+    private boolean evictIdle() {
+        Entry oldest = null;
+        for (Entry entry : entries.values()) {
+            if (entry.registered && entry.refCount == 0 && (oldest == null || entry.idleSince < oldest.idleSince)) {
+                oldest = entry;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+        entries.remove(oldest.code);
+        registeredCount--;
+        evictedIdle.incrementAndGet();
+        enqueueSend(oldest.code, false);
+        return true;
+    }
+
+    private boolean evictLeastRecentlyWatched(Entry candidate) {
+        if (config.getOverflowPolicy() != KisSubscriptionConfig.OverflowPolicy.EVICT_LRU) {
+            return false;
+        }
+        Entry oldest = null;
+        for (Entry entry : entries.values()) {
+            if (entry.registered && !entry.pinned && entry != candidate
+                    && (oldest == null || entry.lastWatchedAt < oldest.lastWatchedAt)) {
+                oldest = entry;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+        oldest.registered = false;
+        registeredCount--;
+        pending.add(oldest.code);
+        evictedActive.incrementAndGet();
+        enqueueSend(oldest.code, false);
+        log.info("♻️ KIS 구독 한도 초과 - 최근 조회가 가장 오래된 종목 대기열로 이동: {}", oldest.code);
+        return true;
+    }
+
+    private void promotePending() {
+        for (Iterator<String> iterator = pending.iterator();
+             iterator.hasNext() && registeredCount < config.maxSymbols(); ) {
+            Entry entry = entries.get(iterator.next());
+            iterator.remove();
+            if (entry == null || entry.refCount == 0) {
+                continue;
+            }
+            register(entry);
+            promoted.incrementAndGet();
+        }
+    }
+
+    private void enqueueSend(String stockCode, boolean subscribe) {
+        sender.execute(() -> {
+            Upstream current = upstream;
+            if (current == null) {
+                return;
+            }
+            if (!current.send(stockCode, subscribe)) {
+                sendFailures.incrementAndGet();
+                return;
+            }
+            (subscribe ? subscribesSent : unsubscribesSent).incrementAndGet();
+        });
+    }
+
+    private static final class Entry {
+        private final String code;
+        private int refCount;
+        private int remoteRefs;
+        private boolean registered;
+        private boolean pinned;
+        private long lastWatchedAt;
+        private long idleSince;
+
+        private Entry(String code) {
+            this.code = code;
+        }
+
+        private int localRefs() {
+            return refCount - remoteRefs;
+        }
+    }
+
+    private static final class RemoteInterest {
+        private final Set<String> codes = new HashSet<>();
+        private long seenAt;
+    }
+}
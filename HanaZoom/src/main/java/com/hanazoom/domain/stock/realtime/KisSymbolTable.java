@@ -0,0 +1,45 @@
+package com.hanazoom.domain.stock.realtime;
+
+class KisSymbolTable {
+
+    private static final int TABLE_SIZE = 4096;
+
+    private final String[] table = new String[TABLE_SIZE];
+    private int size;
+
+    String intern(String source, int start, int end) {
+        while (start < end && source.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+
+        int mask = TABLE_SIZE - 1;
+        int slot = hash & mask;
+        for (int probe = 0; probe < TABLE_SIZE; probe++) {
+            String candidate = table[slot];
+            if (candidate == null) {
+                String symbol = source.substring(start, end);
+                if (size < TABLE_SIZE * 3 / 4) {
+                    table[slot] = symbol;
+                    size++;
+                }
+                return symbol;
+            }
+            if (candidate.length() == end - start && source.regionMatches(start, candidate, 0, end - start)) {
+                return candidate;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return source.substring(start, end);
+    }
+}
@@ -0,0 +1,174 @@
+package com.hanazoom.domain.stock.realtime;
+
+import java.util.function.Consumer;
+
+public class KisTickParser {
+
+    public static final String TRADE_TR_ID = "H0STCNT0";
+    public static final int TRADE_FIELD_COUNT = 46;
+
+    private static final char HEADER_DELIMITER = '|';
+    private static final char FIELD_DELIMITER = '^';
+
+    private static final int FIELD_STOCK_CODE = 0;
+    private static final int FIELD_TRADE_TIME = 1;
+    private static final int FIELD_CURRENT_PRICE = 2;
+    private static final int FIELD_CHANGE_SIGN = 3;
+    private static final int FIELD_CHANGE_PRICE = 4;
+    private static final int FIELD_CHANGE_RATE = 5;
+    private static final int FIELD_OPEN_PRICE = 7;
+    private static final int FIELD_HIGH_PRICE = 8;
+    private static final int FIELD_LOW_PRICE = 9;
+    private static final int FIELD_ASK_PRICE = 10;
+    private static final int FIELD_BID_PRICE = 11;
+    private static final int FIELD_TRADE_VOLUME = 12;
+    private static final int FIELD_CUMULATIVE_VOLUME = 13;
+    private static final int REQUIRED_FIELD_COUNT = FIELD_CUMULATIVE_VOLUME + 1;
+
+    private final KisSymbolTable symbolTable = new KisSymbolTable();
+
+    public static boolean isTradeFrame(String frame) {
+        return frame.length() > 11 && frame.charAt(0) == '0' && frame.charAt(1) == HEADER_DELIMITER
+                && frame.startsWith(TRADE_TR_ID, 2) && frame.charAt(10) == HEADER_DELIMITER;
+    }
+
+    public int parse(String frame, KisTickRecord record, Consumer<KisTickRecord> consumer) {
+        if (!isTradeFrame(frame)) {
+            return 0;
+        }
+
+        int countEnd = frame.indexOf(HEADER_DELIMITER, 11);
+        if (countEnd < 0) {
+            return 0;
+        }
+
+        int recordCount = (int) parseLong(frame, 11, countEnd);
+        int end = frame.length();
+        int position = countEnd + 1;
+        int parsed = 0;
+
+        for (int recordIndex = 0; recordIndex < Math.max(recordCount, 1) && position < end; recordIndex++) {
+            record.reset();
+            int field = 0;
+
+            while (field < TRADE_FIELD_COUNT && position <= end) {
+                int fieldEnd = frame.indexOf(FIELD_DELIMITER, position);
+                if (fieldEnd < 0) {
+                    fieldEnd = end;
+                }
+                if (field < REQUIRED_FIELD_COUNT) {
+                    readField(frame, field, position, fieldEnd, record);
+                }
+                field++;
+                position = fieldEnd + 1;
+                if (fieldEnd == end) {
+                    break;
+                }
+            }
+
+            if (field < REQUIRED_FIELD_COUNT || record.getStockCode() == null) {
+                break;
+            }
+
+            consumer.accept(record);
+            parsed++;
+        }
+
+        return parsed;
+    }
+
+    private void readField(String frame, int field, int start, int end, KisTickRecord record) {
+        switch (field) {
+            case FIELD_STOCK_CODE:
+                record.setStockCode(symbolTable.intern(frame, start, end));
+                break;
+            case FIELD_TRADE_TIME:
+                record.setTradeTime((int) parseLong(frame, start, end));
+                break;
+            case FIELD_CURRENT_PRICE:
+                record.setCurrentPrice(parseLong(frame, start, end));
+                break;
+            case FIELD_CHANGE_SIGN:
+                record.setChangeSign(firstNonBlank(frame, start, end, '3'));
+                break;
+            case FIELD_CHANGE_PRICE:
+                record.setChangePrice(parseLong(frame, start, end));
+                break;
+            case FIELD_CHANGE_RATE:
+                record.setChangeRateBps(parseBasisPoints(frame, start, end));
+                break;
+            case FIELD_OPEN_PRICE:
+                record.setOpenPrice(parseLong(frame, start, end));
+                break;
+            case FIELD_HIGH_PRICE:
+                record.setHighPrice(parseLong(frame, start, end));
+                break;
+            case FIELD_LOW_PRICE:
+                record.setLowPrice(parseLong(frame, start, end));
+                break;
+            case FIELD_ASK_PRICE:
+                record.setAskPrice(parseLong(frame, start, end));
+                break;
+            case FIELD_BID_PRICE:
+                record.setBidPrice(parseLong(frame, start, end));
+                break;
+            case FIELD_TRADE_VOLUME:
+                record.setTradeVolume(parseLong(frame, start, end));
+                break;
+            case FIELD_CUMULATIVE_VOLUME:
+                record.setCumulativeVolume(parseLong(frame, start, end));
+                break;
+            default:
+                break;
+        }
+    }
+
+    static long parseLong(String source, int start, int end) {
+        long value = 0L;
+        boolean negative = false;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+            } else if (c == '-') {
+                negative = true;
+            } else if (c == '.') {
+                break;
+            }
+        }
+        return negative ? -value : value;
+    }
+
+    static int parseBasisPoints(String source, int start, int end) {
+        long value = 0L;
+        int fractionDigits = -1;
+        boolean negative = false;
+        for (int i = start; i < end && fractionDigits < 2; i++) {
+            char c = source.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '-') {
+                negative = true;
+            } else if (c == '.') {
+                fractionDigits = 0;
+            }
+        }
+        for (int digits = Math.max(fractionDigits, 0); digits < 2; digits++) {
+            value *= 10;
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    static char firstNonBlank(String source, int start, int end, char fallback) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c != ' ') {
+                return c;
+            }
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,44 @@
+package com.hanazoom.domain.stock.realtime;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter(AccessLevel.PACKAGE)
+public class KisTickRecord {
+
+    private String stockCode;
+    private int tradeTime;
+    private long currentPrice;
+    private char changeSign;
+    private long changePrice;
+    private int changeRateBps;
+    private long openPrice;
+    private long highPrice;
+    private long lowPrice;
+    private long askPrice;
+    private long bidPrice;
+    private long tradeVolume;
+    private long cumulativeVolume;
+
+    public long getPreviousClose() {
+        return currentPrice - changePrice;
+    }
+
+    void reset() {
+        stockCode = null;
+        tradeTime = 0;
+        currentPrice = 0L;
+        changeSign = '3';
+        changePrice = 0L;
+        changeRateBps = 0;
+        openPrice = 0L;
+        highPrice = 0L;
+        lowPrice = 0L;
+        askPrice = 0L;
+        bidPrice = 0L;
+        tradeVolume = 0L;
+        cumulativeVolume = 0L;
+    }
+}
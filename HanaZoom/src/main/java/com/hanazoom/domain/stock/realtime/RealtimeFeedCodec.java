@@ -0,0 +1,154 @@
+package com.hanazoom.domain.stock.realtime;
+
+public final class RealtimeFeedCodec {
+
+    public static final char TICK = 'T';
+    public static final char ORDER_BOOK = 'B';
+
+    private static final char DELIMITER = '|';
+
+    private RealtimeFeedCodec() {
+    }
+
+    public static String encodeTick(String origin, StockTick tick) {
+        StringBuilder builder = new StringBuilder(160).append(TICK).append(DELIMITER).append(origin);
+        append(builder, tick.getStockCode());
+        append(builder, tick.getTradeTime());
+        append(builder, tick.getCurrentPrice());
+        append(builder, String.valueOf(tick.getChangeSign()));
+        append(builder, tick.getChangePrice());
+        append(builder, tick.getChangeRateBps());
+        append(builder, tick.getOpenPrice());
+        append(builder, tick.getHighPrice());
+        append(builder, tick.getLowPrice());
+        append(builder, tick.getPreviousClose());
+        append(builder, tick.getBidPrice());
+        append(builder, tick.getAskPrice());
+        append(builder, tick.getVolume());
+        append(builder, tick.getTradeVolume());
+        append(builder, tick.getReceivedAt());
+        return builder.toString();
+    }
+
+    public static String encodeOrderBook(String origin, KisOrderBookRecord record) {
+        StringBuilder builder = new StringBuilder(512).append(ORDER_BOOK).append(DELIMITER).append(origin);
+        append(builder, record.getStockCode());
+        append(builder, record.getQuoteTime());
+        append(builder, record.getTotalAskQuantity());
+        append(builder, record.getTotalBidQuantity());
+        appendAll(builder, record.getAskPrices());
+        appendAll(builder, record.getBidPrices());
+        appendAll(builder, record.getAskQuantities());
+        appendAll(builder, record.getBidQuantities());
+        return builder.toString();
+    }
+
+    public static char typeOf(String payload) {
+        return payload.isEmpty() ? 0 : payload.charAt(0);
+    }
+
+    public static String originOf(String payload) {
+        int start = payload.indexOf(DELIMITER) + 1;
+        int end = payload.indexOf(DELIMITER, start);
+        if (start <= 0 || end < 0) {
+            throw new IllegalArgumentException("잘못된 실시간 피드 메시지");
+        }
+        return payload.substring(start, end);
+    }
+
+    public static StockTick decodeTick(String payload) {
+        Cursor cursor = new Cursor(payload, TICK);
+        return new StockTick(
+                cursor.nextString(),
+                (int) cursor.nextLong(),
+                cursor.nextLong(),
+                cursor.nextString().charAt(0),
+                cursor.nextLong(),
+                (int) cursor.nextLong(),
+                cursor.nextLong(),
+                cursor.nextLong(),
+                cursor.nextLong(),
+                cursor.nextLong(),
+                cursor.nextLong(),
+                cursor.nextLong(),
+                cursor.nextLong(),
+                cursor.nextLong(),
+                cursor.nextLong());
+    }
+
+    public static KisOrderBookRecord decodeOrderBook(String payload) {
+        Cursor cursor = new Cursor(payload, ORDER_BOOK);
+        KisOrderBookRecord record = new KisOrderBookRecord();
+        record.setStockCode(cursor.nextString());
+        record.setQuoteTime((int) cursor.nextLong());
+        record.setTotalAskQuantity(cursor.nextLong());
+        record.setTotalBidQuantity(cursor.nextLong());
+        cursor.fill(record.getAskPrices());
+        cursor.fill(record.getBidPrices());
+        cursor.fill(record.getAskQuantities());
+        cursor.fill(record.getBidQuantities());
+        return record;
+    }
+
+    private static void append(StringBuilder builder, String value) {
+        builder.append(DELIMITER).append(value);
+    }
+
+    private static void append(StringBuilder builder, long value) {
+        builder.append(DELIMITER).append(value);
+    }
+
+    private static void appendAll(StringBuilder builder, long[] values) {
+        for (long value : values) {
+            builder.append(DELIMITER).append(value);
+        }
+    }
+
+    private static final class Cursor {
+        private final String payload;
+        private int position;
+
+        private Cursor(String payload, char expectedType) {
+            if (typeOf(payload) != expectedType) {
+                throw new IllegalArgumentException("실시간 피드 메시지 유형 불일치: " + typeOf(payload));
+            }
+            this.payload = payload;
+            this.position = payload.indexOf(DELIMITER, payload.indexOf(DELIMITER) + 1) + 1;
+            if (position <= 0) {
+                throw new IllegalArgumentException("잘못된 실시간 피드 메시지");
+            }
+        }
+
+        private String nextString() {
+            int end = payload.indexOf(DELIMITER, position);
+            if (end < 0) {
+                end = payload.length();
+            }
+            if (end <= position) {
+                throw new IllegalArgumentException("실시간 피드 필드 누락: 위치=" + position);
+            }
+            String value = payload.substring(position, end);
+            position = end + 1;
+            return value;
+        }
+
+        private long nextLong() {
+            int end = payload.indexOf(DELIMITER, position);
+            if (end < 0) {
+                end = payload.length();
+            }
+            if (end <= position) {
+                throw new IllegalArgumentException("실시간 피드 필드 누락: 위치=" + position);
+            }
+            long value = Long.parseLong(payload, position, end, 10);
+            position = end + 1;
+            return value;
+        }
+
+        private void fill(long[] target) {
+            for (int i = 0; i < target.length; i++) {
+                target[i] = nextLong();
+            }
+        }
+    }
+}
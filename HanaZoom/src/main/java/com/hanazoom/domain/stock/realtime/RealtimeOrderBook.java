@@ -0,0 +1,155 @@
+package com.hanazoom.domain.stock.realtime;
+
+import com.hanazoom.domain.stock.dto.OrderBookItem;
+import com.hanazoom.domain.stock.dto.OrderBookResponse;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class RealtimeOrderBook {
+
+    public static final int DEPTH = KisOrderBookRecord.DEPTH;
+
+    @Getter
+    private final String stockCode;
+    private final long[] askPrices = new long[DEPTH];
+    private final long[] bidPrices = new long[DEPTH];
+    private final long[] askQuantities = new long[DEPTH];
+    private final long[] bidQuantities = new long[DEPTH];
+    private long totalAskQuantity;
+    private long totalBidQuantity;
+    private int quoteTime;
+    private long updatedAt;
+    private long version;
+    private boolean realtime;
+
+    private long cachedVersion = -1L;
+    private List<OrderBookItem> cachedAskOrders = Collections.emptyList();
+    private List<OrderBookItem> cachedBidOrders = Collections.emptyList();
+
+    public RealtimeOrderBook(String stockCode) {
+        this.stockCode = stockCode;
+    }
+
+    public synchronized int apply(KisOrderBookRecord record, long receivedAt) {
+        int changedLevels = 0;
+        for (int level = 0; level < DEPTH; level++) {
+            if (askPrices[level] != record.getAskPrices()[level]
+                    || askQuantities[level] != record.getAskQuantities()[level]) {
+                askPrices[level] = record.getAskPrices()[level];
+                askQuantities[level] = record.getAskQuantities()[level];
+                changedLevels++;
+            }
+            if (bidPrices[level] != record.getBidPrices()[level]
+                    || bidQuantities[level] != record.getBidQuantities()[level]) {
+                bidPrices[level] = record.getBidPrices()[level];
+                bidQuantities[level] = record.getBidQuantities()[level];
+                changedLevels++;
+            }
+        }
+
+        if (changedLevels > 0 || totalAskQuantity != record.getTotalAskQuantity()
+                || totalBidQuantity != record.getTotalBidQuantity()) {
+            totalAskQuantity = record.getTotalAskQuantity();
+            totalBidQuantity = record.getTotalBidQuantity();
+            version++;
+        }
+        quoteTime = record.getQuoteTime();
+        updatedAt = receivedAt;
+        realtime = true;
+        return changedLevels;
+    }
+
+    public synchronized boolean applySnapshot(OrderBookResponse snapshot, long receivedAt) {
+        if (realtime || snapshot == null || snapshot.getAskOrders() == null || snapshot.getBidOrders() == null) {
+            return false;
+        }
+
+        for (int level = 0; level < DEPTH; level++) {
+            OrderBookItem ask = level < snapshot.getAskOrders().size() ? snapshot.getAskOrders().get(level) : null;
+            OrderBookItem bid = level < snapshot.getBidOrders().size() ? snapshot.getBidOrders().get(level) : null;
+            askPrices[level] = ask != null ? ask.getPriceAsLong() : 0L;
+            askQuantities[level] = ask != null ? ask.getQuantityAsLong() : 0L;
+            bidPrices[level] = bid != null ? bid.getPriceAsLong() : 0L;
+            bidQuantities[level] = bid != null ? bid.getQuantityAsLong() : 0L;
+        }
+        totalAskQuantity = parseQuantity(snapshot.getTotalAskQuantity());
+        totalBidQuantity = parseQuantity(snapshot.getTotalBidQuantity());
+        updatedAt = receivedAt;
+        version++;
+        return true;
+    }
+
+    public synchronized boolean isRealtime() {
+        return realtime;
+    }
+
+    public synchronized boolean hasLevels() {
+        return askPrices[0] > 0 || bidPrices[0] > 0;
+    }
+
+    public synchronized long getBestAskPrice() {
+        return askPrices[0];
+    }
+
+    public synchronized long getBestBidPrice() {
+        return bidPrices[0];
+    }
+
+    public synchronized long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    public synchronized OrderBookResponse toResponse(String stockName, String currentPrice) {
+        if (cachedVersion != version) {
+            cachedAskOrders = toItems(askPrices, askQuantities, "매도");
+            cachedBidOrders = toItems(bidPrices, bidQuantities, "매수");
+            cachedVersion = version;
+        }
+
+        return OrderBookResponse.builder()
+                .stockCode(stockCode)
+                .stockName(stockName)
+                .currentPrice(currentPrice)
+                .updatedTime(String.valueOf(quoteTime))
+                .askOrders(cachedAskOrders)
+                .bidOrders(cachedBidOrders)
+                .totalAskQuantity(String.valueOf(totalAskQuantity))
+                .totalBidQuantity(String.valueOf(totalBidQuantity))
+                .build();
+    }
+
+    private static List<OrderBookItem> toItems(long[] prices, long[] quantities, String orderType) {
+        List<OrderBookItem> items = new ArrayList<>(DEPTH);
+        for (int level = 0; level < DEPTH; level++) {
+            if (prices[level] <= 0) {
+                continue;
+            }
+            items.add(OrderBookItem.builder()
+                    .price(String.valueOf(prices[level]))
+                    .quantity(String.valueOf(quantities[level]))
+                    .orderCount(String.valueOf(level + 1))
+                    .orderType(orderType)
+                    .rank(level + 1)
+                    .build());
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private static long parseQuantity(String quantity) {
+        if (quantity == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(quantity.replaceAll("[^0-9]", ""));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
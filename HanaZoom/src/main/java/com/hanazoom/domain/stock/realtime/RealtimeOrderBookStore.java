@@ -0,0 +1,60 @@
+package com.hanazoom.domain.stock.realtime;
+
+import com.hanazoom.domain.stock.dto.OrderBookResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class RealtimeOrderBookStore {
+
+    private static final long COLD_START_RETRY_MILLIS = 30_000L;
+
+    private final Map<String, RealtimeOrderBook> books = new ConcurrentHashMap<>();
+    private final Map<String, Long> coldStartAttempts = new ConcurrentHashMap<>();
+
+    public void update(KisOrderBookRecord record) {
+        RealtimeOrderBook book = books.get(record.getStockCode());
+        if (book == null) {
+            book = books.computeIfAbsent(record.getStockCode(), RealtimeOrderBook::new);
+        }
+        book.apply(record, System.currentTimeMillis());
+    }
+
+    public RealtimeOrderBook get(String stockCode) {
+        RealtimeOrderBook book = books.get(stockCode);
+        return book != null && book.hasLevels() ? book : null;
+    }
+
+    public boolean seed(String stockCode, OrderBookResponse snapshot) {
+        RealtimeOrderBook book = books.computeIfAbsent(stockCode, RealtimeOrderBook::new);
+        boolean applied = book.applySnapshot(snapshot, System.currentTimeMillis());
+        if (applied) {
+            log.info("📘 호가창 초기 스냅샷 적용: 종목={}", stockCode);
+        }
+        return applied;
+    }
+
+    public boolean tryBeginColdStart(String stockCode) {
+        long now = System.currentTimeMillis();
+        Long previous = coldStartAttempts.get(stockCode);
+        if (previous != null && now - previous < COLD_START_RETRY_MILLIS) {
+            return false;
+        }
+        if (previous == null) {
+            return coldStartAttempts.putIfAbsent(stockCode, now) == null;
+        }
+        return coldStartAttempts.replace(stockCode, previous, now);
+    }
+
+    public int size() {
+        return books.size();
+    }
+
+    public long realtimeBookCount() {
+        return books.values().stream().filter(RealtimeOrderBook::isRealtime).count();
+    }
+}
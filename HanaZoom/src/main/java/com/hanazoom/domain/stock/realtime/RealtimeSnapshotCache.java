@@ -0,0 +1,175 @@
+package com.hanazoom.domain.stock.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanazoom.domain.stock.cluster.RealtimeClusterCoordinator;
+import com.hanazoom.domain.stock.dto.OrderBookResponse;
+import com.hanazoom.domain.stock.dto.StockPriceResponse;
+import com.hanazoom.global.service.RedisHealthMonitor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RealtimeSnapshotCache {
+
+    public static final String REALTIME_KEY_PREFIX = "stock:realtime:";
+    public static final String CLOSING_KEY_PREFIX = "stock:closing:";
+    public static final String ORDER_BOOK_KEY_PREFIX = "orderbook:";
+    public static final String CUMULATIVE_VOLUME_KEY = "stock:cumulative_volume";
+
+    private static final Expiration ORDER_BOOK_TTL = Expiration.from(Duration.ofSeconds(1));
+    private static final byte[] CUMULATIVE_VOLUME_KEY_BYTES = bytes(CUMULATIVE_VOLUME_KEY);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final RealtimeClusterCoordinator realtimeCluster;
+
+    private final Map<String, StockPriceResponse> latestBySymbol = new ConcurrentHashMap<>();
+    private final Map<String, Long> receivedAtBySymbol = new ConcurrentHashMap<>();
+    private final Set<String> dirtySymbols = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushedSymbols = new AtomicLong();
+    private final AtomicLong skippedFlushes = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    public void put(StockPriceResponse snapshot) {
+        latestBySymbol.put(snapshot.getStockCode(), snapshot);
+        receivedAtBySymbol.put(snapshot.getStockCode(), System.currentTimeMillis());
+        dirtySymbols.add(snapshot.getStockCode());
+        updates.incrementAndGet();
+    }
+
+    public StockPriceResponse get(String stockCode) {
+        return latestBySymbol.get(stockCode);
+    }
+
+    public StockPriceResponse getFresh(String stockCode, long maxAgeMillis) {
+        Long receivedAt = receivedAtBySymbol.get(stockCode);
+        if (receivedAt == null || System.currentTimeMillis() - receivedAt > maxAgeMillis) {
+            return null;
+        }
+        return latestBySymbol.get(stockCode);
+    }
+
+    @Scheduled(fixedDelayString = "${realtime.redis.flush-interval-ms:200}")
+    public void flush() {
+        if (dirtySymbols.isEmpty()) {
+            return;
+        }
+        if (!realtimeCluster.isLeader()) {
+            dirtySymbols.clear();
+            return;
+        }
+        if (!redisHealthMonitor.isAvailable()) {
+            skippedFlushes.incrementAndGet();
+            return;
+        }
+
+        List<String> symbols = new ArrayList<>(dirtySymbols.size());
+        for (Iterator<String> iterator = dirtySymbols.iterator(); iterator.hasNext(); ) {
+            symbols.add(iterator.next());
+            iterator.remove();
+        }
+
+        Map<byte[], byte[]> snapshots = new LinkedHashMap<>();
+        Map<byte[], byte[]> orderBooks = new LinkedHashMap<>();
+        Map<byte[], byte[]> volumes = new HashMap<>();
+        for (String stockCode : symbols) {
+            StockPriceResponse snapshot = latestBySymbol.get(stockCode);
+            if (snapshot == null) {
+                continue;
+            }
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(snapshot);
+                snapshots.put(bytes(REALTIME_KEY_PREFIX + stockCode), json);
+                if (snapshot.isAfterMarketClose()) {
+                    snapshots.put(bytes(CLOSING_KEY_PREFIX + stockCode), json);
+                }
+                orderBooks.put(bytes(ORDER_BOOK_KEY_PREFIX + stockCode), objectMapper.writeValueAsBytes(toOrderBook(snapshot)));
+                if (snapshot.getVolume() != null) {
+                    volumes.put(bytes(stockCode), bytes(snapshot.getVolume()));
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ 실시간 스냅샷 직렬화 실패: 종목={}", stockCode, e);
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().mSet(snapshots);
+                orderBooks.forEach((key, value) -> connection.stringCommands()
+                        .set(key, value, ORDER_BOOK_TTL, RedisStringCommands.SetOption.upsert()));
+                if (!volumes.isEmpty()) {
+                    connection.hashCommands().hMSet(CUMULATIVE_VOLUME_KEY_BYTES, volumes);
+                }
+                return null;
+            });
+            flushes.incrementAndGet();
+            flushedSymbols.addAndGet(symbols.size());
+        } catch (Exception e) {
+            failedFlushes.incrementAndGet();
+            dirtySymbols.addAll(symbols);
+            log.warn("⚠️ Redis 실시간 스냅샷 일괄 저장 실패: 종목수={}, 에러={}", symbols.size(), e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("redisAvailable", redisHealthMonitor.isAvailable());
+        metrics.put("symbols", latestBySymbol.size());
+        metrics.put("dirtySymbols", dirtySymbols.size());
+        metrics.put("updates", updates.get());
+        metrics.put("flushes", flushes.get());
+        metrics.put("flushedSymbols", flushedSymbols.get());
+        metrics.put("skippedFlushes", skippedFlushes.get());
+        metrics.put("failedFlushes", failedFlushes.get());
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static OrderBookResponse toOrderBook(StockPriceResponse snapshot) {
+        return OrderBookResponse.builder()
+                .stockCode(snapshot.getStockCode())
+                .stockName(snapshot.getStockName())
+                .currentPrice(snapshot.getCurrentPrice())
+                .askOrders(snapshot.getAskOrders())
+                .bidOrders(snapshot.getBidOrders())
+                .totalAskQuantity(snapshot.getTotalAskQuantity())
+                .totalBidQuantity(snapshot.getTotalBidQuantity())
+                .build();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,192 @@
+package com.hanazoom.domain.stock.realtime;
+
+import com.hanazoom.domain.stock.dto.CandleData;
+import com.hanazoom.global.service.RedisHealthMonitor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCandleStore {
+
+    public static final String KEY_PREFIX = "candle:current:";
+    public static final String[] TIMEFRAMES = {"1M", "5M", "15M", "1H", "1D", "1W", "1MO"};
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final long ZONE_OFFSET_MILLIS =
+            KOREA_ZONE.getRules().getOffset(Instant.EPOCH).getTotalSeconds() * 1000L;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final long[] TTL_MILLIS = {
+            Duration.ofHours(6).toMillis(), Duration.ofHours(6).toMillis(), Duration.ofHours(6).toMillis(),
+            Duration.ofHours(12).toMillis(), Duration.ofDays(2).toMillis(), Duration.ofDays(8).toMillis(),
+            Duration.ofDays(32).toMillis()
+    };
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/candle-update.lua"), Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisHealthMonitor redisHealthMonitor;
+
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong rollovers = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public static String keyOf(String stockCode, String timeframe) {
+        return KEY_PREFIX + stockCode + ":" + timeframe;
+    }
+
+    public void apply(String stockCode, long price, long cumulativeVolume, long tradeVolume, long tickMillis) {
+        if (price <= 0) {
+            return;
+        }
+        if (!redisHealthMonitor.isAvailable()) {
+            skipped.incrementAndGet();
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(TIMEFRAMES.length);
+        Object[] args = new Object[4 + TIMEFRAMES.length * 2];
+        args[0] = Long.toString(price);
+        args[1] = Long.toString(Math.max(0L, cumulativeVolume));
+        args[2] = Long.toString(Math.max(0L, tradeVolume));
+        args[3] = Long.toString(tickMillis);
+        for (int i = 0; i < TIMEFRAMES.length; i++) {
+            keys.add(keyOf(stockCode, TIMEFRAMES[i]));
+            args[4 + i * 2] = Long.toString(bucketStart(TIMEFRAMES[i], tickMillis));
+            args[5 + i * 2] = Long.toString(TTL_MILLIS[i]);
+        }
+
+        try {
+            Long rolled = redisTemplate.execute(UPDATE_SCRIPT, keys, args);
+            updates.incrementAndGet();
+            if (rolled != null && rolled != 0L) {
+                rollovers.addAndGet(Long.bitCount(rolled));
+            }
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            throw e;
+        }
+    }
+
+    public void open(String stockCode, String timeframe, long openPrice, long nowMillis) {
+        String price = Long.toString(openPrice);
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("start", Long.toString(bucketStart(timeframe, nowMillis)));
+        fields.put("open", price);
+        fields.put("high", price);
+        fields.put("low", price);
+        fields.put("close", price);
+        fields.put("volume", "0");
+        fields.put("cum", "0");
+        fields.put("updated", Long.toString(nowMillis));
+
+        String key = keyOf(stockCode, timeframe);
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, Duration.ofMillis(TTL_MILLIS[indexOf(timeframe)]));
+    }
+
+    public CandleData get(String stockCode, String timeframe) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(keyOf(stockCode, timeframe));
+        if (fields == null || fields.isEmpty() || fields.get("start") == null) {
+            return null;
+        }
+
+        long start = Long.parseLong(fields.get("start").toString());
+        long open = Long.parseLong(fields.get("open").toString());
+        long close = Long.parseLong(fields.get("close").toString());
+        long change = close - open;
+        String changeRate = open > 0
+                ? BigDecimal.valueOf(change * 100L).divide(BigDecimal.valueOf(open), 2, RoundingMode.HALF_UP).toString()
+                : "0.00";
+
+        return CandleData.builder()
+                .stockCode(stockCode)
+                .dateTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(start), KOREA_ZONE))
+                .timeframe(timeframe)
+                .openPrice(Long.toString(open))
+                .highPrice(fields.get("high").toString())
+                .lowPrice(fields.get("low").toString())
+                .closePrice(Long.toString(close))
+                .volume(fields.getOrDefault("volume", "0").toString())
+                .changePrice(Long.toString(change))
+                .changeRate(changeRate)
+                .changeSign(change > 0 ? "2" : change < 0 ? "4" : "3")
+                .isComplete(false)
+                .timestamp(Long.parseLong(fields.getOrDefault("updated", fields.get("start")).toString()))
+                .build();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("updates", updates.get());
+        metrics.put("rollovers", rollovers.get());
+        metrics.put("skipped", skipped.get());
+        metrics.put("failures", failures.get());
+        return metrics;
+    }
+
+    static long bucketStart(String timeframe, long epochMillis) {
+        long localMillis = epochMillis + ZONE_OFFSET_MILLIS;
+        long epochDay = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+        long localStart;
+        switch (timeframe) {
+            case "1M":
+                localStart = floor(localMillis, MILLIS_PER_MINUTE);
+                break;
+            case "5M":
+                localStart = floor(localMillis, 5 * MILLIS_PER_MINUTE);
+                break;
+            case "15M":
+                localStart = floor(localMillis, 15 * MILLIS_PER_MINUTE);
+                break;
+            case "1H":
+                localStart = floor(localMillis, 60 * MILLIS_PER_MINUTE);
+                break;
+            case "1D":
+                localStart = epochDay * MILLIS_PER_DAY;
+                break;
+            case "1W":
+                localStart = (epochDay - Math.floorMod(epochDay + 3, 7)) * MILLIS_PER_DAY;
+                break;
+            case "1MO":
+                localStart = LocalDate.ofEpochDay(epochDay).withDayOfMonth(1).toEpochDay() * MILLIS_PER_DAY;
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 시간봉입니다: " + timeframe);
+        }
+        return localStart - ZONE_OFFSET_MILLIS;
+    }
+
+    private static long floor(long value, long unit) {
+        return Math.floorDiv(value, unit) * unit;
+    }
+
+    private static int indexOf(String timeframe) {
+        for (int i = 0; i < TIMEFRAMES.length; i++) {
+            if (TIMEFRAMES[i].equals(timeframe)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 시간봉입니다: " + timeframe);
+    }
+}
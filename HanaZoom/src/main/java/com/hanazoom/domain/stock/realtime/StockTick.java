@@ -0,0 +1,46 @@
+package com.hanazoom.domain.stock.realtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class StockTick {
+
+    private final String stockCode;
+    private final int tradeTime;
+    private final long currentPrice;
+    private final char changeSign;
+    private final long changePrice;
+    private final int changeRateBps;
+    private final long openPrice;
+    private final long highPrice;
+    private final long lowPrice;
+    private final long previousClose;
+    private final long bidPrice;
+    private final long askPrice;
+    private final long volume;
+    private final long tradeVolume;
+    private final long receivedAt;
+
+    public static StockTick from(KisTickRecord record, long receivedAt) {
+        return new StockTick(
+                record.getStockCode(),
+                record.getTradeTime(),
+                record.getCurrentPrice(),
+                record.getChangeSign(),
+                record.getChangePrice(),
+                record.getChangeRateBps(),
+                record.getOpenPrice(),
+                record.getHighPrice(),
+                record.getLowPrice(),
+                record.getPreviousClose(),
+                record.getBidPrice(),
+                record.getAskPrice(),
+                record.getCumulativeVolume(),
+                record.getTradeVolume(),
+                receivedAt);
+    }
+}
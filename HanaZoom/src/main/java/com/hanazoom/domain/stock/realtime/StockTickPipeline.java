@@ -0,0 +1,83 @@
+package com.hanazoom.domain.stock.realtime;
+
+import com.hanazoom.domain.stock.dto.StockPriceResponse;
+import com.hanazoom.global.config.TickPipelineConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockTickPipeline {
+
+    private final TickPipelineConfig pipelineConfig;
+
+    private final List<TickStage<StockTick>> tickStages = new CopyOnWriteArrayList<>();
+    private final List<TickStage<StockPriceResponse>> snapshotStages = new CopyOnWriteArrayList<>();
+
+    public synchronized void registerTickStage(String name, Consumer<StockTick> handler) {
+        ensureUnique(name);
+        tickStages.add(createStage(name, StockTick::getStockCode, handler));
+    }
+
+    public synchronized void registerSnapshotStage(String name, Consumer<StockPriceResponse> handler) {
+        ensureUnique(name);
+        snapshotStages.add(createStage(name, StockPriceResponse::getStockCode, handler));
+    }
+
+    public boolean hasStage(String name) {
+        return tickStages.stream().anyMatch(stage -> stage.getName().equals(name))
+                || snapshotStages.stream().anyMatch(stage -> stage.getName().equals(name));
+    }
+
+    public void publish(StockTick tick) {
+        for (TickStage<StockTick> stage : tickStages) {
+            stage.offer(tick);
+        }
+    }
+
+    public void publishSnapshot(StockPriceResponse snapshot) {
+        for (TickStage<StockPriceResponse> stage : snapshotStages) {
+            stage.offer(snapshot);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        tickStages.forEach(stage -> metrics.put(stage.getName(), stage.getMetrics()));
+        snapshotStages.forEach(stage -> metrics.put(stage.getName(), stage.getMetrics()));
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tickStages.forEach(TickStage::shutdown);
+        snapshotStages.forEach(TickStage::shutdown);
+        log.info("🛑 실시간 틱 파이프라인 종료 완료");
+    }
+
+    private <T> TickStage<T> createStage(String name, Function<T, String> keyExtractor,
+                                         Consumer<T> handler) {
+        int lanes = pipelineConfig.lanesOf(name);
+        int capacity = pipelineConfig.capacityOf(name);
+        TickOverflowPolicy policy = pipelineConfig.policyOf(name);
+
+        log.info("🧵 틱 파이프라인 단계 등록: 단계={}, 레인={}, 용량={}, 정책={}", name, lanes, capacity, policy);
+        return new TickStage<>(name, lanes, capacity, policy, keyExtractor, handler);
+    }
+
+    private void ensureUnique(String name) {
+        if (hasStage(name)) {
+            throw new IllegalStateException("이미 등록된 틱 파이프라인 단계입니다: " + name);
+        }
+    }
+}
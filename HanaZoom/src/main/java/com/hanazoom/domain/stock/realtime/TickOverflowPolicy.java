@@ -0,0 +1,8 @@
+package com.hanazoom.domain.stock.realtime;
+
+public enum TickOverflowPolicy {
+    COALESCE,
+    DROP_OLDEST,
+    DROP_NEWEST,
+    SPILL
+}
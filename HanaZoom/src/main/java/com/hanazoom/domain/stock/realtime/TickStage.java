@@ -0,0 +1,242 @@
+package com.hanazoom.domain.stock.realtime;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+public class TickStage<T> {
+
+    @Getter
+    private final String name;
+    private final int capacity;
+    private final TickOverflowPolicy policy;
+    private final Function<T, String> keyExtractor;
+    private final Consumer<T> handler;
+    private final List<Lane> lanes;
+    private final ExecutorService executor;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public TickStage(String name, int laneCount, int capacity, TickOverflowPolicy policy,
+                     Function<T, String> keyExtractor, Consumer<T> handler) {
+        if (laneCount < 1 || capacity < 1) {
+            throw new IllegalArgumentException("레인 수와 큐 용량은 1 이상이어야 합니다: " + name);
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.keyExtractor = keyExtractor;
+        this.handler = handler;
+        this.lanes = new ArrayList<>(laneCount);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(laneCount, runnable -> {
+            Thread thread = new Thread(runnable, "tick-" + name + "-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (int i = 0; i < laneCount; i++) {
+            Lane lane = new Lane();
+            lanes.add(lane);
+            executor.execute(lane::drain);
+        }
+    }
+
+    public void offer(T item) {
+        if (!running) {
+            dropped.incrementAndGet();
+            return;
+        }
+        submitted.incrementAndGet();
+        String key = keyExtractor.apply(item);
+        lanes.get(Math.floorMod(key.hashCode(), lanes.size())).offer(key, item);
+    }
+
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Lane lane : lanes) {
+            depth += lane.size();
+        }
+        return depth;
+    }
+
+    public Map<String, Object> getMetrics() {
+        int highWatermark = 0;
+        for (Lane lane : lanes) {
+            highWatermark = Math.max(highWatermark, lane.highWatermark);
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("policy", policy.name());
+        metrics.put("lanes", lanes.size());
+        metrics.put("capacityPerLane", capacity);
+        metrics.put("queueDepth", getQueueDepth());
+        metrics.put("highWatermark", highWatermark);
+        metrics.put("submitted", submitted.get());
+        metrics.put("processed", processed.get());
+        metrics.put("dropped", dropped.get());
+        metrics.put("coalesced", coalesced.get());
+        metrics.put("failed", failed.get());
+        metrics.put("spilled", spilled.get());
+        return metrics;
+    }
+
+    public void shutdown() {
+        running = false;
+        for (Lane lane : lanes) {
+            lane.wakeUp();
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(2, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Slot<T> {
+        private final String key;
+        private T value;
+
+        private Slot(String key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final class Lane {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final ArrayDeque<Slot<T>> queue = new ArrayDeque<>();
+        private final Map<String, Slot<T>> pendingByKey =
+                policy == TickOverflowPolicy.COALESCE ? new HashMap<>() : null;
+        private volatile int highWatermark;
+        private boolean spilling;
+
+        private void offer(String key, T item) {
+            lock.lock();
+            try {
+                if (pendingByKey != null) {
+                    Slot<T> pending = pendingByKey.get(key);
+                    if (pending != null) {
+                        pending.value = item;
+                        coalesced.incrementAndGet();
+                        return;
+                    }
+                }
+
+                if (queue.size() >= capacity && policy == TickOverflowPolicy.SPILL) {
+                    spilled.incrementAndGet();
+                    if (!spilling) {
+                        spilling = true;
+                        log.warn("🚨 틱 파이프라인 단계 적체 - 용량 초과분을 유실 없이 대기열에 적재: 단계={}, 키={}, 큐={}",
+                                name, key, queue.size());
+                    }
+                } else if (queue.size() >= capacity) {
+                    dropped.incrementAndGet();
+                    if (policy == TickOverflowPolicy.DROP_NEWEST) {
+                        return;
+                    }
+                    Slot<T> evicted = queue.pollFirst();
+                    if (pendingByKey != null && evicted != null) {
+                        pendingByKey.remove(evicted.key);
+                    }
+                }
+
+                Slot<T> slot = new Slot<>(key, item);
+                queue.addLast(slot);
+                if (pendingByKey != null) {
+                    pendingByKey.put(key, slot);
+                }
+                if (queue.size() > highWatermark) {
+                    highWatermark = queue.size();
+                }
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return queue.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void wakeUp() {
+            lock.lock();
+            try {
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void drain() {
+            while (running) {
+                T item;
+                lock.lock();
+                try {
+                    while (queue.isEmpty() && running) {
+                        notEmpty.await();
+                    }
+                    if (!running) {
+                        return;
+                    }
+                    Slot<T> slot = queue.pollFirst();
+                    if (pendingByKey != null) {
+                        pendingByKey.remove(slot.key);
+                    }
+                    item = slot.value;
+                    if (spilling && queue.size() < capacity) {
+                        spilling = false;
+                        log.info("✅ 틱 파이프라인 단계 적체 해소: 단계={}, 큐={}", name, queue.size());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    lock.unlock();
+                }
+
+                try {
+                    handler.accept(item);
+                    processed.incrementAndGet();
+                } catch (Throwable e) {
+                    failed.incrementAndGet();
+                    log.error("❌ 틱 파이프라인 단계 처리 실패: 단계={}, 에러={}", name, e.getMessage(), e);
+                }
+            }
+        }
+    }
+}
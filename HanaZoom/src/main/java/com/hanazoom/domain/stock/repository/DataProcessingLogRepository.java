@@ -0,0 +1,17 @@
+package com.hanazoom.domain.stock.repository;
+
+import com.hanazoom.domain.stock.entity.DataProcessingLog;
+import com.hanazoom.domain.stock.entity.DataRetentionPolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DataProcessingLogRepository extends JpaRepository<DataProcessingLog, Long> {
+
+    Optional<DataProcessingLog> findFirstByProcessTypeAndDataTypeAndStatusOrderByIdDesc(
+            DataProcessingLog.ProcessType processType,
+            DataRetentionPolicy.DataType dataType,
+            DataProcessingLog.ProcessStatus status);
+}
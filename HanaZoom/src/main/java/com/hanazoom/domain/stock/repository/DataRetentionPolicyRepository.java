@@ -0,0 +1,13 @@
+package com.hanazoom.domain.stock.repository;
+
+import com.hanazoom.domain.stock.entity.DataRetentionPolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DataRetentionPolicyRepository extends JpaRepository<DataRetentionPolicy, Long> {
+
+    List<DataRetentionPolicy> findByIsActiveTrueOrderByIdAsc();
+}
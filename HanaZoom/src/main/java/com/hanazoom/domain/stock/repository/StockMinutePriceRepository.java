@@ -2,9 +2,11 @@ package com.hanazoom.domain.stock.repository;
 
 import com.hanazoom.domain.stock.entity.StockMinutePrice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -46,14 +48,18 @@ public interface StockMinutePriceRepository extends JpaRepository<StockMinutePri
             @Param("stockSymbol") String stockSymbol,
             @Param("minuteInterval") StockMinutePrice.MinuteInterval minuteInterval);
 
-    @Query("DELETE FROM StockMinutePrice s " +
-           "WHERE s.stockSymbol = :stockSymbol " +
-           "AND s.minuteInterval = :minuteInterval " +
-           "AND s.timestamp < :cutoffTime")
-    void deleteOldData(
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM stock_minute_prices " +
+           "WHERE stock_symbol = :stockSymbol " +
+           "AND minute_interval = :minuteInterval " +
+           "AND `timestamp` < :cutoffTime " +
+           "LIMIT :batchSize", nativeQuery = true)
+    int deleteOldDataBatch(
             @Param("stockSymbol") String stockSymbol,
-            @Param("minuteInterval") StockMinutePrice.MinuteInterval minuteInterval,
-            @Param("cutoffTime") LocalDateTime cutoffTime);
+            @Param("minuteInterval") String minuteInterval,
+            @Param("cutoffTime") LocalDateTime cutoffTime,
+            @Param("batchSize") int batchSize);
 
     void deleteByStockSymbol(String stockSymbol);
 
@@ -0,0 +1,316 @@
+package com.hanazoom.domain.stock.retention;
+
+import com.hanazoom.domain.stock.cluster.RealtimeClusterCoordinator;
+import com.hanazoom.domain.stock.entity.DataProcessingLog;
+import com.hanazoom.domain.stock.entity.DataRetentionPolicy;
+import com.hanazoom.domain.stock.repository.DataProcessingLogRepository;
+import com.hanazoom.domain.stock.repository.DataRetentionPolicyRepository;
+import com.hanazoom.global.config.DataRetentionConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class DataRetentionEngine {
+
+    private static final int DEFAULT_BATCH_SIZE = 10000;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DataRetentionPolicyRepository policyRepository;
+    private final DataProcessingLogRepository processingLogRepository;
+    private final DatabaseLoadGuard loadGuard;
+    private final DataRetentionConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final RealtimeClusterCoordinator realtimeCluster;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong chunks = new AtomicLong();
+    private final AtomicLong deletedRows = new AtomicLong();
+    private final AtomicLong pauses = new AtomicLong();
+    private final AtomicLong resumes = new AtomicLong();
+    private final AtomicLong completedPolicies = new AtomicLong();
+    private final AtomicLong failedPolicies = new AtomicLong();
+    private volatile String lastPauseReason;
+    private volatile LocalDateTime lastRunAt;
+
+    public DataRetentionEngine(DataRetentionPolicyRepository policyRepository,
+                               DataProcessingLogRepository processingLogRepository,
+                               DatabaseLoadGuard loadGuard,
+                               DataRetentionConfig config,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               RealtimeClusterCoordinator realtimeCluster) {
+        this.policyRepository = policyRepository;
+        this.processingLogRepository = processingLogRepository;
+        this.loadGuard = loadGuard;
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.realtimeCluster = realtimeCluster;
+    }
+
+    @Scheduled(cron = "${data.retention.cron:0 30 3 * * *}")
+    public void runScheduled() {
+        if (config.isEnabled() && realtimeCluster.isLeader()) {
+            run();
+        }
+    }
+
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("⏭️ 데이터 보존 정리가 이미 실행 중입니다");
+            return;
+        }
+        try {
+            runs.incrementAndGet();
+            lastRunAt = LocalDateTime.now();
+            long deadline = System.currentTimeMillis() + config.getMaxRunMillis();
+            if (config.isSeedDefaults()) {
+                seedMissingPolicies();
+            }
+
+            List<DataRetentionPolicy> policies = policyRepository.findByIsActiveTrueOrderByIdAsc();
+            log.info("🧹 데이터 보존 정리 시작: 활성 정책={}개", policies.size());
+            for (DataRetentionPolicy policy : policies) {
+                if (!apply(policy, deadline)) {
+                    log.info("⏸️ 데이터 보존 정리 중단 - 다음 실행에서 이어서 진행: 사유={}", lastPauseReason);
+                    return;
+                }
+            }
+            log.info("✅ 데이터 보존 정리 완료");
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", config.isEnabled());
+        metrics.put("running", running.get());
+        metrics.put("runs", runs.get());
+        metrics.put("lastRunAt", lastRunAt != null ? lastRunAt.toString() : null);
+        metrics.put("chunks", chunks.get());
+        metrics.put("deletedRows", deletedRows.get());
+        metrics.put("pauses", pauses.get());
+        metrics.put("lastPauseReason", lastPauseReason);
+        metrics.put("resumes", resumes.get());
+        metrics.put("completedPolicies", completedPolicies.get());
+        metrics.put("failedPolicies", failedPolicies.get());
+        return metrics;
+    }
+
+    private boolean apply(DataRetentionPolicy policy, long deadline) {
+        RetentionTarget target = RetentionTarget.of(policy.getDataType());
+        DataProcessingLog progress = resumeOrStart(policy, target);
+        int batchSize = policy.getCleanupBatchSize() != null && policy.getCleanupBatchSize() > 0
+                ? policy.getCleanupBatchSize() : DEFAULT_BATCH_SIZE;
+
+        try {
+            boolean completed = target.isRangeDeletable()
+                    ? deleteByIdRange(target, progress, batchSize, deadline)
+                    : deleteByLimit(target, progress, batchSize, deadline);
+            if (!completed) {
+                return false;
+            }
+            finish(progress, DataProcessingLog.ProcessStatus.SUCCESS, null);
+            policy.setLastCleanupDate(progress.getEndTime());
+            writeTemplate.executeWithoutResult(status -> policyRepository.save(policy));
+            completedPolicies.incrementAndGet();
+            log.info("🧹 보존 기간 경과 데이터 삭제 완료: 유형={}, 기준={}, 삭제={}건",
+                    policy.getDataType(), progress.getCutoffTime(), progress.getRecordsProcessed());
+        } catch (Exception e) {
+            failedPolicies.incrementAndGet();
+            log.error("❌ 데이터 보존 정리 실패: 유형={}, 진행위치={}", policy.getDataType(), progress.getCursorId(), e);
+            finish(progress, DataProcessingLog.ProcessStatus.FAILED, e.getMessage());
+        }
+        return true;
+    }
+
+    private boolean deleteByIdRange(RetentionTarget target, DataProcessingLog progress, int batchSize, long deadline) {
+        Object cutoff = target.cutoffParameter(progress.getCutoffTime());
+        long cursor = progress.getCursorId() != null ? progress.getCursorId() : Long.MAX_VALUE;
+        long targetId = progress.getTargetId() != null ? progress.getTargetId() : Long.MIN_VALUE;
+        long lastChunkMillis = 0L;
+        int emptyChunks = 0;
+
+        while (cursor <= targetId) {
+            if (!awaitCapacity(lastChunkMillis, deadline)) {
+                return false;
+            }
+            long from = cursor;
+            long to = cursor + batchSize;
+            long startedAt = System.currentTimeMillis();
+            Integer deleted = writeTemplate.execute(status ->
+                    jdbcTemplate.update(target.rangeDeleteSql(), from, to, cutoff));
+            lastChunkMillis = System.currentTimeMillis() - startedAt;
+            int count = deleted != null ? deleted : 0;
+
+            if (count > 0) {
+                emptyChunks = 0;
+            } else if (hasRows(target, from, to) && ++emptyChunks >= config.getMaxEmptyChunks()) {
+                break;
+            }
+            cursor = to;
+            record(progress, cursor, count);
+        }
+        return true;
+    }
+
+    private boolean deleteByLimit(RetentionTarget target, DataProcessingLog progress, int batchSize, long deadline) {
+        Object cutoff = target.cutoffParameter(progress.getCutoffTime());
+        long lastChunkMillis = 0L;
+        int count;
+        do {
+            if (!awaitCapacity(lastChunkMillis, deadline)) {
+                return false;
+            }
+            long startedAt = System.currentTimeMillis();
+            Integer deleted = writeTemplate.execute(status ->
+                    jdbcTemplate.update(target.limitDeleteSql(), cutoff, batchSize));
+            lastChunkMillis = System.currentTimeMillis() - startedAt;
+            count = deleted != null ? deleted : 0;
+            record(progress, null, count);
+        } while (count >= batchSize);
+        return true;
+    }
+
+    private boolean hasRows(RetentionTarget target, long from, long to) {
+        Long rows = jdbcTemplate.queryForObject(target.rangeCountSql(), Long.class, from, to);
+        return rows != null && rows > 0;
+    }
+
+    private boolean awaitCapacity(long lastChunkMillis, long deadline) {
+        long pausedMillis = 0L;
+        while (true) {
+            if (System.currentTimeMillis() >= deadline) {
+                lastPauseReason = "실행 시간 초과";
+                return false;
+            }
+            String reason = loadGuard.busyReason(pausedMillis == 0L ? lastChunkMillis : 0L);
+            long sleepMillis = reason == null ? config.getChunkPauseMillis() : config.getBackoffMillis();
+            if (reason != null) {
+                pauses.incrementAndGet();
+                lastPauseReason = reason;
+                if (pausedMillis >= config.getMaxPauseMillis()) {
+                    return false;
+                }
+                log.debug("⏳ DB 부하로 보존 정리 일시 중지: 사유={}, 대기={}ms", reason, sleepMillis);
+                pausedMillis += sleepMillis;
+            }
+            if (sleepMillis > 0 && !sleep(sleepMillis)) {
+                lastPauseReason = "인터럽트";
+                return false;
+            }
+            if (reason == null) {
+                return true;
+            }
+        }
+    }
+
+    private DataProcessingLog resumeOrStart(DataRetentionPolicy policy, RetentionTarget target) {
+        DataProcessingLog pending = processingLogRepository.findFirstByProcessTypeAndDataTypeAndStatusOrderByIdDesc(
+                DataProcessingLog.ProcessType.RETENTION, policy.getDataType(),
+                DataProcessingLog.ProcessStatus.RUNNING).orElse(null);
+        if (pending != null) {
+            resumes.incrementAndGet();
+            log.info("♻️ 중단된 보존 정리 재개: 유형={}, 진행위치={}, 삭제={}건",
+                    policy.getDataType(), pending.getCursorId(), pending.getRecordsProcessed());
+            return pending;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int retentionDays = policy.getRetentionDays() != null && policy.getRetentionDays() > 0
+                ? policy.getRetentionDays() : policy.getDataType().getDefaultRetentionDays();
+        DataProcessingLog progress = DataProcessingLog.builder()
+                .processType(DataProcessingLog.ProcessType.RETENTION)
+                .dataType(policy.getDataType())
+                .cutoffTime(now.minusDays(retentionDays))
+                .recordsProcessed(0)
+                .recordsInserted(0)
+                .recordsUpdated(0)
+                .recordsFailed(0)
+                .startTime(now)
+                .status(DataProcessingLog.ProcessStatus.RUNNING)
+                .build();
+        if (target.isRangeDeletable()) {
+            jdbcTemplate.query(target.boundsSql(), rs -> {
+                long min = rs.getLong(1);
+                if (!rs.wasNull()) {
+                    progress.setCursorId(min);
+                    progress.setTargetId(rs.getLong(2));
+                }
+            });
+        }
+        return writeTemplate.execute(status -> processingLogRepository.save(progress));
+    }
+
+    private void record(DataProcessingLog progress, Long cursor, int deleted) {
+        chunks.incrementAndGet();
+        deletedRows.addAndGet(deleted);
+        progress.setCursorId(cursor != null ? cursor : progress.getCursorId());
+        progress.setRecordsProcessed(progress.getRecordsProcessed() + deleted);
+        writeTemplate.executeWithoutResult(status -> processingLogRepository.save(progress));
+    }
+
+    private void finish(DataProcessingLog progress, DataProcessingLog.ProcessStatus status, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        progress.setStatus(status);
+        progress.setEndTime(now);
+        progress.setProcessingDurationSeconds((int) Duration.between(progress.getStartTime(), now).getSeconds());
+        if (errorMessage != null) {
+            progress.setErrorMessage(errorMessage.length() > MAX_ERROR_LENGTH
+                    ? errorMessage.substring(0, MAX_ERROR_LENGTH) : errorMessage);
+        }
+        try {
+            writeTemplate.executeWithoutResult(tx -> processingLogRepository.save(progress));
+        } catch (Exception e) {
+            log.warn("⚠️ 보존 정리 처리 로그 저장 실패: 유형={}, 에러={}", progress.getDataType(), e.getMessage());
+        }
+    }
+
+    private void seedMissingPolicies() {
+        Set<DataRetentionPolicy.DataType> missing = EnumSet.allOf(DataRetentionPolicy.DataType.class);
+        policyRepository.findAll().forEach(policy -> missing.remove(policy.getDataType()));
+        if (missing.isEmpty()) {
+            return;
+        }
+        writeTemplate.executeWithoutResult(status -> missing.forEach(dataType -> policyRepository.save(
+                DataRetentionPolicy.builder()
+                        .dataType(dataType)
+                        .retentionDays(dataType.getDefaultRetentionDays())
+                        .isActive(false)
+                        .cleanupBatchSize(DEFAULT_BATCH_SIZE)
+                        .description(dataType.getDescription() + " 기본 보존 정책")
+                        .build())));
+        log.info("📋 기본 데이터 보존 정책 등록 (비활성 상태, 활성화 필요): {}", Arrays.toString(missing.toArray()));
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.hanazoom.domain.stock.retention;
+
+import com.hanazoom.global.config.DataRetentionConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseLoadGuard {
+
+    private static final String[] REPLICA_STATUS_SQL = {"SHOW REPLICA STATUS", "SHOW SLAVE STATUS"};
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+    private static final String THREADS_RUNNING_SQL = "SHOW GLOBAL STATUS LIKE 'Threads_running'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataRetentionConfig config;
+
+    private volatile int replicaStatusIndex = 0;
+    private volatile boolean threadsRunningSupported = true;
+
+    public String busyReason(long lastChunkMillis) {
+        if (lastChunkMillis > config.getSlowChunkMillis()) {
+            return "청크 삭제 지연 " + lastChunkMillis + "ms";
+        }
+        Long lag = replicationLagSeconds();
+        if (lag != null && lag > config.getMaxReplicationLagSeconds()) {
+            return "복제 지연 " + lag + "초";
+        }
+        Long threadsRunning = threadsRunning();
+        if (threadsRunning != null && threadsRunning > config.getMaxThreadsRunning()) {
+            return "실행 중 스레드 " + threadsRunning + "개";
+        }
+        return null;
+    }
+
+    private Long replicationLagSeconds() {
+        if (StringUtils.hasText(config.getReplicationLagSql())) {
+            try {
+                return jdbcTemplate.queryForObject(config.getReplicationLagSql(), Long.class);
+            } catch (Exception e) {
+                log.debug("복제 지연 조회 실패: {}", e.getMessage());
+                return null;
+            }
+        }
+
+        while (replicaStatusIndex < REPLICA_STATUS_SQL.length) {
+            try {
+                return jdbcTemplate.query(REPLICA_STATUS_SQL[replicaStatusIndex], DatabaseLoadGuard::maxLag);
+            } catch (Exception e) {
+                log.debug("복제 상태 조회 미지원: {}, 에러={}", REPLICA_STATUS_SQL[replicaStatusIndex], e.getMessage());
+                replicaStatusIndex++;
+            }
+        }
+        return null;
+    }
+
+    private Long threadsRunning() {
+        if (!threadsRunningSupported) {
+            return null;
+        }
+        try {
+            return jdbcTemplate.query(THREADS_RUNNING_SQL, rs -> rs.next() ? rs.getLong(2) : null);
+        } catch (Exception e) {
+            threadsRunningSupported = false;
+            log.debug("DB 부하 지표 조회 미지원: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Long maxLag(ResultSet rs) throws SQLException {
+        Long max = null;
+        while (rs.next()) {
+            ResultSetMetaData meta = rs.getMetaData();
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                String column = meta.getColumnLabel(i);
+                if (!column.equals(LAG_COLUMNS[0]) && !column.equals(LAG_COLUMNS[1])) {
+                    continue;
+                }
+                long lag = rs.getLong(i);
+                if (rs.wasNull()) {
+                    return Long.MAX_VALUE;
+                }
+                max = max == null ? lag : Math.max(max, lag);
+            }
+        }
+        return max;
+    }
+}
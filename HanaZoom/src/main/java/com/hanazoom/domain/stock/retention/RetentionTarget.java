@@ -0,0 +1,77 @@
+package com.hanazoom.domain.stock.retention;
+
+import com.hanazoom.domain.stock.entity.DataRetentionPolicy;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+enum RetentionTarget {
+    TICK_DATA("stock_tick_data", "`timestamp`", null),
+    ONE_MINUTE("stock_minute_prices", "`timestamp`", "minute_interval = 'ONE_MINUTE'"),
+    FIVE_MINUTES("stock_minute_prices", "`timestamp`", "minute_interval = 'FIVE_MINUTES'"),
+    FIFTEEN_MINUTES("stock_minute_prices", "`timestamp`", "minute_interval = 'FIFTEEN_MINUTES'"),
+    ONE_HOUR("stock_minute_prices", "`timestamp`", "minute_interval = 'ONE_HOUR'"),
+    DAILY("stock_daily_prices", "trade_date", null),
+    WEEKLY("stock_weekly_prices", "week_start_date", null),
+    MONTHLY("stock_monthly_prices", "year_month_period", null),
+    NOTIFICATION("notifications", "created_at", null),
+    CHAT_MESSAGE("chat_messages", "created_at", null, false);
+
+    private final boolean rangeDeletable;
+    private final String boundsSql;
+    private final String rangeDeleteSql;
+    private final String rangeCountSql;
+    private final String limitDeleteSql;
+
+    RetentionTarget(String table, String timeColumn, String filter) {
+        this(table, timeColumn, filter, true);
+    }
+
+    RetentionTarget(String table, String timeColumn, String filter, boolean rangeDeletable) {
+        String extra = filter != null ? " AND " + filter : "";
+        this.rangeDeletable = rangeDeletable;
+        this.boundsSql = "SELECT MIN(id), MAX(id) FROM " + table;
+        this.rangeDeleteSql = "DELETE FROM " + table + " WHERE id >= ? AND id < ? AND " + timeColumn + " < ?" + extra;
+        this.rangeCountSql = "SELECT COUNT(*) FROM " + table + " WHERE id >= ? AND id < ?" + extra;
+        this.limitDeleteSql = "DELETE FROM " + table + " WHERE " + timeColumn + " < ?" + extra
+                + " ORDER BY " + timeColumn + " LIMIT ?";
+    }
+
+    static RetentionTarget of(DataRetentionPolicy.DataType dataType) {
+        return valueOf(dataType.name());
+    }
+
+    boolean isRangeDeletable() {
+        return rangeDeletable;
+    }
+
+    String boundsSql() {
+        return boundsSql;
+    }
+
+    String rangeDeleteSql() {
+        return rangeDeleteSql;
+    }
+
+    String rangeCountSql() {
+        return rangeCountSql;
+    }
+
+    String limitDeleteSql() {
+        return limitDeleteSql;
+    }
+
+    Object cutoffParameter(LocalDateTime cutoff) {
+        switch (this) {
+            case DAILY:
+            case WEEKLY:
+                return Date.valueOf(cutoff.toLocalDate());
+            case MONTHLY:
+                return YearMonth.from(cutoff).toString();
+            default:
+                return Timestamp.valueOf(cutoff);
+        }
+    }
+}
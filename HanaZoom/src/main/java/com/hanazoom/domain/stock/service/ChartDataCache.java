@@ -0,0 +1,169 @@
+package com.hanazoom.domain.stock.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanazoom.domain.stock.dto.CandleData;
+import com.hanazoom.global.config.ChartCacheConfig;
+import com.hanazoom.global.service.RedisHealthMonitor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class ChartDataCache {
+
+    public static final String KEY_PREFIX = "chart:history:";
+
+    private static final TypeReference<List<CandleData>> CANDLE_LIST = new TypeReference<>() {
+    };
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final ObjectMapper objectMapper;
+    private final ChartCacheConfig config;
+
+    private final Map<String, Entry> local;
+    private final Map<String, CompletableFuture<List<CandleData>>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong redisFailures = new AtomicLong();
+
+    public ChartDataCache(RedisTemplate<String, Object> redisTemplate, RedisHealthMonitor redisHealthMonitor,
+                          ObjectMapper objectMapper, ChartCacheConfig config) {
+        this.redisTemplate = redisTemplate;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        int maxEntries = Math.max(1, config.getLocalMaxEntries());
+        this.local = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public List<CandleData> get(String stockCode, String timeframe, int limit, Supplier<List<CandleData>> loader) {
+        String key = KEY_PREFIX + stockCode + ":" + timeframe + ":" + limit;
+        long now = System.currentTimeMillis();
+
+        Entry cached = getLocal(key);
+        if (cached != null && cached.expiresAt > now) {
+            localHits.incrementAndGet();
+            return cached.candles;
+        }
+
+        CompletableFuture<List<CandleData>> mine = new CompletableFuture<>();
+        CompletableFuture<List<CandleData>> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return join(existing);
+        }
+
+        try {
+            long ttlMillis = config.ttlMillisOf(timeframe);
+            List<CandleData> candles = readRedis(key);
+            if (candles != null) {
+                redisHits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+                candles = Collections.unmodifiableList(loader.get());
+                writeRedis(key, candles, ttlMillis);
+            }
+            putLocal(key, new Entry(candles, System.currentTimeMillis() + ttlMillis));
+            mine.complete(candles);
+            return candles;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        long localHitCount = localHits.get();
+        long redisHitCount = redisHits.get();
+        long missCount = misses.get();
+        long lookups = localHitCount + redisHitCount + missCount;
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        synchronized (local) {
+            metrics.put("localEntries", local.size());
+        }
+        metrics.put("localHits", localHitCount);
+        metrics.put("redisHits", redisHitCount);
+        metrics.put("misses", missCount);
+        metrics.put("coalesced", coalesced.get());
+        metrics.put("redisFailures", redisFailures.get());
+        metrics.put("hitRatio", lookups > 0 ? (double) (localHitCount + redisHitCount) / lookups : 0.0);
+        return metrics;
+    }
+
+    private Entry getLocal(String key) {
+        synchronized (local) {
+            return local.get(key);
+        }
+    }
+
+    private void putLocal(String key, Entry entry) {
+        synchronized (local) {
+            local.put(key, entry);
+        }
+    }
+
+    private List<CandleData> readRedis(String key) {
+        if (!redisHealthMonitor.isAvailable()) {
+            return null;
+        }
+        try {
+            Object json = redisTemplate.opsForValue().get(key);
+            return json != null ? Collections.unmodifiableList(objectMapper.readValue(json.toString(), CANDLE_LIST)) : null;
+        } catch (Exception e) {
+            redisFailures.incrementAndGet();
+            log.debug("차트 캐시 Redis 조회 실패: 키={}, 에러={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, List<CandleData> candles, long ttlMillis) {
+        if (candles.isEmpty() || !redisHealthMonitor.isAvailable()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(candles), Duration.ofMillis(ttlMillis));
+        } catch (Exception e) {
+            redisFailures.incrementAndGet();
+            log.debug("차트 캐시 Redis 저장 실패: 키={}, 에러={}", key, e.getMessage());
+        }
+    }
+
+    private List<CandleData> join(CompletableFuture<List<CandleData>> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(List<CandleData> candles, long expiresAt) {
+    }
+}
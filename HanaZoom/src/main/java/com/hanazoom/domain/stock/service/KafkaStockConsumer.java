@@ -2,19 +2,26 @@ package com.hanazoom.domain.stock.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanazoom.domain.stock.kafka.TickMessage;
+import com.hanazoom.domain.stock.kafka.TickSnapshotStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.scheduling.annotation.Scheduled;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -42,67 +49,46 @@ public class KafkaStockConsumer {
 
     private final ObjectMapper objectMapper;
     private final KafkaStockService kafkaStockService;
-
-
-    private final Map<String, Map<String, Object>> realTimeStockCache = new ConcurrentHashMap<>();
+    private final TickSnapshotStore tickSnapshotStore;
 
 
     private final AtomicLong totalMessagesProcessed = new AtomicLong(0);
-    private final AtomicLong totalProcessingTime = new AtomicLong(0);
+    private final AtomicLong totalBatches = new AtomicLong(0);
+    private final AtomicLong totalProcessingNanos = new AtomicLong(0);
+    private final AtomicLong decodeFailures = new AtomicLong(0);
+    private final AtomicLong lastReportedMessages = new AtomicLong(0);
     private final AtomicInteger activeConnections = new AtomicInteger(0);
 
 
-    private static final String STOCK_REALTIME_TOPIC = "stock-realtime-data";
     private static final String PERFORMANCE_METRICS_TOPIC = "performance-metrics";
-
-    @KafkaListener(topics = STOCK_REALTIME_TOPIC, groupId = "wts-consumer-group")
-    public void consumeRealTimeStockData(
-            @Payload String message,
-            @Header("kafka_receivedTopic") String topic,
-            @Header("kafka_receivedPartitionId") String partition,
-            @Header("kafka_receivedTimestamp") String timestamp
-    ) {
-        long startTime = System.currentTimeMillis();
-
-        try {
-            JsonNode jsonNode = objectMapper.readTree(message);
-
-            String stockCode = jsonNode.get("stockCode").asText();
-            String stockName = jsonNode.get("stockName").asText();
-            String currentPrice = jsonNode.get("currentPrice").asText();
-            String changePrice = jsonNode.get("changePrice").asText();
-            String changeRate = jsonNode.get("changeRate").asText();
-            String changeSign = jsonNode.get("changeSign").asText();
-
-
-            Map<String, Object> stockData = Map.of(
-                "stockCode", stockCode,
-                "stockName", stockName,
-                "currentPrice", currentPrice,
-                "changePrice", changePrice,
-                "changeRate", changeRate,
-                "changeSign", changeSign,
-                "timestamp", LocalDateTime.now()
-            );
-
-            realTimeStockCache.put(stockCode, stockData);
-
-
-            long processingTime = System.currentTimeMillis() - startTime;
-            totalMessagesProcessed.incrementAndGet();
-            totalProcessingTime.addAndGet(processingTime);
-
-            log.debug("📈 Kafka 수신 - 실시간 데이터: {} - {} (처리시간: {}ms)",
-                     stockCode, currentPrice, processingTime);
-
-
-            if (totalMessagesProcessed.get() % 10 == 0) {
-                sendPerformanceMetrics();
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    @KafkaListener(topics = "${kafka.tick.topic:stock-realtime-data}", groupId = "wts-consumer-group",
+            batch = "true", concurrency = "${kafka.tick.partitions:3}",
+            properties = {
+                    "value.deserializer=org.springframework.kafka.support.serializer.ErrorHandlingDeserializer",
+                    "spring.deserializer.value.delegate.class=com.hanazoom.domain.stock.kafka.TickMessageDeserializer"
+            })
+    public void consumeRealTimeStockData(@Payload List<TickMessage> messages) {
+        long startTime = System.nanoTime();
+
+        int applied = tickSnapshotStore.applyBatch(messages);
+        int failed = 0;
+        for (TickMessage message : messages) {
+            if (message == null) {
+                failed++;
             }
+        }
 
-        } catch (Exception e) {
-            log.error("❌ Kafka 메시지 처리 실패: {}", e.getMessage(), e);
+        totalBatches.incrementAndGet();
+        totalMessagesProcessed.addAndGet(messages.size() - failed);
+        totalProcessingNanos.addAndGet(System.nanoTime() - startTime);
+        if (failed > 0) {
+            decodeFailures.addAndGet(failed);
+            log.warn("⚠️ Kafka 틱 메시지 역직렬화 실패: {}건", failed);
         }
+
+        log.debug("📈 Kafka 수신 - 실시간 틱 배치: 건수={}, 반영={}", messages.size(), applied);
     }
 
     @KafkaListener(topics = "stock-batch-data", groupId = "wts-consumer-group")
@@ -150,27 +136,52 @@ public class KafkaStockConsumer {
     }
 
     public Map<String, Object> getRealTimeStockData(String stockCode) {
-        return realTimeStockCache.get(stockCode);
+        TickSnapshotStore.Snapshot snapshot = tickSnapshotStore.get(stockCode);
+        return snapshot != null ? toStockData(snapshot) : null;
     }
 
     public Map<String, Map<String, Object>> getAllRealTimeStockData() {
-        return new ConcurrentHashMap<>(realTimeStockCache);
+        Map<String, Map<String, Object>> allData = new ConcurrentHashMap<>();
+        tickSnapshotStore.getAll().forEach(snapshot -> allData.put(snapshot.getStockCode(), toStockData(snapshot)));
+        return allData;
     }
 
     public int getCachedStockCount() {
-        return realTimeStockCache.size();
+        return tickSnapshotStore.size();
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.tick.metrics-interval-ms:10000}")
+    public void reportPerformanceMetrics() {
+        long processed = totalMessagesProcessed.get();
+        if (processed == lastReportedMessages.getAndSet(processed)) {
+            return;
+        }
+        sendPerformanceMetrics();
+    }
+
+    private Map<String, Object> toStockData(TickSnapshotStore.Snapshot snapshot) {
+        Map<String, Object> stockData = new LinkedHashMap<>();
+        stockData.put("stockCode", snapshot.getStockCode());
+        stockData.put("currentPrice", String.valueOf(snapshot.getPrice()));
+        stockData.put("changePrice", String.valueOf(snapshot.getChange()));
+        stockData.put("changeRate", String.format("%.2f", snapshot.getRateBps() / 100.0));
+        stockData.put("changeSign", String.valueOf(snapshot.getSign()));
+        stockData.put("timestamp", LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(snapshot.getEpochNanos() / 1_000_000L), KOREA_ZONE));
+        return stockData;
+    }
+
+    private long avgProcessingMicros() {
+        long processed = totalMessagesProcessed.get();
+        return processed > 0 ? totalProcessingNanos.get() / 1_000L / processed : 0;
     }
 
     private void sendPerformanceMetrics() {
         try {
-            long avgProcessingTime = totalMessagesProcessed.get() > 0
-                ? totalProcessingTime.get() / totalMessagesProcessed.get()
-                : 0;
-
             kafkaStockService.sendWTSPerformanceMetrics(
                 activeConnections.get(),
-                realTimeStockCache.size(),
-                avgProcessingTime,
+                tickSnapshotStore.size(),
+                avgProcessingMicros(),
                 0.0, 
                 Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()
             );
@@ -189,16 +200,18 @@ public class KafkaStockConsumer {
     }
 
     public Map<String, Object> getConsumerStatus() {
-        long avgProcessingTime = totalMessagesProcessed.get() > 0
-            ? totalProcessingTime.get() / totalMessagesProcessed.get()
-            : 0;
-
-        return Map.of(
-            "totalMessagesProcessed", totalMessagesProcessed.get(),
-            "avgProcessingTime", avgProcessingTime,
-            "cachedStocks", realTimeStockCache.size(),
-            "activeConnections", activeConnections.get(),
-            "timestamp", LocalDateTime.now()
-        );
+        long batches = totalBatches.get();
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("totalMessagesProcessed", totalMessagesProcessed.get());
+        status.put("totalBatches", batches);
+        status.put("avgBatchSize", batches > 0 ? totalMessagesProcessed.get() / batches : 0);
+        status.put("avgProcessingMicros", avgProcessingMicros());
+        status.put("decodeFailures", decodeFailures.get());
+        status.put("cachedStocks", tickSnapshotStore.size());
+        status.put("snapshotStore", tickSnapshotStore.getMetrics());
+        status.put("activeConnections", activeConnections.get());
+        status.put("timestamp", LocalDateTime.now());
+        return status;
     }
 }
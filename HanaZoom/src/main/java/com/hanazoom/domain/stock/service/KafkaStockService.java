@@ -2,13 +2,20 @@ package com.hanazoom.domain.stock.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.hanazoom.domain.stock.kafka.TickMessage;
+import com.hanazoom.domain.stock.kafka.TickMessageSerializer;
+import com.hanazoom.domain.stock.realtime.StockTick;
+import com.hanazoom.global.config.KafkaTickConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,44 +23,45 @@ import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @ConditionalOnProperty(value = "kafka.enabled", havingValue = "true", matchIfMissing = false)
 public class KafkaStockService {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, TickMessage> tickTemplate;
     private final ObjectMapper objectMapper;
+    private final KafkaTickConfig tickConfig;
 
 
-    private static final String STOCK_REALTIME_TOPIC = "stock-realtime-data";
     private static final String STOCK_BATCH_TOPIC = "stock-batch-data";
     private static final String PERFORMANCE_METRICS_TOPIC = "performance-metrics";
 
-    public CompletableFuture<SendResult<String, String>> sendRealTimeStockData(
-            String stockCode,
-            String stockName,
-            String currentPrice,
-            String changePrice,
-            String changeRate,
-            String changeSign
-    ) {
-        Map<String, Object> stockData = new HashMap<>();
-        stockData.put("stockCode", stockCode);
-        stockData.put("stockName", stockName);
-        stockData.put("currentPrice", currentPrice);
-        stockData.put("changePrice", changePrice);
-        stockData.put("changeRate", changeRate);
-        stockData.put("changeSign", changeSign);
-        stockData.put("timestamp", LocalDateTime.now());
+    public KafkaStockService(KafkaTemplate<String, String> kafkaTemplate,
+                             ProducerFactory<String, TickMessage> producerFactory,
+                             ObjectMapper objectMapper, KafkaTickConfig tickConfig) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.tickConfig = tickConfig;
+        this.tickTemplate = new KafkaTemplate<>(producerFactory, tickProducerOverrides(tickConfig));
+    }
 
-        try {
-            String message = objectMapper.writeValueAsString(stockData);
-            log.info("📈 Kafka 전송 - 실시간 주식 데이터: {} - {}", stockCode, currentPrice);
+    public CompletableFuture<SendResult<String, TickMessage>> sendRealTimeTick(StockTick tick) {
+        return tickTemplate.send(tickConfig.getTopic(), tick.getStockCode(), TickMessage.from(tick));
+    }
 
-            return kafkaTemplate.send(STOCK_REALTIME_TOPIC, stockCode, message);
-        } catch (JsonProcessingException e) {
-            log.error("❌ JSON 변환 실패", e);
-            throw new RuntimeException("JSON 변환 실패", e);
-        }
+    @PreDestroy
+    public void shutdown() {
+        tickTemplate.destroy();
+    }
+
+    private static Map<String, Object> tickProducerOverrides(KafkaTickConfig tickConfig) {
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        overrides.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, TickMessageSerializer.class);
+        overrides.put(ProducerConfig.BATCH_SIZE_CONFIG, tickConfig.getBatchSize());
+        overrides.put(ProducerConfig.LINGER_MS_CONFIG, tickConfig.getLingerMs());
+        overrides.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, tickConfig.getCompressionType());
+        overrides.put(ProducerConfig.ACKS_CONFIG, tickConfig.getAcks());
+        return overrides;
     }
 
     public CompletableFuture<SendResult<String, String>> sendBatchStockData(
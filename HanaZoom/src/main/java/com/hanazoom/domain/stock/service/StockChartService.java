@@ -3,6 +3,7 @@ package com.hanazoom.domain.stock.service;
 import com.hanazoom.domain.stock.dto.CandleData;
 
 import java.util.List;
+import java.util.Map;
 
 public interface StockChartService {
     
@@ -12,5 +13,9 @@ public interface StockChartService {
     
     void updateCurrentCandle(String stockCode, String currentPrice, String volume);
     
+    void updateCurrentCandle(String stockCode, long currentPrice, long cumulativeVolume, long tradeVolume, long tickMillis);
+    
     void createNewCandle(String stockCode, String timeframe, String openPrice);
+    
+    Map<String, Object> getChartCacheMetrics();
 }
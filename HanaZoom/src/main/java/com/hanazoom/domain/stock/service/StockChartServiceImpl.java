@@ -2,8 +2,14 @@ package com.hanazoom.domain.stock.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanazoom.domain.stock.archive.CandleArchive;
+import com.hanazoom.domain.stock.archive.CandleSlice;
 import com.hanazoom.domain.stock.dto.CandleData;
+import com.hanazoom.domain.stock.realtime.CandleAggregator;
+import com.hanazoom.domain.stock.realtime.CandleInterval;
+import com.hanazoom.domain.stock.realtime.RedisCandleStore;
 import com.hanazoom.global.service.KisApiService;
+import com.hanazoom.global.service.KisRestGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -12,6 +18,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import com.hanazoom.domain.stock.entity.StockMinutePrice;
 import com.hanazoom.domain.stock.entity.StockDailyPrice;
@@ -38,12 +45,40 @@ public class StockChartServiceImpl implements StockChartService {
     private final StockDailyPriceRepository dailyPriceRepository;
     private final StockWeeklyPriceRepository weeklyPriceRepository;
     private final StockMonthlyPriceRepository monthlyPriceRepository;
+    private final RedisCandleStore redisCandleStore;
+    private final ChartDataCache chartDataCache;
+    private final CandleAggregator candleAggregator;
+    private final CandleArchive candleArchive;
 
     @Override
     public List<CandleData> getChartData(String stockCode, String timeframe, int limit) {
+        List<CandleData> history;
+        try {
+            history = chartDataCache.get(stockCode, timeframe, limit, () -> loadChartData(stockCode, timeframe, limit));
+        } catch (Exception e) {
+            log.error("KIS 차트 데이터 조회 실패: 종목={}, 시간봉={}", stockCode, timeframe, e);
+
+            return generateDummyChartData(stockCode, timeframe, limit);
+        }
+        return mergeLiveCandle(stockCode, timeframe, limit, history);
+    }
+
+    @Override
+    public Map<String, Object> getChartCacheMetrics() {
+        return chartDataCache.getMetrics();
+    }
+
+    private List<CandleData> loadChartData(String stockCode, String timeframe, int limit) {
         try {
             log.info("차트 데이터 조회 시작: 종목={}, 시간봉={}, 제한={}", stockCode, timeframe, limit);
-            
+
+
+            List<CandleData> archived = getArchivedChartData(stockCode, timeframe, limit);
+            if (!archived.isEmpty()) {
+                log.info("캔들 아카이브에서 차트 데이터 조회 완료: 종목={}, 시간봉={}, 개수={}", stockCode, timeframe, archived.size());
+                return archived;
+            }
+
 
             if (isMinuteTimeframe(timeframe)) {
                 List<CandleData> dbData = getMinuteDataFromDB(stockCode, timeframe, limit);
@@ -67,11 +102,13 @@ public class StockChartServiceImpl implements StockChartService {
             if (timeframe.equals("1D") || timeframe.equals("1W") || timeframe.equals("1MO")) {
 
                 String period = timeframe.equals("1D") ? "D" : timeframe.equals("1W") ? "W" : "M";
-                kisResponse = kisApiService.getDailyChartDataWithDateRange(stockCode, period, "1", null, null);
+                kisResponse = KisRestGateway.inBackground(
+                        () -> kisApiService.getDailyChartDataWithDateRange(stockCode, period, "1", null, null));
             } else {
 
                 String minuteCode = convertToKisMinuteCode(timeframe);
-                kisResponse = kisApiService.getMinuteChartData(stockCode, minuteCode, "1");
+                kisResponse = KisRestGateway.inBackground(
+                        () -> kisApiService.getMinuteChartData(stockCode, minuteCode, "1"));
             }
 
 
@@ -85,33 +122,117 @@ public class StockChartServiceImpl implements StockChartService {
             return parsedData;
             
         } catch (Exception e) {
-            log.error("KIS 차트 데이터 조회 실패: 종목={}, 시간봉={}", stockCode, timeframe, e);
-
-            return generateDummyChartData(stockCode, timeframe, limit);
+            throw new RuntimeException("KIS 차트 데이터 조회 실패", e);
         }
     }
 
-    private List<CandleData> getChartDataFromKis(String stockCode, String timeframe, int limit) {
+    private List<CandleData> getArchivedChartData(String stockCode, String timeframe, int limit) {
+        if (!candleArchive.supports(timeframe)) {
+            return new ArrayList<>();
+        }
         try {
-            String kisResponse;
-            
+            List<CandleData> candles = candleArchive.latest(stockCode, timeframe, limit,
+                    slice -> toCandleData(stockCode, timeframe, slice));
+            return candles != null ? candles : new ArrayList<>();
+        } catch (Exception e) {
+            log.warn("캔들 아카이브 조회 실패, DB 조회로 대체: 종목={}, 시간봉={}, 에러={}", stockCode, timeframe, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
 
-            if (timeframe.equals("1D") || timeframe.equals("1W") || timeframe.equals("1MO")) {
+    private List<CandleData> toCandleData(String stockCode, String timeframe, CandleSlice slice) {
+        List<CandleData> candles = new ArrayList<>(slice.size());
+        for (int i = 0; i < slice.size(); i++) {
+            long close = slice.close(i);
+            long previousClose = slice.previousClose(i);
+            long change = previousClose > 0 ? close - previousClose : 0L;
+            String changeRate = previousClose > 0
+                    ? BigDecimal.valueOf(change * 100L).divide(BigDecimal.valueOf(previousClose), 2,
+                            java.math.RoundingMode.HALF_UP).toString()
+                    : "0.00";
+            candles.add(CandleData.builder()
+                    .stockCode(stockCode)
+                    .dateTime(LocalDateTime.ofInstant(java.time.Instant.ofEpochMilli(slice.time(i)),
+                            java.time.ZoneId.of("Asia/Seoul")))
+                    .timeframe(timeframe)
+                    .openPrice(String.valueOf(slice.open(i)))
+                    .highPrice(String.valueOf(slice.high(i)))
+                    .lowPrice(String.valueOf(slice.low(i)))
+                    .closePrice(String.valueOf(close))
+                    .volume(String.valueOf(slice.volume(i)))
+                    .changePrice(String.valueOf(change))
+                    .changeRate(changeRate)
+                    .changeSign(change > 0 ? "2" : change < 0 ? "4" : "3")
+                    .isComplete(true)
+                    .timestamp(slice.time(i))
+                    .build());
+        }
+        return candles;
+    }
 
-                String period = timeframe.equals("1D") ? "D" : timeframe.equals("1W") ? "W" : "M";
-                kisResponse = kisApiService.getDailyChartData(stockCode, period, "1");
-            } else {
+    private List<CandleData> mergeLiveCandle(String stockCode, String timeframe, int limit, List<CandleData> history) {
+        CandleData live = findLiveCandle(stockCode, timeframe);
+        if (live == null) {
+            return history;
+        }
 
-                String minuteCode = convertToKisMinuteCode(timeframe);
-                kisResponse = kisApiService.getMinuteChartData(stockCode, minuteCode, "1");
-            }
+        List<CandleData> merged = new ArrayList<>(history);
+        if (merged.isEmpty()) {
+            merged.add(live);
+            return merged;
+        }
 
+        int last = merged.size() - 1;
+        boolean ascending = !merged.get(0).getDateTime().isAfter(merged.get(last).getDateTime());
+        int newestIndex = ascending ? last : 0;
+        int compared = bucketOf(timeframe, merged.get(newestIndex).getDateTime())
+                .compareTo(bucketOf(timeframe, live.getDateTime()));
+        if (compared == 0) {
+            merged.set(newestIndex, live);
+        } else if (compared < 0) {
+            if (ascending) {
+                merged.add(live);
+                if (merged.size() > limit) {
+                    merged.remove(0);
+                }
+            } else {
+                merged.add(0, live);
+                if (merged.size() > limit) {
+                    merged.remove(merged.size() - 1);
+                }
+            }
+        }
+        return merged;
+    }
 
-            return parseKisChartResponse(kisResponse, stockCode, timeframe, limit);
-            
+    private CandleData findLiveCandle(String stockCode, String timeframe) {
+        try {
+            CandleInterval interval = CandleInterval.fromTimeframe(timeframe);
+            if (interval != null) {
+                StockMinutePrice current = candleAggregator.getCurrentCandle(stockCode, interval);
+                if (current != null) {
+                    CandleData candle = convertToCandleData(current, timeframe);
+                    candle.setComplete(false);
+                    return candle;
+                }
+            }
+            return redisCandleStore.get(stockCode, timeframe);
         } catch (Exception e) {
-            log.error("KIS 차트 데이터 조회 실패: 종목={}, 시간봉={}", stockCode, timeframe, e);
-            throw new RuntimeException("KIS 차트 데이터 조회 실패", e);
+            log.debug("실시간 캔들 병합 생략: 종목={}, 시간봉={}, 에러={}", stockCode, timeframe, e.getMessage());
+            return null;
+        }
+    }
+
+    private LocalDateTime bucketOf(String timeframe, LocalDateTime dateTime) {
+        switch (timeframe) {
+            case "1D":
+                return dateTime.toLocalDate().atStartOfDay();
+            case "1W":
+                return dateTime.toLocalDate().with(java.time.DayOfWeek.MONDAY).atStartOfDay();
+            case "1MO":
+                return dateTime.toLocalDate().withDayOfMonth(1).atStartOfDay();
+            default:
+                return dateTime.truncatedTo(java.time.temporal.ChronoUnit.MINUTES);
         }
     }
 
@@ -213,21 +334,8 @@ public class StockChartServiceImpl implements StockChartService {
     public CandleData getCurrentCandle(String stockCode, String timeframe) {
         try {
 
-            String key = "candle:current:" + stockCode + ":" + timeframe;
-            CandleData currentCandle = (CandleData) redisTemplate.opsForValue().get(key);
-            
-            if (currentCandle == null) {
-
-                currentCandle = createDummyCurrentCandle(stockCode, timeframe);
-                try {
-                    redisTemplate.opsForValue().set(key, currentCandle);
-                } catch (Exception e) {
-                    log.warn("Redis 캔들 저장 실패 - 종목: {}, 시간봉: {}, 에러: {}", 
-                            stockCode, timeframe, e.getMessage());
-                }
-            }
-            
-            return currentCandle;
+            CandleData currentCandle = redisCandleStore.get(stockCode, timeframe);
+            return currentCandle != null ? currentCandle : createDummyCurrentCandle(stockCode, timeframe);
         } catch (Exception e) {
             log.error("Redis 연결 실패로 캔들 조회 중단 - 종목: {}, 시간봉: {}, 에러: {}", 
                     stockCode, timeframe, e.getMessage());
@@ -239,24 +347,18 @@ public class StockChartServiceImpl implements StockChartService {
     @Override
     public void updateCurrentCandle(String stockCode, String currentPrice, String volume) {
         try {
+            updateCurrentCandle(stockCode, new BigDecimal(currentPrice).longValue(),
+                    volume != null ? Long.parseLong(volume) : 0L, 0L, System.currentTimeMillis());
+        } catch (NumberFormatException e) {
+            log.warn("캔들 업데이트 값 형식 오류 - 종목: {}, 현재가: {}, 거래량: {}", stockCode, currentPrice, volume);
+        }
+    }
 
-            String[] timeframes = {"1M", "5M", "15M", "1H", "1D", "1W", "1MO"};
-            
-            for (String timeframe : timeframes) {
-                String key = "candle:current:" + stockCode + ":" + timeframe;
-                try {
-                    CandleData currentCandle = (CandleData) redisTemplate.opsForValue().get(key);
-                    
-                    if (currentCandle != null) {
-                        currentCandle.updateWithRealtime(currentPrice, volume);
-                        redisTemplate.opsForValue().set(key, currentCandle);
-                    }
-                } catch (Exception e) {
-                    log.warn("Redis 캔들 업데이트 실패 - 종목: {}, 시간봉: {}, 에러: {}", 
-                            stockCode, timeframe, e.getMessage());
-
-                }
-            }
+    @Override
+    public void updateCurrentCandle(String stockCode, long currentPrice, long cumulativeVolume, long tradeVolume,
+                                    long tickMillis) {
+        try {
+            redisCandleStore.apply(stockCode, currentPrice, cumulativeVolume, tradeVolume, tickMillis);
         } catch (Exception e) {
             log.error("Redis 연결 실패로 캔들 업데이트 중단 - 종목: {}, 에러: {}", stockCode, e.getMessage());
         }
@@ -264,25 +366,7 @@ public class StockChartServiceImpl implements StockChartService {
 
     @Override
     public void createNewCandle(String stockCode, String timeframe, String openPrice) {
-        String key = "candle:current:" + stockCode + ":" + timeframe;
-        
-        CandleData newCandle = CandleData.builder()
-                .stockCode(stockCode)
-                .dateTime(LocalDateTime.now())
-                .timeframe(timeframe)
-                .openPrice(openPrice)
-                .highPrice(openPrice)
-                .lowPrice(openPrice)
-                .closePrice(openPrice)
-                .volume("0")
-                .changePrice("0")
-                .changeRate("0.00")
-                .changeSign("3")
-                .isComplete(false)
-                .timestamp(System.currentTimeMillis())
-                .build();
-        
-        redisTemplate.opsForValue().set(key, newCandle);
+        redisCandleStore.open(stockCode, timeframe, new BigDecimal(openPrice).longValue(), System.currentTimeMillis());
         log.info("새 캔들 생성: 종목={}, 시간봉={}, 시가={}", stockCode, timeframe, openPrice);
     }
 
@@ -429,6 +513,7 @@ public class StockChartServiceImpl implements StockChartService {
                 stockMinutePriceService.saveMinutePrice(minutePrice);
             }
             
+            candleArchive.invalidate(stockCode, timeframe);
             log.info("분봉 데이터 DB 저장 완료: 종목={}, 시간봉={}, 개수={}", stockCode, timeframe, data.size());
         } catch (Exception e) {
             log.error("분봉 데이터 DB 저장 실패: 종목={}, 시간봉={}", stockCode, timeframe, e);
@@ -436,10 +521,14 @@ public class StockChartServiceImpl implements StockChartService {
     }
 
     private CandleData convertToCandleData(StockMinutePrice minutePrice) {
+        return convertToCandleData(minutePrice, convertMinuteIntervalToTimeframe(minutePrice.getMinuteInterval()));
+    }
+
+    private CandleData convertToCandleData(StockMinutePrice minutePrice, String timeframe) {
         return CandleData.builder()
                 .stockCode(minutePrice.getStockSymbol())
                 .dateTime(minutePrice.getTimestamp())
-                .timeframe(convertMinuteIntervalToTimeframe(minutePrice.getMinuteInterval()))
+                .timeframe(timeframe)
                 .openPrice(minutePrice.getOpenPrice().toString())
                 .highPrice(minutePrice.getHighPrice().toString())
                 .lowPrice(minutePrice.getLowPrice().toString())
@@ -458,6 +547,7 @@ public class StockChartServiceImpl implements StockChartService {
             case "1M": return StockMinutePrice.MinuteInterval.ONE_MINUTE;
             case "5M": return StockMinutePrice.MinuteInterval.FIVE_MINUTES;
             case "15M": return StockMinutePrice.MinuteInterval.FIFTEEN_MINUTES;
+            case "1H": return StockMinutePrice.MinuteInterval.ONE_HOUR;
             default: return StockMinutePrice.MinuteInterval.FIVE_MINUTES;
         }
     }
@@ -467,6 +557,7 @@ public class StockChartServiceImpl implements StockChartService {
             case ONE_MINUTE: return "1M";
             case FIVE_MINUTES: return "5M";
             case FIFTEEN_MINUTES: return "15M";
+            case ONE_HOUR: return "1H";
             default: return "5M";
         }
     }
@@ -5,11 +5,12 @@ import com.hanazoom.domain.stock.repository.StockMinutePriceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -21,7 +22,18 @@ import java.util.Optional;
 public class StockMinutePriceService {
 
     private final StockMinutePriceRepository stockMinutePriceRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int CLEANUP_BATCH_SIZE = 10000;
+
+    private static final String UPSERT_MINUTE_PRICE_SQL =
+            "INSERT INTO stock_minute_prices (stock_symbol, minute_interval, `timestamp`, open_price, high_price, "
+                    + "low_price, close_price, volume, price_change, price_change_percent, vwap, tick_count, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE open_price = VALUES(open_price), high_price = VALUES(high_price), "
+                    + "low_price = VALUES(low_price), close_price = VALUES(close_price), volume = VALUES(volume), "
+                    + "price_change = VALUES(price_change), price_change_percent = VALUES(price_change_percent), "
+                    + "vwap = VALUES(vwap), tick_count = VALUES(tick_count), updated_at = VALUES(updated_at)";
 
     public List<StockMinutePrice> getRecentMinutePrices(String stockSymbol, 
                                                        StockMinutePrice.MinuteInterval minuteInterval, 
@@ -97,162 +109,49 @@ public class StockMinutePriceService {
     }
 
     @Transactional
-    public void updateCurrentMinutePrice(String stockSymbol, 
-                                       StockMinutePrice.MinuteInterval minuteInterval,
-                                       BigDecimal currentPrice, 
-                                       Long cumulativeVolume) {
-        try {
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime candleStartTime = getCandleStartTime(now, minuteInterval);
-            
-
-            Optional<StockMinutePrice> currentCandle = stockMinutePriceRepository
-                    .findByStockSymbolAndMinuteIntervalOrderByTimestampDesc(stockSymbol, minuteInterval)
-                    .stream()
-                    .filter(p -> p.getTimestamp().equals(candleStartTime))
-                    .findFirst();
-
-            if (currentCandle.isPresent()) {
-
-                StockMinutePrice candle = currentCandle.get();
-                
-
-                BigDecimal previousClose = candle.getClosePrice();
-                
-
-                candle.setClosePrice(currentPrice);
-                candle.setHighPrice(candle.getHighPrice().max(currentPrice));
-                candle.setLowPrice(candle.getLowPrice().min(currentPrice));
-                candle.setUpdatedAt(now);
-                
-
-                Long intervalVolume = calculateIntervalVolume(stockSymbol, minuteInterval, cumulativeVolume, candleStartTime);
-                candle.setVolume(intervalVolume);
-                
-
-                BigDecimal change = currentPrice.subtract(candle.getOpenPrice());
-                candle.setPriceChange(change);
-                if (candle.getOpenPrice().compareTo(BigDecimal.ZERO) > 0) {
-                    BigDecimal changePercent = change.divide(candle.getOpenPrice(), 4, BigDecimal.ROUND_HALF_UP)
-                            .multiply(BigDecimal.valueOf(100));
-                    candle.setPriceChangePercent(changePercent);
-                }
-                
-
-                candle.setVwap(calculateVWAP(candle.getOpenPrice(), previousClose, currentPrice, intervalVolume));
-                
-
-                candle.setTickCount(candle.getTickCount() + 1);
-                
-                stockMinutePriceRepository.save(candle);
-            } else {
-
-                StockMinutePrice newCandle = StockMinutePrice.builder()
-                        .stockSymbol(stockSymbol)
-                        .minuteInterval(minuteInterval)
-                        .timestamp(candleStartTime)
-                        .openPrice(currentPrice)
-                        .highPrice(currentPrice)
-                        .lowPrice(currentPrice)
-                        .closePrice(currentPrice)
-                        .volume(0L) 
-                        .priceChange(BigDecimal.ZERO)
-                        .priceChangePercent(BigDecimal.ZERO)
-                        .vwap(currentPrice)
-                        .tickCount(1)
-                        .build();
-                
-                stockMinutePriceRepository.save(newCandle);
-            }
-        } catch (Exception e) {
-            log.error("분봉 데이터 업데이트 실패: 종목={}, 간격={}", stockSymbol, minuteInterval, e);
+    public void upsertMinutePrices(List<StockMinutePrice> minutePrices) {
+        if (minutePrices.isEmpty()) {
+            return;
         }
-    }
-
-    private LocalDateTime getCandleStartTime(LocalDateTime time, StockMinutePrice.MinuteInterval interval) {
-        int minutes = interval.getMinutes();
-        
 
-        long totalMinutes = time.getHour() * 60 + time.getMinute();
-        
-
-        long candleStartMinutes = (totalMinutes / minutes) * minutes;
-        
-
-        int hour = (int) (candleStartMinutes / 60);
-        int minute = (int) (candleStartMinutes % 60);
-        
-        return time.withHour(hour).withMinute(minute).withSecond(0).withNano(0);
-    }
-    
-    private Long calculateIntervalVolume(String stockSymbol, 
-                                       StockMinutePrice.MinuteInterval minuteInterval,
-                                       Long currentCumulativeVolume, 
-                                       LocalDateTime candleStartTime) {
-        try {
-
-            List<StockMinutePrice> previousCandles = stockMinutePriceRepository
-                    .findByStockSymbolAndMinuteIntervalOrderByTimestampDesc(stockSymbol, minuteInterval);
-            
-
-            Optional<StockMinutePrice> previousCandle = previousCandles.stream()
-                    .filter(p -> p.getTimestamp().isBefore(candleStartTime))
-                    .findFirst();
-            
-            if (previousCandle.isPresent()) {
-
-                String cacheKey = "cumulative_volume:" + stockSymbol + ":" + previousCandle.get().getTimestamp();
-                String cachedVolume = (String) redisTemplate.opsForValue().get(cacheKey);
-                
-                if (cachedVolume != null) {
-                    Long previousCumulativeVolume = Long.parseLong(cachedVolume);
-                    return currentCumulativeVolume - previousCumulativeVolume;
-                }
-            }
-            
-
-            return currentCumulativeVolume;
-            
-        } catch (Exception e) {
-            log.warn("구간별 거래량 계산 실패: 종목={}, 간격={}", stockSymbol, minuteInterval, e);
-            return currentCumulativeVolume;
-        }
-    }
-    
-    private BigDecimal calculateVWAP(BigDecimal openPrice, 
-                                   BigDecimal previousClose, 
-                                   BigDecimal currentPrice, 
-                                   Long volume) {
-        try {
-            if (volume == null || volume == 0) {
-                return currentPrice;
-            }
-            
-
-
-
-            BigDecimal typicalPrice = openPrice.add(currentPrice).divide(BigDecimal.valueOf(2), 2, BigDecimal.ROUND_HALF_UP);
-            
-            return typicalPrice;
-            
-        } catch (Exception e) {
-            log.warn("VWAP 계산 실패", e);
-            return currentPrice;
-        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPSERT_MINUTE_PRICE_SQL, minutePrices, minutePrices.size(), (ps, candle) -> {
+            ps.setString(1, candle.getStockSymbol());
+            ps.setString(2, candle.getMinuteInterval().name());
+            ps.setTimestamp(3, Timestamp.valueOf(candle.getTimestamp()));
+            ps.setBigDecimal(4, candle.getOpenPrice());
+            ps.setBigDecimal(5, candle.getHighPrice());
+            ps.setBigDecimal(6, candle.getLowPrice());
+            ps.setBigDecimal(7, candle.getClosePrice());
+            ps.setLong(8, candle.getVolume());
+            ps.setBigDecimal(9, candle.getPriceChange());
+            ps.setBigDecimal(10, candle.getPriceChangePercent());
+            ps.setBigDecimal(11, candle.getVwap());
+            ps.setInt(12, candle.getTickCount());
+            ps.setTimestamp(13, Timestamp.valueOf(now));
+            ps.setTimestamp(14, Timestamp.valueOf(now));
+        });
+        log.debug("완성된 분봉 일괄 저장 완료: 건수={}", minutePrices.size());
     }
 
     public long getMinutePriceCount(String stockSymbol, StockMinutePrice.MinuteInterval minuteInterval) {
         return stockMinutePriceRepository.countByStockSymbolAndMinuteInterval(stockSymbol, minuteInterval);
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanupOldMinutePrices(String stockSymbol, 
                                      StockMinutePrice.MinuteInterval minuteInterval,
                                      LocalDateTime cutoffTime) {
         try {
-            stockMinutePriceRepository.deleteOldData(stockSymbol, minuteInterval, cutoffTime);
-            log.info("오래된 분봉 데이터 정리 완료: 종목={}, 간격={}, 기준시간={}", 
-                    stockSymbol, minuteInterval, cutoffTime);
+            long deleted = 0;
+            int batch;
+            do {
+                batch = stockMinutePriceRepository.deleteOldDataBatch(
+                        stockSymbol, minuteInterval.name(), cutoffTime, CLEANUP_BATCH_SIZE);
+                deleted += batch;
+            } while (batch == CLEANUP_BATCH_SIZE);
+            log.info("오래된 분봉 데이터 정리 완료: 종목={}, 간격={}, 기준시간={}, 삭제={}건", 
+                    stockSymbol, minuteInterval, cutoffTime, deleted);
         } catch (Exception e) {
             log.error("오래된 분봉 데이터 정리 실패: 종목={}, 간격={}", stockSymbol, minuteInterval, e);
         }
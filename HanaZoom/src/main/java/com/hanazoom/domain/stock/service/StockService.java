@@ -8,6 +8,8 @@ import com.hanazoom.domain.stock.entity.Stock;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface StockService {
     Stock getStockBySymbol(String symbol);
@@ -18,9 +20,17 @@ public interface StockService {
 
     StockPriceResponse getRealTimePrice(String stockCode);
 
+    CompletableFuture<StockPriceResponse> getRealTimePriceAsync(String stockCode);
+
     StockBasicInfoResponse getStockBasicInfo(String stockCode);
 
+    CompletableFuture<StockBasicInfoResponse> getStockBasicInfoAsync(String stockCode);
+
     OrderBookResponse getOrderBook(String stockCode);
 
+    CompletableFuture<OrderBookResponse> getOrderBookAsync(String stockCode);
+
     Page<StockTickerDto> getAllStocks(Pageable pageable);
+
+    Map<String, Object> getQuoteCacheMetrics();
 }
\ No newline at end of file
@@ -6,12 +6,16 @@ import com.hanazoom.domain.stock.dto.StockBasicInfoResponse;
 import com.hanazoom.domain.stock.dto.StockPriceResponse;
 import com.hanazoom.domain.stock.dto.StockTickerDto;
 import com.hanazoom.domain.stock.entity.Stock;
+import com.hanazoom.domain.stock.realtime.RealtimeOrderBook;
+import com.hanazoom.domain.stock.realtime.RealtimeOrderBookStore;
+import com.hanazoom.domain.stock.realtime.RealtimeSnapshotCache;
 import com.hanazoom.domain.stock.repository.StockRepository;
 import com.hanazoom.global.service.KisApiService;
 import com.hanazoom.global.util.MarketTimeUtils;
-import lombok.RequiredArgsConstructor;
+import com.hanazoom.global.util.SingleFlightCache;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,13 +24,18 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class StockServiceImpl implements StockService {
 
         private final StockRepository stockRepository;
@@ -34,6 +43,30 @@ public class StockServiceImpl implements StockService {
         private final MarketTimeUtils marketTimeUtils;
         private final RedisTemplate<String, Object> redisTemplate;
         private final ObjectMapper objectMapper;
+        private final RealtimeSnapshotCache realtimeSnapshotCache;
+        private final RealtimeOrderBookStore realtimeOrderBookStore;
+
+        private final SingleFlightCache<String, StockPriceResponse> priceQuotes;
+        private final SingleFlightCache<String, OrderBookResponse> orderBooks;
+        private final long feedMaxAgeMillis;
+
+        public StockServiceImpl(StockRepository stockRepository, KisApiService kisApiService,
+                        MarketTimeUtils marketTimeUtils, RedisTemplate<String, Object> redisTemplate,
+                        ObjectMapper objectMapper, RealtimeSnapshotCache realtimeSnapshotCache,
+                        RealtimeOrderBookStore realtimeOrderBookStore,
+                        @Value("${stock.quote.cache-ttl-ms:500}") long quoteCacheTtlMillis,
+                        @Value("${stock.quote.feed-max-age-ms:3000}") long feedMaxAgeMillis) {
+                this.stockRepository = stockRepository;
+                this.kisApiService = kisApiService;
+                this.marketTimeUtils = marketTimeUtils;
+                this.redisTemplate = redisTemplate;
+                this.objectMapper = objectMapper;
+                this.realtimeSnapshotCache = realtimeSnapshotCache;
+                this.realtimeOrderBookStore = realtimeOrderBookStore;
+                this.priceQuotes = new SingleFlightCache<>(quoteCacheTtlMillis, 4096);
+                this.orderBooks = new SingleFlightCache<>(quoteCacheTtlMillis, 4096);
+                this.feedMaxAgeMillis = feedMaxAgeMillis;
+        }
 
         @Override
         @Transactional(readOnly = true)
@@ -205,232 +238,293 @@ public class StockServiceImpl implements StockService {
 
         @Override
         public StockPriceResponse getRealTimePrice(String stockCode) {
+                return await(getRealTimePriceAsync(stockCode));
+        }
+
+        @Override
+        public CompletableFuture<StockPriceResponse> getRealTimePriceAsync(String stockCode) {
+                StockPriceResponse feedSnapshot = realtimeSnapshotCache.getFresh(stockCode, feedMaxAgeMillis);
+                if (feedSnapshot != null) {
+                        return CompletableFuture.completedFuture(feedSnapshot);
+                }
+                return priceQuotes.get(stockCode, () -> loadRealTimePrice(stockCode).toFuture());
+        }
+
+        private Mono<StockPriceResponse> loadRealTimePrice(String stockCode) {
                 log.info("🔍 DB에서 현재가 조회 시작: {}", stockCode);
 
-                try {
-                        String response = kisApiService.getCurrentStockPrice(stockCode);
-                        JSONObject jsonResponse = new JSONObject(response);
+                return kisApiService.fetchCurrentStockPrice(stockCode)
+                                .publishOn(Schedulers.boundedElastic())
+                                .map(response -> toPriceResponse(stockCode, response))
+                                .onErrorResume(e -> fallbackPrice(stockCode, e));
+        }
 
+        private StockPriceResponse toPriceResponse(String stockCode, String response) {
+                JSONObject jsonResponse = new JSONObject(response);
 
-                        if (!"0".equals(jsonResponse.optString("rt_cd"))) {
-                                log.error("❌ KIS API 오류: {}", jsonResponse.optString("msg1"));
-                                throw new RuntimeException("KIS API 오류: " + jsonResponse.optString("msg1"));
-                        }
 
-                        JSONObject output = jsonResponse.getJSONObject("output");
-                        log.info("📊 KIS API 현재가 응답: 종목={}, 현재가={}, 전일대비={}", 
-                            stockCode, output.optString("stck_prpr", "0"), output.optString("prdy_vrss", "0"));
+                if (!"0".equals(jsonResponse.optString("rt_cd"))) {
+                        log.error("❌ KIS API 오류: {}", jsonResponse.optString("msg1"));
+                        throw new RuntimeException("KIS API 오류: " + jsonResponse.optString("msg1"));
+                }
 
+                JSONObject output = jsonResponse.getJSONObject("output");
+                log.info("📊 KIS API 현재가 응답: 종목={}, 현재가={}, 전일대비={}", 
+                    stockCode, output.optString("stck_prpr", "0"), output.optString("prdy_vrss", "0"));
 
-                        MarketTimeUtils.MarketTimeInfo marketInfo = marketTimeUtils.getMarketTimeInfo();
-                        boolean isMarketOpen = marketInfo.isMarketOpen();
-                        boolean isAfterMarketClose = marketInfo.isMarketClosed() &&
-                                        !marketInfo.getMarketStatus()
-                                                        .equals(MarketTimeUtils.MarketStatus.CLOSED_WEEKEND)
-                                        &&
-                                        !marketInfo.getMarketStatus()
-                                                        .equals(MarketTimeUtils.MarketStatus.CLOSED_HOLIDAY);
 
+                MarketTimeUtils.MarketTimeInfo marketInfo = marketTimeUtils.getMarketTimeInfo();
+                boolean isMarketOpen = marketInfo.isMarketOpen();
+                boolean isAfterMarketClose = marketInfo.isMarketClosed() &&
+                                !marketInfo.getMarketStatus()
+                                                .equals(MarketTimeUtils.MarketStatus.CLOSED_WEEKEND)
+                                &&
+                                !marketInfo.getMarketStatus()
+                                                .equals(MarketTimeUtils.MarketStatus.CLOSED_HOLIDAY);
 
-                        String originalCurrentPrice = output.optString("stck_prpr", "0");
-                        String previousClose = output.optString("stck_sdpr", "0");
-                        String changePrice = output.optString("prdy_vrss", "0");
 
+                String originalCurrentPrice = output.optString("stck_prpr", "0");
+                String previousClose = output.optString("stck_sdpr", "0");
+                String changePrice = output.optString("prdy_vrss", "0");
 
 
-                        String displayCurrentPrice = originalCurrentPrice;
 
-                        if (isAfterMarketClose) {
-                                log.info("시장 종료 후 - 종가({})를 현재가로 표시: {}", displayCurrentPrice, stockCode);
-                        }
+                String displayCurrentPrice = originalCurrentPrice;
 
+                if (isAfterMarketClose) {
+                        log.info("시장 종료 후 - 종가({})를 현재가로 표시: {}", displayCurrentPrice, stockCode);
+                }
 
-                        String calculatedChangeRate = "0";
-                        try {
-                                double currentPriceValue = Double.parseDouble(displayCurrentPrice);
-                                double changePriceValue = Double.parseDouble(changePrice);
-                                
-                                if (currentPriceValue > 0 && changePriceValue != 0) {
-                                        double changeRateValue = (changePriceValue / (currentPriceValue - changePriceValue)) * 100;
-                                        calculatedChangeRate = String.format("%.2f", changeRateValue);
-                                }
-                        } catch (Exception e) {
-                                log.warn("등락률 계산 실패, KIS API 값 사용: 종목={}, 에러={}", stockCode, e.getMessage());
-                                calculatedChangeRate = output.optString("prdy_ctrt", "0");
-                        }
-                        
-                        log.info("📊 등락률 계산: 종목={}, 현재가={}, 변동가={}, 계산된등락률={}, KIS등락률={}", 
-                            stockCode, displayCurrentPrice, changePrice, calculatedChangeRate, output.optString("prdy_ctrt", "0"));
 
-                        StockPriceResponse stockPriceResponse = StockPriceResponse.builder()
-                                        .stockCode(stockCode)
-                                        .stockName(output.optString("hts_kor_isnm", "")) 
-                                        .currentPrice(displayCurrentPrice) 
-                                        .changePrice(changePrice) 
-                                        .changeRate(calculatedChangeRate) 
-                                        .changeSign(output.optString("prdy_vrss_sign", "3")) 
-                                        .openPrice(output.optString("stck_oprc", "0")) 
-                                        .highPrice(output.optString("stck_hgpr", "0")) 
-                                        .lowPrice(output.optString("stck_lwpr", "0")) 
-                                        .volume(output.optString("acml_vol", "0")) 
-                                        .volumeRatio(output.optString("vol_tnrt", "0")) 
-                                        .marketCap(output.optString("hts_avls", "0")) 
-                                        .previousClose(previousClose) 
-                                        .updatedTime(output.optString("stck_cntg_hour", "")) 
-
-                                        .isMarketOpen(isMarketOpen)
-                                        .isAfterMarketClose(isAfterMarketClose)
-                                        .marketStatus(marketInfo.getStatusMessage())
-                                        .build();
-
-
-                        try {
-                                String key = "stock:realtime:" + stockCode;
-                                String stockDataJson = objectMapper.writeValueAsString(stockPriceResponse);
-                                redisTemplate.opsForValue().set(key, stockDataJson);
-                                log.info("💾 KIS API 데이터 Redis 저장: 종목={}, 현재가={}, 키={}", 
-                                    stockCode, displayCurrentPrice, key);
-                        } catch (Exception e) {
-                                log.error("❌ KIS API 데이터 Redis 저장 실패: 종목={}, 에러={}", stockCode, e.getMessage());
+                String calculatedChangeRate = "0";
+                try {
+                        double currentPriceValue = Double.parseDouble(displayCurrentPrice);
+                        double changePriceValue = Double.parseDouble(changePrice);
+                        
+                        if (currentPriceValue > 0 && changePriceValue != 0) {
+                                double changeRateValue = (changePriceValue / (currentPriceValue - changePriceValue)) * 100;
+                                calculatedChangeRate = String.format("%.2f", changeRateValue);
                         }
+                } catch (Exception e) {
+                        log.warn("등락률 계산 실패, KIS API 값 사용: 종목={}, 에러={}", stockCode, e.getMessage());
+                        calculatedChangeRate = output.optString("prdy_ctrt", "0");
+                }
+                
+                log.info("📊 등락률 계산: 종목={}, 현재가={}, 변동가={}, 계산된등락률={}, KIS등락률={}", 
+                    stockCode, displayCurrentPrice, changePrice, calculatedChangeRate, output.optString("prdy_ctrt", "0"));
+
+                StockPriceResponse stockPriceResponse = StockPriceResponse.builder()
+                                .stockCode(stockCode)
+                                .stockName(output.optString("hts_kor_isnm", "")) 
+                                .currentPrice(displayCurrentPrice) 
+                                .changePrice(changePrice) 
+                                .changeRate(calculatedChangeRate) 
+                                .changeSign(output.optString("prdy_vrss_sign", "3")) 
+                                .openPrice(output.optString("stck_oprc", "0")) 
+                                .highPrice(output.optString("stck_hgpr", "0")) 
+                                .lowPrice(output.optString("stck_lwpr", "0")) 
+                                .volume(output.optString("acml_vol", "0")) 
+                                .volumeRatio(output.optString("vol_tnrt", "0")) 
+                                .marketCap(output.optString("hts_avls", "0")) 
+                                .previousClose(previousClose) 
+                                .updatedTime(output.optString("stck_cntg_hour", "")) 
+
+                                .isMarketOpen(isMarketOpen)
+                                .isAfterMarketClose(isAfterMarketClose)
+                                .marketStatus(marketInfo.getStatusMessage())
+                                .build();
 
-                        return stockPriceResponse;
 
+                try {
+                        String key = "stock:realtime:" + stockCode;
+                        String stockDataJson = objectMapper.writeValueAsString(stockPriceResponse);
+                        redisTemplate.opsForValue().set(key, stockDataJson);
+                        log.info("💾 KIS API 데이터 Redis 저장: 종목={}, 현재가={}, 키={}", 
+                            stockCode, displayCurrentPrice, key);
                 } catch (Exception e) {
-                        log.error("❌ KIS API 호출 실패: 종목={}, 에러={}", stockCode, e.getMessage());
-                        
+                        log.error("❌ KIS API 데이터 Redis 저장 실패: 종목={}, 에러={}", stockCode, e.getMessage());
+                }
 
-                        try {
-                                Stock stock = stockRepository.findBySymbol(stockCode).orElse(null);
-                                if (stock != null) {
-                                        log.warn("⚠️ KIS API 실패 - DB 데이터로 fallback: 종목={}, 현재가={}", 
-                                            stockCode, stock.getCurrentPrice());
-                                        
-                                        return StockPriceResponse.builder()
-                                                .stockCode(stockCode)
-                                                .stockName(stock.getName())
-                                                .currentPrice(stock.getCurrentPrice() != null ? stock.getCurrentPrice().toString() : "0")
-                                                .changePrice(stock.getPriceChange() != null ? stock.getPriceChange().toString() : "0")
-                                                .changeRate(stock.getPriceChangePercent() != null ? stock.getPriceChangePercent().toString() : "0")
-                                                .changeSign("3") 
-                                                .volume(stock.getVolume() != null ? stock.getVolume().toString() : "0")
-                                                .marketCap(stock.getMarketCap() != null ? stock.getMarketCap().toString() : "0")
-                                                .updatedTime(String.valueOf(System.currentTimeMillis()))
-                                                .isMarketOpen(false) 
-                                                .isAfterMarketClose(false)
-                                                .marketStatus("DB 데이터 (실시간 연결 실패)")
-                                                .build();
-                                }
-                        } catch (Exception dbException) {
-                                log.error("❌ DB fallback도 실패: {}", dbException.getMessage());
+                return stockPriceResponse;
+        }
+
+        private Mono<StockPriceResponse> fallbackPrice(String stockCode, Throwable e) {
+                log.error("❌ KIS API 호출 실패: 종목={}, 에러={}", stockCode, e.getMessage());
+                
+
+                try {
+                        Stock stock = stockRepository.findBySymbol(stockCode).orElse(null);
+                        if (stock != null) {
+                                log.warn("⚠️ KIS API 실패 - DB 데이터로 fallback: 종목={}, 현재가={}", 
+                                    stockCode, stock.getCurrentPrice());
+                                
+                                return Mono.just(StockPriceResponse.builder()
+                                        .stockCode(stockCode)
+                                        .stockName(stock.getName())
+                                        .currentPrice(stock.getCurrentPrice() != null ? stock.getCurrentPrice().toString() : "0")
+                                        .changePrice(stock.getPriceChange() != null ? stock.getPriceChange().toString() : "0")
+                                        .changeRate(stock.getPriceChangePercent() != null ? stock.getPriceChangePercent().toString() : "0")
+                                        .changeSign("3") 
+                                        .volume(stock.getVolume() != null ? stock.getVolume().toString() : "0")
+                                        .marketCap(stock.getMarketCap() != null ? stock.getMarketCap().toString() : "0")
+                                        .updatedTime(String.valueOf(System.currentTimeMillis()))
+                                        .isMarketOpen(false) 
+                                        .isAfterMarketClose(false)
+                                        .marketStatus("DB 데이터 (실시간 연결 실패)")
+                                        .build());
                         }
-                        
-                        throw new RuntimeException("주식 현재가 조회 실패: " + stockCode, e);
+                } catch (Exception dbException) {
+                        log.error("❌ DB fallback도 실패: {}", dbException.getMessage());
                 }
+                
+                return Mono.error(new RuntimeException("주식 현재가 조회 실패: " + stockCode, e));
         }
 
         @Override
         public StockBasicInfoResponse getStockBasicInfo(String stockCode) {
+                return await(getStockBasicInfoAsync(stockCode));
+        }
+
+        @Override
+        public CompletableFuture<StockBasicInfoResponse> getStockBasicInfoAsync(String stockCode) {
                 log.info("Fetching basic info for stock code: {}", stockCode);
 
-                try {
-                        String response = kisApiService.getStockBasicInfo(stockCode);
-                        JSONObject jsonResponse = new JSONObject(response);
+                return kisApiService.fetchStockBasicInfo(stockCode)
+                                .map(response -> toBasicInfoResponse(stockCode, response))
+                                .onErrorMap(e -> {
+                                        log.error("Failed to fetch basic info for stock code: {}", stockCode, e);
+                                        return new RuntimeException("종목 기본 정보 조회 실패", e);
+                                })
+                                .toFuture();
+        }
 
+        private StockBasicInfoResponse toBasicInfoResponse(String stockCode, String response) {
+                JSONObject jsonResponse = new JSONObject(response);
 
-                        if (!"0".equals(jsonResponse.optString("rt_cd"))) {
-                                throw new RuntimeException("KIS API 오류: " + jsonResponse.optString("msg1"));
-                        }
 
-                        JSONObject output = jsonResponse.getJSONObject("output");
+                if (!"0".equals(jsonResponse.optString("rt_cd"))) {
+                        throw new RuntimeException("KIS API 오류: " + jsonResponse.optString("msg1"));
+                }
 
-                        return StockBasicInfoResponse.builder()
-                                        .stockCode(stockCode)
-                                        .stockName(output.optString("prdt_name", "")) 
-                                        .marketName(output.optString("std_pdno", "")) 
-                                        .sector(output.optString("bstp_cls_code_name", "")) 
-                                        .listingShares(output.optString("lstg_stqt", "")) 
-                                        .faceValue(output.optString("face_val", "")) 
-                                        .capital(output.optString("cpta", "")) 
-                                        .listingDate(output.optString("lstg_dt", "")) 
-                                        .ceoName(output.optString("rprs_name", "")) 
-                                        .website(output.optString("hmpg_url", "")) 
-                                        .region(output.optString("rgn_cls_code_name", "")) 
-                                        .closingMonth(output.optString("sttl_mmdd", "")) 
-                                        .mainBusiness(output.optString("main_bsn", "")) 
-                                        .per(output.optString("per", "0")) 
-                                        .pbr(output.optString("pbr", "0")) 
-                                        .eps(output.optString("eps", "0")) 
-                                        .bps(output.optString("bps", "0")) 
-                                        .dividend(output.optString("divi", "0")) 
-                                        .dividendYield(output.optString("divi_yield", "0")) 
-                                        .build();
+                JSONObject output = jsonResponse.getJSONObject("output");
+
+                return StockBasicInfoResponse.builder()
+                                .stockCode(stockCode)
+                                .stockName(output.optString("prdt_name", "")) 
+                                .marketName(output.optString("std_pdno", "")) 
+                                .sector(output.optString("bstp_cls_code_name", "")) 
+                                .listingShares(output.optString("lstg_stqt", "")) 
+                                .faceValue(output.optString("face_val", "")) 
+                                .capital(output.optString("cpta", "")) 
+                                .listingDate(output.optString("lstg_dt", "")) 
+                                .ceoName(output.optString("rprs_name", "")) 
+                                .website(output.optString("hmpg_url", "")) 
+                                .region(output.optString("rgn_cls_code_name", "")) 
+                                .closingMonth(output.optString("sttl_mmdd", "")) 
+                                .mainBusiness(output.optString("main_bsn", "")) 
+                                .per(output.optString("per", "0")) 
+                                .pbr(output.optString("pbr", "0")) 
+                                .eps(output.optString("eps", "0")) 
+                                .bps(output.optString("bps", "0")) 
+                                .dividend(output.optString("divi", "0")) 
+                                .dividendYield(output.optString("divi_yield", "0")) 
+                                .build();
+        }
 
-                } catch (Exception e) {
-                        log.error("Failed to fetch basic info for stock code: {}", stockCode, e);
-                        throw new RuntimeException("종목 기본 정보 조회 실패", e);
+        @Override
+        public OrderBookResponse getOrderBook(String stockCode) {
+                return await(getOrderBookAsync(stockCode));
+        }
+
+        @Override
+        public CompletableFuture<OrderBookResponse> getOrderBookAsync(String stockCode) {
+                RealtimeOrderBook book = realtimeOrderBookStore.get(stockCode);
+                StockPriceResponse feedSnapshot = realtimeSnapshotCache.getFresh(stockCode, feedMaxAgeMillis);
+                if (book != null && book.isRealtime() && feedSnapshot != null
+                                && System.currentTimeMillis() - book.getUpdatedAt() <= feedMaxAgeMillis) {
+                        return CompletableFuture.completedFuture(
+                                        book.toResponse(feedSnapshot.getStockName(), feedSnapshot.getCurrentPrice()));
                 }
+                return orderBooks.get(stockCode, () -> loadOrderBook(stockCode).toFuture());
         }
 
         @Override
-        public OrderBookResponse getOrderBook(String stockCode) {
+        public Map<String, Object> getQuoteCacheMetrics() {
+                Map<String, Object> metrics = new LinkedHashMap<>();
+                metrics.put("price", priceQuotes.getMetrics());
+                metrics.put("orderBook", orderBooks.getMetrics());
+                return metrics;
+        }
 
+        private Mono<OrderBookResponse> loadOrderBook(String stockCode) {
+                return kisApiService.fetchOrderBook(stockCode)
+                                .map(response -> toOrderBookResponse(stockCode, response))
+                                .onErrorMap(e -> {
+                                        log.error("Failed to fetch order book for stock code: {}", stockCode, e);
+                                        return new RuntimeException("호가창 정보 조회 실패", e);
+                                });
+        }
 
-                try {
-                        String response = kisApiService.getOrderBook(stockCode);
-                        JSONObject jsonResponse = new JSONObject(response);
+        private OrderBookResponse toOrderBookResponse(String stockCode, String response) {
+                JSONObject jsonResponse = new JSONObject(response);
 
 
-                        if (!"0".equals(jsonResponse.optString("rt_cd"))) {
-                                throw new RuntimeException("KIS API 오류: " + jsonResponse.optString("msg1"));
-                        }
+                if (!"0".equals(jsonResponse.optString("rt_cd"))) {
+                        throw new RuntimeException("KIS API 오류: " + jsonResponse.optString("msg1"));
+                }
 
-                        JSONObject output1 = jsonResponse.getJSONObject("output1");
+                JSONObject output1 = jsonResponse.getJSONObject("output1");
 
 
-                        List<OrderBookItem> askOrders = new ArrayList<>();
-                        for (int i = 1; i <= 10; i++) {
-                                String askPrice = output1.optString("askp" + i, "0");
-                                String askQuantity = output1.optString("askp_rsqn" + i, "0");
+                List<OrderBookItem> askOrders = new ArrayList<>();
+                for (int i = 1; i <= 10; i++) {
+                        String askPrice = output1.optString("askp" + i, "0");
+                        String askQuantity = output1.optString("askp_rsqn" + i, "0");
 
-                                askOrders.add(OrderBookItem.builder()
-                                                .price(askPrice)
-                                                .quantity(askQuantity)
-                                                .orderCount(String.valueOf(i))
-                                                .orderType("매도")
-                                                .rank(i)
-                                                .build());
-                        }
+                        askOrders.add(OrderBookItem.builder()
+                                        .price(askPrice)
+                                        .quantity(askQuantity)
+                                        .orderCount(String.valueOf(i))
+                                        .orderType("매도")
+                                        .rank(i)
+                                        .build());
+                }
 
 
-                        List<OrderBookItem> bidOrders = new ArrayList<>();
-                        for (int i = 1; i <= 10; i++) {
-                                String bidPrice = output1.optString("bidp" + i, "0");
-                                String bidQuantity = output1.optString("bidp_rsqn" + i, "0");
+                List<OrderBookItem> bidOrders = new ArrayList<>();
+                for (int i = 1; i <= 10; i++) {
+                        String bidPrice = output1.optString("bidp" + i, "0");
+                        String bidQuantity = output1.optString("bidp_rsqn" + i, "0");
 
-                                bidOrders.add(OrderBookItem.builder()
-                                                .price(bidPrice)
-                                                .quantity(bidQuantity)
-                                                .orderCount(String.valueOf(i))
-                                                .orderType("매수")
-                                                .rank(i)
-                                                .build());
-                        }
+                        bidOrders.add(OrderBookItem.builder()
+                                        .price(bidPrice)
+                                        .quantity(bidQuantity)
+                                        .orderCount(String.valueOf(i))
+                                        .orderType("매수")
+                                        .rank(i)
+                                        .build());
+                }
 
-                        return OrderBookResponse.builder()
-                                        .stockCode(stockCode)
-                                        .stockName(output1.optString("hts_kor_isnm", "")) 
-                                        .currentPrice(output1.optString("stck_prpr", "0")) 
-                                        .updatedTime(output1.optString("stck_cntg_hour", "")) 
-                                        .askOrders(askOrders) 
-                                        .bidOrders(bidOrders) 
-                                        .totalAskQuantity(output1.optString("total_askp_rsqn", "0")) 
-                                        .totalBidQuantity(output1.optString("total_bidp_rsqn", "0")) 
-                                        .build();
+                return OrderBookResponse.builder()
+                                .stockCode(stockCode)
+                                .stockName(output1.optString("hts_kor_isnm", "")) 
+                                .currentPrice(output1.optString("stck_prpr", "0")) 
+                                .updatedTime(output1.optString("stck_cntg_hour", "")) 
+                                .askOrders(askOrders) 
+                                .bidOrders(bidOrders) 
+                                .totalAskQuantity(output1.optString("total_askp_rsqn", "0")) 
+                                .totalBidQuantity(output1.optString("total_bidp_rsqn", "0")) 
+                                .build();
+        }
 
-                } catch (Exception e) {
-                        log.error("Failed to fetch order book for stock code: {}", stockCode, e);
-                        throw new RuntimeException("호가창 정보 조회 실패", e);
+        private static <T> T await(CompletableFuture<T> future) {
+                try {
+                        return future.join();
+                } catch (CompletionException e) {
+                        if (e.getCause() instanceof RuntimeException cause) {
+                                throw cause;
+                        }
+                        throw e;
                 }
         }
 }
\ No newline at end of file
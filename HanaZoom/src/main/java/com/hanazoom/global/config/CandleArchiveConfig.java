@@ -0,0 +1,15 @@
+package com.hanazoom.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "stock.archive")
+public class CandleArchiveConfig {
+    private boolean enabled = true;
+    private String directory = "candle-archive";
+    private int initialCapacity = 4096;
+    private long verifyIntervalMillis = 600000L;
+}
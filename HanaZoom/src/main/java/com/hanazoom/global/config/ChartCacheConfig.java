@@ -0,0 +1,29 @@
+package com.hanazoom.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "stock.chart.cache")
+public class ChartCacheConfig {
+    private int localMaxEntries = 500;
+    private long defaultTtlSeconds = 60L;
+    private Map<String, Long> ttlSeconds = new HashMap<>(Map.of(
+            "1M", 30L,
+            "5M", 60L,
+            "15M", 120L,
+            "1H", 300L,
+            "1D", 600L,
+            "1W", 3600L,
+            "1MO", 3600L));
+
+    public long ttlMillisOf(String timeframe) {
+        Long seconds = ttlSeconds.get(timeframe);
+        return (seconds != null ? seconds : defaultTtlSeconds) * 1000L;
+    }
+}
@@ -0,0 +1,22 @@
+package com.hanazoom.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "data.retention")
+public class DataRetentionConfig {
+    private boolean enabled = true;
+    private boolean seedDefaults = false;
+    private long chunkPauseMillis = 50L;
+    private long slowChunkMillis = 2000L;
+    private long backoffMillis = 5000L;
+    private long maxPauseMillis = 300000L;
+    private long maxRunMillis = 1800000L;
+    private int maxEmptyChunks = 3;
+    private long maxReplicationLagSeconds = 10L;
+    private long maxThreadsRunning = 32L;
+    private String replicationLagSql;
+}
@@ -0,0 +1,17 @@
+package com.hanazoom.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "feed.health")
+public class FeedHealthConfig {
+    private boolean enabled = true;
+    private double ewmaAlpha = 0.1;
+    private double sigmaMultiplier = 4.0;
+    private int minSamples = 20;
+    private long minDelayMillis = 5000L;
+    private long maxDelayMillis = 120000L;
+}
@@ -0,0 +1,19 @@
+package com.hanazoom.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "kafka.tick")
+public class KafkaTickConfig {
+    private String topic = "stock-realtime-data";
+    private int partitions = 3;
+    private short replicas = 1;
+    private String compressionType = "lz4";
+    private int batchSize = 65536;
+    private int lingerMs = 5;
+    private String acks = "1";
+    private int snapshotCapacity = 4096;
+}
@@ -0,0 +1,22 @@
+package com.hanazoom.global.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+@ConditionalOnProperty(value = "kafka.enabled", havingValue = "true", matchIfMissing = false)
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic stockRealtimeTopic(KafkaTickConfig tickConfig) {
+        return TopicBuilder.name(tickConfig.getTopic())
+                .partitions(tickConfig.getPartitions())
+                .replicas(tickConfig.getReplicas())
+                .config(TopicConfig.COMPRESSION_TYPE_CONFIG, tickConfig.getCompressionType())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.hanazoom.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "kis.rest")
+public class KisRestConfig {
+    private double requestsPerSecond = 2.0;
+    private int burst = 2;
+    private int maxQueuedRequests = 200;
+    private int maxRetries = 2;
+    private long retryBackoffMillis = 300L;
+    private long responseTimeoutMillis = 10000L;
+}
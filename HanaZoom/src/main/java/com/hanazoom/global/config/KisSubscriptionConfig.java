@@ -0,0 +1,28 @@
+package com.hanazoom.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "kis.subscription")
+public class KisSubscriptionConfig {
+    private int maxRegistrations = 41;
+    private int registrationsPerSymbol = 2;
+    private long idleGraceMillis = 60000L;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.QUEUE;
+    private List<String> pinnedSymbols = new ArrayList<>();
+
+    public int maxSymbols() {
+        return Math.max(1, maxRegistrations / Math.max(1, registrationsPerSymbol));
+    }
+
+    public enum OverflowPolicy {
+        QUEUE,
+        EVICT_LRU
+    }
+}
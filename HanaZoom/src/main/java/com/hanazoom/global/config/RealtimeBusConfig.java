@@ -0,0 +1,22 @@
+package com.hanazoom.global.config;
+
+import com.hanazoom.domain.stock.cluster.LocalRealtimeBus;
+import com.hanazoom.domain.stock.cluster.RealtimeBus;
+import com.hanazoom.domain.stock.cluster.RedisRealtimeBus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@Configuration
+public class RealtimeBusConfig {
+
+    @Bean(destroyMethod = "close")
+    public RealtimeBus realtimeBus(RealtimeClusterConfig clusterConfig, RedisConnectionFactory redisConnectionFactory,
+                                   RedisTemplate<String, Object> redisTemplate) {
+        if (clusterConfig.getBus() == RealtimeClusterConfig.Bus.REDIS) {
+            return new RedisRealtimeBus(redisConnectionFactory, redisTemplate);
+        }
+        return new LocalRealtimeBus();
+    }
+}
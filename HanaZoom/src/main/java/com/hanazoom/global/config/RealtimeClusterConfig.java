@@ -0,0 +1,49 @@
+package com.hanazoom.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "realtime.cluster")
+public class RealtimeClusterConfig {
+    private Bus bus = Bus.LOCAL;
+    private String nodeId;
+    private String channelPrefix = "hanazoom:realtime";
+    private long leaderLeaseMillis = 15000L;
+    private long interestTtlMillis = 20000L;
+
+    public String feedChannel() {
+        return channelPrefix + ":feed";
+    }
+
+    public String interestChannel() {
+        return channelPrefix + ":interest";
+    }
+
+    public String ledgerChannel() {
+        return channelPrefix + ":ledger";
+    }
+
+    public String orderChannel() {
+        return channelPrefix + ":orders";
+    }
+
+    public String memberChannel() {
+        return channelPrefix + ":members";
+    }
+
+    public String healthChannel() {
+        return channelPrefix + ":health";
+    }
+
+    public String leaderKey() {
+        return channelPrefix + ":leader";
+    }
+
+    public enum Bus {
+        LOCAL,
+        REDIS
+    }
+}
@@ -12,6 +12,8 @@ import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.TimeoutOptions;
 import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
 import java.time.Duration;
 
 @Configuration
@@ -26,6 +28,11 @@ public class RedisConfig {
     @Value("${spring.data.redis.password}")
     private String password;
 
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources() {
+        return DefaultClientResources.create();
+    }
+
     @Bean
     public LettuceConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisConfig = new RedisStandaloneConfiguration(host, port);
@@ -47,6 +54,7 @@ public class RedisConfig {
             .build();
 
         LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+            .clientResources(lettuceClientResources())
             .clientOptions(clientOptions)
             .commandTimeout(Duration.ofSeconds(5))
             .shutdownTimeout(Duration.ofSeconds(10))
@@ -1,6 +1,8 @@
 package com.hanazoom.global.config;
 
 import com.hanazoom.domain.order.service.OrderExpirationScheduler;
+import com.hanazoom.domain.order.service.OrderMatchingService;
+import com.hanazoom.domain.portfolio.realtime.PortfolioValuationEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -13,6 +15,8 @@ import org.springframework.stereotype.Component;
 public class StartupConfig implements ApplicationRunner {
 
     private final OrderExpirationScheduler orderExpirationScheduler;
+    private final OrderMatchingService orderMatchingService;
+    private final PortfolioValuationEngine portfolioValuationEngine;
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
@@ -24,6 +28,12 @@ public class StartupConfig implements ApplicationRunner {
             
 
             orderExpirationScheduler.cleanupExpiredOrdersOnStartup();
+
+
+            orderMatchingService.loadPendingOrders();
+
+
+            portfolioValuationEngine.load();
             
             log.info("✅ HanaZoom 서버 초기화 완료");
             
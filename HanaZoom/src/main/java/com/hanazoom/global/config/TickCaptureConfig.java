@@ -0,0 +1,18 @@
+package com.hanazoom.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "tick.capture")
+public class TickCaptureConfig {
+    private boolean enabled = true;
+    private String directory = "tick-capture";
+    private int bufferBytes = 65536;
+    private long segmentMaxBytes = 8388608L;
+    private long segmentMaxAgeMillis = 60000L;
+    private int loadBatchSize = 500;
+    private boolean keepLoadedSegments = false;
+}
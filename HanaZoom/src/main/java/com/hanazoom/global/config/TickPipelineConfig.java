@@ -0,0 +1,41 @@
+package com.hanazoom.global.config;
+
+import com.hanazoom.domain.stock.realtime.TickOverflowPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "realtime.pipeline")
+public class TickPipelineConfig {
+    private int defaultLanes = 2;
+    private int defaultCapacity = 4096;
+    private TickOverflowPolicy defaultPolicy = TickOverflowPolicy.DROP_OLDEST;
+    private Map<String, Stage> stages = new HashMap<>();
+
+    public int lanesOf(String stageName) {
+        Stage stage = stages.get(stageName);
+        return stage != null && stage.getLanes() != null ? stage.getLanes() : defaultLanes;
+    }
+
+    public int capacityOf(String stageName) {
+        Stage stage = stages.get(stageName);
+        return stage != null && stage.getCapacity() != null ? stage.getCapacity() : defaultCapacity;
+    }
+
+    public TickOverflowPolicy policyOf(String stageName) {
+        Stage stage = stages.get(stageName);
+        return stage != null && stage.getPolicy() != null ? stage.getPolicy() : defaultPolicy;
+    }
+
+    @Data
+    public static class Stage {
+        private Integer lanes;
+        private Integer capacity;
+        private TickOverflowPolicy policy;
+    }
+}
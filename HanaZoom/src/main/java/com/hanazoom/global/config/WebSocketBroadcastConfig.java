@@ -0,0 +1,17 @@
+package com.hanazoom.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "websocket.broadcast")
+public class WebSocketBroadcastConfig {
+    private int senderThreads = 8;
+    private int maxQueuedMessages = 256;
+    private int maxFramesPerDrain = 64;
+    private long maxLagMillis = 5000L;
+    private long sendTimeoutMillis = 3000L;
+    private boolean deltaProtocolEnabled = true;
+}
@@ -0,0 +1,116 @@
+package com.hanazoom.global.handler;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class ClientSessionRegistry {
+
+    private final Map<String, ClientSession> sessions = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<WebSocketSession>> sessionsByMember = new ConcurrentHashMap<>();
+
+    private final AtomicLong registered = new AtomicLong();
+    private final AtomicLong unregistered = new AtomicLong();
+    private final AtomicLong authenticated = new AtomicLong();
+
+    @Getter
+    public static class ClientSession {
+        private final WebSocketSession session;
+        private final Set<String> symbols = ConcurrentHashMap.newKeySet();
+        private volatile UUID memberId;
+
+        private ClientSession(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+
+    public void register(WebSocketSession session) {
+        if (sessions.putIfAbsent(session.getId(), new ClientSession(session)) == null) {
+            registered.incrementAndGet();
+        }
+    }
+
+    public ClientSession unregister(WebSocketSession session) {
+        ClientSession client = sessions.remove(session.getId());
+        if (client == null) {
+            return null;
+        }
+        unregistered.incrementAndGet();
+        synchronized (client) {
+            unbindMember(client);
+        }
+        return client;
+    }
+
+    public boolean addSymbol(WebSocketSession session, String stockCode) {
+        ClientSession client = sessions.get(session.getId());
+        return client != null && client.symbols.add(stockCode);
+    }
+
+    public boolean removeSymbol(WebSocketSession session, String stockCode) {
+        ClientSession client = sessions.get(session.getId());
+        return client != null && client.symbols.remove(stockCode);
+    }
+
+    public void authenticate(WebSocketSession session, UUID memberId) {
+        ClientSession client = sessions.get(session.getId());
+        if (client == null || memberId.equals(client.memberId)) {
+            return;
+        }
+        synchronized (client) {
+            if (sessions.get(session.getId()) != client) {
+                return;
+            }
+            unbindMember(client);
+            client.memberId = memberId;
+            sessionsByMember.compute(memberId, (id, memberSessions) -> {
+                Set<WebSocketSession> bound = memberSessions != null ? memberSessions : ConcurrentHashMap.newKeySet();
+                bound.add(session);
+                return bound;
+            });
+        }
+        authenticated.incrementAndGet();
+        log.debug("🔐 웹소켓 세션 회원 연결: 세션={}, 회원={}", session.getId(), memberId);
+    }
+
+    public Set<WebSocketSession> getMemberSessions(UUID memberId) {
+        Set<WebSocketSession> memberSessions = sessionsByMember.get(memberId);
+        return memberSessions != null ? memberSessions : Collections.emptySet();
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("sessions", sessions.size());
+        metrics.put("members", sessionsByMember.size());
+        metrics.put("registered", registered.get());
+        metrics.put("unregistered", unregistered.get());
+        metrics.put("authenticated", authenticated.get());
+        return metrics;
+    }
+
+    private void unbindMember(ClientSession client) {
+        UUID memberId = client.memberId;
+        if (memberId == null) {
+            return;
+        }
+        sessionsByMember.computeIfPresent(memberId, (id, memberSessions) -> {
+            memberSessions.remove(client.session);
+            return memberSessions.isEmpty() ? null : memberSessions;
+        });
+    }
+}
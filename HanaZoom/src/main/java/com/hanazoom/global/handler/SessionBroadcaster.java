@@ -0,0 +1,264 @@
+package com.hanazoom.global.handler;
+
+import com.hanazoom.global.config.WebSocketBroadcastConfig;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import javax.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class SessionBroadcaster {
+
+    static final CloseStatus SLOW_CONSUMER = CloseStatus.SESSION_NOT_RELIABLE.withReason("slow consumer");
+
+    private final WebSocketBroadcastConfig config;
+    private final ExecutorService senders;
+    private final Map<String, SessionOutbox> outboxes = new ConcurrentHashMap<>();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong sentBytes = new AtomicLong();
+    private final AtomicLong skippedFrames = new AtomicLong();
+    private final AtomicLong sendFailures = new AtomicLong();
+    private final AtomicLong asyncSends = new AtomicLong();
+    private final AtomicLong slowConsumersClosed = new AtomicLong();
+
+    public SessionBroadcaster(WebSocketBroadcastConfig config) {
+        this.config = config;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(config.getSenderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "ws-sender-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void register(WebSocketSession session) {
+        Session nativeSession = session instanceof NativeWebSocketSession
+                ? ((NativeWebSocketSession) session).getNativeSession(Session.class) : null;
+        if (nativeSession != null) {
+            nativeSession.getAsyncRemote().setSendTimeout(config.getSendTimeoutMillis());
+        }
+        outboxes.put(session.getId(), new SessionOutbox(session, nativeSession, config.getMaxQueuedMessages()));
+    }
+
+    public void unregister(WebSocketSession session) {
+        SessionOutbox outbox = outboxes.remove(session.getId());
+        if (outbox != null) {
+            outbox.close();
+        }
+    }
+
+    public int getSessionCount() {
+        return outboxes.size();
+    }
+
+    public boolean send(WebSocketSession session, String message) {
+        return send(session, new TextMessage(message));
+    }
+
+    public boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+        SessionOutbox outbox = outboxes.get(session.getId());
+        if (outbox == null || !session.isOpen()) {
+            return false;
+        }
+        enqueued.incrementAndGet();
+        if (outbox.enqueue(target -> message, System.currentTimeMillis())) {
+            senders.execute(() -> drain(outbox));
+        } else if (outbox.isOverflowed()) {
+            closeSlowConsumer(outbox, "메시지 큐 초과");
+            return false;
+        }
+        return true;
+    }
+
+    public int sendLatest(Collection<WebSocketSession> sessions, String symbol, WebSocketMessage<?> message,
+                          Collection<WebSocketSession> deadSessions) {
+        return sendLatest(sessions, symbol, session -> message, deadSessions);
+    }
+
+    public int sendLatest(Collection<WebSocketSession> sessions, String symbol,
+                          Function<WebSocketSession, WebSocketMessage<?>> renderer,
+                          Collection<WebSocketSession> deadSessions) {
+        long now = System.currentTimeMillis();
+        int delivered = 0;
+        for (WebSocketSession session : sessions) {
+            SessionOutbox outbox = outboxes.get(session.getId());
+            if (outbox == null || !session.isOpen() || outbox.isClosed()) {
+                deadSessions.add(session);
+                continue;
+            }
+            enqueued.incrementAndGet();
+            if (outbox.enqueueLatest(symbol, renderer, now, coalesced::incrementAndGet)) {
+                senders.execute(() -> drain(outbox));
+            }
+            delivered++;
+        }
+        return delivered;
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.broadcast.lag-check-interval-ms:1000}")
+    public void closeSlowConsumers() {
+        long now = System.currentTimeMillis();
+        for (SessionOutbox outbox : outboxes.values()) {
+            long lag = outbox.lagMillis(now);
+            if (lag > config.getMaxLagMillis()) {
+                closeSlowConsumer(outbox, "전송 지연 " + lag + "ms");
+            }
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        long now = System.currentTimeMillis();
+        int queued = 0;
+        long maxLag = 0L;
+        for (SessionOutbox outbox : outboxes.values()) {
+            queued += outbox.size();
+            maxLag = Math.max(maxLag, outbox.lagMillis(now));
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("sessions", outboxes.size());
+        metrics.put("queuedMessages", queued);
+        metrics.put("maxLagMillis", maxLag);
+        metrics.put("enqueued", enqueued.get());
+        metrics.put("coalesced", coalesced.get());
+        metrics.put("sent", sent.get());
+        metrics.put("sentBytes", sentBytes.get());
+        metrics.put("skippedFrames", skippedFrames.get());
+        metrics.put("sendFailures", sendFailures.get());
+        metrics.put("asyncSends", asyncSends.get());
+        metrics.put("slowConsumersClosed", slowConsumersClosed.get());
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        outboxes.values().forEach(SessionOutbox::close);
+        senders.shutdown();
+        try {
+            if (!senders.awaitTermination(2, TimeUnit.SECONDS)) {
+                senders.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            senders.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain(SessionOutbox outbox) {
+        WebSocketSession session = outbox.getSession();
+        try {
+            for (int frames = 0; frames < config.getMaxFramesPerDrain(); frames++) {
+                Function<WebSocketSession, WebSocketMessage<?>> frame = outbox.poll();
+                if (frame == null) {
+                    return;
+                }
+                WebSocketMessage<?> message = frame.apply(session);
+                if (message == null) {
+                    skippedFrames.incrementAndGet();
+                    continue;
+                }
+                if (sendAsync(outbox, message)) {
+                    return;
+                }
+                session.sendMessage(message);
+                recordSent(message);
+            }
+            if (outbox.yieldTurn()) {
+                senders.execute(() -> drain(outbox));
+            }
+        } catch (Exception e) {
+            failSend(outbox, e.getMessage());
+        }
+    }
+
+    private boolean sendAsync(SessionOutbox outbox, WebSocketMessage<?> message) {
+        Session nativeSession = outbox.getNativeSession();
+        if (nativeSession == null) {
+            return false;
+        }
+        SendHandler handler = result -> {
+            if (!result.isOK()) {
+                Throwable error = result.getException();
+                failSend(outbox, error != null ? error.toString() : "비동기 전송 실패");
+                return;
+            }
+            recordSent(message);
+            try {
+                senders.execute(() -> drain(outbox));
+            } catch (RejectedExecutionException e) {
+                log.debug("송신 스레드 종료로 전송 중단: 세션={}", outbox.getSession().getId());
+            }
+        };
+
+        RemoteEndpoint.Async remote = nativeSession.getAsyncRemote();
+        if (message instanceof TextMessage) {
+            remote.sendText(((TextMessage) message).getPayload(), handler);
+        } else if (message instanceof BinaryMessage) {
+            remote.sendBinary(((BinaryMessage) message).getPayload(), handler);
+        } else {
+            return false;
+        }
+        asyncSends.incrementAndGet();
+        return true;
+    }
+
+    private void recordSent(WebSocketMessage<?> message) {
+        sent.incrementAndGet();
+        sentBytes.addAndGet(message.getPayloadLength());
+    }
+
+    private void failSend(SessionOutbox outbox, String error) {
+        WebSocketSession session = outbox.getSession();
+        sendFailures.incrementAndGet();
+        log.warn("⚠️ 클라이언트 메시지 전송 실패: 세션={}, 에러={}", session.getId(), error);
+        outboxes.remove(session.getId(), outbox);
+        outbox.close();
+        closeQuietly(session, CloseStatus.SERVER_ERROR);
+    }
+
+    private void closeSlowConsumer(SessionOutbox outbox, String reason) {
+        WebSocketSession session = outbox.getSession();
+        if (!outboxes.remove(session.getId(), outbox)) {
+            return;
+        }
+        outbox.close();
+        slowConsumersClosed.incrementAndGet();
+        log.warn("🐢 느린 클라이언트 연결 종료: 세션={}, 사유={}", session.getId(), reason);
+        closeQuietly(session, SLOW_CONSUMER);
+    }
+
+    private void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            if (session.isOpen()) {
+                session.close(status);
+            }
+        } catch (Exception e) {
+            log.debug("세션 종료 중 오류 (무시): 세션={}", session.getId());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.hanazoom.global.handler;
+
+import jakarta.websocket.Session;
+import lombok.Getter;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+class SessionOutbox {
+
+    @Getter
+    private final WebSocketSession session;
+    @Getter
+    private final Session nativeSession;
+    private final int maxQueuedMessages;
+    private final ArrayDeque<Pending> messages = new ArrayDeque<>();
+    private final Map<String, Pending> latestBySymbol = new LinkedHashMap<>();
+    private long inFlightSince;
+    private boolean scheduled;
+    private boolean overflowed;
+    private boolean closed;
+
+    SessionOutbox(WebSocketSession session, Session nativeSession, int maxQueuedMessages) {
+        this.session = session;
+        this.nativeSession = nativeSession;
+        this.maxQueuedMessages = maxQueuedMessages;
+    }
+
+    synchronized boolean enqueue(Function<WebSocketSession, WebSocketMessage<?>> message, long now) {
+        if (closed) {
+            return false;
+        }
+        if (messages.size() >= maxQueuedMessages) {
+            overflowed = true;
+            return false;
+        }
+        messages.addLast(new Pending(message, now));
+        return markScheduled();
+    }
+
+    synchronized boolean enqueueLatest(String symbol, Function<WebSocketSession, WebSocketMessage<?>> message, long now,
+                                       Runnable onCoalesced) {
+        if (closed) {
+            return false;
+        }
+        Pending pending = latestBySymbol.get(symbol);
+        if (pending != null) {
+            pending.message = message;
+            onCoalesced.run();
+            return false;
+        }
+        latestBySymbol.put(symbol, new Pending(message, now));
+        return markScheduled();
+    }
+
+    synchronized Function<WebSocketSession, WebSocketMessage<?>> poll() {
+        if (closed) {
+            scheduled = false;
+            return null;
+        }
+        Pending next = messages.pollFirst();
+        if (next == null) {
+            Iterator<Pending> iterator = latestBySymbol.values().iterator();
+            if (iterator.hasNext()) {
+                next = iterator.next();
+                iterator.remove();
+            }
+        }
+        if (next == null) {
+            scheduled = false;
+            inFlightSince = 0L;
+            return null;
+        }
+        inFlightSince = next.enqueuedAt;
+        return next.message;
+    }
+
+    synchronized boolean hasPending() {
+        return !messages.isEmpty() || !latestBySymbol.isEmpty();
+    }
+
+    synchronized boolean yieldTurn() {
+        inFlightSince = 0L;
+        if (!closed && hasPending()) {
+            return true;
+        }
+        scheduled = false;
+        return false;
+    }
+
+    synchronized long lagMillis(long now) {
+        long oldest = inFlightSince;
+        Pending head = messages.peekFirst();
+        if (head != null && (oldest == 0L || head.enqueuedAt < oldest)) {
+            oldest = head.enqueuedAt;
+        }
+        Iterator<Pending> iterator = latestBySymbol.values().iterator();
+        if (iterator.hasNext()) {
+            long symbolOldest = iterator.next().enqueuedAt;
+            if (oldest == 0L || symbolOldest < oldest) {
+                oldest = symbolOldest;
+            }
+        }
+        return oldest == 0L ? 0L : now - oldest;
+    }
+
+    synchronized boolean isOverflowed() {
+        return overflowed;
+    }
+
+    synchronized int size() {
+        return messages.size() + latestBySymbol.size();
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    synchronized void close() {
+        closed = true;
+        inFlightSince = 0L;
+        messages.clear();
+        latestBySymbol.clear();
+    }
+
+    private boolean markScheduled() {
+        if (scheduled) {
+            return false;
+        }
+        scheduled = true;
+        return true;
+    }
+
+    private static final class Pending {
+        private Function<WebSocketSession, WebSocketMessage<?>> message;
+        private final long enqueuedAt;
+
+        private Pending(Function<WebSocketSession, WebSocketMessage<?>> message, long enqueuedAt) {
+            this.message = message;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.hanazoom.global.handler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+final class StockDeltaCodec {
+
+    static final byte SNAPSHOT = 1;
+    static final byte DELTA = 2;
+
+    private static final int TEXT_MASK_OFFSET = StockFrameState.NUMERIC_FIELDS;
+
+    private StockDeltaCodec() {
+    }
+
+    static byte[] encode(StockFrameState previous, StockFrameState current) {
+        boolean snapshot = previous == null;
+        int mask = 0;
+        for (int i = 0; i < StockFrameState.NUMERIC_FIELDS; i++) {
+            if (snapshot || previous.numbers[i] != current.numbers[i]) {
+                mask |= 1 << i;
+            }
+        }
+        for (int i = 0; i < StockFrameState.TEXT_FIELDS; i++) {
+            if (snapshot ? current.texts[i] != null : !Objects.equals(previous.texts[i], current.texts[i])) {
+                mask |= 1 << (TEXT_MASK_OFFSET + i);
+            }
+        }
+        if (!snapshot && mask == 0
+                && Arrays.equals(previous.asks, current.asks) && Arrays.equals(previous.bids, current.bids)) {
+            return null;
+        }
+
+        FrameWriter writer = new FrameWriter(snapshot ? 256 : 64);
+        writer.writeByte(snapshot ? SNAPSHOT : DELTA);
+        writer.writeString(current.stockCode);
+        writer.writeVarint(mask);
+        for (int i = 0; i < StockFrameState.NUMERIC_FIELDS; i++) {
+            if ((mask & (1 << i)) != 0) {
+                writer.writeSignedVarint(current.numbers[i]);
+            }
+        }
+        for (int i = 0; i < StockFrameState.TEXT_FIELDS; i++) {
+            if ((mask & (1 << (TEXT_MASK_OFFSET + i))) != 0) {
+                writer.writeString(current.texts[i]);
+            }
+        }
+        writeLevels(writer, snapshot ? null : previous.asks, current.asks);
+        writeLevels(writer, snapshot ? null : previous.bids, current.bids);
+        return writer.toByteArray();
+    }
+
+    private static void writeLevels(FrameWriter writer, long[] previous, long[] current) {
+        int levels = current.length / StockFrameState.LEVEL_STRIDE;
+        int patches = 0;
+        for (int level = 0; level < levels; level++) {
+            if (levelChanged(previous, current, level)) {
+                patches++;
+            }
+        }
+
+        writer.writeVarint(levels);
+        writer.writeVarint(patches);
+        for (int level = 0; level < levels && patches > 0; level++) {
+            if (!levelChanged(previous, current, level)) {
+                continue;
+            }
+            int offset = level * StockFrameState.LEVEL_STRIDE;
+            writer.writeVarint(level);
+            writer.writeSignedVarint(current[offset]);
+            writer.writeSignedVarint(current[offset + 1]);
+            writer.writeSignedVarint(current[offset + 2]);
+            patches--;
+        }
+    }
+
+    private static boolean levelChanged(long[] previous, long[] current, int level) {
+        int offset = level * StockFrameState.LEVEL_STRIDE;
+        if (previous == null || offset + StockFrameState.LEVEL_STRIDE > previous.length) {
+            return true;
+        }
+        return previous[offset] != current[offset]
+                || previous[offset + 1] != current[offset + 1]
+                || previous[offset + 2] != current[offset + 2];
+    }
+
+    private static final class FrameWriter {
+        private byte[] buffer;
+        private int position;
+
+        private FrameWriter(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeSignedVarint(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        private void writeString(String value) {
+            byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+}
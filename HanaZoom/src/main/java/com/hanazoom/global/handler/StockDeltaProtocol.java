@@ -0,0 +1,106 @@
+package com.hanazoom.global.handler;
+
+import com.hanazoom.domain.stock.dto.StockPriceResponse;
+import com.hanazoom.global.config.WebSocketBroadcastConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class StockDeltaProtocol {
+
+    public static final String SUBPROTOCOL = "hanazoom.stock-delta.v2";
+
+    private final WebSocketBroadcastConfig config;
+    private final Map<String, Map<String, StockFrameState>> baselines = new ConcurrentHashMap<>();
+
+    private final AtomicLong snapshotFrames = new AtomicLong();
+    private final AtomicLong deltaFrames = new AtomicLong();
+    private final AtomicLong unchangedSkipped = new AtomicLong();
+    private final AtomicLong encodedBytes = new AtomicLong();
+
+    public StockDeltaProtocol(WebSocketBroadcastConfig config) {
+        this.config = config;
+    }
+
+    public List<String> getSubProtocols() {
+        return config.isDeltaProtocolEnabled() ? List.of(SUBPROTOCOL) : Collections.emptyList();
+    }
+
+    public boolean open(WebSocketSession session) {
+        if (!SUBPROTOCOL.equals(session.getAcceptedProtocol())) {
+            return false;
+        }
+        baselines.put(session.getId(), new HashMap<>());
+        log.info("🧬 바이너리 델타 프로토콜 협상 완료: 세션={}", session.getId());
+        return true;
+    }
+
+    public void close(WebSocketSession session) {
+        baselines.remove(session.getId());
+    }
+
+    public boolean isBinary(WebSocketSession session) {
+        return baselines.containsKey(session.getId());
+    }
+
+    public void forget(WebSocketSession session, String stockCode) {
+        Map<String, StockFrameState> sent = baselines.get(session.getId());
+        if (sent != null) {
+            synchronized (sent) {
+                sent.remove(stockCode);
+            }
+        }
+    }
+
+    public Function<WebSocketSession, WebSocketMessage<?>> renderer(String stockCode, StockPriceResponse stockData) {
+        StockFrameState state = StockFrameState.from(stockCode, stockData);
+        return session -> render(session, state);
+    }
+
+    public Map<String, Object> getMetrics() {
+        long frames = snapshotFrames.get() + deltaFrames.get();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", config.isDeltaProtocolEnabled());
+        metrics.put("binarySessions", baselines.size());
+        metrics.put("snapshotFrames", snapshotFrames.get());
+        metrics.put("deltaFrames", deltaFrames.get());
+        metrics.put("unchangedSkipped", unchangedSkipped.get());
+        metrics.put("encodedBytes", encodedBytes.get());
+        metrics.put("avgFrameBytes", frames > 0 ? encodedBytes.get() / frames : 0);
+        return metrics;
+    }
+
+    private WebSocketMessage<?> render(WebSocketSession session, StockFrameState state) {
+        Map<String, StockFrameState> sent = baselines.get(session.getId());
+        if (sent == null) {
+            return null;
+        }
+
+        byte[] frame;
+        synchronized (sent) {
+            StockFrameState previous = sent.get(state.stockCode);
+            frame = StockDeltaCodec.encode(previous, state);
+            if (frame == null) {
+                unchangedSkipped.incrementAndGet();
+                return null;
+            }
+            sent.put(state.stockCode, state);
+            (previous == null ? snapshotFrames : deltaFrames).incrementAndGet();
+        }
+        encodedBytes.addAndGet(frame.length);
+        return new BinaryMessage(frame);
+    }
+}
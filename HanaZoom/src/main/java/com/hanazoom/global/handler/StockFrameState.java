@@ -0,0 +1,143 @@
+package com.hanazoom.global.handler;
+
+import com.hanazoom.domain.stock.dto.OrderBookItem;
+import com.hanazoom.domain.stock.dto.StockPriceResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+final class StockFrameState {
+
+    static final int CURRENT_PRICE = 0;
+    static final int CHANGE_PRICE = 1;
+    static final int CHANGE_RATE_BPS = 2;
+    static final int CHANGE_SIGN = 3;
+    static final int OPEN_PRICE = 4;
+    static final int HIGH_PRICE = 5;
+    static final int LOW_PRICE = 6;
+    static final int PREVIOUS_CLOSE = 7;
+    static final int VOLUME = 8;
+    static final int MARKET_CAP = 9;
+    static final int UPDATED_TIME = 10;
+    static final int TOTAL_ASK_QUANTITY = 11;
+    static final int TOTAL_BID_QUANTITY = 12;
+    static final int IMBALANCE_BPS = 13;
+    static final int SPREAD = 14;
+    static final int FLAGS = 15;
+    static final int VOLUME_RATIO_BPS = 16;
+    static final int NUMERIC_FIELDS = 17;
+
+    static final int STOCK_NAME = 0;
+    static final int MARKET_STATUS = 1;
+    static final int TEXT_FIELDS = 2;
+
+    static final int FLAG_MARKET_OPEN = 1;
+    static final int FLAG_AFTER_MARKET_CLOSE = 1 << 1;
+    static final int FLAG_BUY_DOMINANT = 1 << 2;
+    static final int FLAG_SELL_DOMINANT = 1 << 3;
+
+    static final int LEVEL_STRIDE = 3;
+
+    final String stockCode;
+    final long[] numbers = new long[NUMERIC_FIELDS];
+    final String[] texts = new String[TEXT_FIELDS];
+    final long[] asks;
+    final long[] bids;
+
+    private StockFrameState(String stockCode, long[] asks, long[] bids) {
+        this.stockCode = stockCode;
+        this.asks = asks;
+        this.bids = bids;
+    }
+
+    static StockFrameState from(String stockCode, StockPriceResponse stockData) {
+        StockFrameState state = new StockFrameState(stockCode,
+                levels(stockData.getAskOrders()), levels(stockData.getBidOrders()));
+        long[] numbers = state.numbers;
+        numbers[CURRENT_PRICE] = parseLong(stockData.getCurrentPrice());
+        numbers[CHANGE_PRICE] = parseLong(stockData.getChangePrice());
+        numbers[CHANGE_RATE_BPS] = parseBasisPoints(stockData.getChangeRate());
+        numbers[CHANGE_SIGN] = parseLong(stockData.getChangeSign());
+        numbers[OPEN_PRICE] = parseLong(stockData.getOpenPrice());
+        numbers[HIGH_PRICE] = parseLong(stockData.getHighPrice());
+        numbers[LOW_PRICE] = parseLong(stockData.getLowPrice());
+        numbers[PREVIOUS_CLOSE] = parseLong(stockData.getPreviousClose());
+        numbers[VOLUME] = parseLong(stockData.getVolume());
+        numbers[MARKET_CAP] = parseLong(stockData.getMarketCap());
+        numbers[UPDATED_TIME] = parseLong(stockData.getUpdatedTime());
+        numbers[TOTAL_ASK_QUANTITY] = parseLong(stockData.getTotalAskQuantity());
+        numbers[TOTAL_BID_QUANTITY] = parseLong(stockData.getTotalBidQuantity());
+        numbers[IMBALANCE_BPS] = Math.round(stockData.getImbalanceRatio() * 10000);
+        numbers[SPREAD] = stockData.getSpread();
+        numbers[FLAGS] = (stockData.isMarketOpen() ? FLAG_MARKET_OPEN : 0)
+                | (stockData.isAfterMarketClose() ? FLAG_AFTER_MARKET_CLOSE : 0)
+                | (stockData.isBuyDominant() ? FLAG_BUY_DOMINANT : 0)
+                | (stockData.isSellDominant() ? FLAG_SELL_DOMINANT : 0);
+        numbers[VOLUME_RATIO_BPS] = parseBasisPoints(stockData.getVolumeRatio());
+        state.texts[STOCK_NAME] = stockData.getStockName();
+        state.texts[MARKET_STATUS] = stockData.getMarketStatus();
+        return state;
+    }
+
+    private static long[] levels(List<OrderBookItem> orders) {
+        if (orders == null || orders.isEmpty()) {
+            return new long[0];
+        }
+        long[] levels = new long[orders.size() * LEVEL_STRIDE];
+        for (int i = 0; i < orders.size(); i++) {
+            OrderBookItem order = orders.get(i);
+            int offset = i * LEVEL_STRIDE;
+            levels[offset] = parseLong(order.getPrice());
+            levels[offset + 1] = parseLong(order.getQuantity());
+            levels[offset + 2] = parseLong(order.getOrderCount());
+        }
+        return levels;
+    }
+
+    private static long parseLong(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0L;
+        }
+        long parsed = 0L;
+        int start = value.charAt(0) == '-' ? 1 : 0;
+        int length = value.length();
+        if (start < length && length - start <= 18) {
+            int i = start;
+            for (; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                parsed = parsed * 10 + (c - '0');
+            }
+            if (i == length) {
+                return start == 0 ? parsed : -parsed;
+            }
+        }
+        try {
+            return new BigDecimal(value.replace(",", "").trim()).setScale(0, RoundingMode.HALF_UP).longValue();
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static long parseBasisPoints(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0L;
+        }
+        int dot = value.indexOf('.');
+        if (dot > 0 && value.length() - dot == 3) {
+            long whole = parseLong(value.substring(0, dot));
+            long fraction = parseLong(value.substring(dot + 1));
+            if (fraction >= 0) {
+                return value.charAt(0) == '-' ? whole * 100 - fraction : whole * 100 + fraction;
+            }
+        }
+        try {
+            return new BigDecimal(value.trim()).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
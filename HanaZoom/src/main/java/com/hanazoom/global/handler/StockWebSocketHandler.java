@@ -6,23 +6,44 @@ import com.hanazoom.domain.stock.dto.OrderBookItem;
 import com.hanazoom.domain.stock.dto.OrderBookResponse;
 import java.time.Duration;
 import com.hanazoom.domain.stock.service.StockChartService;
-import com.hanazoom.domain.stock.service.StockMinutePriceService;
+import com.hanazoom.domain.stock.capture.TickCaptureWriter;
+import com.hanazoom.domain.stock.cluster.RealtimeClusterCoordinator;
+import com.hanazoom.domain.stock.realtime.CandleAggregator;
+import com.hanazoom.domain.stock.realtime.FeedHealthMonitor;
 import com.hanazoom.domain.stock.service.StockService;
 import com.hanazoom.domain.stock.service.KafkaStockService;
-import com.hanazoom.domain.stock.entity.StockMinutePrice;
 import com.hanazoom.domain.stock.entity.Stock;
 import com.hanazoom.domain.stock.repository.StockRepository;
+import com.hanazoom.domain.stock.realtime.KisOrderBookParser;
+import com.hanazoom.domain.stock.realtime.KisSubscriptionMultiplexer;
+import com.hanazoom.domain.stock.realtime.KisOrderBookRecord;
+import com.hanazoom.domain.stock.realtime.KisTickParser;
+import com.hanazoom.domain.stock.realtime.KisTickRecord;
+import com.hanazoom.domain.stock.realtime.StockTick;
+import com.hanazoom.domain.stock.realtime.RealtimeOrderBook;
+import com.hanazoom.domain.stock.realtime.RealtimeOrderBookStore;
+import com.hanazoom.domain.stock.realtime.RealtimeSnapshotCache;
+import com.hanazoom.domain.stock.realtime.StockTickPipeline;
 import org.springframework.context.ApplicationEventPublisher;
+import com.hanazoom.domain.order.event.OrderExecutedEvent;
 import com.hanazoom.domain.order.event.OrderMatchingEvent;
+import com.hanazoom.domain.portfolio.realtime.PortfolioValuationEngine;
 import com.hanazoom.global.config.KisConfig;
+import com.hanazoom.global.config.RealtimeClusterConfig;
 import com.hanazoom.global.service.KisApiService;
+import com.hanazoom.global.service.KisRestGateway;
+import com.hanazoom.global.service.RedisHealthMonitor;
+import com.hanazoom.global.util.JwtUtil;
 import com.hanazoom.global.util.MarketTimeUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.client.WebSocketClient;
@@ -31,23 +52,22 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import javax.annotation.PostConstruct;
-import java.math.BigDecimal;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.Random;
 import org.springframework.scheduling.annotation.Scheduled;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class StockWebSocketHandler extends TextWebSocketHandler {
+public class StockWebSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
 
-    private final List<WebSocketSession> clientSessions = new CopyOnWriteArrayList<>();
     private final Map<String, Set<WebSocketSession>> stockSubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, String> stockNames = new ConcurrentHashMap<>();
     private final KisApiService kisApiService;
     private final KisConfig kisConfig;
     private final RedisTemplate<String, Object> redisTemplate;
@@ -55,10 +75,38 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
     private final ObjectMapper objectMapper;
     private final StockChartService stockChartService;
     private final MarketTimeUtils marketTimeUtils;
-    private final StockMinutePriceService stockMinutePriceService;
     private final StockService stockService;
     private final StockRepository stockRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final StockTickPipeline stockTickPipeline;
+    private final RealtimeOrderBookStore orderBookStore;
+    private final CandleAggregator candleAggregator;
+    private final SessionBroadcaster sessionBroadcaster;
+    private final ClientSessionRegistry clientSessionRegistry;
+    private final StockDeltaProtocol stockDeltaProtocol;
+    private final RealtimeSnapshotCache realtimeSnapshotCache;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final PortfolioValuationEngine portfolioValuationEngine;
+    private final TickCaptureWriter tickCaptureWriter;
+    private final FeedHealthMonitor feedHealthMonitor;
+    private final KisSubscriptionMultiplexer kisSubscriptions;
+    private final RealtimeClusterCoordinator realtimeCluster;
+    private final RealtimeClusterConfig clusterConfig;
+    private final JwtUtil jwtUtil;
+
+    private static final List<String> REALTIME_TR_IDS =
+            List.of(KisTickParser.TRADE_TR_ID, KisOrderBookParser.ASKING_PRICE_TR_ID);
+
+    private static final String STAGE_SNAPSHOT = "snapshot";
+    private static final String STAGE_MATCHING = "matching";
+    private static final String STAGE_CANDLES = "candles";
+    private static final String STAGE_VALUATION = "valuation";
+    private static final String STAGE_CAPTURE = "capture";
+    private static final String STAGE_HEALTH = "health";
+    private static final String STAGE_CACHE = "cache";
+    private static final String STAGE_BROADCAST = "broadcast";
+    private static final String STAGE_KAFKA = "kafka";
+    private static final String STAGE_CLUSTER = "cluster";
 
 
     private WebSocketSession kisWebSocketSession;
@@ -67,17 +115,24 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
     private boolean marketClosedToday = false;
     
 
-    private boolean isRedisConnectionAvailable() {
-        try {
-            redisTemplate.opsForValue().get("connection_test");
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+    @PostConstruct
+    public void initialize() {
+        registerTickStages();
+        realtimeCluster.subscribeRemote(clusterConfig.memberChannel(), this::onRemoteOrderExecution);
+        realtimeCluster.addLeadershipListener(leader -> {
+            if (leader) {
+                connectToKis();
+            } else {
+                disconnectFromKis();
+            }
+        });
     }
 
-    @PostConstruct
     public void connectToKis() {
+        if (!realtimeCluster.isLeader()) {
+            log.info("ℹ️ 실시간 피드 리더가 아니므로 KIS WebSocket 연결을 건너뜁니다: 노드={}", realtimeCluster.getNodeId());
+            return;
+        }
         try {
             log.info("🔄 KIS WebSocket 연결 시도 중...");
             WebSocketClient client = new StandardWebSocketClient();
@@ -103,6 +158,20 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
     }
 
 
+    private void disconnectFromKis() {
+        WebSocketSession session = kisWebSocketSession;
+        kisWebSocketSession = null;
+        if (session != null && session.isOpen()) {
+            try {
+                session.close(CloseStatus.NORMAL);
+                log.info("🔌 리더 해제로 KIS WebSocket 연결 종료");
+            } catch (Exception e) {
+                log.warn("⚠️ KIS WebSocket 세션 종료 중 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+
     private void scheduleReconnection() {
         try {
             log.info("🔄 10초 후 KIS WebSocket 재연결 시도 예정...");
@@ -129,7 +198,7 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
             log.info("🔄 KIS WebSocket 재연결 시도 중...");
             
 
-            if (!isRedisConnectionAvailable()) {
+            if (!redisHealthMonitor.isAvailable()) {
                 log.warn("⚠️ Redis 연결이 불안정합니다. 웹소켓 재연결을 지연합니다.");
 
                 scheduleReconnection();
@@ -155,15 +224,24 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    @Override
+    @NonNull
+    public List<String> getSubProtocols() {
+        return stockDeltaProtocol.getSubProtocols();
+    }
+
     @Override
     public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
-        clientSessions.add(session);
+        clientSessionRegistry.register(session);
+        sessionBroadcaster.register(session);
+        boolean binary = stockDeltaProtocol.open(session);
         
         log.info("✅ 클라이언트 WebSocket 연결 성공: 세션={}, 총연결수={}", 
-            session.getId(), clientSessions.size());
+            session.getId(), clientSessionRegistry.size());
 
 
-        sendToClient(session, createMessage("CONNECTION_ESTABLISHED", "웹소켓 연결이 성공했습니다.", null));
+        sendToClient(session, createMessage("CONNECTION_ESTABLISHED", "웹소켓 연결이 성공했습니다.",
+                Map.of("protocol", binary ? StockDeltaProtocol.SUBPROTOCOL : "json")));
         
         log.info("📤 CONNECTION_ESTABLISHED 메시지 전송 완료: 세션={}", session.getId());
     }
@@ -186,6 +264,21 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
                 case "UNSUBSCRIBE":
                     handleUnsubscription(session, jsonMessage);
                     break;
+                case "AUTHENTICATE":
+                    handleAuthentication(session, jsonMessage);
+                    break;
+                case "PORTFOLIO_SUBSCRIBE":
+                    handlePortfolioSubscription(session, jsonMessage);
+                    break;
+                case "PORTFOLIO_UNSUBSCRIBE":
+                    portfolioValuationEngine.unsubscribe(session);
+                    break;
+                case "FEED_HEALTH_SUBSCRIBE":
+                    feedHealthMonitor.subscribe(session);
+                    break;
+                case "FEED_HEALTH_UNSUBSCRIBE":
+                    feedHealthMonitor.unsubscribe(session);
+                    break;
                 case "PING":
                     sendToClient(session, createMessage("PONG", "연결 상태 양호", null));
                     break;
@@ -200,34 +293,59 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
 
     @Override
     public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) throws Exception {
-        clientSessions.remove(session);
+        sessionBroadcaster.unregister(session);
+        stockDeltaProtocol.close(session);
+        portfolioValuationEngine.unsubscribe(session);
+        feedHealthMonitor.unsubscribe(session);
 
 
-        stockSubscriptions.values().forEach(sessions -> sessions.remove(session));
+        releaseStockSubscriptions(session);
 
-        log.info("❌ 클라이언트 웹소켓 연결 종료: {} (총 {}개 연결), 상태: {}, 코드: {}, 이유: {}", session.getId(), clientSessions.size(),
+        log.info("❌ 클라이언트 웹소켓 연결 종료: {} (총 {}개 연결), 상태: {}, 코드: {}, 이유: {}", session.getId(), clientSessionRegistry.size(),
                 status, status.getCode(), status.getReason());
     }
 
-    private void handleSessionError(WebSocketSession session) {
-        try {
-            if (session != null) {
+    private void releaseStockSubscriptions(WebSocketSession session) {
+        ClientSessionRegistry.ClientSession client = clientSessionRegistry.unregister(session);
+        if (client == null) {
+            return;
+        }
+        for (String stockCode : client.getSymbols()) {
+            removeSubscriber(stockCode, session);
+        }
+    }
 
-                clientSessions.remove(session);
-                
+    private boolean addSubscriber(String stockCode, WebSocketSession session) {
+        boolean[] added = new boolean[1];
+        stockSubscriptions.compute(stockCode, (code, sessions) -> {
+            Set<WebSocketSession> subscribers = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            added[0] = subscribers.add(session);
+            return subscribers;
+        });
+        return added[0];
+    }
 
-                stockSubscriptions.values().forEach(sessions -> sessions.remove(session));
-                
+    private boolean removeSubscriber(String stockCode, WebSocketSession session) {
+        boolean[] removed = new boolean[1];
+        stockSubscriptions.computeIfPresent(stockCode, (code, sessions) -> {
+            removed[0] = sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        if (removed[0]) {
+            kisSubscriptions.release(stockCode);
+            stockDeltaProtocol.forget(session, stockCode);
+        }
+        return removed[0];
+    }
 
-                if (session.isOpen()) {
-                    session.close();
-                }
-                
-                log.warn("⚠️ 오류 발생한 WebSocket 세션 정리 완료: {}", session.getId());
-            }
-        } catch (Exception e) {
-            log.error("❌ 세션 오류 처리 중 추가 오류 발생: {}", session != null ? session.getId() : "null", e);
+    private UUID authenticate(WebSocketSession session, JSONObject message) {
+        String token = message.optString("token", null);
+        if (token == null || !jwtUtil.validateToken(token)) {
+            return null;
         }
+        UUID memberId = jwtUtil.getMemberIdFromToken(token);
+        clientSessionRegistry.authenticate(session, memberId);
+        return memberId;
     }
 
     @Override
@@ -236,11 +354,36 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
         super.handleTransportError(session, exception);
     }
 
+    private void handleAuthentication(WebSocketSession session, JSONObject message) {
+        if (authenticate(session, message) == null) {
+            log.warn("⚠️ 웹소켓 인증 거부 - 유효하지 않은 토큰: 세션={}", session.getId());
+            sendToClient(session, createMessage("ERROR", "유효하지 않은 토큰입니다.", null));
+            return;
+        }
+        sendToClient(session, createMessage("AUTHENTICATED", "인증이 완료되었습니다.", null));
+    }
+
+    private void handlePortfolioSubscription(WebSocketSession session, JSONObject message) {
+        UUID memberId = authenticate(session, message);
+        if (memberId == null) {
+            log.warn("⚠️ 포트폴리오 구독 거부 - 유효하지 않은 토큰: 세션={}", session.getId());
+            sendToClient(session, createMessage("ERROR", "유효하지 않은 토큰입니다.", null));
+            return;
+        }
+
+        if (!portfolioValuationEngine.subscribe(session, memberId)) {
+            sendToClient(session, createMessage("ERROR", "계좌를 찾을 수 없습니다.", null));
+            return;
+        }
+        sendToClient(session, createMessage("PORTFOLIO_SUBSCRIBED", "포트폴리오 실시간 평가 구독 완료", null));
+    }
+
     private void handleSubscription(WebSocketSession session, JSONObject message) {
         try {
             if (message.has("stockCodes")) {
                 var stockCodes = message.getJSONArray("stockCodes");
                 List<String> codes = new ArrayList<>();
+                List<String> queuedCodes = new ArrayList<>();
 
                 log.info("📡 구독 요청 수신: 세션={}, 종목수={}", session.getId(), stockCodes.length());
 
@@ -249,22 +392,23 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
                     codes.add(stockCode);
 
 
-                    Set<WebSocketSession> subscribers = stockSubscriptions.computeIfAbsent(stockCode,
-                            k -> ConcurrentHashMap.newKeySet());
-                    if (!subscribers.contains(session)) {
-                        subscribers.add(session);
-                        log.info("✅ 새 구독 추가: 세션={}, 종목={}, 총구독자수={}", 
-                            session.getId(), stockCode, subscribers.size());
+                    if (addSubscriber(stockCode, session)) {
+                        if (kisSubscriptions.acquire(stockCode) == KisSubscriptionMultiplexer.State.QUEUED) {
+                            queuedCodes.add(stockCode);
+                        }
+                        if (!clientSessionRegistry.addSymbol(session, stockCode)) {
+                            removeSubscriber(stockCode, session);
+                            continue;
+                        }
+                        log.info("✅ 새 구독 추가: 세션={}, 종목={}", session.getId(), stockCode);
                     } else {
                         log.info("ℹ️ 이미 구독 중: 세션={}, 종목={}", session.getId(), stockCode);
                     }
                 }
 
 
-                subscribeToKisWebSocket(codes);
-
-
-                sendToClient(session, createMessage("SUBSCRIBED", "구독이 완료되었습니다.", Map.of("stockCodes", codes)));
+                sendToClient(session, createMessage("SUBSCRIBED", "구독이 완료되었습니다.",
+                        Map.of("stockCodes", codes, "queuedStockCodes", queuedCodes)));
 
 
                 sendCachedDataToClient(session, codes);
@@ -286,13 +430,8 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
                     codes.add(stockCode);
 
 
-                    Set<WebSocketSession> sessions = stockSubscriptions.get(stockCode);
-                    if (sessions != null) {
-                        sessions.remove(session);
-                        if (sessions.isEmpty()) {
-                            stockSubscriptions.remove(stockCode);
-                        }
-                    }
+                    clientSessionRegistry.removeSymbol(session, stockCode);
+                    removeSubscriber(stockCode, session);
                 }
 
                 sendToClient(session, createMessage("UNSUBSCRIBED", "구독 해제가 완료되었습니다.", Map.of("stockCodes", codes)));
@@ -312,6 +451,12 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
         
         for (String stockCode : stockCodes) {
             try {
+                StockPriceResponse latest = realtimeSnapshotCache.get(stockCode);
+                if (latest != null) {
+                    sendStockSnapshot(session, stockCode, latest);
+                    continue;
+                }
+
 
                 String cachedData = (String) redisTemplate.opsForValue().get("stock:realtime:" + stockCode);
                 
@@ -329,7 +474,7 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
                         session.getId(), stockCode, stockData.getCurrentPrice(), cachedData.length());
                     log.info("📊 캐시된 데이터 상세: 종목={}, 현재가={}, 전일대비={}, 등락률={}", 
                         stockCode, stockData.getCurrentPrice(), stockData.getChangePrice(), stockData.getChangeRate());
-                    sendToClient(session, createMessage("STOCK_UPDATE", "실시간 주식 데이터", Map.of("stockData", stockData)));
+                    sendStockSnapshot(session, stockCode, stockData);
                 } else {
                     log.warn("⚠️ 캐시된 데이터 없음: 종목={}", stockCode);
                 }
@@ -339,59 +484,65 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    private void subscribeToKisWebSocket(List<String> stockCodes) {
-        if (kisWebSocketSession != null && kisWebSocketSession.isOpen()) {
-            for (String stockCode : stockCodes) {
-
-                if (!stockSubscriptions.containsKey(stockCode) || stockSubscriptions.get(stockCode).isEmpty()) {
-                    continue; 
-                }
+    private void sendStockSnapshot(WebSocketSession session, String stockCode, StockPriceResponse stockData) {
+        if (!stockDeltaProtocol.isBinary(session)) {
+            sendToClient(session, createMessage("STOCK_UPDATE", "실시간 주식 데이터", Map.of("stockData", stockData)));
+            return;
+        }
+        stockDeltaProtocol.forget(session, stockCode);
+        sessionBroadcaster.sendLatest(Collections.singletonList(session), stockCode,
+                stockDeltaProtocol.renderer(stockCode, stockData), new ArrayList<>());
+    }
 
-                try {
-                    JSONObject request = createKisSubscriptionRequest(stockCode);
-
-                    synchronized (kisWebSocketSession) {
-                        if (kisWebSocketSession.isOpen()) {
-                            kisWebSocketSession.sendMessage(new TextMessage(request.toString()));
-                            log.debug("✅ KIS 구독 요청 성공: {}", stockCode);
-                        } else {
-                            log.warn("⚠️ KIS WebSocket 세션이 닫혀있음: {}", stockCode);
-                            handleKisSessionError();
-                            break; 
-                        }
-                    }
-                } catch (IllegalStateException e) {
-                    log.warn("⚠️ KIS WebSocket 세션 상태 오류 ({}): {}", stockCode, e.getMessage());
-                    handleKisSessionError();
-                    break; 
-                } catch (Exception e) {
-                    log.error("❌ KIS 구독 요청 실패: {}", stockCode, e);
+    private boolean sendKisSubscription(String stockCode, boolean subscribe) {
+        WebSocketSession session = kisWebSocketSession;
+        if (session == null || !session.isOpen()) {
+            log.warn("⚠️ KIS WebSocket 세션이 닫혀있음: {}", stockCode);
+            return false;
+        }
 
-                    if (e.getMessage().contains("TEXT_PARTIAL_WRITING") || 
-                        e.getMessage().contains("remote endpoint")) {
-                        handleKisSessionError();
-                        break;
-                    }
+        try {
+            synchronized (session) {
+                for (String trId : REALTIME_TR_IDS) {
+                    JSONObject request = createKisSubscriptionRequest(stockCode, trId, subscribe ? "1" : "2");
+                    session.sendMessage(new TextMessage(request.toString()));
                 }
             }
-        } else {
-            log.warn("⚠️ KIS 웹소켓이 연결되지 않음 - 재연결 시도");
+            if (subscribe) {
+                feedHealthMonitor.track(stockCode);
+                log.debug("✅ KIS 구독 요청 성공: {}", stockCode);
+            } else {
+                feedHealthMonitor.untrack(stockCode);
+                log.debug("✅ KIS 구독 해제 요청 성공: {}", stockCode);
+            }
+            return true;
+        } catch (IllegalStateException e) {
+            log.warn("⚠️ KIS WebSocket 세션 상태 오류 ({}): {}", stockCode, e.getMessage());
             handleKisSessionError();
+            return false;
+        } catch (Exception e) {
+            log.error("❌ KIS 구독 요청 실패: {}", stockCode, e);
+
+            if (e.getMessage() != null && (e.getMessage().contains("TEXT_PARTIAL_WRITING") ||
+                e.getMessage().contains("remote endpoint"))) {
+                handleKisSessionError();
+            }
+            return false;
         }
     }
 
-    private JSONObject createKisSubscriptionRequest(String stockCode) {
+    private JSONObject createKisSubscriptionRequest(String stockCode, String trId, String trType) {
         JSONObject request = new JSONObject();
         JSONObject header = new JSONObject();
 
         header.put("approval_key", kisApiService.getRealtimeApprovalKey());
         header.put("custtype", "P");
-        header.put("tr_type", "1");
+        header.put("tr_type", trType);
         header.put("content-type", "utf-8");
 
         JSONObject body = new JSONObject();
         JSONObject input = new JSONObject();
-        input.put("tr_id", "H0STCNT0");
+        input.put("tr_id", trId);
         input.put("tr_key", stockCode);
 
         body.put("input", input);
@@ -401,72 +552,44 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
         return request;
     }
 
-    private void broadcastToSubscribers(String stockCode, Object stockData) {
+    private void broadcastToSubscribers(String stockCode, StockPriceResponse stockData) {
         Set<WebSocketSession> subscribers = stockSubscriptions.get(stockCode);
         if (subscribers != null && !subscribers.isEmpty()) {
-            String message = createMessage("STOCK_UPDATE", "실시간 주식 데이터", Map.of("stockData", stockData));
+            List<WebSocketSession> jsonSubscribers = new ArrayList<>(subscribers.size());
+            List<WebSocketSession> binarySubscribers = new ArrayList<>();
+            for (WebSocketSession subscriber : subscribers) {
+                (stockDeltaProtocol.isBinary(subscriber) ? binarySubscribers : jsonSubscribers).add(subscriber);
+            }
 
             List<WebSocketSession> deadSessions = new ArrayList<>();
-            int successCount = 0;
-            int failCount = 0;
-            
-            for (WebSocketSession session : subscribers) {
-                try {
-                    if (session != null && session.isOpen()) {
-                        synchronized (session) {
-                            if (session.isOpen()) {
-                                session.sendMessage(new TextMessage(message));
-                                successCount++;
-                                log.debug("✅ 실시간 데이터 전송 성공: 세션={}, 종목={}", session.getId(), stockCode);
-                            } else {
-                                deadSessions.add(session);
-                                failCount++;
-                            }
-                        }
-                    } else {
-                        deadSessions.add(session);
-                    }
-                } catch (IllegalStateException e) {
-                    log.warn("⚠️ WebSocket 세션 상태 오류 ({}): {}", session.getId(), e.getMessage());
-                    deadSessions.add(session);
-                } catch (Exception e) {
-                    log.error("❌ 클라이언트에게 데이터 전송 실패: {}", session.getId(), e);
-                    deadSessions.add(session);
-                }
+            int queuedCount = 0;
+            if (!jsonSubscribers.isEmpty()) {
+                TextMessage frame = new TextMessage(
+                        createMessage("STOCK_UPDATE", "실시간 주식 데이터", Map.of("stockData", stockData)));
+                queuedCount += sessionBroadcaster.sendLatest(jsonSubscribers, stockCode, frame, deadSessions);
+            }
+            if (!binarySubscribers.isEmpty()) {
+                queuedCount += sessionBroadcaster.sendLatest(binarySubscribers, stockCode,
+                        stockDeltaProtocol.renderer(stockCode, stockData), deadSessions);
             }
 
 
-            deadSessions.forEach(subscribers::remove);
-            if (subscribers.isEmpty()) {
-                stockSubscriptions.remove(stockCode);
-            }
+            deadSessions.forEach(dead -> {
+                clientSessionRegistry.removeSymbol(dead, stockCode);
+                removeSubscriber(stockCode, dead);
+            });
             
 
-            log.info("📡 브로드캐스트 완료: 종목={}, 성공={}, 실패={}, 총구독자={}", 
-                stockCode, successCount, failCount, subscribers.size());
+            log.debug("📡 브로드캐스트 큐잉 완료: 종목={}, 성공={}, 실패={}, 총구독자={}", 
+                stockCode, queuedCount, deadSessions.size(), subscribers.size());
         } else {
             log.debug("📡 브로드캐스트 건너뜀: 종목={}, 구독자 없음", stockCode);
         }
     }
 
     private void sendToClient(WebSocketSession session, String message) {
-        try {
-            if (session != null && session.isOpen()) {
-
-                synchronized (session) {
-                    if (session.isOpen()) {
-                        session.sendMessage(new TextMessage(message));
-                    }
-                }
-            }
-        } catch (IllegalStateException e) {
-            log.warn("⚠️ WebSocket 세션 상태 오류 ({}): {}", session.getId(), e.getMessage());
-
-            handleSessionError(session);
-        } catch (Exception e) {
-            log.error("❌ 클라이언트 메시지 전송 실패: {}", session.getId(), e);
-
-            handleSessionError(session);
+        if (session != null && !sessionBroadcaster.send(session, message)) {
+            log.debug("⚠️ 닫힌 세션으로의 메시지 전송 건너뜀: {}", session.getId());
         }
     }
 
@@ -488,14 +611,24 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
 
 
     private class KisWebSocketHandler extends TextWebSocketHandler {
+        private final KisTickParser tickParser = new KisTickParser();
+        private final KisTickRecord tickRecord = new KisTickRecord();
+        private final Consumer<KisTickRecord> tickPublisher = record -> {
+            StockTick tick = StockTick.from(record, System.currentTimeMillis());
+            stockTickPipeline.publish(tick);
+        };
+        private final KisOrderBookParser orderBookParser = new KisOrderBookParser();
+        private final KisOrderBookRecord orderBookRecord = new KisOrderBookRecord();
+        private final Consumer<KisOrderBookRecord> orderBookUpdater = record -> {
+            orderBookStore.update(record);
+            realtimeCluster.publishOrderBook(record);
+        };
+
         @Override
         public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
             kisWebSocketSession = session;
-
-
-            List<String> defaultStocks = Arrays.asList("005930", "000660", "035420", "035720", "005380", "051910",
-                    "207940", "068270", "323410", "373220");
-            subscribeToDefaultStocks(session, defaultStocks);
+            feedHealthMonitor.onFeedConnected();
+            kisSubscriptions.onConnected(StockWebSocketHandler.this::sendKisSubscription);
         }
 
         @Override
@@ -504,8 +637,10 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
             String receivedMessage = message.getPayload();
 
 
-            if (receivedMessage.startsWith("0|H0STCNT0|")) {
+            if (KisTickParser.isTradeFrame(receivedMessage)) {
                 handleKisRealtimeData(receivedMessage);
+            } else if (KisOrderBookParser.isAskingPriceFrame(receivedMessage)) {
+                handleKisOrderBookData(receivedMessage);
             }
         }
 
@@ -513,6 +648,7 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
         public void handleTransportError(@NonNull WebSocketSession session, @NonNull Throwable exception)
                 throws Exception {
             log.error("❌ KIS 웹소켓 전송 오류", exception);
+            feedHealthMonitor.recordConnectionError("KIS 웹소켓 전송 오류: " + exception.getMessage());
         }
 
         @Override
@@ -520,21 +656,23 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
                 throws Exception {
             log.warn("❌ KIS 웹소켓 연결 종료: {}", status);
             kisWebSocketSession = null;
+            kisSubscriptions.onDisconnected();
+            feedHealthMonitor.onFeedDisconnected(status.toString());
 
 
             if (status.getCode() != CloseStatus.NORMAL.getCode()) {
                 log.info("🔄 KIS WebSocket 비정상 종료로 인한 재연결 시도");
-                
 
-                if (isRedisConnectionAvailable()) {
+
+                if (redisHealthMonitor.isAvailable()) {
                     scheduleReconnection();
                 } else {
                     log.warn("⚠️ Redis 연결이 불안정하여 웹소켓 재연결을 지연합니다.");
 
                     new Thread(() -> {
                         try {
-                            Thread.sleep(30000); 
-                            if (isRedisConnectionAvailable()) {
+                            Thread.sleep(30000);
+                            if (redisHealthMonitor.isAvailable()) {
                                 connectToKis();
                             } else {
                                 log.warn("⚠️ Redis 연결이 여전히 불안정합니다. 재연결을 포기합니다.");
@@ -549,488 +687,403 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
             }
         }
 
-        private void subscribeToDefaultStocks(WebSocketSession session, List<String> stockCodes) {
-            for (String stockCode : stockCodes) {
-                try {
-                    JSONObject request = createKisSubscriptionRequest(stockCode);
-
-                    synchronized (session) {
-                        if (session.isOpen()) {
-                            session.sendMessage(new TextMessage(request.toString()));
-                            log.debug("✅ KIS 기본 구독 성공: {}", stockCode);
-                        } else {
-                            log.warn("⚠️ KIS WebSocket 세션이 닫혀있음 (기본 구독): {}", stockCode);
-                            break;
-                        }
-                    }
-                } catch (IllegalStateException e) {
-                    log.warn("⚠️ KIS WebSocket 세션 상태 오류 (기본 구독): {}", stockCode, e.getMessage());
-                    break;
-                } catch (Exception e) {
-                    log.error("❌ KIS 기본 구독 실패: {}", stockCode, e);
-
-                    if (e.getMessage().contains("TEXT_PARTIAL_WRITING") || 
-                        e.getMessage().contains("remote endpoint")) {
-                        break;
-                    }
-                }
+        private void handleKisOrderBookData(String message) {
+            try {
+                orderBookParser.parse(message, orderBookRecord, orderBookUpdater);
+            } catch (Exception e) {
+                log.error("❌ KIS 실시간 호가 처리 실패: {}", message, e);
             }
         }
 
         private void handleKisRealtimeData(String message) {
             try {
+                int parsed = tickParser.parse(message, tickRecord, tickPublisher);
+                if (parsed == 0) {
+                    feedHealthMonitor.recordFeedError("KIS 데이터 형식 오류");
+                    log.warn("⚠️ KIS 데이터 형식 오류: {}", message);
+                }
+            } catch (Exception e) {
+                feedHealthMonitor.recordFeedError("KIS 실시간 데이터 처리 실패: " + e.getMessage());
+                log.error("❌ KIS 실시간 데이터 처리 실패: {}", message, e);
+            }
+        }
+    }
 
+    private void registerTickStages() {
+        if (stockTickPipeline.hasStage(STAGE_SNAPSHOT)) {
+            return;
+        }
 
-                if (message.startsWith("0|H0STCNT0|")) {
-                    String[] mainParts = message.split("\\|");
-                    if (mainParts.length >= 4) {
-
-                        String dataString = mainParts[3];
-                        String[] dataParts = dataString.split("\\^");
-
-                        if (dataParts.length >= 15) {
-                            String stockCode = dataParts[0].trim(); 
-
-                            String currentPrice = dataParts[2].trim(); 
-                            String changeSign = dataParts[3].trim(); 
-                            String changePrice = dataParts[4].trim(); 
-                            String changeRate = dataParts[5].trim(); 
-                            
-
-                            String calculatedChangeRate = "0";
-                            try {
-                                    double currentPriceValue = Double.parseDouble(currentPrice);
-                                    double changePriceValue = Double.parseDouble(changePrice);
-                                    
-                                    if (currentPriceValue > 0 && changePriceValue != 0) {
-                                            double changeRateValue = (changePriceValue / (currentPriceValue - changePriceValue)) * 100;
-                                            calculatedChangeRate = String.format("%.2f", changeRateValue);
-                                    }
-                            } catch (Exception e) {
-                                    log.warn("WebSocket 등락률 계산 실패, KIS 값 사용: 종목={}, 에러={}", stockCode, e.getMessage());
-                                    calculatedChangeRate = changeRate;
-                            }
-                            
-
-                            log.info("📊 KIS 실시간 현재가 수신: 종목={}, 현재가={}, 전일대비={}, 계산된등락률={}, KIS등락률={}", 
-                                stockCode, currentPrice, changePrice, calculatedChangeRate, changeRate);
-
+        stockTickPipeline.registerTickStage(STAGE_SNAPSHOT, this::publishPriceSnapshot);
+        stockTickPipeline.registerTickStage(STAGE_MATCHING, leaderOnly(this::publishOrderMatching));
+        stockTickPipeline.registerTickStage(STAGE_CANDLES, this::updateCandles);
+        stockTickPipeline.registerTickStage(STAGE_VALUATION, portfolioValuationEngine::onTick);
+        stockTickPipeline.registerTickStage(STAGE_CAPTURE, leaderOnly(tickCaptureWriter::capture));
+        stockTickPipeline.registerTickStage(STAGE_HEALTH, leaderOnly(feedHealthMonitor::onTick));
+        stockTickPipeline.registerTickStage(STAGE_KAFKA, leaderOnly(this::sendTickToKafka));
+        stockTickPipeline.registerTickStage(STAGE_CLUSTER, leaderOnly(realtimeCluster::publishTick));
+        stockTickPipeline.registerSnapshotStage(STAGE_CACHE, this::cacheSnapshot);
+        stockTickPipeline.registerSnapshotStage(STAGE_BROADCAST,
+                snapshot -> broadcastToSubscribers(snapshot.getStockCode(), snapshot));
+    }
 
+    private <T> Consumer<T> leaderOnly(Consumer<T> handler) {
+        return item -> {
+            if (realtimeCluster.isLeader()) {
+                handler.accept(item);
+            }
+        };
+    }
 
+    private void publishPriceSnapshot(StockTick tick) {
+        String stockCode = tick.getStockCode();
+        String currentPrice = String.valueOf(tick.getCurrentPrice());
+        String changePrice = String.valueOf(tick.getChangePrice());
+        String calculatedChangeRate = calculateChangeRate(tick);
 
-                            String openPrice = dataParts[7].trim(); 
-                            String highPrice = dataParts[8].trim(); 
-                            String lowPrice = dataParts[9].trim(); 
-                            String previousClose = dataParts[10].trim(); 
-                            String bidPrice = dataParts[11].trim(); 
-                            String askPrice = dataParts[12].trim(); 
-                            String volume = dataParts[13].trim(); 
+        log.debug("📊 KIS 실시간 현재가 수신: 종목={}, 현재가={}, 전일대비={}, 계산된등락률={}, KIS등락률(bp)={}",
+            stockCode, currentPrice, changePrice, calculatedChangeRate, tick.getChangeRateBps());
 
+        String normalizedChangeSign = normalizeChangeSign(String.valueOf(tick.getChangeSign()));
+        String stockName = getStockNameFromCache(stockCode);
 
+        MarketTimeUtils.MarketTimeInfo marketInfo = marketTimeUtils.getMarketTimeInfo();
+        boolean isMarketOpen = marketInfo.isMarketOpen();
+        boolean isAfterMarketClose = marketInfo.isMarketClosed() &&
+                !marketInfo.getMarketStatus().equals(MarketTimeUtils.MarketStatus.CLOSED_WEEKEND) &&
+                !marketInfo.getMarketStatus().equals(MarketTimeUtils.MarketStatus.CLOSED_HOLIDAY);
 
-                            String normalizedChangeSign = normalizeChangeSign(changeSign);
 
+        List<OrderBookItem> askOrders;
+        List<OrderBookItem> bidOrders;
+        String totalAskQuantity;
+        String totalBidQuantity;
 
-                            String stockName = getStockNameFromCache(stockCode);
+        OrderBookResponse orderBookResponse = resolveOrderBook(stockCode, stockName, currentPrice);
+        if (orderBookResponse != null && hasOrderBookAroundPrice(orderBookResponse, tick.getCurrentPrice())) {
+            askOrders = orderBookResponse.getAskOrders();
+            bidOrders = orderBookResponse.getBidOrders();
+            totalAskQuantity = orderBookResponse.getTotalAskQuantity();
+            totalBidQuantity = orderBookResponse.getTotalBidQuantity();
+        } else {
 
+            askOrders = generateOrderBookAroundCurrentPrice(currentPrice, true);
+            bidOrders = generateOrderBookAroundCurrentPrice(currentPrice, false);
+            totalAskQuantity = calculateTotalQuantity(askOrders);
+            totalBidQuantity = calculateTotalQuantity(bidOrders);
+        }
 
-                            MarketTimeUtils.MarketTimeInfo marketInfo = marketTimeUtils.getMarketTimeInfo();
-                            boolean isMarketOpen = marketInfo.isMarketOpen();
-                            boolean isAfterMarketClose = marketInfo.isMarketClosed() &&
-                                    !marketInfo.getMarketStatus().equals(MarketTimeUtils.MarketStatus.CLOSED_WEEKEND) &&
-                                    !marketInfo.getMarketStatus().equals(MarketTimeUtils.MarketStatus.CLOSED_HOLIDAY);
 
+        StockPriceResponse stockData = StockPriceResponse.builder()
+                .stockCode(stockCode)
+                .stockName(stockName)
+                .currentPrice(currentPrice)
+                .changePrice(changePrice)
+                .changeRate(calculatedChangeRate)
+                .changeSign(normalizedChangeSign)
+                .volume(String.valueOf(tick.getVolume()))
+                .openPrice(String.valueOf(tick.getOpenPrice()))
+                .highPrice(String.valueOf(tick.getHighPrice()))
+                .lowPrice(String.valueOf(tick.getLowPrice()))
+                .previousClose(String.valueOf(tick.getPreviousClose()))
+                .marketCap(calculateMarketCap(stockCode, currentPrice))
+                .updatedTime(String.valueOf(tick.getReceivedAt()))
+
+                .isMarketOpen(isMarketOpen)
+                .isAfterMarketClose(isAfterMarketClose)
+                .marketStatus(marketInfo.getStatusMessage())
+
+                .askOrders(askOrders)
+                .bidOrders(bidOrders)
+                .totalAskQuantity(totalAskQuantity)
+                .totalBidQuantity(totalBidQuantity)
+                .build();
+
+
+        stockData.calculateSpread();
+        stockData.calculateImbalanceRatio();
+
+        stockTickPipeline.publishSnapshot(stockData);
+    }
 
-                            String displayCurrentPrice = currentPrice;
-                            if (isAfterMarketClose) {
+    private OrderBookResponse resolveOrderBook(String stockCode, String stockName, String currentPrice) {
+        RealtimeOrderBook book = orderBookStore.get(stockCode);
+        if (book != null) {
+            return book.toResponse(stockName, currentPrice);
+        }
 
-                            }
+        if (!orderBookStore.tryBeginColdStart(stockCode)) {
+            return null;
+        }
 
+        try {
+            OrderBookResponse snapshot = KisRestGateway.inBackground(() -> stockService.getOrderBook(stockCode));
+            orderBookStore.seed(stockCode, snapshot);
+            RealtimeOrderBook seeded = orderBookStore.get(stockCode);
+            return seeded != null ? seeded.toResponse(stockName, currentPrice) : null;
+        } catch (Exception e) {
+            log.debug("⚠️ 호가창 초기 스냅샷 조회 실패: {} - {}", stockCode, e.getMessage());
+            return null;
+        }
+    }
 
-                            List<OrderBookItem> askOrders = new ArrayList<>();
-                            List<OrderBookItem> bidOrders = new ArrayList<>();
-                            String totalAskQuantity = "0";
-                            String totalBidQuantity = "0";
-                            
-                            try {
-
-                                OrderBookResponse orderBookResponse = stockService.getOrderBook(stockCode);
-                                askOrders = orderBookResponse.getAskOrders();
-                                bidOrders = orderBookResponse.getBidOrders();
-                                totalAskQuantity = orderBookResponse.getTotalAskQuantity();
-                                totalBidQuantity = orderBookResponse.getTotalBidQuantity();
-                                
-
-                                
-
-                                long currentPriceLong = Long.parseLong(currentPrice);
-                                boolean hasValidAskOrders = askOrders.stream()
-                                    .anyMatch(ask -> Long.parseLong(ask.getPrice()) > currentPriceLong);
-                                boolean hasValidBidOrders = bidOrders.stream()
-                                    .anyMatch(bid -> Long.parseLong(bid.getPrice()) < currentPriceLong);
-                                
-
-                                if (!hasValidAskOrders || !hasValidBidOrders) {
-
-                                    askOrders = generateOrderBookAroundCurrentPrice(currentPrice, true);
-                                    bidOrders = generateOrderBookAroundCurrentPrice(currentPrice, false);
-                                    
-
-                                    totalAskQuantity = String.valueOf(askOrders.stream()
-                                        .mapToLong(order -> Long.parseLong(order.getQuantity())).sum());
-                                    totalBidQuantity = String.valueOf(bidOrders.stream()
-                                        .mapToLong(order -> Long.parseLong(order.getQuantity())).sum());
-                                }
-                                
-
-                                if (isRedisConnectionAvailable()) {
-                                    try {
-                                        String orderBookCacheKey = "orderbook:" + stockCode;
-                                        OrderBookResponse adjustedResponse = OrderBookResponse.builder()
-                                            .stockCode(stockCode)
-                                            .stockName(stockName)
-                                            .currentPrice(currentPrice)
-                                            .askOrders(askOrders)
-                                            .bidOrders(bidOrders)
-                                            .totalAskQuantity(totalAskQuantity)
-                                            .totalBidQuantity(totalBidQuantity)
-                                            .build();
-                                        redisTemplate.opsForValue().set(orderBookCacheKey, objectMapper.writeValueAsString(adjustedResponse), Duration.ofSeconds(1));
-                                    } catch (Exception e) {
-                                        log.debug("Redis 호가창 캐시 저장 실패 (무시): {}", stockCode);
-                                    }
-                                }
-                                
-
-                            } catch (Exception e) {
-                                log.debug("⚠️ 실시간 호가창 데이터 조회 실패: {} - {}", stockCode, e.getMessage());
-
-                                askOrders = generateOrderBookAroundCurrentPrice(currentPrice, true);
-                                bidOrders = generateOrderBookAroundCurrentPrice(currentPrice, false);
-                                totalAskQuantity = String.valueOf(askOrders.stream()
-                                    .mapToLong(order -> Long.parseLong(order.getQuantity())).sum());
-                                totalBidQuantity = String.valueOf(bidOrders.stream()
-                                    .mapToLong(order -> Long.parseLong(order.getQuantity())).sum());
-                            }
-                            
+    private boolean hasOrderBookAroundPrice(OrderBookResponse orderBook, long currentPrice) {
+        boolean hasValidAskOrders = orderBook.getAskOrders().stream()
+            .anyMatch(ask -> ask.getPriceAsLong() > currentPrice);
+        boolean hasValidBidOrders = orderBook.getBidOrders().stream()
+            .anyMatch(bid -> bid.getPriceAsLong() < currentPrice);
+        return hasValidAskOrders && hasValidBidOrders;
+    }
 
-                            try {
-                                OrderMatchingEvent event = new OrderMatchingEvent(this, stockCode, displayCurrentPrice, askOrders, bidOrders);
-                                eventPublisher.publishEvent(event);
-                            } catch (Exception e) {
-                                log.error("❌ 주문 매칭 이벤트 발행 실패: {}", stockCode, e);
-                            }
+    private String calculateChangeRate(StockTick tick) {
+        long changePrice = tick.getChangePrice();
+        long basePrice = tick.getCurrentPrice() - changePrice;
+        if (tick.getCurrentPrice() <= 0 || changePrice == 0) {
+            return "0";
+        }
+        if (basePrice == 0) {
+            return formatBasisPoints(tick.getChangeRateBps());
+        }
 
+        long scaled = changePrice * 10000;
+        long rateBps = scaled / basePrice;
+        if (Math.abs(scaled % basePrice) * 2 >= Math.abs(basePrice)) {
+            rateBps += Long.signum(scaled) * Long.signum(basePrice);
+        }
+        return formatBasisPoints(rateBps);
+    }
 
-                            StockPriceResponse stockData = StockPriceResponse.builder()
-                                    .stockCode(stockCode)
-                                    .stockName(stockName)
-                                    .currentPrice(displayCurrentPrice)
-                                    .changePrice(changePrice)
-                                    .changeRate(calculatedChangeRate)
-                                    .changeSign(normalizedChangeSign)
-                                    .volume(volume)
-                                    .openPrice(openPrice)
-                                    .highPrice(highPrice)
-                                    .lowPrice(lowPrice)
-                                    .previousClose(previousClose)
-                                    .marketCap(calculateMarketCap(stockCode, currentPrice))
-                                    .updatedTime(String.valueOf(System.currentTimeMillis()))
-
-                                    .isMarketOpen(isMarketOpen)
-                                    .isAfterMarketClose(isAfterMarketClose)
-                                    .marketStatus(marketInfo.getStatusMessage())
-
-                                    .askOrders(askOrders)
-                                    .bidOrders(bidOrders)
-                                    .totalAskQuantity(totalAskQuantity)
-                                    .totalBidQuantity(totalBidQuantity)
-                                    .build();
-                            
-
-                            stockData.calculateSpread();
-                            stockData.calculateImbalanceRatio();
-
-
-                            if (isRedisConnectionAvailable()) {
-                                try {
-                                    String key = "stock:realtime:" + stockCode;
-                                    String stockDataJson = objectMapper.writeValueAsString(stockData);
-                                    
-                                    log.info("💾 Redis 캐시 저장: 종목={}, 현재가={}, 키={}", 
-                                        stockCode, displayCurrentPrice, key);
-                                    
-                                    redisTemplate.opsForValue().set(key, stockDataJson);
-                                    
-
-                                    String savedData = (String) redisTemplate.opsForValue().get(key);
-                                    if (savedData != null) {
-                                        log.info("✅ Redis 저장 확인: 종목={}, 저장된데이터길이={}", 
-                                            stockCode, savedData.length());
-                                    } else {
-                                        log.warn("⚠️ Redis 저장 실패: 종목={}", stockCode);
-                                    }
-
-
-                                    if (isAfterMarketClose) {
-                                        String closingPriceKey = "stock:closing:" + stockCode;
-                                        redisTemplate.opsForValue().set(closingPriceKey, stockDataJson);
-                                        log.info("장종료 종가 데이터 저장: 종목={}, 종가={}", stockCode, currentPrice);
-                                    }
-                                } catch (Exception e) {
-                                    log.error("❌ Redis 실시간 데이터 캐시 저장 실패: 종목={}, 에러={}", stockCode, e.getMessage());
-                                }
-                            } else {
-                                log.warn("⚠️ Redis 연결 불가 - 캐시 저장 건너뜀: 종목={}", stockCode);
-                            }
+    private String formatBasisPoints(long basisPoints) {
+        long absolute = Math.abs(basisPoints);
+        long fraction = absolute % 100;
+        StringBuilder builder = new StringBuilder(8);
+        if (basisPoints < 0) {
+            builder.append('-');
+        }
+        builder.append(absolute / 100).append('.');
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction).toString();
+    }
 
+    private void publishOrderMatching(StockTick tick) {
+        OrderMatchingEvent event = new OrderMatchingEvent(this, tick.getStockCode(),
+                String.valueOf(tick.getCurrentPrice()), Collections.emptyList(), Collections.emptyList());
+        eventPublisher.publishEvent(event);
+    }
 
-                            
+    private void updateCandles(StockTick tick) {
+        String stockCode = tick.getStockCode();
 
-                            Set<WebSocketSession> subscribers = stockSubscriptions.get(stockCode);
-                            int subscriberCount = subscribers != null ? subscribers.size() : 0;
-                            log.info("📡 현재가 브로드캐스트 시작: 종목={}, 현재가={}, 구독자수={}", 
-                                stockCode, displayCurrentPrice, subscriberCount);
-                            broadcastToSubscribers(stockCode, stockData);
+        if (realtimeCluster.isLeader()) {
+            try {
+                stockChartService.updateCurrentCandle(stockCode, tick.getCurrentPrice(), tick.getVolume(),
+                        tick.getTradeVolume(), tick.getReceivedAt());
+            } catch (Exception e) {
+                log.debug("Redis 캔들 업데이트 실패 (무시): 종목={}", stockCode);
+            }
+        }
 
+        try {
+            candleAggregator.onTick(tick);
+        } catch (Exception e) {
+            log.warn("⚠️ 분봉 집계 실패: 종목={}", stockCode, e);
+        }
+    }
 
-                            try {
-                                kafkaStockService.sendRealTimeStockData(
-                                    stockCode,
-                                    stockName,
-                                    displayCurrentPrice,
-                                    changePrice,
-                                    calculatedChangeRate,
-                                    normalizedChangeSign
-                                );
-                                log.debug("📤 Kafka 실시간 데이터 전송: {} - {}", stockCode, displayCurrentPrice);
-                            } catch (Exception e) {
-                                log.debug("⚠️ Kafka 데이터 전송 실패 (무시): {}", stockCode);
-                            }
+    private void cacheSnapshot(StockPriceResponse stockData) {
+        realtimeSnapshotCache.put(stockData);
+        if (stockData.isAfterMarketClose()) {
+            log.debug("장종료 종가 데이터 갱신: 종목={}, 종가={}", stockData.getStockCode(), stockData.getCurrentPrice());
+        }
+    }
 
+    private void sendTickToKafka(StockTick tick) {
+        try {
+            kafkaStockService.sendRealTimeTick(tick);
+        } catch (Exception e) {
+            log.debug("⚠️ Kafka 데이터 전송 실패 (무시): {}", tick.getStockCode());
+        }
+    }
 
-                            try {
-                                stockChartService.updateCurrentCandle(stockCode, currentPrice, volume);
-                            } catch (Exception e) {
-                                log.debug("Redis 캔들 업데이트 실패 (무시): 종목={}", stockCode);
-                            }
+    private String normalizeChangeSign(String kisChangeSign) {
+
+        switch (kisChangeSign) {
+            case "2":
+                return "2";
+            case "5":
+                return "4";
+            case "3":
+                return "3";
+            case "1":
+                return "1";
+            case "4":
+                return "5";
+            default:
+                return "3";
+        }
+    }
 
+    private String calculateTotalQuantity(List<OrderBookItem> orders) {
+        try {
+            long total = orders.stream()
+                    .mapToLong(OrderBookItem::getQuantityAsLong)
+                    .sum();
+            return String.valueOf(total);
+        } catch (Exception e) {
+            log.warn("총 잔량 계산 실패: {}", e.getMessage());
+            return "0";
+        }
+    }
 
-                            if (isRedisConnectionAvailable()) {
-                                try {
-                                    String volumeCacheKey = "cumulative_volume:" + stockCode + ":" + System.currentTimeMillis();
-                                    redisTemplate.opsForValue().set(volumeCacheKey, volume, Duration.ofMinutes(5));
-                                } catch (Exception e) {
-                                    log.debug("Redis 거래량 캐시 저장 실패 (무시): {}", stockCode);
-                                }
-                            }
-                            
-
-                            try {
-                                stockMinutePriceService.updateCurrentMinutePrice(stockCode, 
-                                    StockMinutePrice.MinuteInterval.ONE_MINUTE, 
-                                    new BigDecimal(currentPrice), 
-                                    Long.parseLong(volume));
-                                
-                                stockMinutePriceService.updateCurrentMinutePrice(stockCode, 
-                                    StockMinutePrice.MinuteInterval.FIVE_MINUTES, 
-                                    new BigDecimal(currentPrice), 
-                                    Long.parseLong(volume));
-                                
-                                stockMinutePriceService.updateCurrentMinutePrice(stockCode, 
-                                    StockMinutePrice.MinuteInterval.FIFTEEN_MINUTES, 
-                                    new BigDecimal(currentPrice), 
-                                    Long.parseLong(volume));
-                            } catch (Exception e) {
-                                log.warn("⚠️ 분봉 데이터 업데이트 실패: 종목={}", stockCode, e);
-                            }
+    private List<OrderBookItem> generateOrderBookAroundCurrentPrice(String currentPrice, boolean isAsk) {
+        List<OrderBookItem> orders = new ArrayList<>();
+        long basePrice = Long.parseLong(currentPrice);
+        Random random = new Random();
+
+        for (int i = 1; i <= 10; i++) {
+            long price;
+            if (isAsk) {
+                price = basePrice + (i * 50);
+            } else {
+                price = basePrice - (i * 50);
+            }
 
 
-                        } else {
-                            log.warn("⚠️ KIS 데이터 필드 부족: 예상 15개, 실제 {}개", dataParts.length);
-                        }
-                    } else {
-                        log.warn("⚠️ KIS 데이터 형식 오류: mainParts.length = {}", mainParts.length);
-                    }
-                } else {
+            int baseQuantity = 500 - (i * 30);
+            long quantity = Math.max(baseQuantity + random.nextInt(200), 50);
 
-                }
-            } catch (Exception e) {
-                log.error("❌ KIS 실시간 데이터 처리 실패: {}", message, e);
-            }
+            orders.add(OrderBookItem.builder()
+                .price(String.valueOf(price))
+                .quantity(String.valueOf(quantity))
+                .orderCount(String.valueOf(i))
+                .orderType(isAsk ? "매도" : "매수")
+                .rank(i)
+                .build());
         }
 
-        private String normalizeChangeSign(String kisChangeSign) {
-
-            switch (kisChangeSign) {
-                case "2":
-                    return "2"; 
-                case "5":
-                    return "4"; 
-                case "3":
-                    return "3"; 
-                case "1":
-                    return "1"; 
-                case "4":
-                    return "5"; 
-                default:
-                    return "3"; 
-            }
-        }
+        return orders;
+    }
 
-        private String calculateTotalQuantity(List<OrderBookItem> orders) {
-            try {
-                long total = orders.stream()
-                        .mapToLong(OrderBookItem::getQuantityAsLong)
-                        .sum();
-                return String.valueOf(total);
-            } catch (Exception e) {
-                log.warn("총 잔량 계산 실패: {}", e.getMessage());
-                return "0";
-            }
+    private String getStockNameFromCache(String stockCode) {
+        String knownName = stockNames.get(stockCode);
+        if (knownName != null) {
+            return knownName;
         }
 
-        private List<OrderBookItem> generateOrderBookAroundCurrentPrice(String currentPrice, boolean isAsk) {
-            List<OrderBookItem> orders = new ArrayList<>();
-            long basePrice = Long.parseLong(currentPrice);
-            Random random = new Random();
-            
-            for (int i = 1; i <= 10; i++) {
-                long price;
-                if (isAsk) {
-                    price = basePrice + (i * 50); 
-                } else {
-                    price = basePrice - (i * 50); 
-                }
-                
+        try {
 
-                int baseQuantity = 500 - (i * 30);
-                long quantity = Math.max(baseQuantity + random.nextInt(200), 50);
-                
-                orders.add(OrderBookItem.builder()
-                    .price(String.valueOf(price))
-                    .quantity(String.valueOf(quantity))
-                    .orderCount(String.valueOf(i))
-                    .orderType(isAsk ? "매도" : "매수")
-                    .rank(i)
-                    .build());
+            if (redisHealthMonitor.isAvailable()) {
+                String cachedName = (String) redisTemplate.opsForValue().get("stock:name:" + stockCode);
+                if (cachedName != null) {
+                    stockNames.put(stockCode, cachedName);
+                    return cachedName;
+                }
+            } else {
+                log.debug("Redis 연결 불가 - 캐시 조회 건너뛰기: {}", stockCode);
             }
-            
-            return orders;
-        }
-
-        private String getStockNameFromCache(String stockCode) {
-            try {
 
-                if (isRedisConnectionAvailable()) {
-                    String cachedName = (String) redisTemplate.opsForValue().get("stock:name:" + stockCode);
-                    if (cachedName != null) {
-                        return cachedName;
-                    }
-                } else {
-                    log.debug("Redis 연결 불가 - 캐시 조회 건너뛰기: {}", stockCode);
-                }
 
+            try {
+                Stock stock = stockRepository.findBySymbol(stockCode).orElse(null);
+                if (stock != null && stock.getName() != null) {
 
-                try {
-                    Stock stock = stockRepository.findBySymbol(stockCode).orElse(null);
-                    if (stock != null && stock.getName() != null) {
-
-                        if (isRedisConnectionAvailable()) {
-                            try {
-                                redisTemplate.opsForValue().set("stock:name:" + stockCode, stock.getName(), Duration.ofHours(24));
-                            } catch (Exception e) {
-                                log.debug("Redis 캐시 저장 실패 (무시): {}", stockCode);
-                            }
+                    if (redisHealthMonitor.isAvailable()) {
+                        try {
+                            redisTemplate.opsForValue().set("stock:name:" + stockCode, stock.getName(), Duration.ofHours(24));
+                        } catch (Exception e) {
+                            log.debug("Redis 캐시 저장 실패 (무시): {}", stockCode);
                         }
-                        return stock.getName();
                     }
-                } catch (Exception e) {
-                    log.warn("⚠️ DB에서 종목명 조회 실패: {}", stockCode, e);
-                }
-
-
-                switch (stockCode) {
-                    case "005930":
-                        return "삼성전자";
-                    case "000660":
-                        return "SK하이닉스";
-                    case "035420":
-                        return "NAVER";
-                    case "035720":
-                        return "카카오";
-                    case "005380":
-                        return "현대자동차";
-                    case "051910":
-                        return "LG화학";
-                    case "207940":
-                        return "삼성바이오로직스";
-                    case "068270":
-                        return "셀트리온";
-                    case "323410":
-                        return "카카오뱅크";
-                    case "373220":
-                        return "LG에너지솔루션";
-                    case "000810":
-                        return "삼성화재";
-                    case "034020":
-                        return "쿠팡";
-                    case "042660":
-                        return "대웅제약";
-                    case "086790":
-                        return "하나금융지주";
-                    default:
-                        return stockCode; 
+                    stockNames.put(stockCode, stock.getName());
+                    return stock.getName();
                 }
             } catch (Exception e) {
-                log.warn("⚠️ 종목명 조회 실패: {}", stockCode, e);
-                return stockCode;
+                log.warn("⚠️ DB에서 종목명 조회 실패: {}", stockCode, e);
             }
-        }
-
-        private String calculateMarketCap(String stockCode, String currentPrice) {
-            try {
-
-                long shares = getListedShares(stockCode);
-                long price = Long.parseLong(currentPrice);
-                long marketCap = (shares * price) / 100000000; 
-                return String.valueOf(marketCap);
-            } catch (Exception e) {
-                log.warn("⚠️ 시가총액 계산 실패: {}", stockCode, e);
-                return "0";
-            }
-        }
 
-        private long getListedShares(String stockCode) {
 
             switch (stockCode) {
                 case "005930":
-                    return 5969782550L; 
+                    return "삼성전자";
                 case "000660":
-                    return 731883151L; 
+                    return "SK하이닉스";
                 case "035420":
-                    return 16570000L; 
+                    return "NAVER";
                 case "035720":
-                    return 434265829L; 
+                    return "카카오";
                 case "005380":
-                    return 3284956600L; 
+                    return "현대자동차";
                 case "051910":
-                    return 365206200L; 
+                    return "LG화학";
                 case "207940":
-                    return 119548400L; 
+                    return "삼성바이오로직스";
                 case "068270":
-                    return 865306600L; 
+                    return "셀트리온";
                 case "323410":
-                    return 2627039200L; 
+                    return "카카오뱅크";
                 case "373220":
-                    return 685074950L; 
+                    return "LG에너지솔루션";
+                case "000810":
+                    return "삼성화재";
+                case "034020":
+                    return "쿠팡";
+                case "042660":
+                    return "대웅제약";
+                case "086790":
+                    return "하나금융지주";
                 default:
-                    return 100000000L; 
+                    return stockCode;
             }
+        } catch (Exception e) {
+            log.warn("⚠️ 종목명 조회 실패: {}", stockCode, e);
+            return stockCode;
         }
+    }
+
+    private String calculateMarketCap(String stockCode, String currentPrice) {
+        try {
+
+            long shares = getListedShares(stockCode);
+            long price = Long.parseLong(currentPrice);
+            long marketCap = (shares * price) / 100000000;
+            return String.valueOf(marketCap);
+        } catch (Exception e) {
+            log.warn("⚠️ 시가총액 계산 실패: {}", stockCode, e);
+            return "0";
+        }
+    }
 
+    private long getListedShares(String stockCode) {
+
+        switch (stockCode) {
+            case "005930":
+                return 5969782550L;
+            case "000660":
+                return 731883151L;
+            case "035420":
+                return 16570000L;
+            case "035720":
+                return 434265829L;
+            case "005380":
+                return 3284956600L;
+            case "051910":
+                return 365206200L;
+            case "207940":
+                return 119548400L;
+            case "068270":
+                return 865306600L;
+            case "323410":
+                return 2627039200L;
+            case "373220":
+                return 685074950L;
+            default:
+                return 100000000L;
+        }
     }
 
+
     @FunctionalInterface
     private interface RedisOperation<T> {
         T execute();
@@ -1040,7 +1093,7 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
 
     private <T> T executeRedisSafely(RedisOperation<T> operation, T defaultValue) {
         try {
-            if (!isRedisConnectionAvailable()) {
+            if (!redisHealthMonitor.isAvailable()) {
 
                 log.debug("Redis 연결이 사용 불가능합니다. 기본값을 사용합니다.");
                 return defaultValue;
@@ -1092,35 +1145,47 @@ public class StockWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    public void sendOrderExecutionNotification(UUID memberId, Long orderId, String message) {
-        try {
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderExecuted(OrderExecutedEvent event) {
+        sendOrderExecutionNotification(event.getMemberId(), event.getOrderId(), event.getMessage());
+    }
 
-            String notificationMessage = String.format(
-                "{\"type\":\"ORDER_EXECUTION\",\"orderId\":%d,\"message\":\"%s\",\"timestamp\":%d}",
-                orderId, message, System.currentTimeMillis()
-            );
-            
+    public void sendOrderExecutionNotification(UUID memberId, Long orderId, String message) {
+        realtimeCluster.broadcast(clusterConfig.memberChannel(), memberId + "|" + orderId + "|" + message);
+        deliverOrderExecutionNotification(memberId, orderId, message);
+    }
 
-            broadcastToAllClients(notificationMessage);
-            
-        } catch (Exception e) {
-            log.error("❌ 주문 체결 알림 전송 실패: memberId={}, orderId={}", memberId, orderId, e);
+    private void onRemoteOrderExecution(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        try {
+            if (parts.length == 3) {
+                deliverOrderExecutionNotification(UUID.fromString(parts[0]), Long.valueOf(parts[1]), parts[2]);
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("원격 주문 체결 알림 해석 실패: {}", payload);
         }
     }
 
-    private void broadcastToAllClients(String message) {
-        for (WebSocketSession session : clientSessions) {
-            try {
-                if (session.isOpen()) {
-                    synchronized (session) {
-                        if (session.isOpen()) {
-                            session.sendMessage(new TextMessage(message));
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("⚠️ 브로드캐스트 전송 실패: {}", session.getId(), e);
+    private void deliverOrderExecutionNotification(UUID memberId, Long orderId, String message) {
+        try {
+            Set<WebSocketSession> memberSessions = clientSessionRegistry.getMemberSessions(memberId);
+            if (memberSessions.isEmpty()) {
+                log.debug("주문 체결 알림 대상 세션 없음: memberId={}, orderId={}", memberId, orderId);
+                return;
+            }
+
+            Map<String, Object> notification = new HashMap<>();
+            notification.put("type", "ORDER_EXECUTION");
+            notification.put("orderId", orderId);
+            notification.put("message", message);
+            notification.put("timestamp", System.currentTimeMillis());
+            TextMessage frame = new TextMessage(objectMapper.writeValueAsString(notification));
+
+            for (WebSocketSession session : memberSessions) {
+                sessionBroadcaster.send(session, frame);
             }
+        } catch (Exception e) {
+            log.error("❌ 주문 체결 알림 전송 실패: memberId={}, orderId={}", memberId, orderId, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.hanazoom.global.service;
+
+import lombok.Getter;
+
+@Getter
+public enum KisEndpoint {
+    CURRENT_PRICE("/uapi/domestic-stock/v1/quotations/inquire-price", "FHKST01010100"),
+    STOCK_BASIC_INFO("/uapi/domestic-stock/v1/quotations/search-stock-info", "CTPF1002R"),
+    DAILY_CHART("/uapi/domestic-stock/v1/quotations/inquire-daily-itemchartprice", "FHKST03010100"),
+    MINUTE_CHART("/uapi/domestic-stock/v1/quotations/inquire-time-itemchartprice", "FHKST03010200"),
+    ORDER_BOOK("/uapi/domestic-stock/v1/quotations/inquire-asking-price-exp-ccn", "FHKST01010200");
+
+    private final String path;
+    private final String trId;
+
+    KisEndpoint(String path, String trId) {
+        this.path = path;
+        this.trId = trId;
+    }
+}
@@ -0,0 +1,106 @@
+package com.hanazoom.global.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class KisRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ScheduledExecutorService timer;
+    private final double permitsPerNano;
+    private final double capacity;
+    private final int maxQueued;
+    private final Map<KisRestGateway.Lane, ArrayDeque<CompletableFuture<Void>>> waiters =
+            new EnumMap<>(KisRestGateway.Lane.class);
+
+    private double permits;
+    private long lastRefillNanos;
+    private boolean drainScheduled;
+
+    KisRateLimiter(ScheduledExecutorService timer, double permitsPerSecond, int burst, int maxQueued) {
+        this.timer = timer;
+        this.permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.capacity = Math.max(1, burst);
+        this.maxQueued = maxQueued;
+        this.permits = capacity;
+        this.lastRefillNanos = System.nanoTime();
+        for (KisRestGateway.Lane lane : KisRestGateway.Lane.values()) {
+            waiters.put(lane, new ArrayDeque<>());
+        }
+    }
+
+    synchronized CompletableFuture<Void> acquire(KisRestGateway.Lane lane) {
+        refill();
+        if (permits >= 1 && queued() == 0) {
+            permits -= 1;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        ArrayDeque<CompletableFuture<Void>> queue = waiters.get(lane);
+        if (queue.size() >= maxQueued) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("KIS 요청 대기열 초과: lane=" + lane));
+        }
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        queue.add(permit);
+        scheduleDrain();
+        return permit;
+    }
+
+    synchronized int queued(KisRestGateway.Lane lane) {
+        return waiters.get(lane).size();
+    }
+
+    private void drain() {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+        synchronized (this) {
+            drainScheduled = false;
+            refill();
+            for (KisRestGateway.Lane lane : KisRestGateway.Lane.values()) {
+                ArrayDeque<CompletableFuture<Void>> queue = waiters.get(lane);
+                while (permits >= 1 && !queue.isEmpty()) {
+                    CompletableFuture<Void> permit = queue.poll();
+                    if (!permit.isDone()) {
+                        permits -= 1;
+                        granted.add(permit);
+                    }
+                }
+            }
+            if (queued() > 0) {
+                scheduleDrain();
+            }
+        }
+        granted.forEach(permit -> permit.complete(null));
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled) {
+            return;
+        }
+        drainScheduled = true;
+        long delayNanos = permits >= 1 ? 0L : (long) Math.ceil((1 - permits) / permitsPerNano);
+        timer.schedule(this::drain, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        permits = Math.min(capacity, permits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+
+    private int queued() {
+        int total = 0;
+        for (ArrayDeque<CompletableFuture<Void>> queue : waiters.values()) {
+            total += queue.size();
+        }
+        return total;
+    }
+}
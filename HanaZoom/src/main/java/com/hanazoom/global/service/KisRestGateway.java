@@ -0,0 +1,186 @@
+package com.hanazoom.global.service;
+
+import com.hanazoom.global.config.KisConfig;
+import com.hanazoom.global.config.KisRestConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class KisRestGateway {
+
+    public enum Lane {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private static final ThreadLocal<Lane> CURRENT_LANE = ThreadLocal.withInitial(() -> Lane.INTERACTIVE);
+
+    private final KisConfig kisConfig;
+    private final KisRestConfig restConfig;
+    private final KisTokenManager kisTokenManager;
+    private final WebClient kisWebClient;
+    private final ScheduledExecutorService limiterTimer;
+    private final KisRateLimiter rateLimiter;
+    private final Map<KisEndpoint, EndpointStats> stats = new EnumMap<>(KisEndpoint.class);
+
+    public KisRestGateway(KisConfig kisConfig, KisRestConfig restConfig, KisTokenManager kisTokenManager,
+                          @Qualifier("kisWebClient") WebClient kisWebClient) {
+        this.kisConfig = kisConfig;
+        this.restConfig = restConfig;
+        this.kisTokenManager = kisTokenManager;
+        this.kisWebClient = kisWebClient;
+        this.limiterTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kis-rate-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.rateLimiter = new KisRateLimiter(limiterTimer, restConfig.getRequestsPerSecond(),
+                restConfig.getBurst(), restConfig.getMaxQueuedRequests());
+        for (KisEndpoint endpoint : KisEndpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public static <T> T inBackground(Supplier<T> call) {
+        Lane previous = CURRENT_LANE.get();
+        CURRENT_LANE.set(Lane.BACKGROUND);
+        try {
+            return call.get();
+        } finally {
+            CURRENT_LANE.set(previous);
+        }
+    }
+
+    public Mono<String> get(KisEndpoint endpoint, String query) {
+        return get(endpoint, query, CURRENT_LANE.get());
+    }
+
+    public Mono<String> get(KisEndpoint endpoint, String query, Lane lane) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        return Mono.defer(() -> {
+                    long startedAt = System.nanoTime();
+                    endpointStats.requests.incrementAndGet();
+                    return Mono.defer(() -> call(endpoint, query, lane, endpointStats))
+                            .retryWhen(Retry.backoff(restConfig.getMaxRetries(),
+                                            Duration.ofMillis(restConfig.getRetryBackoffMillis()))
+                                    .jitter(0.5)
+                                    .filter(KisRestGateway::isRetryable)
+                                    .doBeforeRetry(signal -> {
+                                        endpointStats.retries.incrementAndGet();
+                                        log.warn("🔄 KIS API 재시도: endpoint={}, 시도={}, 원인={}", endpoint,
+                                                signal.totalRetries() + 1, signal.failure().getMessage());
+                                    })
+                                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                            .timeout(Duration.ofMillis(restConfig.getResponseTimeoutMillis()))
+                            .doOnSuccess(response -> endpointStats.record(startedAt, true))
+                            .doOnError(error -> endpointStats.record(startedAt, false));
+                });
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("requestsPerSecond", restConfig.getRequestsPerSecond());
+        metrics.put("queuedInteractive", rateLimiter.queued(Lane.INTERACTIVE));
+        metrics.put("queuedBackground", rateLimiter.queued(Lane.BACKGROUND));
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((endpoint, endpointStats) -> endpoints.put(endpoint.name(), endpointStats.snapshot()));
+        metrics.put("endpoints", endpoints);
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        limiterTimer.shutdownNow();
+    }
+
+    private Mono<String> call(KisEndpoint endpoint, String query, Lane lane, EndpointStats endpointStats) {
+        CompletableFuture<Void> permit = rateLimiter.acquire(lane);
+        if (!permit.isDone()) {
+            endpointStats.throttled.incrementAndGet();
+        }
+        return Mono.fromFuture(permit)
+                .then(accessToken())
+                .flatMap(accessToken -> kisWebClient.get()
+                        .uri(endpoint.getPath() + "?" + query)
+                        .header("authorization", "Bearer " + accessToken)
+                        .header("appkey", kisConfig.getAppKey())
+                        .header("appsecret", kisConfig.getAppSecret())
+                        .header("tr_id", endpoint.getTrId())
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .doOnError(WebClientResponseException.class, e -> {
+                            if (isTokenRejected(e)) {
+                                kisTokenManager.invalidate(accessToken);
+                            }
+                        }));
+    }
+
+    private Mono<String> accessToken() {
+        if (kisTokenManager.isAccessTokenValid()) {
+            return Mono.fromSupplier(kisTokenManager::getAccessToken);
+        }
+        return Mono.fromCallable(kisTokenManager::getAccessToken).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException e) {
+            return e.getStatusCode().is5xxServerError() || e.getStatusCode().value() == 429 || isTokenRejected(e);
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    private static boolean isTokenRejected(WebClientResponseException e) {
+        int status = e.getStatusCode().value();
+        return status == 401 || status == 403 || e.getResponseBodyAsString().contains("EGW00123");
+    }
+
+    private static final class EndpointStats {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong successes = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong throttled = new AtomicLong();
+        private final AtomicLong totalLatencyNanos = new AtomicLong();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        private void record(long startedAt, boolean success) {
+            long latency = System.nanoTime() - startedAt;
+            (success ? successes : failures).incrementAndGet();
+            totalLatencyNanos.addAndGet(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+        }
+
+        private Map<String, Object> snapshot() {
+            long completed = successes.get() + failures.get();
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("requests", requests.get());
+            snapshot.put("successes", successes.get());
+            snapshot.put("failures", failures.get());
+            snapshot.put("retries", retries.get());
+            snapshot.put("throttled", throttled.get());
+            snapshot.put("avgLatencyMillis", completed > 0 ? totalLatencyNanos.get() / completed / 1_000_000 : 0);
+            snapshot.put("maxLatencyMillis", maxLatencyNanos.get() / 1_000_000);
+            return snapshot;
+        }
+    }
+}
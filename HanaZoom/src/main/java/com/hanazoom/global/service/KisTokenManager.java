@@ -0,0 +1,337 @@
+package com.hanazoom.global.service;
+
+import com.hanazoom.global.config.KisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+public class KisTokenManager {
+
+    private static final Path KEY_PATH = Paths.get("kis_keys.json");
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final Duration DEFAULT_TOKEN_LIFETIME = Duration.ofHours(23);
+
+    private final KisConfig kisConfig;
+    private final WebClient webClient;
+    private final Duration refreshAhead;
+    private final Duration failureBackoff;
+
+    private volatile TokenState state = TokenState.EMPTY;
+    private final AtomicReference<CompletableFuture<TokenState>> inFlight = new AtomicReference<>();
+    private volatile long lastFailureAt;
+    private final Object approvalLock = new Object();
+    private volatile long lastApprovalFailureAt;
+
+    private final AtomicLong issuances = new AtomicLong();
+    private final AtomicLong joinedWaits = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong approvalFailures = new AtomicLong();
+
+    public KisTokenManager(KisConfig kisConfig, WebClient webClient,
+                           @Value("${kis.token.refresh-ahead-minutes:30}") long refreshAheadMinutes,
+                           @Value("${kis.token.failure-backoff-ms:60000}") long failureBackoffMillis) {
+        this.kisConfig = kisConfig;
+        this.webClient = webClient;
+        this.refreshAhead = Duration.ofMinutes(refreshAheadMinutes);
+        this.failureBackoff = Duration.ofMillis(failureBackoffMillis);
+        this.state = loadFromFile();
+        publish(state);
+    }
+
+    public String getAccessToken() {
+        TokenState current = state;
+        if (current.isUsable(Instant.now())) {
+            return current.accessToken;
+        }
+        return awaitRefresh(current).accessToken;
+    }
+
+    public String getApprovalKey() {
+        TokenState current = state;
+        if (!current.isUsable(Instant.now())) {
+            current = awaitRefresh(current);
+        }
+        if (current.approvalKey != null) {
+            return current.approvalKey;
+        }
+        return awaitApprovalKey();
+    }
+
+    public boolean isAccessTokenValid() {
+        return state.isUsable(Instant.now());
+    }
+
+    public void invalidate(String rejectedToken) {
+        TokenState current = state;
+        if (current.accessToken != null && current.accessToken.equals(rejectedToken)) {
+            log.warn("🔑 KIS Access Token 거부됨 - 다음 호출 시 재발급");
+            state = current.expired();
+        }
+    }
+
+    public String refresh() {
+        return awaitRefresh(null).accessToken;
+    }
+
+    @Scheduled(fixedDelayString = "${kis.token.refresh-check-interval-ms:60000}")
+    public void refreshIfNeeded() {
+        TokenState current = state;
+        if (current.accessToken != null && current.expiresAt.minus(refreshAhead).isAfter(Instant.now())) {
+            return;
+        }
+        log.info("🔄 KIS Access Token 만료 임박 - 사전 갱신: 만료={}", current.expiresAt);
+        try {
+            awaitRefresh(null);
+        } catch (Exception e) {
+            log.warn("⚠️ KIS Access Token 사전 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        TokenState current = state;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("hasAccessToken", current.accessToken != null);
+        metrics.put("hasApprovalKey", current.approvalKey != null);
+        metrics.put("issuedAt", current.issuedAt.toString());
+        metrics.put("expiresAt", current.expiresAt.toString());
+        metrics.put("issuances", issuances.get());
+        metrics.put("joinedWaits", joinedWaits.get());
+        metrics.put("failures", failures.get());
+        metrics.put("approvalFailures", approvalFailures.get());
+        return metrics;
+    }
+
+    private TokenState awaitRefresh(TokenState observed) {
+        CompletableFuture<TokenState> pending = inFlight.get();
+        if (pending == null) {
+            if (observed != null && observed != state && state.isUsable(Instant.now())) {
+                return state;
+            }
+            if (observed != null && Instant.now().toEpochMilli() - lastFailureAt < failureBackoff.toMillis()) {
+                return usableOrThrow(state, null);
+            }
+            CompletableFuture<TokenState> mine = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, mine)) {
+                try {
+                    TokenState issued = issue();
+                    mine.complete(issued);
+                    return issued;
+                } catch (RuntimeException e) {
+                    mine.completeExceptionally(e);
+                    throw e;
+                } finally {
+                    inFlight.compareAndSet(mine, null);
+                }
+            }
+            pending = inFlight.get();
+            if (pending == null) {
+                return usableOrThrow(state, null);
+            }
+        }
+
+        joinedWaits.incrementAndGet();
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            return usableOrThrow(state, e.getCause());
+        }
+    }
+
+    private String awaitApprovalKey() {
+        synchronized (approvalLock) {
+            TokenState current = state;
+            if (!current.isUsable(Instant.now())) {
+                current = awaitRefresh(current);
+            }
+            if (current.approvalKey != null) {
+                return current.approvalKey;
+            }
+            if (Instant.now().toEpochMilli() - lastApprovalFailureAt < failureBackoff.toMillis()) {
+                throw new IllegalStateException("사용 가능한 KIS Approval Key 없음 - 발급 실패 후 재시도 대기 중");
+            }
+            String approvalKey = issueApprovalKey(current.accessToken);
+            if (state == current) {
+                TokenState updated = current.withApprovalKey(approvalKey);
+                state = updated;
+                publish(updated);
+                saveToFile(updated);
+            }
+            return approvalKey;
+        }
+    }
+
+    private TokenState usableOrThrow(TokenState candidate, Throwable cause) {
+        if (candidate.isUsable(Instant.now())) {
+            return candidate;
+        }
+        throw new IllegalStateException("사용 가능한 KIS Access Token 없음 - 발급 실패 후 재시도 대기 중", cause);
+    }
+
+    private TokenState issue() {
+        log.info("🔑 KIS Access Token 발급 시작");
+        try {
+            JSONObject body = new JSONObject();
+            body.put("grant_type", "client_credentials");
+            body.put("appkey", kisConfig.getAppKey());
+            body.put("appsecret", kisConfig.getAppSecret());
+
+            String response = webClient.post()
+                    .uri(kisConfig.getTokenUrl())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body.toString())
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+
+            JSONObject responseJson = new JSONObject(response);
+            String accessToken = responseJson.getString("access_token");
+            Instant issuedAt = Instant.now();
+            Duration lifetime = responseJson.has("expires_in")
+                    ? Duration.ofSeconds(responseJson.getLong("expires_in"))
+                    : DEFAULT_TOKEN_LIFETIME;
+
+            String approvalKey = null;
+            try {
+                approvalKey = issueApprovalKey(accessToken);
+            } catch (IllegalStateException e) {
+                log.warn("⚠️ KIS Approval Key 발급 실패 - Access Token은 유지하고 Approval Key만 재시도 예정");
+            }
+            TokenState issued = new TokenState(accessToken,
+                    approvalKey != null ? approvalKey : state.approvalKey, issuedAt, issuedAt.plus(lifetime));
+
+            state = issued;
+            publish(issued);
+            saveToFile(issued);
+            issuances.incrementAndGet();
+            log.info("✅ KIS Access Token 발급 성공! 만료={}", issued.expiresAt);
+            return issued;
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            lastFailureAt = System.currentTimeMillis();
+            log.error("❌ KIS Access Token 발급 실패: {}", e.getMessage());
+            throw new IllegalStateException("KIS Access Token 발급 실패", e);
+        }
+    }
+
+    private String issueApprovalKey(String accessToken) {
+        JSONObject body = new JSONObject();
+        body.put("grant_type", "approval_key");
+        body.put("appkey", kisConfig.getAppKey());
+        body.put("secretkey", kisConfig.getAppSecret());
+
+        try {
+            String response = webClient.post()
+                    .uri(kisConfig.getApprovalUrl())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("authorization", "Bearer " + accessToken)
+                    .bodyValue(body.toString())
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+
+            String approvalKey = new JSONObject(response).getString("approval_key");
+            log.info("KIS Approval Key issued successfully.");
+            return approvalKey;
+        } catch (Exception e) {
+            approvalFailures.incrementAndGet();
+            lastApprovalFailureAt = System.currentTimeMillis();
+            log.error("Failed to issue KIS approval key", e);
+            throw new IllegalStateException("KIS Approval Key 발급 실패", e);
+        }
+    }
+
+    private void publish(TokenState tokens) {
+        kisConfig.setAccessToken(tokens.accessToken);
+        kisConfig.setApprovalKey(tokens.approvalKey);
+    }
+
+    private TokenState loadFromFile() {
+        if (!Files.exists(KEY_PATH)) {
+            return TokenState.EMPTY;
+        }
+        try {
+            JSONObject keys = new JSONObject(Files.readString(KEY_PATH, StandardCharsets.UTF_8));
+            if (!keys.has("accessToken") || !keys.has("issuedAt")) {
+                return TokenState.EMPTY;
+            }
+            Instant issuedAt = LocalDateTime.parse(keys.getString("issuedAt"), FORMATTER).atZone(ZONE).toInstant();
+            Instant expiresAt = keys.has("expiresAt")
+                    ? LocalDateTime.parse(keys.getString("expiresAt"), FORMATTER).atZone(ZONE).toInstant()
+                    : issuedAt.plus(DEFAULT_TOKEN_LIFETIME);
+            log.info("API keys loaded from file. 만료={}", expiresAt);
+            return new TokenState(keys.getString("accessToken"), keys.optString("approvalKey", null), issuedAt, expiresAt);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to load API keys from file.", e);
+            return TokenState.EMPTY;
+        }
+    }
+
+    private void saveToFile(TokenState tokens) {
+        try {
+            JSONObject keys = new JSONObject();
+            keys.put("accessToken", tokens.accessToken);
+            keys.put("approvalKey", tokens.approvalKey);
+            keys.put("issuedAt", LocalDateTime.ofInstant(tokens.issuedAt, ZONE).format(FORMATTER));
+            keys.put("expiresAt", LocalDateTime.ofInstant(tokens.expiresAt, ZONE).format(FORMATTER));
+            Path temp = KEY_PATH.resolveSibling(KEY_PATH.getFileName() + ".tmp");
+            Files.writeString(temp, keys.toString(4), StandardCharsets.UTF_8);
+            Files.move(temp, KEY_PATH, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("API keys saved to file.");
+        } catch (IOException e) {
+            log.error("Failed to save API keys to file.", e);
+        }
+    }
+
+    private static final class TokenState {
+        private static final TokenState EMPTY = new TokenState(null, null, Instant.EPOCH, Instant.EPOCH);
+
+        private final String accessToken;
+        private final String approvalKey;
+        private final Instant issuedAt;
+        private final Instant expiresAt;
+
+        private TokenState(String accessToken, String approvalKey, Instant issuedAt, Instant expiresAt) {
+            this.accessToken = accessToken;
+            this.approvalKey = approvalKey;
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isUsable(Instant now) {
+            return accessToken != null && expiresAt.isAfter(now);
+        }
+
+        private TokenState withApprovalKey(String approvalKey) {
+            return new TokenState(accessToken, approvalKey, issuedAt, expiresAt);
+        }
+
+        private TokenState expired() {
+            return new TokenState(accessToken, approvalKey, issuedAt, Instant.EPOCH);
+        }
+    }
+}
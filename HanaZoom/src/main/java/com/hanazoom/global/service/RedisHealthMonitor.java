@@ -0,0 +1,82 @@
+package com.hanazoom.global.service;
+
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.event.connection.ReconnectFailedEvent;
+import io.lettuce.core.resource.ClientResources;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisHealthMonitor {
+
+    private final ClientResources lettuceClientResources;
+
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final AtomicLong disconnects = new AtomicLong();
+    private final AtomicLong reconnectFailures = new AtomicLong();
+    private volatile boolean available = true;
+    private volatile long lastChangedAt = System.currentTimeMillis();
+    private Disposable subscription;
+
+    @PostConstruct
+    public void subscribe() {
+        subscription = lettuceClientResources.eventBus().get().subscribe(event -> {
+            if (event instanceof ConnectionActivatedEvent) {
+                activeConnections.incrementAndGet();
+                markAvailable(true);
+            } else if (event instanceof ConnectionDeactivatedEvent) {
+                disconnects.incrementAndGet();
+                if (activeConnections.updateAndGet(count -> Math.max(count - 1, 0)) == 0) {
+                    markAvailable(false);
+                }
+            } else if (event instanceof ReconnectFailedEvent) {
+                reconnectFailures.incrementAndGet();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("available", available);
+        status.put("activeConnections", activeConnections.get());
+        status.put("disconnects", disconnects.get());
+        status.put("reconnectFailures", reconnectFailures.get());
+        status.put("lastChangedAt", lastChangedAt);
+        return status;
+    }
+
+    private void markAvailable(boolean connected) {
+        if (available != connected) {
+            available = connected;
+            lastChangedAt = System.currentTimeMillis();
+            if (connected) {
+                log.info("✅ Redis 연결 복구 감지");
+            } else {
+                log.warn("⚠️ Redis 연결 끊김 감지 - 캐시 쓰기를 보류합니다");
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.hanazoom.global.util;
+
+import com.hanazoom.domain.stock.entity.DataRetentionPolicy;
+import com.hanazoom.domain.stock.entity.StockMinutePrice;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "enum-column-migration")
+public class EnumColumnMigrationRunner implements CommandLineRunner {
+
+    private static final String TARGET_TYPE = "varchar(32)";
+    private static final String COLUMN_SQL = "SELECT COLUMN_TYPE, IS_NULLABLE FROM information_schema.COLUMNS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        log.info("=== enum 컬럼 VARCHAR 변환 스크립트 시작 ===");
+        widen("stock_minute_prices", "minute_interval", StockMinutePrice.MinuteInterval.class);
+        widen("data_retention_policies", "data_type", DataRetentionPolicy.DataType.class);
+        widen("data_processing_logs", "data_type", DataRetentionPolicy.DataType.class);
+        log.info("=== enum 컬럼 VARCHAR 변환 스크립트 완료 ===");
+    }
+
+    private void widen(String table, String column, Class<? extends Enum<?>> enumType) {
+        try {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(COLUMN_SQL, table, column);
+            if (rows.isEmpty()) {
+                return;
+            }
+            String columnType = String.valueOf(rows.get(0).get("COLUMN_TYPE")).toLowerCase();
+            if (columnType.equals(TARGET_TYPE) || !columnType.startsWith("enum(")) {
+                log.info("enum 컬럼 변환 불필요: 테이블={}, 컬럼={}, 타입={}", table, column, columnType);
+                return;
+            }
+            String missing = null;
+            for (Enum<?> constant : enumType.getEnumConstants()) {
+                if (!columnType.contains("'" + constant.name().toLowerCase() + "'")) {
+                    missing = constant.name();
+                    break;
+                }
+            }
+            if (missing == null) {
+                return;
+            }
+            String nullability = "YES".equalsIgnoreCase(String.valueOf(rows.get(0).get("IS_NULLABLE"))) ? "NULL" : "NOT NULL";
+            jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + column + " VARCHAR(32) " + nullability);
+            log.info("🛠️ enum 컬럼을 VARCHAR로 변경: 테이블={}, 컬럼={}, 누락값={}, {}", table, column, missing, nullability);
+        } catch (Exception e) {
+            log.warn("⚠️ enum 컬럼 확장 실패: 테이블={}, 컬럼={}, 에러={}", table, column, e.getMessage());
+        }
+    }
+}
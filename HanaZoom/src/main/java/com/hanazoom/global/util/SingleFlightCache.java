@@ -0,0 +1,94 @@
+package com.hanazoom.global.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class SingleFlightCache<K, V> {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<K, Entry<V>> values = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public SingleFlightCache(long ttlMillis, int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public CompletableFuture<V> get(K key, Supplier<CompletableFuture<V>> loader) {
+        Entry<V> cached = values.get(key);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            hits.incrementAndGet();
+            return CompletableFuture.completedFuture(cached.value);
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing.copy();
+        }
+
+        loads.incrementAndGet();
+        CompletableFuture<V> loading;
+        try {
+            loading = loader.get();
+        } catch (RuntimeException e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+        loading.whenComplete((value, error) -> {
+            if (error != null) {
+                inFlight.remove(key, mine);
+                failures.incrementAndGet();
+                mine.completeExceptionally(unwrap(error));
+                return;
+            }
+            if (value != null && ttlMillis > 0) {
+                store(key, value);
+            }
+            inFlight.remove(key, mine);
+            mine.complete(value);
+        });
+        return mine.copy();
+    }
+
+    public void invalidate(K key) {
+        values.remove(key);
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("entries", values.size());
+        metrics.put("inFlight", inFlight.size());
+        metrics.put("hits", hits.get());
+        metrics.put("coalesced", coalesced.get());
+        metrics.put("loads", loads.get());
+        metrics.put("failures", failures.get());
+        return metrics;
+    }
+
+    private void store(K key, V value) {
+        long now = System.currentTimeMillis();
+        if (values.size() >= maxEntries) {
+            values.values().removeIf(entry -> entry.expiresAt <= now);
+        }
+        values.put(key, new Entry<>(value, now + ttlMillis));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,45 @@
+local price = ARGV[1]
+local p = tonumber(price)
+local cumulative = tonumber(ARGV[2])
+local tradeVolume = tonumber(ARGV[3])
+local now = ARGV[4]
+local rolled = 0
+
+for i, key in ipairs(KEYS) do
+    local bucket = ARGV[3 + 2 * i]
+    local ttl = ARGV[4 + 2 * i]
+    local state = redis.call('HMGET', key, 'start', 'high', 'low', 'cum')
+    local start = tonumber(state[1])
+    local lastCumulative = tonumber(state[4]) or 0
+
+    local traded = tradeVolume
+    if cumulative > 0 and lastCumulative > 0 and cumulative >= lastCumulative then
+        traded = cumulative - lastCumulative
+    end
+
+    if start == nil or start < tonumber(bucket) then
+        redis.call('HSET', key,
+            'start', bucket, 'open', price, 'high', price, 'low', price, 'close', price,
+            'volume', traded, 'cum', cumulative, 'updated', now)
+        if start ~= nil then
+            rolled = rolled + 2 ^ (i - 1)
+        end
+        redis.call('PEXPIRE', key, ttl)
+    elseif start == tonumber(bucket) then
+        if p > tonumber(state[2]) then
+            redis.call('HSET', key, 'high', price)
+        end
+        if p < tonumber(state[3]) then
+            redis.call('HSET', key, 'low', price)
+        end
+        redis.call('HSET', key, 'close', price, 'updated', now)
+        if cumulative > lastCumulative then
+            redis.call('HSET', key, 'cum', cumulative)
+        end
+        if traded > 0 then
+            redis.call('HINCRBY', key, 'volume', traded)
+        end
+    end
+end
+
+return rolled
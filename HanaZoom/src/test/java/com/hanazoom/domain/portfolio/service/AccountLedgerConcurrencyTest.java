@@ -0,0 +1,258 @@
+package com.hanazoom.domain.portfolio.service;
+
+import com.hanazoom.domain.portfolio.dto.TradeResult;
+import com.hanazoom.domain.portfolio.entity.Account;
+import com.hanazoom.domain.portfolio.entity.AccountBalance;
+import com.hanazoom.domain.portfolio.entity.PortfolioStock;
+import com.hanazoom.domain.portfolio.repository.AccountBalanceRepository;
+import com.hanazoom.domain.portfolio.repository.AccountRepository;
+import com.hanazoom.domain.portfolio.repository.PortfolioStockRepository;
+import com.hanazoom.domain.portfolio.repository.SettlementScheduleRepository;
+import com.hanazoom.domain.portfolio.repository.TradeHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccountLedgerConcurrencyTest {
+
+    private static final String SYMBOL = "005930";
+    private static final BigDecimal PRICE = new BigDecimal("70000");
+    private static final BigDecimal INITIAL_CASH = new BigDecimal("100000000000");
+    private static final int THREADS = 16;
+    private static final int TRADES_PER_THREAD = 50;
+
+    private final Map<Long, AccountBalance> balances = new ConcurrentHashMap<>();
+    private final Map<Long, PortfolioStock> holdings = new ConcurrentHashMap<>();
+    private final AtomicInteger staleWrites = new AtomicInteger();
+
+    private AccountLedger accountLedger;
+    private VirtualTradingService virtualTradingService;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        accountLedger = new AccountLedger(transactionManager, mock(ApplicationEventPublisher.class), 8, 3, 1);
+
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(accountRepository.findById(anyLong())).thenAnswer(invocation -> {
+            Account account = new Account();
+            account.setId(invocation.getArgument(0));
+            account.setAccountNumber("TEST-" + invocation.getArgument(0));
+            return Optional.of(account);
+        });
+
+        AccountBalanceRepository accountBalanceRepository = mock(AccountBalanceRepository.class);
+        when(accountBalanceRepository.findFirstByAccountIdOrderByBalanceDateDesc(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(balances.get(invocation.<Long>getArgument(0)))
+                        .map(AccountLedgerConcurrencyTest::copy));
+        when(accountBalanceRepository.save(any(AccountBalance.class)))
+                .thenAnswer(invocation -> commitBalance(invocation.getArgument(0)));
+
+        PortfolioStockRepository portfolioStockRepository = mock(PortfolioStockRepository.class);
+        when(portfolioStockRepository.findByAccountIdAndStockSymbol(anyLong(), anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(holdings.get(invocation.<Long>getArgument(0)))
+                        .map(AccountLedgerConcurrencyTest::copy));
+        when(portfolioStockRepository.save(any(PortfolioStock.class)))
+                .thenAnswer(invocation -> commitHolding(invocation.getArgument(0)));
+        when(portfolioStockRepository.findHoldingStocksByAccountId(anyLong())).thenReturn(List.of());
+
+        virtualTradingService = new VirtualTradingService(accountRepository, accountBalanceRepository,
+                portfolioStockRepository, mock(TradeHistoryRepository.class),
+                mock(SettlementScheduleRepository.class), accountLedger);
+    }
+
+    @Test
+    void concurrentBuysOnSharedAccountsNeverLoseUpdates() throws Exception {
+        long[] accountIds = {1L, 2L, 3L};
+        for (long accountId : accountIds) {
+            AccountBalance balance = AccountBalance.builder()
+                    .accountId(accountId)
+                    .balanceDate(LocalDate.now())
+                    .availableCash(INITIAL_CASH)
+                    .build();
+            balance.setId(accountId);
+            balance.setVersion(0L);
+            balances.put(accountId, balance);
+        }
+
+        ExecutorService traders = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                long accountId = accountIds[thread % accountIds.length];
+                results.add(traders.submit(() -> {
+                    start.await();
+                    for (int trade = 0; trade < TRADES_PER_THREAD; trade++) {
+                        TradeResult result = virtualTradingService.buyStock(accountId, SYMBOL, 1, PRICE);
+                        assertThat(result.isSuccess()).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            traders.shutdownNow();
+        }
+
+        BigDecimal costPerTrade = PRICE.add(new BigDecimal("100"));
+        for (int i = 0; i < accountIds.length; i++) {
+            long accountId = accountIds[i];
+            int threadsOnAccount = (THREADS - i + accountIds.length - 1) / accountIds.length;
+            int trades = threadsOnAccount * TRADES_PER_THREAD;
+
+            assertThat(balances.get(accountId).getAvailableCash())
+                    .isEqualByComparingTo(INITIAL_CASH.subtract(costPerTrade.multiply(BigDecimal.valueOf(trades))));
+            assertThat(holdings.get(accountId).getQuantity()).isEqualTo(trades);
+        }
+        assertThat(staleWrites.get()).isZero();
+        assertThat(accountLedger.getMetrics().get("conflicts")).isEqualTo(0L);
+    }
+
+    @Test
+    void retriesOptimisticConflictsWithinBudget() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Integer result = accountLedger.execute(7L, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(AccountBalance.class, 7L);
+            }
+            return attempts.get();
+        });
+
+        assertThat(result).isEqualTo(3);
+        assertThat(accountLedger.getMetrics().get("conflicts")).isEqualTo(2L);
+        assertThat(accountLedger.getMetrics().get("commits")).isEqualTo(1L);
+    }
+
+    @Test
+    void exhaustedRetriesPropagateToCaller() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> accountLedger.executeWithoutResult(7L, () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(AccountBalance.class, 7L);
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(accountLedger.getMetrics().get("exhausted")).isEqualTo(1L);
+        assertThat(accountLedger.getMetrics().get("commits")).isEqualTo(0L);
+    }
+
+    @Test
+    void ledgerUpdatedEventIsPublishedAfterTheAccountStripeIsReleased() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        ExecutorService listener = Executors.newSingleThreadExecutor();
+        AtomicInteger publishes = new AtomicInteger();
+        List<Boolean> stripeFreeOnPublish = new ArrayList<>();
+        AccountLedger[] ledger = new AccountLedger[1];
+        ledger[0] = new AccountLedger(transactionManager, event -> {
+            if (publishes.incrementAndGet() > 1) {
+                return;
+            }
+            try {
+                stripeFreeOnPublish.add(listener.submit(() -> ledger[0].execute(7L, () -> true))
+                        .get(1, TimeUnit.SECONDS));
+            } catch (Exception e) {
+                stripeFreeOnPublish.add(false);
+            }
+        }, 8, 3, 1);
+
+        try {
+            ledger[0].executeWithoutResult(7L, () -> {
+            });
+        } finally {
+            listener.shutdownNow();
+        }
+
+        assertThat(stripeFreeOnPublish).containsExactly(true);
+    }
+
+    private AccountBalance commitBalance(AccountBalance update) {
+        balances.compute(update.getAccountId(), (accountId, current) -> {
+            if (current != null && !current.getVersion().equals(update.getVersion())) {
+                staleWrites.incrementAndGet();
+                throw new ObjectOptimisticLockingFailureException(AccountBalance.class, accountId);
+            }
+            update.setVersion(update.getVersion() + 1);
+            return copy(update);
+        });
+        return update;
+    }
+
+    private PortfolioStock commitHolding(PortfolioStock update) {
+        holdings.compute(update.getAccountId(), (accountId, current) -> {
+            long expected = current != null ? current.getVersion() : 0L;
+            long actual = update.getVersion() != null ? update.getVersion() : 0L;
+            if (expected != actual) {
+                staleWrites.incrementAndGet();
+                throw new ObjectOptimisticLockingFailureException(PortfolioStock.class, accountId);
+            }
+            update.setVersion(actual + 1);
+            return copy(update);
+        });
+        return update;
+    }
+
+    private static AccountBalance copy(AccountBalance source) {
+        AccountBalance copy = AccountBalance.builder()
+                .accountId(source.getAccountId())
+                .balanceDate(source.getBalanceDate())
+                .cashBalance(source.getCashBalance())
+                .availableCash(source.getAvailableCash())
+                .frozenCash(source.getFrozenCash())
+                .settlementCash(source.getSettlementCash())
+                .withdrawableCash(source.getWithdrawableCash())
+                .totalStockValue(source.getTotalStockValue())
+                .totalProfitLoss(source.getTotalProfitLoss())
+                .totalProfitLossRate(source.getTotalProfitLossRate())
+                .build();
+        copy.setId(source.getId());
+        copy.setVersion(source.getVersion());
+        return copy;
+    }
+
+    private static PortfolioStock copy(PortfolioStock source) {
+        PortfolioStock copy = PortfolioStock.builder()
+                .accountId(source.getAccountId())
+                .stockSymbol(source.getStockSymbol())
+                .quantity(source.getQuantity())
+                .avgPurchasePrice(source.getAvgPurchasePrice())
+                .totalPurchaseAmount(source.getTotalPurchaseAmount())
+                .build();
+        copy.setAvailableQuantity(source.getAvailableQuantity());
+        copy.setVersion(source.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,165 @@
+package com.hanazoom.domain.portfolio.service;
+
+import com.hanazoom.domain.portfolio.entity.AccountBalance;
+import com.hanazoom.domain.portfolio.repository.AccountBalanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(AccountLedger.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountLedgerPersistenceTest {
+
+    private static final BigDecimal INITIAL_CASH = new BigDecimal("1000000.00");
+
+    @Autowired
+    private AccountLedger accountLedger;
+
+    @Autowired
+    private AccountBalanceRepository accountBalanceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate concurrentWriter;
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        accountBalanceRepository.deleteAll();
+        concurrentWriter = new TransactionTemplate(transactionManager);
+        concurrentWriter.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        accountId = 42L;
+        accountBalanceRepository.save(AccountBalance.builder()
+                .accountId(accountId)
+                .balanceDate(LocalDate.now())
+                .availableCash(INITIAL_CASH)
+                .build());
+    }
+
+    @Test
+    void concurrentLedgerUpdatesAreSerializedAgainstTheDatabase() throws Exception {
+        int threads = 8;
+        int updatesPerThread = 10;
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                results.add(workers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        accountLedger.executeWithoutResult(accountId, () -> withdraw(BigDecimal.ONE));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        AccountBalance balance = currentBalance();
+        assertThat(balance.getAvailableCash())
+                .isEqualByComparingTo(INITIAL_CASH.subtract(BigDecimal.valueOf((long) threads * updatesPerThread)));
+        assertThat(balance.getVersion()).isEqualTo((long) threads * updatesPerThread);
+    }
+
+    @Test
+    void versionConflictFromAnotherWriterIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        accountLedger.executeWithoutResult(accountId, () -> {
+            AccountBalance balance = currentBalance();
+            if (attempts.incrementAndGet() == 1) {
+                concurrentWriter.executeWithoutResult(status -> withdraw(new BigDecimal("100")));
+            }
+            balance.setAvailableCash(balance.getAvailableCash().subtract(BigDecimal.TEN));
+            accountBalanceRepository.save(balance);
+        });
+
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(currentBalance().getAvailableCash())
+                .isEqualByComparingTo(INITIAL_CASH.subtract(new BigDecimal("110")));
+        assertThat(accountLedger.getMetrics().get("conflicts")).isEqualTo(1L);
+    }
+
+    @Test
+    void joinedLedgerWorkRollsBackWithTheCallerAndRetriesAsAUnit() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        accountLedger.executeUnit(() -> {
+            accountLedger.executeWithoutResult(accountId, () -> withdraw(BigDecimal.TEN));
+            if (attempts.incrementAndGet() == 1) {
+                concurrentWriter.executeWithoutResult(status -> withdraw(new BigDecimal("100")));
+            }
+            return null;
+        });
+
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(currentBalance().getAvailableCash())
+                .isEqualByComparingTo(INITIAL_CASH.subtract(new BigDecimal("110")));
+    }
+
+    @Test
+    void failureInTheCallerRollsBackJoinedLedgerWork() {
+        assertThatThrownBy(() -> accountLedger.executeUnit(() -> {
+            accountLedger.executeWithoutResult(accountId, () -> withdraw(BigDecimal.TEN));
+            throw new IllegalStateException("order save failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(currentBalance().getAvailableCash()).isEqualByComparingTo(INITIAL_CASH);
+        assertThat(currentBalance().getVersion()).isZero();
+    }
+
+    @Test
+    void exhaustedConflictsSurfaceToTheCaller() {
+        assertThatThrownBy(() -> accountLedger.executeWithoutResult(accountId, () -> {
+            AccountBalance balance = currentBalance();
+            concurrentWriter.executeWithoutResult(status -> withdraw(BigDecimal.ONE));
+            balance.setAvailableCash(balance.getAvailableCash().subtract(BigDecimal.TEN));
+            accountBalanceRepository.save(balance);
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(accountLedger.getMetrics().get("exhausted")).isEqualTo(1L);
+    }
+
+    private void withdraw(BigDecimal amount) {
+        AccountBalance balance = currentBalance();
+        balance.setAvailableCash(balance.getAvailableCash().subtract(amount));
+        accountBalanceRepository.save(balance);
+    }
+
+    private AccountBalance currentBalance() {
+        return accountBalanceRepository.findFirstByAccountIdOrderByBalanceDateDesc(accountId).orElseThrow();
+    }
+}